@@ -130,13 +130,7 @@ public class SystemExportBulkAction extends AbstractExportBulkAction<SysSystemDt
 	private void exportRoleSystems(UUID systemId) {
 		SysRoleSystemFilter roleSystemFilter = new SysRoleSystemFilter();
 		roleSystemFilter.setSystemId(systemId);
-		List<SysRoleSystemDto> roleSystems = roleSystemService.find(roleSystemFilter, null).getContent();
-		if (roleSystems.isEmpty()) {
-			roleSystemService.export(ExportManager.BLANK_UUID, getBatch());
-		}
-		roleSystems.forEach(roleSystem -> {
-			roleSystemService.export(roleSystem.getId(), getBatch());
-		});
+		this.getExportManager().export(roleSystemService, roleSystemFilter, getBatch());
 		// Set parent field -> set authoritative mode.
 		this.getExportManager().setAuthoritativeMode(SysRoleSystem_.system.getName(), "systemId",
 				SysRoleSystemDto.class, getBatch());
@@ -259,13 +253,7 @@ public class SystemExportBulkAction extends AbstractExportBulkAction<SysSystemDt
 	private void exportMappedAttributes(UUID systemId) {
 		SysSystemMappingFilter systemMappingFilter = new SysSystemMappingFilter();
 		systemMappingFilter.setSystemId(systemId);
-		List<SysSystemMappingDto> systemMappings = systemMappingService.find(systemMappingFilter, null).getContent();
-		if (systemMappings.isEmpty()) {
-			systemMappingService.export(ExportManager.BLANK_UUID, getBatch());
-		}
-		systemMappings.forEach(mapping -> {
-			systemMappingService.export(mapping.getId(), getBatch());
-		});
+		this.getExportManager().export(systemMappingService, systemMappingFilter, getBatch());
 		// Set parent field -> set authoritative mode.
 		this.getExportManager().setAuthoritativeMode(SysSystemMapping_.objectClass.getName(), "systemId",
 				SysSystemMappingDto.class, getBatch());
@@ -299,14 +287,7 @@ public class SystemExportBulkAction extends AbstractExportBulkAction<SysSystemDt
 	private void exportBreakConfig(UUID systemId) {
 		SysProvisioningBreakConfigFilter provisioningBreakConfigFilter = new SysProvisioningBreakConfigFilter();
 		provisioningBreakConfigFilter.setSystemId(systemId);
-		List<SysProvisioningBreakConfigDto> breakConfigs = provisioningBreakService
-				.find(provisioningBreakConfigFilter, null).getContent();
-		if (breakConfigs.isEmpty()) {
-			provisioningBreakService.export(ExportManager.BLANK_UUID, getBatch());
-		}
-		breakConfigs.forEach(breakConfig -> {
-			provisioningBreakService.export(breakConfig.getId(), getBatch());
-		});
+		this.getExportManager().export(provisioningBreakService, provisioningBreakConfigFilter, getBatch());
 		// Set parent field -> set authoritative mode.
 		this.getExportManager().setAuthoritativeMode(SysSchemaObjectClass_.system.getName(), "systemId",
 				SysProvisioningBreakConfigDto.class, getBatch());
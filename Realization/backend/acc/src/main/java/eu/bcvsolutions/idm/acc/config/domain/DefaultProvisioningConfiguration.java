@@ -23,6 +23,11 @@ public class DefaultProvisioningConfiguration extends AbstractConfiguration impl
 		return getConfigurationService().getBooleanValue(PROPERTY_SEND_PASSWORD_ATTRIBUTES_TOGETHER, DEFAULT_SEND_PASSWORD_ATTRIBUTES_TOGETHER);
 	}
 
+	@Override
+	public boolean isMergeOperations() {
+		return getConfigurationService().getBooleanValue(PROPERTY_QUEUE_MERGE_OPERATIONS, DEFAULT_QUEUE_MERGE_OPERATIONS);
+	}
+
 	@Override
 	public ProvisioningBreakConfiguration getBeakConfiguration() {
 		return provisioningBreakConfiguration;
@@ -44,4 +49,28 @@ public class DefaultProvisioningConfiguration extends AbstractConfiguration impl
 		//
 		return timeout;
 	}
+	
+	@Override
+	public int getQueueThreads() {
+		int threads = getConfigurationService().getIntegerValue(PROPERTY_QUEUE_THREADS, DEFAULT_QUEUE_THREADS);
+		if (threads < 1) {
+			LOG.warn("Configured count of provisioning queue threads has to be greater than [0], given [{}]. Default [{}] will be used, change your configuration property [{}].",
+					threads, DEFAULT_QUEUE_THREADS, PROPERTY_QUEUE_THREADS);
+			return DEFAULT_QUEUE_THREADS;
+		}
+		//
+		return threads;
+	}
+	
+	@Override
+	public int getQueueSystemThreads() {
+		int threads = getConfigurationService().getIntegerValue(PROPERTY_QUEUE_SYSTEM_THREADS, DEFAULT_QUEUE_SYSTEM_THREADS);
+		if (threads < 1) {
+			LOG.warn("Configured count of provisioning queue threads per system has to be greater than [0], given [{}]. Default [{}] will be used, change your configuration property [{}].",
+					threads, DEFAULT_QUEUE_SYSTEM_THREADS, PROPERTY_QUEUE_SYSTEM_THREADS);
+			return DEFAULT_QUEUE_SYSTEM_THREADS;
+		}
+		//
+		return threads;
+	}
 }
@@ -0,0 +1,53 @@
+package eu.bcvsolutions.idm.acc.config.domain;
+
+import org.springframework.stereotype.Component;
+
+import eu.bcvsolutions.idm.core.api.config.domain.AbstractConfiguration;
+
+/**
+ * Configuration for synchronization.
+ * 
+ * @author Radek Tomiška
+ * @since 11.1.0
+ */
+@Component("synchronizationConfiguration")
+public class DefaultSynchronizationConfiguration extends AbstractConfiguration implements SynchronizationConfiguration {
+	
+	private static final org.slf4j.Logger LOG = org.slf4j.LoggerFactory.getLogger(DefaultSynchronizationConfiguration.class);
+	
+	@Override
+	public int getParallelWorkers() {
+		int workers = getConfigurationService().getIntegerValue(PROPERTY_PARALLEL_WORKERS, DEFAULT_PARALLEL_WORKERS);
+		if (workers < 1) {
+			LOG.warn("Configured count of synchronization workers has to be greater than [0], given [{}]. Default [{}] will be used, change your configuration property [{}].",
+					workers, DEFAULT_PARALLEL_WORKERS, PROPERTY_PARALLEL_WORKERS);
+			return DEFAULT_PARALLEL_WORKERS;
+		}
+		//
+		return workers;
+	}
+	
+	@Override
+	public int getParallelQueueCapacity() {
+		int capacity = getConfigurationService().getIntegerValue(PROPERTY_PARALLEL_QUEUE_CAPACITY, DEFAULT_PARALLEL_QUEUE_CAPACITY);
+		if (capacity < 1) {
+			LOG.warn("Configured synchronization worker queue capacity has to be greater than [0], given [{}]. Default [{}] will be used, change your configuration property [{}].",
+					capacity, DEFAULT_PARALLEL_QUEUE_CAPACITY, PROPERTY_PARALLEL_QUEUE_CAPACITY);
+			return DEFAULT_PARALLEL_QUEUE_CAPACITY;
+		}
+		//
+		return capacity;
+	}
+	
+	@Override
+	public int getReconciliationBufferSize() {
+		int bufferSize = getConfigurationService().getIntegerValue(PROPERTY_RECONCILIATION_BUFFER_SIZE, DEFAULT_RECONCILIATION_BUFFER_SIZE);
+		if (bufferSize < 1) {
+			LOG.warn("Configured reconciliation buffer size has to be greater than [0], given [{}]. Default [{}] will be used, change your configuration property [{}].",
+					bufferSize, DEFAULT_RECONCILIATION_BUFFER_SIZE, PROPERTY_RECONCILIATION_BUFFER_SIZE);
+			return DEFAULT_RECONCILIATION_BUFFER_SIZE;
+		}
+		//
+		return bufferSize;
+	}
+}
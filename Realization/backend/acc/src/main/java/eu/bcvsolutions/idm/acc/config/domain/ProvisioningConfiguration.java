@@ -36,6 +36,38 @@ public interface ProvisioningConfiguration extends Configurable {
 	String PROPERTY_TIMEOUT = ConfigurationService.IDM_PRIVATE_PROPERTY_PREFIX
 			+ "acc.provisioning.timeout";
 	long DEFAULT_TIMEOUT = 180000;
+	
+	/**
+	 * Count of threads used for processing provisioning queue (provisioning batches).
+	 * Batches are sharded by target system and system entity - batches for different systems are processed concurrently.
+	 * Provisioning queue is processed in the single (LRT) thread by default (1 = parallel processing is disabled).
+	 * 
+	 * @since 11.1.0
+	 */
+	String PROPERTY_QUEUE_THREADS = ConfigurationService.IDM_PRIVATE_PROPERTY_PREFIX
+			+ "acc.provisioning.queue.threads";
+	int DEFAULT_QUEUE_THREADS = 1;
+	
+	/**
+	 * Maximum count of threads used for processing provisioning queue for one target system (concurrency limit per system).
+	 * Batches for the same system entity are processed in the same thread (=> in order).
+	 * 
+	 * @since 11.1.0
+	 */
+	String PROPERTY_QUEUE_SYSTEM_THREADS = ConfigurationService.IDM_PRIVATE_PROPERTY_PREFIX
+			+ "acc.provisioning.queue.systemThreads";
+	int DEFAULT_QUEUE_SYSTEM_THREADS = 1;
+	
+	/**
+	 * Merge pending provisioning operations in queue for the same system entity, before they are executed:
+	 * consecutive update operations are merged into one operation with the final attribute state,
+	 * create operation followed by delete operation is skipped, when account was not created on the target system yet.
+	 * 
+	 * @since 11.1.0
+	 */
+	String PROPERTY_QUEUE_MERGE_OPERATIONS = ConfigurationService.IDM_PRIVATE_PROPERTY_PREFIX
+			+ "acc.provisioning.queue.mergeOperations";
+	boolean DEFAULT_QUEUE_MERGE_OPERATIONS = true;
 
 	@Override
 	default String getConfigurableType() {
@@ -54,6 +86,9 @@ public interface ProvisioningConfiguration extends Configurable {
 		properties.add(PROPERTY_SEND_PASSWORD_ATTRIBUTES_TOGETHER);
 		properties.add(PROPERTY_ALLOW_AUTO_MAPPING_ON_EXISTING_ACCOUNT);
 		properties.add(PROPERTY_TIMEOUT);
+		properties.add(PROPERTY_QUEUE_THREADS);
+		properties.add(PROPERTY_QUEUE_SYSTEM_THREADS);
+		properties.add(PROPERTY_QUEUE_MERGE_OPERATIONS);
 		return properties;
 	}
 
@@ -107,4 +142,28 @@ public interface ProvisioningConfiguration extends Configurable {
 	 * @since 10.2.0
 	 */
 	long getTimeout();
+	
+	/**
+	 * Count of threads used for processing provisioning queue.
+	 * 
+	 * @return 1 - parallel processing is disabled
+	 * @since 11.1.0
+	 */
+	int getQueueThreads();
+	
+	/**
+	 * Maximum count of threads used for processing provisioning queue for one target system.
+	 * 
+	 * @return concurrency limit per system
+	 * @since 11.1.0
+	 */
+	int getQueueSystemThreads();
+	
+	/**
+	 * Merge pending provisioning operations in queue for the same system entity, before they are executed.
+	 * 
+	 * @return true - operations are merged
+	 * @since 11.1.0
+	 */
+	boolean isMergeOperations();
 }
@@ -0,0 +1,90 @@
+package eu.bcvsolutions.idm.acc.config.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import eu.bcvsolutions.idm.core.api.service.Configurable;
+import eu.bcvsolutions.idm.core.api.service.ConfigurationService;
+
+/**
+ * Configuration for synchronization.
+ * 
+ * @author Radek Tomiška
+ * @since 11.1.0
+ */
+public interface SynchronizationConfiguration extends Configurable {
+
+	/**
+	 * Count of worker lanes used for processing items read from the connector. 
+	 * Items are partitioned to lanes by their UID - items with the same UID are processed in the same order as they were read.
+	 * Synchronization is processed in the single (LRT) thread by default (1 = parallel processing is disabled).
+	 */
+	String PROPERTY_PARALLEL_WORKERS = ConfigurationService.IDM_PRIVATE_PROPERTY_PREFIX
+			+ "acc.synchronization.parallel.workers";
+	int DEFAULT_PARALLEL_WORKERS = 1;
+	
+	/**
+	 * Bounded queue capacity for each worker lane. 
+	 * Reading from the connector is blocked, when queue for the item lane is full.
+	 */
+	String PROPERTY_PARALLEL_QUEUE_CAPACITY = ConfigurationService.IDM_PRIVATE_PROPERTY_PREFIX
+			+ "acc.synchronization.parallel.queueCapacity";
+	int DEFAULT_PARALLEL_QUEUE_CAPACITY = 100;
+	
+	/**
+	 * Count of uids (read from the connector and from accounts) kept in memory in reconciliation.
+	 * Uids over this limit are sorted and spilled into temporary files => memory is bounded regardless of system size.
+	 */
+	String PROPERTY_RECONCILIATION_BUFFER_SIZE = ConfigurationService.IDM_PRIVATE_PROPERTY_PREFIX
+			+ "acc.synchronization.reconciliation.bufferSize";
+	int DEFAULT_RECONCILIATION_BUFFER_SIZE = 100000;
+
+	@Override
+	default String getConfigurableType() {
+		return "synchronization";
+	}
+
+	@Override
+	default boolean isDisableable() {
+		return false;
+	}
+
+	@Override
+	default List<String> getPropertyNames() {
+		List<String> properties = new ArrayList<>(); // we are not using superclass properties - enable and order does not make a sense here
+		properties.add(PROPERTY_PARALLEL_WORKERS);
+		properties.add(PROPERTY_PARALLEL_QUEUE_CAPACITY);
+		properties.add(PROPERTY_RECONCILIATION_BUFFER_SIZE);
+		return properties;
+	}
+	
+	/**
+	 * Count of worker lanes used for processing items read from the connector.
+	 * 
+	 * @return 1 - parallel processing is disabled
+	 */
+	int getParallelWorkers();
+	
+	/**
+	 * Bounded queue capacity for each worker lane.
+	 * 
+	 * @return queue capacity
+	 */
+	int getParallelQueueCapacity();
+	
+	/**
+	 * Items read from the connector are processed by parallel worker lanes.
+	 * 
+	 * @return true - more than one worker lane is configured
+	 */
+	default boolean isParallel() {
+		return getParallelWorkers() > 1;
+	}
+	
+	/**
+	 * Count of uids kept in memory in reconciliation.
+	 * 
+	 * @return buffer size
+	 */
+	int getReconciliationBufferSize();
+}
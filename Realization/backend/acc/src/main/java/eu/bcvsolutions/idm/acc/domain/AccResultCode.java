@@ -85,6 +85,8 @@ public enum AccResultCode implements ResultCode {
 	PROVISIONING_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "Provisioning operation for object with uid [%s] on system [%s], operation type [%s], object class [%s] failed."),
 	PROVISIONING_SUCCEED(HttpStatus.OK, "Provisioning operation for object with uid [%s] on system [%s], operation type [%s], object class [%s] is sucessfully completed."),
 	PROVISIONING_TIMEOUT(HttpStatus.REQUEST_TIMEOUT, "Provisioning operation for object with uid [%s] on system [%s], operation type [%s], object class [%s] exceeded the timeout [%s]."),
+	PROVISIONING_MERGED(HttpStatus.OK, "Provisioning operation for object with uid [%s] on system [%s], operation type [%s] was merged into the next operation [%s] in queue."),
+	PROVISIONING_SKIPPED(HttpStatus.OK, "Provisioning operation for object with uid [%s] on system [%s], operation type [%s] was skipped - object was created and deleted before it was provisioned."),
 	PROVISIONING_IS_IN_QUEUE(HttpStatus.ACCEPTED, "Provisioning operation for object with uid [%s] on system [%s], operation type [%s], object class [%s] was already in queue. Addind new operation request into queue."),
 	PROVISIONING_MERGE_ATTRIBUTE_IS_NOT_MULTIVALUE(HttpStatus.BAD_REQUEST, "Object [%s]. For MERGE strategy must be attribute [%s] multivalued (on system [%s])!"),
 	PROVISIONING_ATTRIBUTE_STRATEGY_CONFLICT(HttpStatus.CONFLICT, "Strategies [%s] and [%s] are in conflict, for attribute [%s] (roles in conflict [%s] and [%s])!"),
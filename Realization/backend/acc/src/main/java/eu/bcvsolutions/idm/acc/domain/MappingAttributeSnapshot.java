@@ -0,0 +1,121 @@
+package eu.bcvsolutions.idm.acc.domain;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.util.Assert;
+
+import eu.bcvsolutions.idm.core.eav.api.dto.IdmFormValueDto;
+import eu.bcvsolutions.idm.core.security.api.domain.GuardedString;
+
+/**
+ * Values of mapped extended and confidential attributes of one entity - values are loaded at once before mapped attributes are resolved.
+ * Snapshot is propagated in {@link MappingContext} => one provisioning operation.
+ *
+ * Attributes which are not contained in snapshot are loaded by the original way (one by one).
+ *
+ * This snapshot should be not persisted (can contains confidential values).
+ *
+ * @author Radek Tomiška
+ * @since 11.1.0
+ */
+public class MappingAttributeSnapshot {
+
+	private final UUID ownerId;
+	private final Map<String, List<IdmFormValueDto>> formValues = new HashMap<>(); // attribute code => values
+	private final Map<UUID, Serializable> confidentialFormValues = new HashMap<>(); // form value id => value
+	private final Map<String, GuardedString> confidentialAttributes = new HashMap<>(); // property name => value
+
+	public MappingAttributeSnapshot(UUID ownerId) {
+		Assert.notNull(ownerId, "Owner identifier is required.");
+		//
+		this.ownerId = ownerId;
+	}
+
+	/**
+	 * Entity identifier - snapshot owner.
+	 *
+	 * @return owner identifier
+	 */
+	public UUID getOwnerId() {
+		return ownerId;
+	}
+
+	/**
+	 * Snapshot can be used for given entity.
+	 *
+	 * @param entityId entity identifier
+	 * @return true - snapshot was loaded for given entity
+	 */
+	public boolean isOwner(UUID entityId) {
+		return ownerId.equals(entityId);
+	}
+
+	public boolean containsFormValues(String attributeCode) {
+		return formValues.containsKey(attributeCode);
+	}
+
+	/**
+	 * Form values by attribute code (from main form definition).
+	 *
+	 * @param attributeCode attribute code
+	 * @return values or {@code null}, if attribute is not contained in snapshot
+	 */
+	public List<IdmFormValueDto> getFormValues(String attributeCode) {
+		return formValues.get(attributeCode);
+	}
+
+	public void putFormValues(String attributeCode, List<IdmFormValueDto> values) {
+		formValues.put(attributeCode, values);
+	}
+
+	public boolean containsConfidentialFormValue(UUID formValueId) {
+		return confidentialFormValues.containsKey(formValueId);
+	}
+
+	/**
+	 * Value from confidential storage in form value's persistent type.
+	 *
+	 * @param formValueId form value identifier
+	 * @return value or {@code null}, if value is not set in confidential storage
+	 */
+	public Serializable getConfidentialFormValue(UUID formValueId) {
+		return confidentialFormValues.get(formValueId);
+	}
+
+	public void putConfidentialFormValues(Map<UUID, Serializable> values) {
+		confidentialFormValues.putAll(values);
+	}
+
+	public boolean containsConfidentialAttribute(String propertyName) {
+		return confidentialAttributes.containsKey(propertyName);
+	}
+
+	/**
+	 * Entity attribute value from confidential storage.
+	 *
+	 * @param propertyName entity property name (~ confidential storage key)
+	 * @return value, empty guarded string, if value is not set in confidential storage
+	 */
+	public GuardedString getConfidentialAttribute(String propertyName) {
+		return confidentialAttributes.get(propertyName);
+	}
+
+	public void putConfidentialAttribute(String propertyName, GuardedString value) {
+		confidentialAttributes.put(propertyName, value);
+	}
+
+	@Override
+	public String toString() {
+		// values are not printed - can be confidential
+		return "MappingAttributeSnapshot{" +
+				"ownerId=" + ownerId +
+				", formValues=" + formValues.keySet() +
+				", confidentialFormValues=" + confidentialFormValues.keySet() +
+				", confidentialAttributes=" + confidentialAttributes.keySet() +
+				'}';
+	}
+}
@@ -22,6 +22,7 @@ public class MappingContext {
 	private List<IdmIdentityRoleDto> identityRoles;
 	private List<IdmIdentityRoleDto> identityRolesForSystem;
 	private IcConnectorObject connectorObject;
+	private MappingAttributeSnapshot attributeSnapshot; // @since 11.1.0
 
 	private Map<String, Object> context;
 
@@ -73,6 +74,26 @@ public class MappingContext {
 		this.identityRolesForSystem = identityRolesForSystem;
 	}
 
+	/**
+	 * Values of mapped extended and confidential attributes loaded at once.
+	 *
+	 * @return snapshot or {@code null}, when values were not prefetched
+	 * @since 11.1.0
+	 */
+	public MappingAttributeSnapshot getAttributeSnapshot() {
+		return attributeSnapshot;
+	}
+
+	/**
+	 * Values of mapped extended and confidential attributes loaded at once.
+	 *
+	 * @param attributeSnapshot snapshot
+	 * @since 11.1.0
+	 */
+	public void setAttributeSnapshot(MappingAttributeSnapshot attributeSnapshot) {
+		this.attributeSnapshot = attributeSnapshot;
+	}
+
 	@Override
 	public String toString() {
 		return "MappingContext{" +
@@ -80,6 +101,7 @@ public class MappingContext {
 				", identityRoles=" + identityRoles +
 				", identityRolesForSystem=" + identityRolesForSystem +
 				", connectorObject=" + connectorObject +
+				", attributeSnapshot=" + attributeSnapshot +
 				", context=" + context +
 				'}';
 	}
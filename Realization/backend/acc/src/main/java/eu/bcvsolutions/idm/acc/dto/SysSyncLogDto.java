@@ -91,7 +91,7 @@ public class SysSyncLogDto extends AbstractDto implements Loggable {
 	}
 
 	@Override
-	public String addToLog(String text) {
+	public synchronized String addToLog(String text) {
 		if (text != null) {
 			LOG.info(text);
 			StringBuilder builder = new StringBuilder();
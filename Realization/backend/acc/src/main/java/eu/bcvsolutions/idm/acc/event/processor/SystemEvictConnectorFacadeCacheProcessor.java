@@ -0,0 +1,53 @@
+package eu.bcvsolutions.idm.acc.event.processor;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Description;
+import org.springframework.stereotype.Component;
+
+import eu.bcvsolutions.idm.acc.dto.SysSystemDto;
+import eu.bcvsolutions.idm.acc.event.SystemEvent.SystemEventType;
+import eu.bcvsolutions.idm.core.api.event.CoreEvent;
+import eu.bcvsolutions.idm.core.api.event.CoreEventProcessor;
+import eu.bcvsolutions.idm.core.api.event.DefaultEventResult;
+import eu.bcvsolutions.idm.core.api.event.EntityEvent;
+import eu.bcvsolutions.idm.core.api.event.EventResult;
+import eu.bcvsolutions.idm.ic.service.api.IcConnectorFacadeFactory;
+
+/**
+ * Clear cached connector facades, when system (or system connector configuration) is changed or deleted.
+ * 
+ * @author Radek Tomiška
+ * @since 11.1.0
+ */
+@Component(SystemEvictConnectorFacadeCacheProcessor.PROCESSOR_NAME)
+@Description("Clear cached connector facades, when system (or system connector configuration) is changed or deleted.")
+public class SystemEvictConnectorFacadeCacheProcessor 
+		extends CoreEventProcessor<SysSystemDto> 
+		implements SystemProcessor {
+
+	public static final String PROCESSOR_NAME = "acc-system-evict-connector-facade-cache-processor";
+	//
+	@Autowired private IcConnectorFacadeFactory connectorFacadeFactory;
+
+	public SystemEvictConnectorFacadeCacheProcessor() {
+		super(SystemEventType.UPDATE, SystemEventType.DELETE, SystemEventType.EAV_SAVE);
+	}
+
+	@Override
+	public String getName() {
+		return PROCESSOR_NAME;
+	}
+
+	@Override
+	public EventResult<SysSystemDto> process(EntityEvent<SysSystemDto> event) {
+		// facades are cached by configuration fingerprint - evict all to release facades with previous configuration
+		connectorFacadeFactory.evictConnectorFacades();
+		//
+		return new DefaultEventResult<>(event, this);
+	}
+	
+	@Override
+	public int getOrder() {
+		return CoreEvent.DEFAULT_ORDER + 10;
+	}
+}
@@ -50,4 +50,16 @@ public interface AccAccountRepository extends AbstractEntityRepository<AccAccoun
 	 * @return
 	 */
 	Page<AccAccount> findByEndOfProtectionLessThanAndInProtectionIsTrue(@Param("endOfProtection") ZonedDateTime endOfProtection, Pageable pageable);
+	
+	/**
+	 * Returns account identifiers with real uid (uid from system entity or account uid, if system entity do not exist) by system.
+	 * Lightweight projection without entity loading (e.g. used in reconciliation) - count query is not executed.
+	 * 
+	 * @param systemId system identifier
+	 * @param pageable page and sort (by account id is preferred)
+	 * @return [account id, real uid]
+	 * @since 11.1.0
+	 */
+	@Query("SELECT e.id, coalesce(se.uid, e.uid) FROM AccAccount e LEFT JOIN e.systemEntity se WHERE e.system.id = :systemId")
+	List<Object[]> findRealUids(@Param("systemId") UUID systemId, Pageable pageable);
 }
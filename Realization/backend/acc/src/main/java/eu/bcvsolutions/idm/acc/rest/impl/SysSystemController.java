@@ -924,7 +924,7 @@ public class SysSystemController extends AbstractReadWriteDtoController<SysSyste
 				new DeferredResult<OperationResultDto>( //
 						30000l, new OperationResultDto(OperationState.NOT_EXECUTED)) //
 		); //
-
+		// Synchronization progress is notified by synchronization executor - check callback is used as fallback only.
 		result.onCheckResultCallback(new CheckLongPollingResult() {
 
 			@Override
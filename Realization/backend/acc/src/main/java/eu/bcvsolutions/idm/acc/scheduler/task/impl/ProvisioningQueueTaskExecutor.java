@@ -1,8 +1,12 @@
 package eu.bcvsolutions.idm.acc.scheduler.task.impl;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.quartz.DisallowConcurrentExecution;
 import org.quartz.PersistJobDataAfterExecution;
@@ -11,13 +15,18 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 
+import eu.bcvsolutions.idm.acc.config.domain.ProvisioningConfiguration;
 import eu.bcvsolutions.idm.acc.dto.SysProvisioningBatchDto;
 import eu.bcvsolutions.idm.acc.service.api.ProvisioningExecutor;
 import eu.bcvsolutions.idm.acc.service.api.SysProvisioningBatchService;
+import eu.bcvsolutions.idm.acc.service.impl.ProvisioningBatchDispatcher;
+import eu.bcvsolutions.idm.core.api.domain.CoreResultCode;
 import eu.bcvsolutions.idm.core.api.domain.OperationState;
 import eu.bcvsolutions.idm.core.api.entity.OperationResult;
+import eu.bcvsolutions.idm.core.api.exception.ResultCodeException;
 import eu.bcvsolutions.idm.core.eav.api.domain.BaseFaceType;
 import eu.bcvsolutions.idm.core.eav.api.domain.PersistentType;
 import eu.bcvsolutions.idm.core.eav.api.dto.IdmFormAttributeDto;
@@ -40,6 +49,7 @@ public class ProvisioningQueueTaskExecutor extends AbstractSchedulableStatefulEx
 	//
 	@Autowired private ProvisioningExecutor provisioningExecutor;	
 	@Autowired private SysProvisioningBatchService provisioningBatchService;
+	@Autowired private ProvisioningConfiguration provisioningConfiguration;
 	//
 	private Boolean virtualSystem; // configured virtual system
 	
@@ -74,9 +84,69 @@ public class ProvisioningQueueTaskExecutor extends AbstractSchedulableStatefulEx
 		return super.end(result, ex);
 	}
 
+	/**
+	 * Batches are processed concurrently, if more threads are configured.
+	 * 
+	 * @see ProvisioningConfiguration#getQueueThreads()
+	 */
+	@Override
+	public Boolean process() {
+		int threads = provisioningConfiguration.getQueueThreads();
+		if (threads <= 1 || getLongRunningTaskService().get(getLongRunningTaskId()).isDryRun()) {
+			// process batches in single thread
+			return super.process();
+		}
+		this.counter = 0L;
+		List<SysProvisioningBatchDto> batches = getItemsToProcess(null).getContent();
+		this.count = (long) batches.size();
+		LOG.debug("Provisioning queue [{}] batches will be processed by [{}] threads.", count, threads);
+		//
+		Set<UUID> processedRefs = new HashSet<>();
+		Object stateLock = new Object();
+		AtomicReference<ResultCodeException> failure = new AtomicReference<>();
+		ProvisioningBatchDispatcher dispatcher = new ProvisioningBatchDispatcher(
+				"provisioning-queue",
+				threads,
+				provisioningConfiguration.getQueueSystemThreads());
+		boolean completed = dispatcher.dispatch(batches, batch -> {
+			OperationResult result = processItem(batch).get();
+			synchronized (stateLock) {
+				++counter;
+				logItemProcessed(batch, result);
+				if (OperationState.isSuccessful(result.getState())) {
+					addToProcessedQueue(batch, result);
+				}
+				if (result.getState().isSuccessful() || result.getState().isRunnable()) {
+					processedRefs.add(batch.getId());
+				}
+				if (!continueOnException() && result.getException() != null) {
+					failure.compareAndSet(null, new ResultCodeException(
+							CoreResultCode.LONG_RUNNING_TASK_ITEM_FAILED, 
+							ImmutableMap.of("referencedEntityId", batch.getId()),
+							result.getException()));
+					return false;
+				}
+				return updateState();
+			}
+		});
+		if (failure.get() != null) {
+			LOG.error("[" + failure.get().getId() + "] ", failure.get());
+			//
+			throw failure.get();
+		}
+		if (completed) {
+			// processed in history only
+			List<UUID> queueEntityRefs = Lists.newArrayList(getProcessedItemRefsFromQueue());
+			queueEntityRefs.removeAll(processedRefs);
+			queueEntityRefs.forEach(this::removeFromProcessedQueue);
+		}
+		//
+		return completed;
+	}
+
 	@Override
 	public Page<SysProvisioningBatchDto> getItemsToProcess(Pageable pageable) {
-		// TODO: we want to execute provisioning in more threads - we aren't using pagination here to prevent collisions
+		// we aren't using pagination here to prevent collisions - batches can be processed concurrently, see #process()
 		// TODO: we can add Sort by some priority (CREATE ... etc.)
 		// TODO: we can add algorithm to reduce / merge provisioning operations by system entity
 		return provisioningBatchService.findBatchesToProcess(virtualSystem, null);
@@ -1,6 +1,7 @@
 package eu.bcvsolutions.idm.acc.service.api;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import java.time.ZonedDateTime;
@@ -82,4 +83,15 @@ public interface AccAccountService extends//
 	 * @return
 	 */
 	SynchronizationEntityExecutor getSyncExecutor(SystemEntityType entityType);
+
+	/**
+	 * Returns real uids of accounts on given system - account entities and dtos are not loaded.
+	 * Count of all accounts is not computed => paging can be used for iterating through all system accounts.
+	 *
+	 * @param systemId system identifier
+	 * @param pageable page and sort
+	 * @return real uids by account identifier (in page order)
+	 * @since 11.1.0
+	 */
+	Map<UUID, String> findRealUids(UUID systemId, Pageable pageable);
 }
@@ -1,6 +1,5 @@
 package eu.bcvsolutions.idm.acc.service.api;
 
-import eu.bcvsolutions.idm.acc.domain.MappingContext;
 import java.beans.IntrospectionException;
 import java.io.Serializable;
 import java.lang.reflect.InvocationTargetException;
@@ -8,6 +7,8 @@ import java.util.List;
 import java.util.UUID;
 
 import eu.bcvsolutions.idm.acc.domain.AttributeMapping;
+import eu.bcvsolutions.idm.acc.domain.MappingAttributeSnapshot;
+import eu.bcvsolutions.idm.acc.domain.MappingContext;
 import eu.bcvsolutions.idm.acc.domain.SystemEntityType;
 import eu.bcvsolutions.idm.acc.dto.SysSchemaAttributeDto;
 import eu.bcvsolutions.idm.acc.dto.SysSystemAttributeMappingDto;
@@ -183,6 +184,18 @@ public interface SysSystemAttributeMappingService
 	 * @return
 	 */
 	Object getAttributeValue(String uid, AbstractDto entity, AttributeMapping attributeHandling, MappingContext mappingContext);
+	
+	/**
+	 * Loads values of given mapped extended and confidential attributes of given entity at once.
+	 * Snapshot should be set into {@link MappingContext} - values from snapshot will be used by
+	 * {@link #getAttributeValue(String, AbstractDto, AttributeMapping, MappingContext)}.
+	 *
+	 * @param entity attributes owner
+	 * @param attributes mapped attributes
+	 * @return snapshot or {@code null}, if there is nothing to load
+	 * @since 11.1.0
+	 */
+	MappingAttributeSnapshot getAttributeSnapshot(AbstractDto entity, List<? extends AttributeMapping> attributes);
 
 	/**
 	 * Generate UID from UID attribute
@@ -679,6 +679,10 @@ public abstract class AbstractProvisioningExecutor<DTO extends AbstractDto> impl
 		// Create mapping context from the script defined on the mapping and by checked options.
 		// This context will be propagate to all attributes (transformation to the system).
 		MappingContext mappingContext = systemMappingService.getMappingContext(mapping, systemEntity, dto, system);
+		if (ProvisioningOperationType.DELETE != operationType) {
+			// Values of mapped extended and confidential attributes are loaded at once.
+			mappingContext.setAttributeSnapshot(attributeMappingService.getAttributeSnapshot(dto, attributes));
+		}
 
 		Map<ProvisioningAttributeDto, Object> accountAttributes = prepareMappedAttributesValues(dto, operationType,
 				systemEntity, attributes, mappingContext);
@@ -6,6 +6,7 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import eu.bcvsolutions.idm.acc.AccModuleDescriptor;
 import eu.bcvsolutions.idm.acc.config.domain.ProvisioningConfiguration;
+import eu.bcvsolutions.idm.acc.config.domain.SynchronizationConfiguration;
 import eu.bcvsolutions.idm.acc.domain.AccResultCode;
 import eu.bcvsolutions.idm.acc.domain.AccountType;
 import eu.bcvsolutions.idm.acc.domain.AttributeMapping;
@@ -66,6 +67,7 @@ import eu.bcvsolutions.idm.core.api.dto.BaseDto;
 import eu.bcvsolutions.idm.core.api.dto.FormableDto;
 import eu.bcvsolutions.idm.core.api.dto.filter.BaseFilter;
 import eu.bcvsolutions.idm.core.api.dto.filter.CorrelationFilter;
+import eu.bcvsolutions.idm.core.api.entity.AbstractEntity_;
 import eu.bcvsolutions.idm.core.api.event.CoreEvent;
 import eu.bcvsolutions.idm.core.api.event.EventResult;
 import eu.bcvsolutions.idm.core.api.exception.CoreException;
@@ -83,6 +85,8 @@ import eu.bcvsolutions.idm.core.eav.api.dto.IdmFormDefinitionDto;
 import eu.bcvsolutions.idm.core.eav.api.dto.IdmFormInstanceDto;
 import eu.bcvsolutions.idm.core.eav.api.dto.IdmFormValueDto;
 import eu.bcvsolutions.idm.core.eav.api.service.FormService;
+import eu.bcvsolutions.idm.core.ecm.api.service.AttachmentManager;
+import eu.bcvsolutions.idm.core.model.service.api.LongPollingManager;
 import eu.bcvsolutions.idm.core.scheduler.api.service.AbstractSchedulableTaskExecutor;
 import eu.bcvsolutions.idm.core.security.api.domain.GuardedString;
 import eu.bcvsolutions.idm.core.workflow.service.WorkflowProcessInstanceService;
@@ -114,7 +118,7 @@ import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -133,6 +137,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
@@ -150,6 +155,8 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 			.getLogger(AbstractSynchronizationExecutor.class);
 
 	public static final String CACHE_NAME = AccModuleDescriptor.MODULE_ID + ":sync-mapping-cache";
+	private static final int RECONCILIATION_PAGE_SIZE = 1000;
+	private static final char RECONCILIATION_UID_SEPARATOR = '\u0000';
 
 	@Autowired
 	private WorkflowProcessInstanceService workflowProcessInstanceService;
@@ -190,16 +197,32 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 	@Autowired
 	protected ProvisioningConfiguration provisioningConfiguration;
 	@Autowired
+	protected SynchronizationConfiguration synchronizationConfiguration;
+	@Autowired
 	private ProcessEngine processEngine;
 	@Autowired
 	@Lazy
 	private ProvisioningService provisioningService;
 	@Autowired(required = false)
 	private IdmCacheManager idmCacheManager;
+	@Autowired
+	private AttachmentManager attachmentManager;
+	@Autowired
+	private LongPollingManager longPollingManager;
 	// Instance of LRT
 	protected AbstractSchedulableTaskExecutor<Boolean> longRunningTaskExecutor;
 	// Context for whole sync.
 	protected SynchronizationContext syncContext;
+	// Worker lanes - items are processed in parallel, if configured.
+	private SynchronizationWorkerPool workerPool;
+	// Uids read from the connector - used in reconciliation
+	private SynchronizationUidStore systemAccounts;
+	// Synchronized system - long polling subscribers are notified about synchronization progress.
+	private UUID systemId;
+	// Time of the last long polling notification - progress is published at most once per second.
+	private volatile long lastNotified;
+	private final Object stateLock = new Object();
+	private final Object actionLogLock = new Object();
 
 	/**
 	 * Returns entity type for this synchronization executor
@@ -221,6 +244,7 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 		// Create basic synchronization log
 		log.setSynchronizationConfig(synchronizationConfigId);
 		log.setStarted(ZonedDateTime.now());
+		systemId = null;
 		try {
 			// Validate and create basic context
 			SynchronizationContext context = this.validate(synchronizationConfigId);
@@ -228,6 +252,7 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 			AbstractSysSyncConfigDto config = context.getConfig();
 			SystemEntityType entityType = context.getEntityType();
 			SysSystemDto system = context.getSystem();
+			systemId = system.getId();
 			IcConnectorConfiguration connectorConfig = context.getConnectorConfig();
 			SysSystemMappingDto systemMapping = systemMappingService.get(config.getSystemMapping());
 			SysSchemaObjectClassDto schemaObjectClassDto = schemaObjectClassService.get(systemMapping.getObjectClass());
@@ -240,12 +265,15 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 			log.setRunning(true);
 			log = syncStarted(log, context);
 
-			// List of all accounts keys (used in reconciliation)
-			Set<String> systemAccountsList = new HashSet<>();
+			// All accounts keys (used in reconciliation) - memory bounded, spilled into temporary files
+			systemAccounts = new SynchronizationUidStore(
+					synchronizationConfiguration.getReconciliationBufferSize(),
+					attachmentManager::createTempFile);
 
 			longRunningTaskExecutor.setCounter(0L);
 
 			log = synchronizationLogService.save(log);
+			notifySynchronizationChanged(true);
 			List<SysSyncActionLogDto> actionsLog = new ArrayList<>();
 
 			// add logs to context
@@ -256,6 +284,16 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 				log.addToLog(
 						"Synchronization is running as differential (entities will be updated only if least one attribute was changed).");
 			}
+			// Parallel processing of items
+			int parallelWorkers = synchronizationConfiguration.getParallelWorkers();
+			if (isParallelSupported() && parallelWorkers > 1) {
+				workerPool = new SynchronizationWorkerPool(
+						"sync-worker",
+						parallelWorkers,
+						synchronizationConfiguration.getParallelQueueCapacity());
+				log.addToLog(MessageFormat.format("Synchronization items will be processed in parallel by [{0}] workers.",
+						workerPool.getWorkers()));
+			}
 
 			if (config.isCustomFilter() || config.isReconciliation()) {
 				// Custom filter Sync
@@ -274,18 +312,20 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 				log.addToLog(MessageFormat.format("Start search with filter [{0}].", filter != null ? filter : "NONE"));
 
 				connectorFacade.search(systemService.getConnectorInstance(system), connectorConfig, objectClass, filter,
-						new DefaultResultHandler(context, systemAccountsList));
+						new DefaultResultHandler(context, systemAccounts));
 			} else {
 				// Inner Sync
 				log.addToLog("Synchronization will use inner connector synchronization implementation.");
-				DefalutSyncResultHandler syncResultsHandler = new DefalutSyncResultHandler(context, systemAccountsList);
+				DefalutSyncResultHandler syncResultsHandler = new DefalutSyncResultHandler(context, systemAccounts);
 				connectorFacade.synchronization(systemService.getConnectorInstance(system), connectorConfig, objectClass,
 						lastIcToken, syncResultsHandler);
 			}
+			// Wait for parallel workers
+			completeWorkers(config, log);
 
 			// We do reconciliation (find missing account)
 			if (config.isReconciliation() && log.isRunning()) {
-				startReconciliation(entityType, systemAccountsList, config, system, log, actionsLog);
+				startReconciliation(entityType, systemAccounts, config, system, log, actionsLog);
 			}
 			// Sync is correctly ends if wasn't cancelled
 			if (log.isRunning()) {
@@ -299,10 +339,20 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 			log.addToLog(Throwables.getStackTraceAsString(e));
 			throw e;
 		} finally {
+			if (workerPool != null) {
+				// Unprocessed items are skipped (e.g. on exception)
+				workerPool.cancel();
+				workerPool.awaitCompletion();
+				workerPool = null;
+			}
+			if (systemAccounts != null) {
+				systemAccounts.close();
+			}
 			syncEnd(log, syncContext);
 			log.setRunning(false);
 			log.setEnded(ZonedDateTime.now());
 			synchronizationLogService.save(log);
+			notifySynchronizationChanged(true);
 			//
 			longRunningTaskExecutor.setCount(longRunningTaskExecutor.getCounter());
 			longRunningTaskExecutor.updateState();
@@ -540,8 +590,17 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 		// order of returned (searched) objects is random. We
 		// have to do !!STRING!! compare and save only
 		// grater token to config and log.
-		if (token != null && config.getToken() != null && token.compareTo(config.getToken()) <= -1) {
-			token = config.getToken();
+		String lastToken = config.getToken();
+		if (workerPool != null && workerPool.getLastToken() != null) {
+			// config token is not updated for each item in parallel mode
+			lastToken = workerPool.getLastToken();
+		}
+		if (token != null && lastToken != null && token.compareTo(lastToken) <= -1) {
+			token = lastToken;
+		}
+		if (workerPool != null) {
+			// Token is saved, after all previous items are processed
+			return submitItem(itemContext, token);
 		}
 		// Save token
 		log.setToken(token);
@@ -570,11 +629,14 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 		SysSyncItemLogDto itemLog = itemContext.getLogItem();
 
 		List<SysSyncActionLogDto> actionsLog = new ArrayList<>();
+		// Item action logs are merged with persisted action logs after item is processed in parallel mode.
+		boolean parallel = workerPool != null;
 		try {
-
-			SysSyncActionLogFilter actionFilter = new SysSyncActionLogFilter();
-			actionFilter.setSynchronizationLogId(log.getId());
-			actionsLog.addAll(syncActionLogService.find(actionFilter, null).getContent());
+			if (!parallel) {
+				SysSyncActionLogFilter actionFilter = new SysSyncActionLogFilter();
+				actionFilter.setSynchronizationLogId(log.getId());
+				actionsLog.addAll(syncActionLogService.find(actionFilter, null).getContent());
+			}
 			itemContext.addActionLogs(actionsLog);
 
 			// Default setting for log item
@@ -610,16 +672,87 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 			}
 			return true;
 		} finally {
-			synchronizationConfigService.save(config);
-			boolean existingItemLog = existItemLogInActions(actionsLog, itemLog);
-			actionsLog = saveActionLogs(actionsLog, log.getId());
-			//
-			if (!existingItemLog) {
-				addToItemLog(itemLog, MessageFormat.format("Missing action log for UID [{0}]!", uid));
-				initSyncActionLog(SynchronizationActionType.UNKNOWN, OperationResultType.ERROR, itemLog, log,
-						actionsLog);
-				syncItemLogService.save(itemLog);
+			if (parallel) {
+				// Token is saved by dispatcher, action logs are merged
+				if (!existItemLogInActions(actionsLog, itemLog)) {
+					addToItemLog(itemLog, MessageFormat.format("Missing action log for UID [{0}]!", uid));
+					initSyncActionLog(SynchronizationActionType.UNKNOWN, OperationResultType.ERROR, itemLog, log,
+							actionsLog);
+				}
+				mergeActionLogs(actionsLog, log.getId());
+			} else {
+				synchronizationConfigService.save(config);
+				boolean existingItemLog = existItemLogInActions(actionsLog, itemLog);
+				actionsLog = saveActionLogs(actionsLog, log.getId());
+				//
+				if (!existingItemLog) {
+					addToItemLog(itemLog, MessageFormat.format("Missing action log for UID [{0}]!", uid));
+					initSyncActionLog(SynchronizationActionType.UNKNOWN, OperationResultType.ERROR, itemLog, log,
+							actionsLog);
+					syncItemLogService.save(itemLog);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Submit item to the parallel worker lane by item uid.
+	 * Items with the same uid are processed in the same order as they were read from the connector.
+	 * Token is saved, after all previous items are processed.
+	 *
+	 * @param itemContext
+	 * @param token item token
+	 * @return false, if synchronization was canceled (by worker)
+	 */
+	private boolean submitItem(SynchronizationContext itemContext, String token) {
+		SysSyncLogDto log = itemContext.getLog();
+		AbstractSysSyncConfigDto config = itemContext.getConfig();
+		//
+		workerPool.submit(itemContext.getUid(), token, () -> {
+			boolean result = startItemSynchronization(itemContext);
+			// Update (increased counter) and check state of sync (maybe was cancelled from
+			// sync or LRT)
+			if (!updateAndCheckState(result, log)) {
+				workerPool.cancel();
 			}
+		});
+		// save token of already processed items periodically
+		if (workerPool.getSubmittedCount() % synchronizationConfiguration.getParallelQueueCapacity() == 0) {
+			saveSafeToken(config, log);
+		}
+		//
+		return !workerPool.isCanceled();
+	}
+
+	/**
+	 * Wait for all submitted items are processed by parallel workers and save the last token.
+	 *
+	 * @param config
+	 * @param log
+	 */
+	private void completeWorkers(AbstractSysSyncConfigDto config, SysSyncLogDto log) {
+		if (workerPool == null) {
+			return;
+		}
+		workerPool.awaitCompletion();
+		saveSafeToken(config, log);
+	}
+
+	/**
+	 * Save token of already processed items (all items before token are processed).
+	 *
+	 * @param config
+	 * @param log
+	 */
+	private void saveSafeToken(AbstractSysSyncConfigDto config, SysSyncLogDto log) {
+		String token = workerPool.getSafeToken();
+		if (token == null) {
+			return;
+		}
+		log.setToken(token);
+		if (!config.isReconciliation() && !token.equals(config.getToken())) {
+			config.setToken(token);
+			synchronizationConfigService.save(config);
 		}
 	}
 
@@ -633,73 +766,137 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 	 * @param system
 	 * @param log
 	 * @param actionsLog
+	 * @deprecated @since 11.1.0 - all uids are kept in memory, use {@link #startReconciliation(SystemEntityType, SynchronizationUidStore, AbstractSysSyncConfigDto, SysSystemDto, SysSyncLogDto, List)}
 	 */
+	@Deprecated
 	protected void startReconciliation(SystemEntityType entityType, Set<String> allAccountsSet,
 			AbstractSysSyncConfigDto config, SysSystemDto system, SysSyncLogDto log,
 			List<SysSyncActionLogDto> actionsLog) {
+		try (SynchronizationUidStore systemUids = new SynchronizationUidStore(
+				synchronizationConfiguration.getReconciliationBufferSize(),
+				attachmentManager::createTempFile)) {
+			allAccountsSet.forEach(systemUids::add);
+			//
+			startReconciliation(entityType, systemUids, config, system, log, actionsLog);
+		}
+	}
+	
+	/**
+	 * Start reconciliation. Is call after synchronization. Main purpose is find and
+	 * resolve missing accounts.
+	 * 
+	 * Account uids are loaded by pages (without account dto) and spilled into sorted temporary files (if needed) 
+	 * => account uids are compared with uids read from the connector by sorted merge. 
+	 * Only missing accounts are loaded and resolved => memory is bounded regardless of system size.
+	 *
+	 * @param entityType
+	 * @param systemUids uids read from the connector
+	 * @param config
+	 * @param system
+	 * @param log
+	 * @param actionsLog
+	 * @since 11.1.0
+	 */
+	protected void startReconciliation(SystemEntityType entityType, SynchronizationUidStore systemUids,
+			AbstractSysSyncConfigDto config, SysSystemDto system, SysSyncLogDto log,
+			List<SysSyncActionLogDto> actionsLog) {
 		if (!log.isRunning()) {
 			return;
 		}
-		AccAccountFilter accountFilter = new AccAccountFilter();
-		accountFilter.setSystemId(system.getId());
+		int bufferSize = synchronizationConfiguration.getReconciliationBufferSize();
+		try (SynchronizationUidStore accountUids = new SynchronizationUidStore(bufferSize, attachmentManager::createTempFile)) {
+			// uid with account identifier => sorted by uid
+			int pageSize = Math.min(bufferSize, RECONCILIATION_PAGE_SIZE);
+			int page = 0;
+			Map<UUID, String> realUids;
+			do {
+				realUids = accountService.findRealUids(
+						system.getId(), 
+						PageRequest.of(page++, pageSize, Sort.by(AbstractEntity_.id.getName())));
+				realUids.forEach((accountId, uid) -> {
+					accountUids.add(uid + RECONCILIATION_UID_SEPARATOR + accountId);
+				});
+			} while (realUids.size() == pageSize);
+			//
+			Iterator<String> systemUidIterator = systemUids.iterator();
+			String systemUid = systemUidIterator.hasNext() ? systemUidIterator.next() : null;
+			Iterator<String> accountUidIterator = accountUids.iterator();
+			while (accountUidIterator.hasNext()) {
+				if (!log.isRunning()) {
+					return;
+				}
+				String accountUid = accountUidIterator.next();
+				int separatorIndex = accountUid.lastIndexOf(RECONCILIATION_UID_SEPARATOR);
+				String uid = accountUid.substring(0, separatorIndex);
+				// skip uids, which are not used in accounts
+				while (systemUid != null && systemUid.compareTo(uid) < 0) {
+					systemUid = systemUidIterator.hasNext() ? systemUidIterator.next() : null;
+				}
+				if (uid.equals(systemUid)) {
+					// account exists on the target system
+					continue;
+				}
+				AccAccountDto account = accountService.get(UUID.fromString(accountUid.substring(separatorIndex + 1)));
+				if (account == null) {
+					// account was removed in the meantime
+					continue;
+				}
+				actionsLog = startReconciliationItem(entityType, uid, account, config, system, log, actionsLog);
+			}
+		}
+	}
+	
+	private List<SysSyncActionLogDto> startReconciliationItem(SystemEntityType entityType, String uid, AccAccountDto account,
+			AbstractSysSyncConfigDto config, SysSystemDto system, SysSyncLogDto log,
+			List<SysSyncActionLogDto> actionsLog) {
+		SysSyncItemLogDto itemLog = new SysSyncItemLogDto();
+		try {
 
-		List<AccAccountDto> accounts = accountService.find(accountFilter, null).getContent();
+			// Default setting for log item
+			itemLog.setIdentification(uid);
+			itemLog.setDisplayName(uid);
+			itemLog.setType(entityType.getEntityType().getSimpleName());
 
-		for (AccAccountDto account : accounts) {
-			if (!log.isRunning()) {
-				return;
+			// Do reconciliation for one item (produces event)
+			// Start in new Transaction
+			SynchronizationContext builder = new SynchronizationContext();
+			builder.addUid(uid).addType(IcSyncDeltaTypeEnum.DELETE).addConfig(config).addSystem(system)
+					.addEntityType(entityType).addAccount(account).addLog(log).addLogItem(itemLog)
+					.addActionLogs(actionsLog);
+
+			CoreEvent<SysSyncItemLogDto> event = new CoreEvent<>(
+					SynchronizationEventType.START_ITEM, itemLog);
+			event.getProperties().put(SynchronizationService.WRAPPER_SYNC_ITEM, builder);
+			EventResult<SysSyncItemLogDto> lastResult = entityEventManager.process(event).getLastResult();
+			boolean result = false;
+			if (lastResult != null && lastResult.getEvent().getProperties()
+					.containsKey(SynchronizationService.RESULT_SYNC_ITEM)) {
+				result = (boolean) lastResult.getEvent().getProperties()
+						.get(SynchronizationService.RESULT_SYNC_ITEM);
 			}
-			String uid = account.getRealUid();
-			if (!allAccountsSet.contains(uid)) {
-				SysSyncItemLogDto itemLog = new SysSyncItemLogDto();
-				try {
-
-					// Default setting for log item
-					itemLog.setIdentification(uid);
-					itemLog.setDisplayName(uid);
-					itemLog.setType(entityType.getEntityType().getSimpleName());
-
-					// Do reconciliation for one item (produces event)
-					// Start in new Transaction
-					SynchronizationContext builder = new SynchronizationContext();
-					builder.addUid(uid).addType(IcSyncDeltaTypeEnum.DELETE).addConfig(config).addSystem(system)
-							.addEntityType(entityType).addAccount(account).addLog(log).addLogItem(itemLog)
-							.addActionLogs(actionsLog);
-
-					CoreEvent<SysSyncItemLogDto> event = new CoreEvent<>(
-							SynchronizationEventType.START_ITEM, itemLog);
-					event.getProperties().put(SynchronizationService.WRAPPER_SYNC_ITEM, builder);
-					EventResult<SysSyncItemLogDto> lastResult = entityEventManager.process(event).getLastResult();
-					boolean result = false;
-					if (lastResult != null && lastResult.getEvent().getProperties()
-							.containsKey(SynchronizationService.RESULT_SYNC_ITEM)) {
-						result = (boolean) lastResult.getEvent().getProperties()
-								.get(SynchronizationService.RESULT_SYNC_ITEM);
-					}
-					// Update (increased counter) and check state of sync (maybe was cancelled from
-					// sync or LRT)
-					updateAndCheckState(result, log);
-
-				} catch (Exception ex) {
-					String message = MessageFormat.format("Reconciliation - error for uid [{0}]", uid);
-					log.addToLog(message);
-					log.addToLog(Throwables.getStackTraceAsString(ex));
-					LOG.error(message, ex);
-				} finally {
-					config = synchronizationConfigService.save(config);
-
-					boolean existingItemLog = existItemLogInActions(actionsLog, itemLog);
-					actionsLog = saveActionLogs(actionsLog, log.getId());
-					//
-					if (!existingItemLog) {
-						addToItemLog(itemLog, MessageFormat.format("Missing action log for UID [{0}]!", uid));
-						initSyncActionLog(SynchronizationActionType.UNKNOWN, OperationResultType.ERROR, itemLog, log,
-								actionsLog);
-						syncItemLogService.save(itemLog);
-					}
-				}
+			// Update (increased counter) and check state of sync (maybe was cancelled from
+			// sync or LRT)
+			updateAndCheckState(result, log);
+
+		} catch (Exception ex) {
+			String message = MessageFormat.format("Reconciliation - error for uid [{0}]", uid);
+			log.addToLog(message);
+			log.addToLog(Throwables.getStackTraceAsString(ex));
+			LOG.error(message, ex);
+		} finally {
+			synchronizationConfigService.save(config);
+
+			boolean existingItemLog = existItemLogInActions(actionsLog, itemLog);
+			actionsLog = saveActionLogs(actionsLog, log.getId());
+			//
+			if (!existingItemLog) {
+				addToItemLog(itemLog, MessageFormat.format("Missing action log for UID [{0}]!", uid));
+				initSyncActionLog(SynchronizationActionType.UNKNOWN, OperationResultType.ERROR, itemLog, log,
+						actionsLog);
+				syncItemLogService.save(itemLog);
 			}
 		}
+		return actionsLog;
 	}
 
 	/**
@@ -1481,8 +1678,9 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 				SystemEntityType entityType = context.getEntityType();
 				Assert.notNull(entityType, "Entity type is required!");
 
+				// two owners at most are needed to detect correlation to many results
 				List<? extends BaseDto> entities = formService.findOwners(entityType.getExtendedAttributeOwnerType(),
-						attribute.getIdmPropertyName(), serializableValue, null).getContent();
+						attribute.getIdmPropertyName(), serializableValue, PageRequest.of(0, 2)).getContent();
 				if (CollectionUtils.isEmpty(entities)) {
 					return null;
 				}
@@ -1544,7 +1742,8 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 		@SuppressWarnings("unchecked")
 		ReadWriteDtoService<DTO, BaseFilter> service = (ReadWriteDtoService<DTO, BaseFilter>) getService();
 
-		List<DTO> entities = service.find((BaseFilter) filter, (Pageable) null).getContent();
+		// two entities at most are needed to detect correlation to many results
+		List<DTO> entities = service.find((BaseFilter) filter, PageRequest.of(0, 2)).getContent();
 
 		if (CollectionUtils.isEmpty(entities)) {
 			return null;
@@ -2435,18 +2634,41 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 	 * @param log
 	 */
 	private boolean updateAndCheckState(boolean result, SysSyncLogDto log) {
-		// We reload log (maybe was synchronization canceled)
-		log.setRunning(synchronizationLogService.get(log.getId()).isRunning());
-		longRunningTaskExecutor.increaseCounter();
-		boolean lrtResult = longRunningTaskExecutor.updateState();
-		if (!log.isRunning() || !lrtResult) {
-			result = false;
-		}
-		if (!result) {
-			log.setRunning(false);
-			log.addToLog("Synchronization canceled!");
+		// Counter and log are shared by parallel workers
+		synchronized (stateLock) {
+			// We reload log (maybe was synchronization canceled)
+			log.setRunning(synchronizationLogService.get(log.getId()).isRunning());
+			longRunningTaskExecutor.increaseCounter();
+			boolean lrtResult = longRunningTaskExecutor.updateState();
+			notifySynchronizationChanged(false);
+			if (!log.isRunning() || !lrtResult) {
+				result = false;
+			}
+			if (!result) {
+				log.setRunning(false);
+				log.addToLog("Synchronization canceled!");
+			}
+			return result;
 		}
-		return result;
+	}
+
+	/**
+	 * Notify long polling subscribers about synchronization progress (~ synchronization detail on system).
+	 * Subscribers are notified without any query - notifications are merged, until subscriber's suspended requests are completed.
+	 * Change is published into distributed cache => progress of processed items is published at most once per second.
+	 * 
+	 * @param force true - publish change immediately (synchronization starts or ends)
+	 */
+	private void notifySynchronizationChanged(boolean force) {
+		if (systemId == null) {
+			return;
+		}
+		long now = System.currentTimeMillis();
+		if (!force && now - lastNotified < 1000) {
+			return;
+		}
+		lastNotified = now;
+		longPollingManager.notifyChange(SysSystemDto.class, systemId);
 	}
 
 	/**
@@ -2458,11 +2680,11 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 	private class DefaultResultHandler implements IcResultsHandler {
 
 		private final SynchronizationContext context;
-		private final Set<String> systemAccountsList;
+		private final SynchronizationUidStore systemAccounts;
 
-		public DefaultResultHandler(final SynchronizationContext context, final Set<String> systemAccountsList) {
+		public DefaultResultHandler(final SynchronizationContext context, final SynchronizationUidStore systemAccounts) {
 			this.context = context;
-			this.systemAccountsList = systemAccountsList;
+			this.systemAccounts = systemAccounts;
 		}
 
 		@Override
@@ -2472,7 +2694,7 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 			String uid = connectorObject.getUidValue();
 
 			if (context.getConfig().isReconciliation()) {
-				systemAccountsList.add(uid);
+				systemAccounts.add(uid);
 			}
 
 			SynchronizationContext itemContext = cloneItemContext(context);
@@ -2498,11 +2720,11 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 	private class DefalutSyncResultHandler implements IcSyncResultsHandler {
 
 		private final SynchronizationContext context;
-		private final Set<String> systemAccountsList;
+		private final SynchronizationUidStore systemAccounts;
 
-		public DefalutSyncResultHandler(final SynchronizationContext context, final Set<String> systemAccountsList) {
+		public DefalutSyncResultHandler(final SynchronizationContext context, final SynchronizationUidStore systemAccounts) {
 			this.context = context;
-			this.systemAccountsList = systemAccountsList;
+			this.systemAccounts = systemAccounts;
 		}
 
 		@Override
@@ -2518,14 +2740,9 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 			IcConnectorObject icObject = delta.getObject();
 			IcSyncToken token = delta.getToken();
 			String tokenObject = token.getValue() != null ? token.getValue().toString() : null;
-			// Save token
-			log.setToken(tokenObject);
-			if (!config.isReconciliation()) {
-				config.setToken(tokenObject);
-			}
 			//
 			if (config.isReconciliation()) {
-				systemAccountsList.add(uid);
+				systemAccounts.add(uid);
 			}
 
 			SynchronizationContext itemContext = cloneItemContext(context);
@@ -2535,6 +2752,16 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 					.addType(type) //
 					.addIcObject(icObject) //
 					.addGeneratedUid(null); //
+			
+			if (workerPool != null) {
+				// Token is saved, after all previous items are processed
+				return submitItem(itemContext, tokenObject);
+			}
+			// Save token
+			log.setToken(tokenObject);
+			if (!config.isReconciliation()) {
+				config.setToken(tokenObject);
+			}
 
 			boolean result = startItemSynchronization(itemContext);
 
@@ -2627,6 +2854,59 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 		return new ArrayList<>(syncActionLogService.find(actionFilter, null).getContent());
 	}
 
+	/**
+	 * Merge action logs of one item into persisted action logs. Used in parallel mode - action logs are shared
+	 * by workers, so they are merged one by one.
+	 *
+	 * @param itemActionLogs action logs of one item
+	 * @param syncLogId
+	 */
+	private void mergeActionLogs(List<SysSyncActionLogDto> itemActionLogs, UUID syncLogId) {
+		synchronized (actionLogLock) {
+			SysSyncActionLogFilter actionFilter = new SysSyncActionLogFilter();
+			actionFilter.setSynchronizationLogId(syncLogId);
+			List<SysSyncActionLogDto> actionLogs = new ArrayList<>(syncActionLogService.find(actionFilter, null).getContent());
+			List<SysSyncActionLogDto> changedActionLogs = new ArrayList<>(itemActionLogs.size());
+			//
+			for (SysSyncActionLogDto itemActionLog : itemActionLogs) {
+				if (itemActionLog.getOperationCount() == 0 && itemActionLog.getLogItems().isEmpty()) {
+					// item was moved into another action log
+					continue;
+				}
+				Optional<SysSyncActionLogDto> persistedActionLog = actionLogs
+						.stream()
+						.filter(al -> {
+							return itemActionLog.getSyncAction() == al.getSyncAction()
+									&& itemActionLog.getOperationResult() == al.getOperationResult();
+						})
+						.findFirst();
+				if (persistedActionLog.isPresent()) {
+					SysSyncActionLogDto actionLog = persistedActionLog.get();
+					actionLog.setOperationCount(actionLog.getOperationCount() + itemActionLog.getOperationCount());
+					itemActionLog.getLogItems().forEach(actionLog::addLogItems);
+					changedActionLogs.add(actionLog);
+				} else {
+					actionLogs.add(itemActionLog);
+					changedActionLogs.add(itemActionLog);
+				}
+			}
+			syncActionLogService.saveAll(changedActionLogs);
+		}
+	}
+
+	/**
+	 * Items read from the connector can be processed in parallel, when parallel processing is configured.
+	 * Items with the same uid are processed in order, in which they were read from the connector.
+	 * Override, if executor uses any state shared between items, which is not thread safe.
+	 *
+	 * @return true - items can be processed in parallel.
+	 * @see SynchronizationConfiguration#getParallelWorkers()
+	 * @since 11.1.0
+	 */
+	protected boolean isParallelSupported() {
+		return true;
+	}
+
 	/**
 	 * Skip entity update
 	 *
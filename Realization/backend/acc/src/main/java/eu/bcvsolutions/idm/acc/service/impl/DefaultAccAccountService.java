@@ -2,6 +2,7 @@ package eu.bcvsolutions.idm.acc.service.impl;
 
 import java.text.MessageFormat;
 import java.time.ZonedDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -219,6 +220,19 @@ public class DefaultAccAccountService extends AbstractEventableDtoService<AccAcc
 				accountRepository.findByEndOfProtectionLessThanAndInProtectionIsTrue(expirationDate, pageable));
 	}
 
+	@Override
+	@Transactional(readOnly = true)
+	public Map<UUID, String> findRealUids(UUID systemId, Pageable pageable) {
+		Assert.notNull(systemId, "System identifier is required.");
+		//
+		Map<UUID, String> realUids = new LinkedHashMap<>();
+		accountRepository
+			.findRealUids(systemId, pageable)
+			.forEach(row -> realUids.put((UUID) row[0], (String) row[1]));
+		//
+		return realUids;
+	}
+
 	@Override
 	public IcConnectorObject getConnectorObject(AccAccountDto account, BasePermission... permissions) {
 		Assert.notNull(account, "Account cannot be null!");
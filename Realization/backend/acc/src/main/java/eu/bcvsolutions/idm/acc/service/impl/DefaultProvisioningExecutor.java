@@ -1,13 +1,17 @@
 package eu.bcvsolutions.idm.acc.service.impl;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.Striped;
 import eu.bcvsolutions.idm.acc.AccModuleDescriptor;
 import eu.bcvsolutions.idm.acc.config.domain.ProvisioningConfiguration;
 import eu.bcvsolutions.idm.acc.domain.AccResultCode;
 import eu.bcvsolutions.idm.acc.domain.ProvisioningEventType;
+import eu.bcvsolutions.idm.acc.dto.ProvisioningAttributeDto;
 import eu.bcvsolutions.idm.acc.dto.SysProvisioningBatchDto;
 import eu.bcvsolutions.idm.acc.dto.SysProvisioningOperationDto;
 import eu.bcvsolutions.idm.acc.dto.SysSystemDto;
+import eu.bcvsolutions.idm.acc.dto.SysSystemEntityDto;
 import eu.bcvsolutions.idm.acc.dto.filter.SysProvisioningOperationFilter;
 import eu.bcvsolutions.idm.acc.entity.SysProvisioningOperation_;
 import eu.bcvsolutions.idm.acc.repository.SysProvisioningOperationRepository;
@@ -37,12 +41,17 @@ import eu.bcvsolutions.idm.core.notification.api.dto.IdmMessageDto;
 import eu.bcvsolutions.idm.core.notification.api.service.NotificationManager;
 import eu.bcvsolutions.idm.core.security.api.service.SecurityService;
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.Callable;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Lock;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
@@ -71,6 +80,8 @@ public class DefaultProvisioningExecutor implements ProvisioningExecutor {
 	private final SecurityService securityService;
 	private final ProvisioningConfiguration provisioningConfiguration;
 	private final SysSystemEntityService systemEntityService;
+	// batches are executed exclusively, but different batches can be executed concurrently
+	private final Striped<Lock> batchLocks = Striped.lazyWeakLock(64);
 	//
 	@Autowired	private IdmRoleRequestService roleRequestService;
 	@Autowired	private LookupService lookupService;
@@ -229,33 +240,7 @@ public class DefaultProvisioningExecutor implements ProvisioningExecutor {
 				return provisioningOperationService.handleFailed(provisioningOperation, ex);
 			} finally {
 				try {
-					UUID roleRequestId = provisioningOperation.getRoleRequestId();
-					if (roleRequestId != null) {
-						// Check of the state for whole request
-						// Create mock request -> we don't wont load request from DB -> optimization
-						IdmRoleRequestDto mockRequest = new IdmRoleRequestDto();
-						mockRequest.setId(roleRequestId);
-						mockRequest.setState(RoleRequestState.EXECUTED);
-
-						IdmRoleRequestDto returnedReqeust = roleRequestService.refreshSystemState(mockRequest);
-						OperationResultDto systemState = returnedReqeust.getSystemState();
-						if (systemState == null) {
-							// State on system of request was not changed (may be not all provisioning operations are
-							// resolved)
-						} else {
-							// We have final state on systems
-							IdmRoleRequestDto requestDto = roleRequestService.get(roleRequestId);
-							if (requestDto != null) {
-								requestDto.setSystemState(systemState);
-								roleRequestService.save(requestDto);
-							} else {
-								LOG.info(MessageFormat.format(
-										"Refresh role-request system state: Role-request with ID [{0}] was not found (maybe was deleted).",
-										roleRequestId));
-							}
-						}
-					}
-
+					refreshRoleRequestSystemState(provisioningOperation.getRoleRequestId());
 				} catch (Exception ex) {
 					return provisioningOperationService.handleFailed(provisioningOperation, ex);
 				}
@@ -288,15 +273,28 @@ public class DefaultProvisioningExecutor implements ProvisioningExecutor {
 	 */
 	@Override
 	@Transactional(propagation = Propagation.NOT_SUPPORTED)
-	public synchronized OperationResult execute(SysProvisioningBatchDto batch) {
+	public OperationResult execute(SysProvisioningBatchDto batch) {
 		Assert.notNull(batch, "Provisioning batch is required.");
+		//
+		Lock lock = batchLocks.get(batch.getId());
+		lock.lock();
+		try {
+			return executeBatch(batch);
+		} finally {
+			lock.unlock();
+		}
+	}
+	
+	private OperationResult executeBatch(SysProvisioningBatchDto batch) {
 		batch = batchService.get(batch.getId());
 		//	
 		OperationResult result = null;
 		List<SysProvisioningOperationDto> operations = provisioningOperationService.getByTimelineAndBatchId(batch.getId());
+		// merge pending operations for the same system entity => prevent redundant connector calls
+		operations = mergeOperations(operations);
 		if (operations.isEmpty()) {
-			// reset next attempt time if is filled
-			if (batch.getNextAttempt() != null) {
+			// reset next attempt time if is filled (batch can be removed together with system entity, when operations were skipped)
+			if (batch.getNextAttempt() != null && batchService.get(batch.getId()) != null) {
 				batch.setNextAttempt(null);
 				batchService.save(batch);
 			}
@@ -329,6 +327,192 @@ public class DefaultProvisioningExecutor implements ProvisioningExecutor {
 		return result;
 	}
 
+	/**
+	 * Merges pending operations in batch (~ operations for the same system entity) before execution:
+	 * - consecutive update operations are merged into the last update operation (with the final attribute state),
+	 * - create operation (account was not created on the target system yet) followed by update operations and delete operation are skipped.
+	 * Merged and skipped operations are archived as executed.
+	 * 
+	 * @param operations batch operations ordered by timeline
+	 * @return operations to execute
+	 * @since 11.1.0
+	 */
+	protected List<SysProvisioningOperationDto> mergeOperations(List<SysProvisioningOperationDto> operations) {
+		if (operations.size() < 2 || !provisioningConfiguration.isMergeOperations()) {
+			return operations;
+		}
+		if (operations.stream().anyMatch(operation -> operation.getResultState() == OperationState.RUNNING)) {
+			// operations will be executed after previous operation ends
+			return operations;
+		}
+		List<SysProvisioningOperationDto> results = new ArrayList<>(operations);
+		//
+		// create + update + delete
+		int skipped = getSkippedOperationCount(results);
+		if (skipped > 0) {
+			for (SysProvisioningOperationDto operation : results.subList(0, skipped)) {
+				archiveMergedOperation(operation, new DefaultResultModel(AccResultCode.PROVISIONING_SKIPPED,
+						ImmutableMap.of(
+								"name", String.valueOf(operation.getSystemEntityUid()),
+								"system", operation.getSystem(),
+								"operationType", operation.getOperationType())));
+			}
+			results = new ArrayList<>(results.subList(skipped, results.size()));
+			if (results.isEmpty()) {
+				// account was not created on the target system => system entity is not needed anymore (the same as after delete operation)
+				SysSystemEntityDto systemEntity = systemEntityService.get(operations.get(0).getSystemEntity());
+				if (systemEntity != null && systemEntity.isWish()) {
+					systemEntityService.delete(systemEntity);
+				}
+				return results;
+			}
+		}
+		//
+		// consecutive updates
+		List<SysProvisioningOperationDto> mergedResults = new ArrayList<>(results.size());
+		List<SysProvisioningOperationDto> updates = new ArrayList<>();
+		for (SysProvisioningOperationDto operation : results) {
+			if (isMergeableUpdate(operation)
+					&& (updates.isEmpty() || isSameEntity(updates.get(0), operation))) {
+				updates.add(operation);
+				continue;
+			}
+			mergedResults.addAll(mergeUpdates(updates));
+			updates.clear();
+			if (isMergeableUpdate(operation)) {
+				updates.add(operation);
+			} else {
+				mergedResults.add(operation);
+			}
+		}
+		mergedResults.addAll(mergeUpdates(updates));
+		//
+		return mergedResults;
+	}
+	
+	/**
+	 * Returns count of operations from the start of given list, which can be skipped - create operation 
+	 * (account was not created on the target system yet), update operations and delete operation.
+	 * 
+	 * @param operations batch operations ordered by timeline
+	 * @return 0 - nothing to skip
+	 */
+	private int getSkippedOperationCount(List<SysProvisioningOperationDto> operations) {
+		SysProvisioningOperationDto create = operations.get(0);
+		if (create.getOperationType() != ProvisioningEventType.CREATE
+				|| create.getCurrentAttempt() > 0
+				|| !isPending(create)) {
+			return 0;
+		}
+		SysSystemEntityDto systemEntity = systemEntityService.get(create.getSystemEntity());
+		if (systemEntity == null || !systemEntity.isWish()) {
+			// account exists on the target system
+			return 0;
+		}
+		for (int index = 1; index < operations.size(); index++) {
+			SysProvisioningOperationDto operation = operations.get(index);
+			if (!isPending(operation)) {
+				return 0;
+			}
+			if (operation.getOperationType() == ProvisioningEventType.DELETE) {
+				return index + 1;
+			}
+			if (operation.getOperationType() != ProvisioningEventType.UPDATE) {
+				return 0;
+			}
+		}
+		return 0;
+	}
+	
+	/**
+	 * Merge given update operations into the last one - attribute values are overridden by the later operations.
+	 * 
+	 * @param updates update operations ordered by timeline
+	 * @return merged operation
+	 */
+	private List<SysProvisioningOperationDto> mergeUpdates(List<SysProvisioningOperationDto> updates) {
+		if (updates.size() < 2) {
+			return new ArrayList<>(updates);
+		}
+		Map<ProvisioningAttributeDto, Object> accountObject = new HashMap<>();
+		updates.forEach(update -> accountObject.putAll(provisioningOperationService.getFullAccountObject(update)));
+		SysProvisioningOperationDto lastUpdate = updates.get(updates.size() - 1);
+		lastUpdate.getProvisioningContext().setAccountObject(accountObject);
+		// persist merged attributes (confidential values are stored for the last operation) before merged operations are removed
+		lastUpdate = provisioningOperationService.saveOperation(lastUpdate);
+		//
+		for (SysProvisioningOperationDto update : updates.subList(0, updates.size() - 1)) {
+			archiveMergedOperation(update, new DefaultResultModel(AccResultCode.PROVISIONING_MERGED,
+					ImmutableMap.of(
+							"name", String.valueOf(update.getSystemEntityUid()),
+							"system", update.getSystem(),
+							"operationType", update.getOperationType(),
+							"operationId", lastUpdate.getId())));
+		}
+		LOG.debug("[{}] update operations were merged into operation [{}].", updates.size(), lastUpdate.getId());
+		//
+		return Lists.newArrayList(lastUpdate);
+	}
+	
+	private void archiveMergedOperation(SysProvisioningOperationDto operation, ResultModel resultModel) {
+		operation.setResult(new OperationResult.Builder(OperationState.EXECUTED).setModel(resultModel).build());
+		provisioningOperationService.deleteOperation(operation);
+		LOG.debug(resultModel.toString());
+		//
+		refreshRoleRequestSystemState(operation.getRoleRequestId());
+	}
+	
+	private boolean isPending(SysProvisioningOperationDto operation) {
+		OperationState state = operation.getResultState();
+		//
+		return state == OperationState.CREATED || state == OperationState.NOT_EXECUTED;
+	}
+	
+	private boolean isMergeableUpdate(SysProvisioningOperationDto operation) {
+		return operation.getOperationType() == ProvisioningEventType.UPDATE
+				&& (isPending(operation) || operation.getResultState() == OperationState.EXCEPTION)
+				&& operation.getProvisioningContext() != null
+				&& operation.getProvisioningContext().getAccountObject() != null;
+	}
+	
+	private boolean isSameEntity(SysProvisioningOperationDto operation, SysProvisioningOperationDto otherOperation) {
+		return Objects.equals(operation.getEntityType(), otherOperation.getEntityType())
+				&& Objects.equals(operation.getEntityIdentifier(), otherOperation.getEntityIdentifier());
+	}
+	
+	/**
+	 * Check of the state for whole request.
+	 * 
+	 * @param roleRequestId request identifier - nothing is refreshed, when {@code null} is given
+	 */
+	private void refreshRoleRequestSystemState(UUID roleRequestId) {
+		if (roleRequestId == null) {
+			return;
+		}
+		// Create mock request -> we don't wont load request from DB -> optimization
+		IdmRoleRequestDto mockRequest = new IdmRoleRequestDto();
+		mockRequest.setId(roleRequestId);
+		mockRequest.setState(RoleRequestState.EXECUTED);
+
+		IdmRoleRequestDto returnedReqeust = roleRequestService.refreshSystemState(mockRequest);
+		OperationResultDto systemState = returnedReqeust.getSystemState();
+		if (systemState == null) {
+			// State on system of request was not changed (may be not all provisioning operations are
+			// resolved)
+		} else {
+			// We have final state on systems
+			IdmRoleRequestDto requestDto = roleRequestService.get(roleRequestId);
+			if (requestDto != null) {
+				requestDto.setSystemState(systemState);
+				roleRequestService.save(requestDto);
+			} else {
+				LOG.info(MessageFormat.format(
+						"Refresh role-request system state: Role-request with ID [{0}] was not found (maybe was deleted).",
+						roleRequestId));
+			}
+		}
+	}
+
 	@Override
 	@Transactional
 	public void cancel(SysProvisioningBatchDto batch) {
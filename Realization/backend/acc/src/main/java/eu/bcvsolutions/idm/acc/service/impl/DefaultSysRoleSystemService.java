@@ -48,7 +48,6 @@ import eu.bcvsolutions.idm.core.api.dto.BaseDto;
 import eu.bcvsolutions.idm.core.api.dto.ExportDescriptorDto;
 import eu.bcvsolutions.idm.core.api.dto.IdmConceptRoleRequestDto;
 import eu.bcvsolutions.idm.core.api.dto.IdmExportImportDto;
-import eu.bcvsolutions.idm.core.api.dto.IdmRoleCompositionDto;
 import eu.bcvsolutions.idm.core.api.dto.IdmRoleDto;
 import eu.bcvsolutions.idm.core.api.entity.AbstractEntity_;
 import eu.bcvsolutions.idm.core.api.exception.ResultCodeException;
@@ -171,16 +170,12 @@ public class DefaultSysRoleSystemService
 				.filter(Objects::nonNull) //
 				.distinct() //
 				.collect(Collectors.toSet());
-		// We have direct roles, but we need sub-roles too. Beware here could be many
-		// selects!
+		// We have direct roles, but we need sub-roles too - role composition graph is held in memory.
 		Set<UUID> allSubRoles = Sets.newHashSet(roleIds);
 		Map<UUID, Set<UUID>> roleWithSubroles = new HashMap<UUID, Set<UUID>>();
 
 		roleIds.forEach(roleId -> {
-			Set<UUID> subRoles = roleCompositionService.findAllSubRoles(roleId).stream() //
-					.map(IdmRoleCompositionDto::getSub) //
-					.distinct() //
-					.collect(Collectors.toSet()); //
+			Set<UUID> subRoles = roleCompositionService.findAllSubRoleIds(roleId);
 			// Put to result map, where key is super role and value set of all sub-roles
 			roleWithSubroles.put(roleId, subRoles);
 			allSubRoles.addAll(subRoles);
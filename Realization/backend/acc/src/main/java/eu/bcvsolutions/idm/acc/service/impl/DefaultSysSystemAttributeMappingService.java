@@ -8,10 +8,12 @@ import java.lang.reflect.InvocationTargetException;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -39,6 +41,7 @@ import eu.bcvsolutions.idm.acc.domain.AccResultCode;
 import eu.bcvsolutions.idm.acc.domain.AttributeMapping;
 import eu.bcvsolutions.idm.acc.domain.AttributeMappingStrategyType;
 import eu.bcvsolutions.idm.acc.domain.IdmAttachmentWithDataDto;
+import eu.bcvsolutions.idm.acc.domain.MappingAttributeSnapshot;
 import eu.bcvsolutions.idm.acc.domain.MappingContext;
 import eu.bcvsolutions.idm.acc.domain.SystemEntityType;
 import eu.bcvsolutions.idm.acc.domain.SystemOperationType;
@@ -94,6 +97,7 @@ import eu.bcvsolutions.idm.core.api.utils.EntityUtils;
 import eu.bcvsolutions.idm.core.api.utils.ExceptionUtils;
 import eu.bcvsolutions.idm.core.eav.api.domain.PersistentType;
 import eu.bcvsolutions.idm.core.eav.api.dto.IdmFormAttributeDto;
+import eu.bcvsolutions.idm.core.eav.api.dto.IdmFormInstanceDto;
 import eu.bcvsolutions.idm.core.eav.api.dto.IdmFormValueDto;
 import eu.bcvsolutions.idm.core.eav.api.service.FormService;
 import eu.bcvsolutions.idm.core.eav.api.service.IdmFormAttributeService;
@@ -816,9 +820,16 @@ public class DefaultSysSystemAttributeMappingService
 		}
 		//
 		SysSchemaAttributeDto schemaAttributeDto = getSchemaAttribute(attributeHandling);
+		// values loaded at once before (can be null)
+		MappingAttributeSnapshot attributeSnapshot = getAttributeSnapshot(entity, mappingContext);
 		//
 		if (attributeHandling.isExtendedAttribute() && entity != null && formService.isFormable(entity.getClass())) {
-			List<IdmFormValueDto> formValues = formService.getValues(entity, attributeHandling.getIdmPropertyName());
+			List<IdmFormValueDto> formValues;
+			if (attributeSnapshot != null && attributeSnapshot.containsFormValues(attributeHandling.getIdmPropertyName())) {
+				formValues = attributeSnapshot.getFormValues(attributeHandling.getIdmPropertyName());
+			} else {
+				formValues = formService.getValues(entity, attributeHandling.getIdmPropertyName());
+			}
 			if (formValues.isEmpty()) {
 				idmValue = null;
 			} else if (schemaAttributeDto.isMultivalued()) {
@@ -832,7 +843,12 @@ public class DefaultSysSystemAttributeMappingService
 				// Single value extended attribute
 				IdmFormValueDto formValue = formValues.get(0);
 				if (formValue.isConfidential()) {
-					Object confidentialValue = formService.getConfidentialPersistentValue(formValue);
+					Object confidentialValue;
+					if (attributeSnapshot != null && attributeSnapshot.containsConfidentialFormValue(formValue.getId())) {
+						confidentialValue = attributeSnapshot.getConfidentialFormValue(formValue.getId());
+					} else {
+						confidentialValue = formService.getConfidentialPersistentValue(formValue);
+					}
 					// If is confidential value String and schema attribute is GuardedString type,
 					// then convert to GuardedString will be did.
 					if (confidentialValue instanceof String
@@ -851,8 +867,12 @@ public class DefaultSysSystemAttributeMappingService
 			if (attributeHandling.isConfidentialAttribute()) {
 				// If is attribute isConfidential, then we will find value in
 				// secured storage
-				idmValue = confidentialStorage.getGuardedString(entity.getId(), entity.getClass(),
-						attributeHandling.getIdmPropertyName());
+				if (attributeSnapshot != null && attributeSnapshot.containsConfidentialAttribute(attributeHandling.getIdmPropertyName())) {
+					idmValue = attributeSnapshot.getConfidentialAttribute(attributeHandling.getIdmPropertyName());
+				} else {
+					idmValue = confidentialStorage.getGuardedString(entity.getId(), entity.getClass(),
+							attributeHandling.getIdmPropertyName());
+				}
 			} else {
 				try {
 					// We will search value directly in entity by property name
@@ -874,6 +894,70 @@ public class DefaultSysSystemAttributeMappingService
 		return this.transformValueToResource(uid, idmValue, attributeHandling, entity, mappingContext);
 	}
 
+	@Override
+	@Transactional(readOnly = true)
+	public MappingAttributeSnapshot getAttributeSnapshot(AbstractDto entity, List<? extends AttributeMapping> attributes) {
+		if (entity == null || entity.getId() == null || attributes == null) {
+			return null;
+		}
+		// resolve attributes, which values are needed - the same conditions as in getAttributeValue method
+		boolean formable = formService.isFormable(entity.getClass());
+		Set<String> formAttributeCodes = new HashSet<>();
+		Set<String> confidentialProperties = new HashSet<>();
+		attributes
+			.stream()
+			.filter(attribute -> !attribute.isDisabledAttribute() && !attribute.isPasswordAttribute())
+			.forEach(attribute -> {
+				if (attribute.isExtendedAttribute() && formable) {
+					formAttributeCodes.add(attribute.getIdmPropertyName());
+				} else if (attribute.isEntityAttribute() && attribute.isConfidentialAttribute()) {
+					confidentialProperties.add(attribute.getIdmPropertyName());
+				}
+			});
+		if (formAttributeCodes.isEmpty() && confidentialProperties.isEmpty()) {
+			return null;
+		}
+		//
+		MappingAttributeSnapshot attributeSnapshot = new MappingAttributeSnapshot(entity.getId());
+		if (!formAttributeCodes.isEmpty()) {
+			// all values of main form definition are loaded by one query
+			IdmFormInstanceDto formInstance = formService.getFormInstance(entity);
+			List<IdmFormValueDto> confidentialValues = new ArrayList<>();
+			for (String formAttributeCode : formAttributeCodes) {
+				IdmFormAttributeDto formAttribute = formInstance.getMappedAttributeByCode(formAttributeCode);
+				if (formAttribute == null) {
+					// attribute will be loaded by the original way - the same exception will be thrown
+					continue;
+				}
+				List<IdmFormValueDto> formValues = formInstance
+						.getValues()
+						.stream()
+						.filter(formValue -> formAttribute.getId().equals(formValue.getFormAttribute()))
+						.collect(Collectors.toList());
+				attributeSnapshot.putFormValues(formAttributeCode, formValues);
+				// only the first value is used from confidential storage (single valued attribute)
+				if (!formValues.isEmpty() && formValues.get(0).isConfidential()) {
+					confidentialValues.add(formValues.get(0));
+				}
+			}
+			attributeSnapshot.putConfidentialFormValues(formService.getConfidentialPersistentValues(confidentialValues));
+		}
+		if (!confidentialProperties.isEmpty()) {
+			Map<String, Serializable> confidentialValues = confidentialStorage
+					.get(Lists.newArrayList(entity.getId()), entity.getClass(), confidentialProperties)
+					.getOrDefault(entity.getId(), new HashMap<>());
+			// the same as confidentialStorage.getGuardedString
+			confidentialProperties.forEach(confidentialProperty -> {
+				Serializable confidentialValue = confidentialValues.get(confidentialProperty);
+				attributeSnapshot.putConfidentialAttribute(
+						confidentialProperty,
+						confidentialValue == null ? new GuardedString() : new GuardedString(confidentialValue.toString()));
+			});
+		}
+		//
+		return attributeSnapshot;
+	}
+
 	@Override
 	public String generateUid(AbstractDto entity, SysSystemAttributeMappingDto uidAttribute) {
 		Object uid = this.getAttributeValue(null, entity, uidAttribute);
@@ -1294,4 +1378,22 @@ public class DefaultSysSystemAttributeMappingService
 		result.put(SysSystemAttributeMappingService.MAPPING_SCRIPT_FAIL_SCRIPT_PATH_KEY, sb.toString());
 		return result;
 	}
+
+	/**
+	 * Returns snapshot with prefetched values, if snapshot was loaded for given entity.
+	 * 
+	 * @param entity attributes owner
+	 * @param mappingContext context
+	 * @return snapshot or {@code null}
+	 */
+	private MappingAttributeSnapshot getAttributeSnapshot(AbstractDto entity, MappingContext mappingContext) {
+		if (entity == null || mappingContext == null) {
+			return null;
+		}
+		MappingAttributeSnapshot attributeSnapshot = mappingContext.getAttributeSnapshot();
+		if (attributeSnapshot == null || !attributeSnapshot.isOwner(entity.getId())) {
+			return null;
+		}
+		return attributeSnapshot;
+	}
 }
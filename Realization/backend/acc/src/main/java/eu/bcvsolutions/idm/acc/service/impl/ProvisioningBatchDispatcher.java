@@ -0,0 +1,167 @@
+package eu.bcvsolutions.idm.acc.service.impl;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+
+import org.springframework.util.Assert;
+
+import eu.bcvsolutions.idm.acc.dto.SysProvisioningBatchDto;
+import eu.bcvsolutions.idm.acc.dto.SysSystemEntityDto;
+import eu.bcvsolutions.idm.acc.entity.SysProvisioningBatch_;
+import eu.bcvsolutions.idm.core.api.exception.CoreException;
+import eu.bcvsolutions.idm.core.api.utils.DtoUtils;
+import eu.bcvsolutions.idm.core.api.utils.ParallelWorkerPool;
+
+/**
+ * Dispatches provisioning batches into concurrently processed shards.
+ *
+ * Batches are sharded by target system and then by system entity into lanes - every lane is processed by single thread,
+ * so batches for the same system entity are processed in the same order as they were given.
+ * Count of lanes for one system is limited by configured concurrency per system => one slow system
+ * will not block processing batches for other systems (if count of threads is greater than concurrency per system).
+ *
+ * @author Radek Tomiška
+ * @since 11.1.0
+ */
+public class ProvisioningBatchDispatcher {
+
+	private static final org.slf4j.Logger LOG = org.slf4j.LoggerFactory.getLogger(ProvisioningBatchDispatcher.class);
+	//
+	private final String name;
+	private final int threads;
+	private final int systemThreads;
+	private final AtomicBoolean canceled = new AtomicBoolean(false);
+
+	/**
+	 * Dispatcher.
+	 *
+	 * @param name thread name prefix
+	 * @param threads count of threads
+	 * @param systemThreads maximum count of threads (lanes) for one target system
+	 */
+	public ProvisioningBatchDispatcher(String name, int threads, int systemThreads) {
+		Assert.hasLength(name, "Thread name is required.");
+		Assert.isTrue(threads > 0, "Count of threads has to be greater than zero.");
+		Assert.isTrue(systemThreads > 0, "Count of threads per system has to be greater than zero.");
+		//
+		this.name = name;
+		this.threads = threads;
+		this.systemThreads = systemThreads;
+	}
+
+	/**
+	 * Process given batches concurrently. Method blocks until all batches are processed or processing is canceled.
+	 * Security and transaction context of the calling thread is propagated into the workers.
+	 *
+	 * @param batches batches to process
+	 * @param processor processes one batch - returns {@code false}, when processing should be canceled (remaining batches are skipped)
+	 * @return true - all batches were processed, false - processing was canceled
+	 */
+	public boolean dispatch(List<SysProvisioningBatchDto> batches, Predicate<SysProvisioningBatchDto> processor) {
+		Assert.notNull(batches, "Batches are required.");
+		Assert.notNull(processor, "Batch processor is required.");
+		//
+		List<List<SysProvisioningBatchDto>> lanes = getLanes(batches);
+		if (lanes.isEmpty()) {
+			return true;
+		}
+		// each lane is processed by one worker at a time - any free worker processes the next lane
+		ParallelWorkerPool workers = new ParallelWorkerPool(name, Math.min(threads, lanes.size()), lanes.size(), 1);
+		try {
+			for (int index = 0; index < lanes.size(); index++) {
+				List<SysProvisioningBatchDto> lane = lanes.get(index);
+				Runnable worker = () -> {
+					for (SysProvisioningBatchDto batch : lane) {
+						if (canceled.get()) {
+							return;
+						}
+						try {
+							if (!processor.test(batch)) {
+								cancel();
+							}
+						} catch (Exception ex) {
+							LOG.error("Provisioning batch [{}] failed.", batch.getId(), ex);
+						}
+					}
+				};
+				workers.submit(index, worker); // lane index => lane
+			}
+			workers.awaitCompletion();
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			cancel();
+			throw new CoreException("Waiting to provisioning batches was interrupted.", ex);
+		} finally {
+			workers.shutdownNow();
+		}
+		//
+		return !canceled.get();
+	}
+
+	/**
+	 * Cancel processing - not processed batches will be skipped.
+	 */
+	public void cancel() {
+		canceled.set(true);
+	}
+
+	/**
+	 * Processing was canceled.
+	 *
+	 * @return true - canceled
+	 */
+	public boolean isCanceled() {
+		return canceled.get();
+	}
+
+	/**
+	 * Shards batches by system and system entity. Lanes are ordered round-robin by system
+	 * => first lanes for all systems are started first.
+	 *
+	 * @param batches batches
+	 * @return lanes
+	 */
+	protected List<List<SysProvisioningBatchDto>> getLanes(List<SysProvisioningBatchDto> batches) {
+		Map<UUID, List<List<SysProvisioningBatchDto>>> systemLanes = new LinkedHashMap<>();
+		for (SysProvisioningBatchDto batch : batches) {
+			List<List<SysProvisioningBatchDto>> lanes = systemLanes.computeIfAbsent(getSystem(batch), key -> {
+				List<List<SysProvisioningBatchDto>> newLanes = new ArrayList<>(systemThreads);
+				for (int index = 0; index < systemThreads; index++) {
+					newLanes.add(new ArrayList<>());
+				}
+				return newLanes;
+			});
+			UUID systemEntityId = batch.getSystemEntity();
+			int lane = systemEntityId == null ? 0 : Math.floorMod(systemEntityId.hashCode(), systemThreads);
+			lanes.get(lane).add(batch);
+		}
+		//
+		List<List<SysProvisioningBatchDto>> results = new ArrayList<>();
+		for (int index = 0; index < systemThreads; index++) {
+			for (List<List<SysProvisioningBatchDto>> lanes : systemLanes.values()) {
+				List<SysProvisioningBatchDto> lane = lanes.get(index);
+				if (!lane.isEmpty()) {
+					results.add(lane);
+				}
+			}
+		}
+		return results;
+	}
+
+	/**
+	 * Target system of given batch.
+	 *
+	 * @param batch batch with embedded system entity
+	 * @return system identifier or {@code null}, if system entity is not embedded
+	 */
+	protected UUID getSystem(SysProvisioningBatchDto batch) {
+		SysSystemEntityDto systemEntity = DtoUtils.getEmbedded(batch, SysProvisioningBatch_.systemEntity, SysSystemEntityDto.class, null);
+		//
+		return systemEntity == null ? null : systemEntity.getSystem();
+	}
+}
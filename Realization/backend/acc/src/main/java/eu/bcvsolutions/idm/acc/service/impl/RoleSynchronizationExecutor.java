@@ -445,6 +445,14 @@ public class RoleSynchronizationExecutor extends AbstractSynchronizationExecutor
 		return true;
 	}
 
+	/**
+	 * Role requests and user uids are cached in the synchronization context - shared by all items.
+	 */
+	@Override
+	protected boolean isParallelSupported() {
+		return false;
+	}
+
 	@Override
 	protected void syncEnd(SysSyncLogDto log, SynchronizationContext syncContext) {
 		// Execute all role-requests for this sync.
@@ -0,0 +1,259 @@
+package eu.bcvsolutions.idm.acc.service.impl;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.function.Supplier;
+
+import org.springframework.util.Assert;
+
+import eu.bcvsolutions.idm.core.api.exception.CoreException;
+
+/**
+ * Memory bounded sorted set of uids (~ strings).
+ *
+ * Uids are collected in memory buffer. When buffer is full, then uids are sorted and spilled into temporary file.
+ * Sorted distinct uids can be iterated (merged from all spill files and memory buffer) - used for reconciliation,
+ * where uids on target system are compared with uids of accounts.
+ *
+ * Store has to be closed - spill files are deleted.
+ *
+ * @author Radek Tomiška
+ * @since 11.1.0
+ */
+public class SynchronizationUidStore implements Closeable {
+
+	private static final org.slf4j.Logger LOG = org.slf4j.LoggerFactory.getLogger(SynchronizationUidStore.class);
+	//
+	private final int bufferSize;
+	private final Supplier<File> tempFileFactory;
+	private final List<File> spillFiles = new ArrayList<>();
+	private final List<SpillFileReader> readers = new ArrayList<>();
+	private List<String> buffer;
+	private long size = 0;
+
+	/**
+	 * New store.
+	 *
+	 * @param bufferSize maximum count of uids kept in memory
+	 * @param tempFileFactory creates temporary files for spilling uids
+	 */
+	public SynchronizationUidStore(int bufferSize, Supplier<File> tempFileFactory) {
+		Assert.isTrue(bufferSize > 0, "Buffer size has to be greater than zero.");
+		Assert.notNull(tempFileFactory, "Temp file factory is required.");
+		//
+		this.bufferSize = bufferSize;
+		this.tempFileFactory = tempFileFactory;
+		this.buffer = new ArrayList<>();
+	}
+
+	/**
+	 * Add uid into store. Uids are spilled into temporary file, when memory buffer is full.
+	 *
+	 * @param uid uid
+	 */
+	public void add(String uid) {
+		Assert.notNull(uid, "Uid is required.");
+		//
+		buffer.add(uid);
+		size++;
+		if (buffer.size() >= bufferSize) {
+			spill();
+		}
+	}
+
+	/**
+	 * Count of added uids (including duplicates).
+	 *
+	 * @return added count
+	 */
+	public long size() {
+		return size;
+	}
+
+	/**
+	 * Sorted (natural string order) distinct uids. Store should not be modified, when iterator is used.
+	 *
+	 * @return sorted uids
+	 */
+	public Iterator<String> iterator() {
+		Collections.sort(buffer);
+		PriorityQueue<PeekingIterator> heads = new PriorityQueue<>((one, two) -> one.peek().compareTo(two.peek()));
+		PeekingIterator bufferIterator = new PeekingIterator(buffer.iterator());
+		if (bufferIterator.hasNext()) {
+			heads.add(bufferIterator);
+		}
+		for (File spillFile : spillFiles) {
+			SpillFileReader reader = new SpillFileReader(spillFile);
+			readers.add(reader);
+			PeekingIterator fileIterator = new PeekingIterator(reader);
+			if (fileIterator.hasNext()) {
+				heads.add(fileIterator);
+			}
+		}
+		//
+		return new Iterator<String>() {
+
+			private String previous = null;
+
+			@Override
+			public boolean hasNext() {
+				// skip duplicates
+				while (!heads.isEmpty() && heads.peek().peek().equals(previous)) {
+					advance();
+				}
+				return !heads.isEmpty();
+			}
+
+			@Override
+			public String next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				previous = advance();
+				return previous;
+			}
+
+			private String advance() {
+				PeekingIterator head = heads.poll();
+				String uid = head.next();
+				if (head.hasNext()) {
+					heads.add(head);
+				}
+				return uid;
+			}
+		};
+	}
+
+	/**
+	 * Closes opened spill files and deletes them.
+	 */
+	@Override
+	public void close() {
+		readers.forEach(SpillFileReader::close);
+		readers.clear();
+		spillFiles.forEach(spillFile -> {
+			if (!spillFile.delete()) {
+				LOG.warn("Temporary file [{}] with uids was not deleted.", spillFile.getAbsolutePath());
+			}
+		});
+		spillFiles.clear();
+		buffer = new ArrayList<>();
+	}
+
+	private void spill() {
+		Collections.sort(buffer);
+		File spillFile = tempFileFactory.get();
+		spillFiles.add(spillFile);
+		try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(spillFile)))) {
+			for (String uid : buffer) {
+				output.writeUTF(uid);
+			}
+		} catch (IOException ex) {
+			throw new CoreException(String.format("Uids cannot be written into temporary file [%s].", spillFile.getAbsolutePath()), ex);
+		}
+		LOG.debug("[{}] uids were written into temporary file [{}].", buffer.size(), spillFile.getAbsolutePath());
+		buffer = new ArrayList<>();
+	}
+
+	/**
+	 * Reads sorted uids from spill file.
+	 */
+	private static class SpillFileReader implements Iterator<String>, Closeable {
+
+		private final File spillFile;
+		private final DataInputStream input;
+		private String next;
+
+		SpillFileReader(File spillFile) {
+			this.spillFile = spillFile;
+			try {
+				input = new DataInputStream(new BufferedInputStream(new FileInputStream(spillFile)));
+			} catch (IOException ex) {
+				throw new CoreException(String.format("Temporary file [%s] with uids cannot be read.", spillFile.getAbsolutePath()), ex);
+			}
+			next = read();
+		}
+
+		@Override
+		public boolean hasNext() {
+			return next != null;
+		}
+
+		@Override
+		public String next() {
+			if (next == null) {
+				throw new NoSuchElementException();
+			}
+			String uid = next;
+			next = read();
+			return uid;
+		}
+
+		@Override
+		public void close() {
+			try {
+				input.close();
+			} catch (IOException ex) {
+				LOG.warn("Temporary file [{}] with uids cannot be closed.", spillFile.getAbsolutePath(), ex);
+			}
+		}
+
+		private String read() {
+			try {
+				return input.readUTF();
+			} catch (EOFException ex) {
+				close();
+				return null;
+			} catch (IOException ex) {
+				throw new CoreException(String.format("Temporary file [%s] with uids cannot be read.", spillFile.getAbsolutePath()), ex);
+			}
+		}
+	}
+
+	/**
+	 * Iterator with look ahead.
+	 */
+	private static class PeekingIterator implements Iterator<String> {
+
+		private final Iterator<String> delegate;
+		private String peek;
+
+		PeekingIterator(Iterator<String> delegate) {
+			this.delegate = delegate;
+			this.peek = delegate.hasNext() ? delegate.next() : null;
+		}
+
+		String peek() {
+			return peek;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return peek != null;
+		}
+
+		@Override
+		public String next() {
+			if (peek == null) {
+				throw new NoSuchElementException();
+			}
+			String current = peek;
+			peek = delegate.hasNext() ? delegate.next() : null;
+			return current;
+		}
+	}
+}
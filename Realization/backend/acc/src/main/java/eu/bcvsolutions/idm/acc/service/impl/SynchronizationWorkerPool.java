@@ -0,0 +1,168 @@
+package eu.bcvsolutions.idm.acc.service.impl;
+
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.util.Assert;
+
+import eu.bcvsolutions.idm.core.api.exception.CoreException;
+import eu.bcvsolutions.idm.core.api.utils.ParallelWorkerPool;
+
+/**
+ * Partitioned worker lanes for processing synchronization items in parallel.
+ *
+ * Items are hashed by UID into worker lanes ({@link ParallelWorkerPool}) - every lane is processed by single thread
+ * at a time, so items with the same UID are processed in the same order as they were submitted.
+ * Every lane has bounded queue - submitting is blocked, when lane queue is full
+ * (=> reading from the connector is throttled by processing).
+ *
+ * Pool tracks submitted tokens too - token is "safe" (can be persisted), when all items
+ * submitted before (and including) token item were processed, see {@link #getSafeToken()}.
+ *
+ * @author Radek Tomiška
+ * @since 11.1.0
+ */
+public class SynchronizationWorkerPool {
+
+	private static final org.slf4j.Logger LOG = org.slf4j.LoggerFactory.getLogger(SynchronizationWorkerPool.class);
+	//
+	private final ParallelWorkerPool lanes;
+	private final AtomicBoolean canceled = new AtomicBoolean(false);
+	// submitted and not processed items - sequence is used
+	private final ConcurrentSkipListSet<Long> running = new ConcurrentSkipListSet<>();
+	// submitted tokens by item sequence
+	private final ConcurrentSkipListMap<Long, String> tokens = new ConcurrentSkipListMap<>();
+	// submit is called from one (reading) thread only
+	private long sequence = 0;
+	private String lastToken = null;
+
+	/**
+	 * Creates and starts worker lanes.
+	 *
+	 * @param name thread name prefix
+	 * @param workers count of worker lanes
+	 * @param queueCapacity bounded queue capacity of each lane
+	 */
+	public SynchronizationWorkerPool(String name, int workers, int queueCapacity) {
+		lanes = new ParallelWorkerPool(name, workers, workers, queueCapacity);
+	}
+
+	/**
+	 * Submit item to the worker lane by given UID.
+	 * Security and transaction context of the submitting thread is propagated into the worker.
+	 * Method blocks, if lane queue is full.
+	 *
+	 * @param uid item identifier - items with the same uid are processed in submitted order
+	 * @param token item token - can be {@code null}, if item has no token
+	 * @param item item processing
+	 */
+	public void submit(String uid, String token, Runnable item) {
+		Assert.notNull(uid, "Item uid is required.");
+		Assert.notNull(item, "Item is required.");
+		//
+		long itemSequence = ++sequence;
+		running.add(itemSequence);
+		if (token != null) {
+			tokens.put(itemSequence, token);
+			lastToken = token;
+		}
+		Runnable worker = () -> {
+			if (canceled.get()) {
+				// item is not processed => will not be marked as processed => token is not moved
+				return;
+			}
+			try {
+				item.run();
+			} catch (Exception ex) {
+				LOG.error("Synchronization item [{}] failed.", uid, ex);
+			} finally {
+				running.remove(itemSequence);
+			}
+		};
+		try {
+			lanes.submit(uid, worker);
+		} catch (RejectedExecutionException ex) {
+			running.remove(itemSequence);
+			tokens.remove(itemSequence);
+			throw new CoreException(String.format("Synchronization item [%s] cannot be submitted.", uid), ex);
+		}
+	}
+
+	/**
+	 * Returns the last token, which can be persisted - all items submitted before (and including) returned token
+	 * were processed. Older tokens are released.
+	 *
+	 * @return token or {@code null}, if no token can be persisted now
+	 */
+	public String getSafeToken() {
+		Long firstRunning = running.ceiling(Long.MIN_VALUE);
+		Entry<Long, String> safeToken = firstRunning == null ? tokens.lastEntry() : tokens.lowerEntry(firstRunning);
+		if (safeToken == null) {
+			return null;
+		}
+		// older tokens are not needed anymore
+		tokens.headMap(safeToken.getKey()).clear();
+		//
+		return safeToken.getValue();
+	}
+
+	/**
+	 * Returns token of the last submitted item (processed or not).
+	 *
+	 * @return token or {@code null}, if no item with token was submitted
+	 */
+	public String getLastToken() {
+		return lastToken;
+	}
+
+	/**
+	 * Count of submitted items.
+	 *
+	 * @return submitted items count
+	 */
+	public long getSubmittedCount() {
+		return sequence;
+	}
+
+	/**
+	 * Cancel processing - items waiting in queue will not be processed.
+	 */
+	public void cancel() {
+		canceled.set(true);
+	}
+
+	/**
+	 * Processing was canceled.
+	 *
+	 * @return true - canceled
+	 */
+	public boolean isCanceled() {
+		return canceled.get();
+	}
+
+	/**
+	 * Count of worker lanes.
+	 *
+	 * @return workers count
+	 */
+	public int getWorkers() {
+		return lanes.getWorkers();
+	}
+
+	/**
+	 * Stop accepting new items and wait to all submitted items are processed.
+	 */
+	public void awaitCompletion() {
+		try {
+			lanes.awaitCompletion();
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			cancel();
+			lanes.shutdownNow();
+			throw new CoreException("Waiting to synchronization workers was interrupted.", ex);
+		}
+	}
+}
@@ -0,0 +1,71 @@
+package eu.bcvsolutions.idm.acc.service.impl;
+
+import org.identityconnectors.framework.api.ConnectorFacade;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.google.common.collect.Lists;
+
+import eu.bcvsolutions.idm.acc.TestHelper;
+import eu.bcvsolutions.idm.acc.dto.SysSystemDto;
+import eu.bcvsolutions.idm.acc.service.api.SysSystemService;
+import eu.bcvsolutions.idm.core.eav.api.dto.IdmFormDefinitionDto;
+import eu.bcvsolutions.idm.core.eav.api.service.FormService;
+import eu.bcvsolutions.idm.ic.api.IcConnectorInstance;
+import eu.bcvsolutions.idm.ic.service.api.IcConnectorFacadeFactory;
+import eu.bcvsolutions.idm.test.api.AbstractIntegrationTest;
+
+/**
+ * Cached connector facades tests.
+ *
+ * @author Radek Tomiška
+ */
+public class DefaultIcConnectorFacadeFactoryIntegrationTest extends AbstractIntegrationTest {
+
+	@Autowired private TestHelper helper;
+	@Autowired private SysSystemService systemService;
+	@Autowired private FormService formService;
+	@Autowired private IcConnectorFacadeFactory connectorFacadeFactory;
+
+	@Test
+	public void testConnectorFacadeIsCached() {
+		SysSystemDto system = helper.createTestResourceSystem(false);
+		IcConnectorInstance connectorInstance = systemService.getConnectorInstance(system);
+		//
+		ConnectorFacade facade = connectorFacadeFactory.getConnectorFacade(connectorInstance, systemService.getConnectorConfiguration(system));
+		long hitCount = connectorFacadeFactory.getCacheHitCount();
+		long missCount = connectorFacadeFactory.getCacheMissCount();
+		//
+		// configuration is loaded again => same configuration, but different instance
+		Assert.assertSame(facade, connectorFacadeFactory.getConnectorFacade(connectorInstance, systemService.getConnectorConfiguration(system)));
+		Assert.assertEquals(hitCount + 1, connectorFacadeFactory.getCacheHitCount());
+		Assert.assertEquals(missCount, connectorFacadeFactory.getCacheMissCount());
+	}
+
+	@Test
+	public void testChangedConfigurationCreatesNewFacade() {
+		SysSystemDto system = helper.createTestResourceSystem(false);
+		IcConnectorInstance connectorInstance = systemService.getConnectorInstance(system);
+		ConnectorFacade facade = connectorFacadeFactory.getConnectorFacade(connectorInstance, systemService.getConnectorConfiguration(system));
+		//
+		IdmFormDefinitionDto formDefinition = systemService.getConnectorFormDefinition(connectorInstance);
+		formService.saveValues(system, formDefinition, "disabledStatusValue", Lists.newArrayList("disabled-changed"));
+		//
+		ConnectorFacade changedFacade = connectorFacadeFactory.getConnectorFacade(connectorInstance, systemService.getConnectorConfiguration(system));
+		Assert.assertNotSame(facade, changedFacade);
+		Assert.assertSame(changedFacade, connectorFacadeFactory.getConnectorFacade(connectorInstance, systemService.getConnectorConfiguration(system)));
+	}
+
+	@Test
+	public void testEvictCacheAfterSystemIsUpdated() {
+		SysSystemDto system = helper.createTestResourceSystem(false);
+		IcConnectorInstance connectorInstance = systemService.getConnectorInstance(system);
+		ConnectorFacade facade = connectorFacadeFactory.getConnectorFacade(connectorInstance, systemService.getConnectorConfiguration(system));
+		//
+		system.setDescription(getHelper().createName());
+		system = systemService.save(system);
+		//
+		Assert.assertNotSame(facade, connectorFacadeFactory.getConnectorFacade(connectorInstance, systemService.getConnectorConfiguration(system)));
+	}
+}
@@ -30,6 +30,7 @@ import eu.bcvsolutions.idm.acc.TestHelper;
 import eu.bcvsolutions.idm.acc.domain.AccResultCode;
 import eu.bcvsolutions.idm.acc.domain.AttributeMappingStrategyType;
 import eu.bcvsolutions.idm.acc.domain.ProvisioningContext;
+import eu.bcvsolutions.idm.acc.domain.ProvisioningEventType;
 import eu.bcvsolutions.idm.acc.domain.ProvisioningOperationType;
 import eu.bcvsolutions.idm.acc.domain.SystemEntityType;
 import eu.bcvsolutions.idm.acc.dto.ProvisioningAttributeDto;
@@ -455,6 +456,82 @@ public class DefaultProvisioningExecutorIntegrationTest extends AbstractIntegrat
 		Assert.assertNull(batch.getNextAttempt());
 	}
 	
+	@Test
+	public void testMergeUpdateOperationsInQueue() {
+		SysSystemDto system = getHelper().createTestResourceSystem(true);
+		system.setQueue(true);
+		system = systemService.save(system);
+		String firstname = "firstname";
+		SysProvisioningOperationDto provisioningOperation = createProvisioningOperation(system, firstname);
+		Map<ProvisioningAttributeDto, Object> accoutObject = provisioningOperation.getProvisioningContext().getAccountObject();
+		String uid = (String) accoutObject.get(getProvisioningAttribute(TestHelper.ATTRIBUTE_MAPPING_NAME));
+		//
+		provisioningExecutor.execute(provisioningOperation); // 1 - create
+		SysSystemEntityDto systemEntity = systemEntityService.getBySystemAndEntityTypeAndUid(system, SystemEntityType.IDENTITY, uid);
+		SysProvisioningBatchDto batch = provisioningBatchService.findBatch(systemEntity.getId());
+		provisioningExecutor.execute(batch);
+		Assert.assertEquals(firstname, getHelper().findResource(uid).getFirstname());
+		//
+		provisioningExecutor.execute(updateProvisioningOperation(systemEntity, firstname + 2)); // 2 - update
+		getHelper().waitForResult(null, 1, 1); // FIXME: how to order operations created in the same milis?
+		provisioningExecutor.execute(updateProvisioningOperation(systemEntity, firstname + 3)); // 3 - update
+		getHelper().waitForResult(null, 1, 1);
+		provisioningExecutor.execute(updateProvisioningOperation(systemEntity, firstname + 4)); // 4 - update
+		Assert.assertEquals(3, provisioningOperationService.findByBatchId(batch.getId(), null).getContent().size());
+		//
+		// execute whole batch - updates are merged
+		provisioningExecutor.execute(batch);
+		//
+		Assert.assertEquals(firstname + 4, getHelper().findResource(uid).getFirstname());
+		Assert.assertEquals(0, provisioningOperationService.findByBatchId(batch.getId(), null).getTotalElements());
+		SysProvisioningOperationFilter filter = new SysProvisioningOperationFilter();
+		filter.setSystemEntity(systemEntity.getId());
+		List<SysProvisioningArchiveDto> archives = provisioningArchiveService.find(filter, null).getContent();
+		Assert.assertEquals(4, archives.size());
+		Assert.assertTrue(archives.stream().allMatch(a -> a.getResultState() == OperationState.EXECUTED));
+		Assert.assertEquals(2, archives
+				.stream()
+				.filter(a -> AccResultCode.PROVISIONING_MERGED.name().equals(a.getResult().getModel().getStatusEnum()))
+				.count());
+	}
+	
+	@Test
+	public void testSkipCreateAndDeleteOperationsInQueue() {
+		SysSystemDto system = getHelper().createTestResourceSystem(true);
+		system.setQueue(true);
+		system = systemService.save(system);
+		String firstname = "firstname";
+		SysProvisioningOperationDto provisioningOperation = createProvisioningOperation(system, firstname);
+		Map<ProvisioningAttributeDto, Object> accoutObject = provisioningOperation.getProvisioningContext().getAccountObject();
+		String uid = (String) accoutObject.get(getProvisioningAttribute(TestHelper.ATTRIBUTE_MAPPING_NAME));
+		//
+		provisioningExecutor.execute(provisioningOperation); // 1 - create
+		SysSystemEntityDto systemEntity = systemEntityService.getBySystemAndEntityTypeAndUid(system, SystemEntityType.IDENTITY, uid);
+		Assert.assertTrue(systemEntity.isWish());
+		getHelper().waitForResult(null, 1, 1); // FIXME: how to order operations created in the same milis?
+		provisioningExecutor.execute(updateProvisioningOperation(systemEntity, firstname + 2)); // 2 - update
+		getHelper().waitForResult(null, 1, 1);
+		SysProvisioningOperationDto deleteOperation = updateProvisioningOperation(systemEntity, firstname + 2);
+		deleteOperation.setOperationType(ProvisioningEventType.DELETE);
+		provisioningExecutor.execute(deleteOperation); // 3 - delete
+		SysProvisioningBatchDto batch = provisioningBatchService.findBatch(systemEntity.getId());
+		Assert.assertEquals(3, provisioningOperationService.findByBatchId(batch.getId(), null).getContent().size());
+		//
+		// execute whole batch - account is not created at all
+		provisioningExecutor.execute(batch);
+		//
+		Assert.assertNull(getHelper().findResource(uid));
+		Assert.assertEquals(0, provisioningOperationService.findByBatchId(batch.getId(), null).getTotalElements());
+		Assert.assertNull(systemEntityService.get(systemEntity.getId()));
+		SysProvisioningOperationFilter filter = new SysProvisioningOperationFilter();
+		filter.setSystemEntity(systemEntity.getId());
+		List<SysProvisioningArchiveDto> archives = provisioningArchiveService.find(filter, null).getContent();
+		Assert.assertEquals(3, archives.size());
+		Assert.assertTrue(archives
+				.stream()
+				.allMatch(a -> AccResultCode.PROVISIONING_SKIPPED.name().equals(a.getResult().getModel().getStatusEnum())));
+	}
+	
 	@Test
 	public void testRetryProvisioning() {
 		testProvisioningExceptionProcessor.setDisabled(false);
@@ -3,9 +3,11 @@ package eu.bcvsolutions.idm.acc.service.impl;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.UUID;
 
@@ -16,9 +18,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.google.common.collect.Lists;
+
 import eu.bcvsolutions.idm.acc.TestHelper;
 import eu.bcvsolutions.idm.acc.domain.AccResultCode;
 import eu.bcvsolutions.idm.acc.domain.AttributeMappingStrategyType;
+import eu.bcvsolutions.idm.acc.domain.MappingAttributeSnapshot;
 import eu.bcvsolutions.idm.acc.domain.SystemEntityType;
 import eu.bcvsolutions.idm.acc.domain.SystemOperationType;
 import eu.bcvsolutions.idm.acc.dto.SysSchemaAttributeDto;
@@ -36,10 +41,15 @@ import eu.bcvsolutions.idm.acc.service.api.SysSystemService;
 import eu.bcvsolutions.idm.core.api.dto.IdmIdentityDto;
 import eu.bcvsolutions.idm.core.api.exception.ErrorModel;
 import eu.bcvsolutions.idm.core.api.exception.ResultCodeException;
+import eu.bcvsolutions.idm.core.api.service.ConfidentialStorage;
 import eu.bcvsolutions.idm.core.eav.api.domain.PersistentType;
 import eu.bcvsolutions.idm.core.eav.api.dto.IdmFormAttributeDto;
 import eu.bcvsolutions.idm.core.eav.api.dto.IdmFormDefinitionDto;
+import eu.bcvsolutions.idm.core.eav.api.dto.IdmFormValueDto;
 import eu.bcvsolutions.idm.core.eav.api.service.FormService;
+import eu.bcvsolutions.idm.core.model.entity.IdmIdentity;
+import eu.bcvsolutions.idm.core.model.entity.IdmIdentity_;
+import eu.bcvsolutions.idm.core.security.api.domain.GuardedString;
 import eu.bcvsolutions.idm.core.security.api.domain.IdmBasePermission;
 import eu.bcvsolutions.idm.ic.api.IcAttribute;
 import eu.bcvsolutions.idm.test.api.AbstractIntegrationTest;
@@ -68,6 +78,8 @@ public class DefaultSysSystemAttributeMappingServiceTest extends AbstractIntegra
 	private DefaultSysSystemMappingService mappingService;
 	@Autowired
 	private FormService formService;
+	@Autowired
+	private ConfidentialStorage confidentialStorage;
 
 	@Before
 	public void init() {
@@ -382,6 +394,50 @@ public class DefaultSysSystemAttributeMappingServiceTest extends AbstractIntegra
 
 	}
 	
+	@Test
+	public void testAttributeSnapshot() {
+		IdmIdentityDto identity = testHelper.createIdentity((GuardedString) null);
+		IdmFormAttributeDto formAttribute = new IdmFormAttributeDto(testHelper.createName());
+		formAttribute = formService.saveAttribute(IdmIdentity.class, formAttribute);
+		IdmFormAttributeDto confidentialFormAttribute = new IdmFormAttributeDto(testHelper.createName());
+		confidentialFormAttribute.setConfidential(true);
+		confidentialFormAttribute = formService.saveAttribute(IdmIdentity.class, confidentialFormAttribute);
+		formService.saveValues(identity, formAttribute, Lists.<Serializable>newArrayList("one"));
+		formService.saveValues(identity, confidentialFormAttribute, Lists.<Serializable>newArrayList("two"));
+		String confidentialProperty = testHelper.createName();
+		confidentialStorage.saveGuardedString(identity, confidentialProperty, new GuardedString("three"));
+		//
+		SysSystemAttributeMappingDto extendedAttribute = new SysSystemAttributeMappingDto();
+		extendedAttribute.setExtendedAttribute(true);
+		extendedAttribute.setIdmPropertyName(formAttribute.getCode());
+		SysSystemAttributeMappingDto confidentialExtendedAttribute = new SysSystemAttributeMappingDto();
+		confidentialExtendedAttribute.setExtendedAttribute(true);
+		confidentialExtendedAttribute.setIdmPropertyName(confidentialFormAttribute.getCode());
+		SysSystemAttributeMappingDto confidentialAttribute = new SysSystemAttributeMappingDto();
+		confidentialAttribute.setEntityAttribute(true);
+		confidentialAttribute.setConfidentialAttribute(true);
+		confidentialAttribute.setIdmPropertyName(confidentialProperty);
+		SysSystemAttributeMappingDto entityAttribute = new SysSystemAttributeMappingDto();
+		entityAttribute.setEntityAttribute(true);
+		entityAttribute.setIdmPropertyName(IdmIdentity_.username.getName());
+		//
+		MappingAttributeSnapshot snapshot = attributeMappingService.getAttributeSnapshot(
+				identity, 
+				Lists.newArrayList(extendedAttribute, confidentialExtendedAttribute, confidentialAttribute, entityAttribute));
+		//
+		assertTrue(snapshot.isOwner(identity.getId()));
+		assertEquals("one", snapshot.getFormValues(formAttribute.getCode()).get(0).getValue());
+		IdmFormValueDto confidentialValue = snapshot.getFormValues(confidentialFormAttribute.getCode()).get(0);
+		assertTrue(confidentialValue.isConfidential());
+		assertEquals("two", snapshot.getConfidentialFormValue(confidentialValue.getId()));
+		assertEquals("three", snapshot.getConfidentialAttribute(confidentialProperty).asString());
+		assertFalse(snapshot.containsFormValues(IdmIdentity_.username.getName()));
+		assertFalse(snapshot.containsConfidentialAttribute(IdmIdentity_.username.getName()));
+		//
+		// nothing to load
+		assertNull(attributeMappingService.getAttributeSnapshot(identity, Lists.newArrayList(entityAttribute)));
+	}
+	
 	@Test
 	public void transformationFromScriptFailure() {
 		SysSystemDto system = createSystem();
@@ -0,0 +1,139 @@
+package eu.bcvsolutions.idm.acc.service.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import eu.bcvsolutions.idm.acc.dto.SysProvisioningBatchDto;
+import eu.bcvsolutions.idm.test.api.AbstractUnitTest;
+
+/**
+ * Provisioning batches sharding tests.
+ *
+ * @author Radek Tomiška
+ */
+public class ProvisioningBatchDispatcherUnitTest extends AbstractUnitTest {
+
+	private final Map<UUID, UUID> batchSystems = new ConcurrentHashMap<>();
+
+	@Test
+	public void testLanesAreLimitedBySystem() {
+		UUID systemOne = UUID.randomUUID();
+		UUID systemTwo = UUID.randomUUID();
+		List<SysProvisioningBatchDto> batches = new ArrayList<>();
+		for (int index = 0; index < 20; index++) {
+			batches.add(createBatch(systemOne, UUID.randomUUID()));
+			batches.add(createBatch(systemTwo, UUID.randomUUID()));
+		}
+		//
+		List<List<SysProvisioningBatchDto>> lanes = createDispatcher(4, 2).getLanes(batches);
+		//
+		Assert.assertTrue(lanes.size() <= 4);
+		Assert.assertEquals(40, lanes.stream().mapToInt(List::size).sum());
+		lanes.forEach(lane -> {
+			// one system in lane
+			Assert.assertEquals(1, lane.stream().map(batchSystems::get).distinct().count());
+		});
+		Assert.assertTrue(lanes.stream().filter(lane -> batchSystems.get(lane.get(0).getId()).equals(systemOne)).count() <= 2);
+	}
+
+	@Test
+	public void testBatchesForSameSystemEntityAreProcessedInOrder() {
+		UUID system = UUID.randomUUID();
+		List<UUID> systemEntities = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+		List<SysProvisioningBatchDto> batches = new ArrayList<>();
+		for (int index = 0; index < 30; index++) {
+			batches.add(createBatch(system, systemEntities.get(index % systemEntities.size())));
+		}
+		Map<UUID, List<UUID>> processed = new ConcurrentHashMap<>();
+		//
+		Assert.assertTrue(createDispatcher(3, 3).dispatch(batches, batch -> {
+			processed
+				.computeIfAbsent(batch.getSystemEntity(), key -> Collections.synchronizedList(new ArrayList<>()))
+				.add(batch.getId());
+			return true;
+		}));
+		//
+		systemEntities.forEach(systemEntity -> {
+			List<UUID> expected = new ArrayList<>();
+			batches.stream().filter(batch -> batch.getSystemEntity().equals(systemEntity)).forEach(batch -> expected.add(batch.getId()));
+			Assert.assertEquals(expected, processed.get(systemEntity));
+		});
+	}
+
+	@Test
+	public void testSlowSystemDoesNotBlockOtherSystem() throws Exception {
+		UUID slowSystem = UUID.randomUUID();
+		UUID system = UUID.randomUUID();
+		CountDownLatch blocked = new CountDownLatch(1);
+		CountDownLatch processed = new CountDownLatch(10);
+		List<SysProvisioningBatchDto> batches = new ArrayList<>();
+		batches.add(createBatch(slowSystem, UUID.randomUUID()));
+		for (int index = 0; index < 10; index++) {
+			batches.add(createBatch(system, UUID.randomUUID()));
+		}
+		//
+		Assert.assertTrue(createDispatcher(2, 1).dispatch(batches, batch -> {
+			if (batchSystems.get(batch.getId()).equals(slowSystem)) {
+				try {
+					// other system has to be processed in the meantime
+					Assert.assertTrue(processed.await(10, TimeUnit.SECONDS));
+				} catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+				}
+				blocked.countDown();
+			} else {
+				processed.countDown();
+			}
+			return true;
+		}));
+		//
+		Assert.assertEquals(0, blocked.getCount());
+		Assert.assertEquals(0, processed.getCount());
+	}
+
+	@Test
+	public void testCanceledBatchesAreSkipped() {
+		UUID system = UUID.randomUUID();
+		UUID systemEntity = UUID.randomUUID();
+		List<SysProvisioningBatchDto> batches = new ArrayList<>();
+		for (int index = 0; index < 5; index++) {
+			batches.add(createBatch(system, systemEntity));
+		}
+		AtomicInteger counter = new AtomicInteger();
+		ProvisioningBatchDispatcher dispatcher = createDispatcher(2, 2);
+		//
+		Assert.assertFalse(dispatcher.dispatch(batches, batch -> counter.incrementAndGet() < 2));
+		//
+		Assert.assertTrue(dispatcher.isCanceled());
+		Assert.assertEquals(2, counter.get());
+	}
+
+	private ProvisioningBatchDispatcher createDispatcher(int threads, int systemThreads) {
+		return new ProvisioningBatchDispatcher("test-provisioning-queue", threads, systemThreads) {
+
+			@Override
+			protected UUID getSystem(SysProvisioningBatchDto batch) {
+				return batchSystems.get(batch.getId());
+			}
+		};
+	}
+
+	private SysProvisioningBatchDto createBatch(UUID system, UUID systemEntity) {
+		SysProvisioningBatchDto batch = new SysProvisioningBatchDto();
+		batch.setId(UUID.randomUUID());
+		batch.setSystemEntity(systemEntity);
+		batchSystems.put(batch.getId(), system);
+		//
+		return batch;
+	}
+}
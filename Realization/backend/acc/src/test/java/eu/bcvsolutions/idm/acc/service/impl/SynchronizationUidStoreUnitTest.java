@@ -0,0 +1,77 @@
+package eu.bcvsolutions.idm.acc.service.impl;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import eu.bcvsolutions.idm.core.api.exception.CoreException;
+import eu.bcvsolutions.idm.test.api.AbstractUnitTest;
+
+/**
+ * Memory bounded uid store tests.
+ *
+ * @author Radek Tomiška
+ */
+public class SynchronizationUidStoreUnitTest extends AbstractUnitTest {
+
+	@Test
+	public void testSortedDistinctUidsInMemory() {
+		try (SynchronizationUidStore store = new SynchronizationUidStore(100, this::createTempFile)) {
+			store.add("c");
+			store.add("a");
+			store.add("b");
+			store.add("a");
+			//
+			Assert.assertEquals(4, store.size());
+			Assert.assertEquals(List.of("a", "b", "c"), toList(store.iterator()));
+		}
+	}
+
+	@Test
+	public void testSortedDistinctUidsSpilledIntoFiles() {
+		List<File> spillFiles = new ArrayList<>();
+		try (SynchronizationUidStore store = new SynchronizationUidStore(3, () -> {
+			File spillFile = createTempFile();
+			spillFiles.add(spillFile);
+			return spillFile;
+		})) {
+			for (int index = 9; index >= 0; index--) {
+				store.add(String.valueOf(index));
+				store.add(String.valueOf(index % 5));
+			}
+			//
+			Assert.assertFalse(spillFiles.isEmpty());
+			spillFiles.forEach(spillFile -> Assert.assertTrue(spillFile.exists()));
+			Assert.assertEquals(List.of("0", "1", "2", "3", "4", "5", "6", "7", "8", "9"), toList(store.iterator()));
+		}
+		// spill files are removed
+		spillFiles.forEach(spillFile -> Assert.assertFalse(spillFile.exists()));
+	}
+
+	@Test
+	public void testEmptyStore() {
+		try (SynchronizationUidStore store = new SynchronizationUidStore(1, this::createTempFile)) {
+			Assert.assertFalse(store.iterator().hasNext());
+		}
+	}
+
+	private File createTempFile() {
+		try {
+			return File.createTempFile(UUID.randomUUID().toString(), ".tmp");
+		} catch (IOException ex) {
+			throw new CoreException(ex);
+		}
+	}
+
+	private List<String> toList(Iterator<String> iterator) {
+		List<String> results = new ArrayList<>();
+		iterator.forEachRemaining(results::add);
+		return results;
+	}
+}
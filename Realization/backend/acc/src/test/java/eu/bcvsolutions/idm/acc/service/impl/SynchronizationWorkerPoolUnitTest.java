@@ -0,0 +1,104 @@
+package eu.bcvsolutions.idm.acc.service.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import eu.bcvsolutions.idm.test.api.AbstractUnitTest;
+
+/**
+ * Synchronization worker lanes tests.
+ *
+ * @author Radek Tomiška
+ */
+public class SynchronizationWorkerPoolUnitTest extends AbstractUnitTest {
+
+	@Test
+	public void testItemsWithSameUidAreProcessedInOrder() {
+		SynchronizationWorkerPool pool = new SynchronizationWorkerPool("test-sync-worker", 4, 2);
+		Map<String, List<Integer>> processed = new ConcurrentHashMap<>();
+		//
+		for (int index = 0; index < 100; index++) {
+			String uid = String.valueOf(index % 7);
+			int order = index;
+			pool.submit(uid, null, () -> {
+				processed.computeIfAbsent(uid, key -> Collections.synchronizedList(new ArrayList<>())).add(order);
+			});
+		}
+		pool.awaitCompletion();
+		//
+		Assert.assertEquals(7, processed.size());
+		processed.values().forEach(orders -> {
+			List<Integer> sorted = new ArrayList<>(orders);
+			Collections.sort(sorted);
+			Assert.assertEquals(sorted, orders);
+		});
+		Assert.assertEquals(100, processed.values().stream().mapToInt(List::size).sum());
+	}
+
+	@Test
+	public void testSafeTokenWaitsForPreviousItems() throws Exception {
+		SynchronizationWorkerPool pool = new SynchronizationWorkerPool("test-sync-worker", 2, 10);
+		CountDownLatch blocked = new CountDownLatch(1);
+		CountDownLatch processed = new CountDownLatch(1);
+		String blockedUid = "a";
+		String uid = "b";
+		Assert.assertNotEquals(blockedUid.hashCode() % 2, uid.hashCode() % 2); // different lanes
+		//
+		pool.submit(blockedUid, "1", () -> {
+			try {
+				blocked.await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		pool.submit(uid, "2", processed::countDown);
+		Assert.assertTrue(processed.await(10, TimeUnit.SECONDS));
+		//
+		// first item is still running
+		Assert.assertNull(pool.getSafeToken());
+		Assert.assertEquals("2", pool.getLastToken());
+		//
+		blocked.countDown();
+		pool.awaitCompletion();
+		Assert.assertEquals("2", pool.getSafeToken());
+	}
+
+	@Test
+	public void testCanceledItemsAreSkipped() throws Exception {
+		SynchronizationWorkerPool pool = new SynchronizationWorkerPool("test-sync-worker", 1, 10);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch blocked = new CountDownLatch(1);
+		AtomicInteger counter = new AtomicInteger();
+		//
+		pool.submit("a", "1", () -> {
+			started.countDown();
+			try {
+				blocked.await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			counter.incrementAndGet();
+		});
+		pool.submit("a", "2", counter::incrementAndGet);
+		pool.submit("a", "3", counter::incrementAndGet);
+		Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+		pool.cancel();
+		blocked.countDown();
+		pool.awaitCompletion();
+		//
+		Assert.assertTrue(pool.isCanceled());
+		Assert.assertEquals(1, counter.get());
+		Assert.assertEquals(3, pool.getSubmittedCount());
+		// token of unprocessed items is not moved
+		Assert.assertEquals("1", pool.getSafeToken());
+	}
+}
@@ -87,6 +87,8 @@ public class IdmAuditFilter implements BaseFilter {
     }
 
     /**
+     * Changed attributes - audit changed at least one attribute, which name starts with given value (case insensitive).
+     * 
      * @since 9.5.0
      * @return
      */
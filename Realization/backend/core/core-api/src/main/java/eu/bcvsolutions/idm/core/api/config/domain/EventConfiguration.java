@@ -49,6 +49,29 @@ public interface EventConfiguration extends Configurable {
 			ConfigurationService.IDM_PRIVATE_PROPERTY_PREFIX + "core.event.asynchronous.batchSize";
 	int DEFAULT_EVENT_BATCH_SIZE = 15;
 	
+	/**
+	 * Asynchronous events are claimed from the shared queue - created events can be processed by any server instance 
+	 * (instance id of created event is ignored). Events are claimed atomically (created event is switched to running state
+	 * and to the claiming instance), events of owners with a running event (on any instance) are not claimed.
+	 * 
+	 * @since 11.1.0
+	 */
+	String PROPERTY_EVENT_ASYNCHRONOUS_CLAIM = 
+			ConfigurationService.IDM_PRIVATE_PROPERTY_PREFIX + "core.event.asynchronous.claim";
+	boolean DEFAULT_EVENT_ASYNCHRONOUS_CLAIM = false;
+	
+	/**
+	 * Completed states of processors are kept in memory (journal), when asynchronous event is executed - states are persisted together 
+	 * (in one transaction by JDBC batch), when running or suspended state is persisted, after each 50 completed processors and after event ends.
+	 * Running and suspended states are persisted immediately (running processor is visible in event states).
+	 * Event itself is persisted in running state => event is canceled after server is restarted (not flushed completed processor states are lost in this case).
+	 * 
+	 * @since 11.1.0
+	 */
+	String PROPERTY_EVENT_ASYNCHRONOUS_STATE_JOURNAL = 
+			ConfigurationService.IDM_PRIVATE_PROPERTY_PREFIX + "core.event.asynchronous.stateJournal";
+	boolean DEFAULT_EVENT_ASYNCHRONOUS_STATE_JOURNAL = false;
+	
 	
 	@Override
 	default String getConfigurableType() {
@@ -111,5 +134,21 @@ public interface EventConfiguration extends Configurable {
 	 * @return
 	 */
 	int getBatchSize();
+	
+	/**
+	 * Asynchronous events are claimed from the shared queue - created events can be processed by any server instance.
+	 * 
+	 * @return true - events are claimed from the shared queue, false - events are processed by configured instance only
+	 * @since 11.1.0
+	 */
+	boolean isClaim();
+	
+	/**
+	 * Completed states of processors are kept in memory (journal), when asynchronous event is executed - states are persisted together in batches.
+	 * 
+	 * @return true - completed states are persisted in batches (and after event ends), false - states are persisted immediately, when processor starts and ends
+	 * @since 11.1.0
+	 */
+	boolean isStateJournal();
 
 }
@@ -95,6 +95,19 @@ public interface RoleConfiguration extends Configurable {
 	String PROPERTY_CODE_ENVIRONMENT_SEPARATOR = ConfigurationService.IDM_PRIVATE_PROPERTY_PREFIX + "core.role.codeEnvironmentSeperator";
 	String DEFAULT_CODE_ENVIRONMENT_SEPARATOR = "|";
 	
+	/**
+	 * Automatic roles by attribute are evaluated in memory after contract or identity is changed.
+	 * Contract, identity and their extended attribute values are loaded once and all rules are evaluated in memory 
+	 * (sql criteria are used for rules, which cannot be evaluated in memory, and for recalculation of whole automatic role).
+	 * Lookout: string values are compared case sensitive in memory - enable in memory evaluation only, 
+	 * if case sensitive database collation is used (e.g. PostgreSQL default collation). With case insensitive collation 
+	 * (e.g. MS SQL default collation) can contract change remove automatic roles assigned by recalculation.
+	 * 
+	 * @since 11.1.0
+	 */
+	String PROPERTY_AUTOMATIC_ROLE_ATTRIBUTE_IN_MEMORY = ConfigurationService.IDM_PRIVATE_PROPERTY_PREFIX + "core.role.automatic.attribute.inMemory";
+	boolean DEFAULT_AUTOMATIC_ROLE_ATTRIBUTE_IN_MEMORY = false;
+	
 	@Override
 	default String getConfigurableType() {
 		return "role";
@@ -123,6 +136,7 @@ public interface RoleConfiguration extends Configurable {
 		properties.add(getPropertyName(PROPERTY_SHOW_ENVIRONMENT));
 		properties.add(getPropertyName(PROPERTY_SHOW_BASE_CODE));
 		properties.add(getPropertyName(PROPERTY_CODE_ENVIRONMENT_SEPARATOR));
+		properties.add(getPropertyName(PROPERTY_AUTOMATIC_ROLE_ATTRIBUTE_IN_MEMORY));
 		return properties;
 	}
 	
@@ -255,4 +269,12 @@ public interface RoleConfiguration extends Configurable {
 	 * @return true - environment is shown
 	 */
 	boolean isShowEnvironment();
+	
+	/**
+	 * Automatic roles by attribute are evaluated in memory after contract or identity is changed.
+	 * 
+	 * @return true - in memory evaluation is enabled
+	 * @since 11.1.0
+	 */
+	boolean isAutomaticRoleAttributeInMemory();
 }
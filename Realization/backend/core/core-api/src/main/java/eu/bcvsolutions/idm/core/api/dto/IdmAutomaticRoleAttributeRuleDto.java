@@ -19,6 +19,7 @@ import eu.bcvsolutions.idm.core.eav.api.dto.IdmFormAttributeDto;
 public class IdmAutomaticRoleAttributeRuleDto extends AbstractDto {
 
 	private static final long serialVersionUID = -9191481914442485135L;
+	public static final String PROPERTY_FORM_ATTRIBUTE = "formAttribute"; // @since 11.1.0
 
 	@Embedded(dtoClass = IdmAutomaticRoleAttributeDto.class)
 	private UUID automaticRoleAttribute;
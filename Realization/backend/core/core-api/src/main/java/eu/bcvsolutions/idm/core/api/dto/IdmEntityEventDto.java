@@ -50,6 +50,8 @@ public class IdmEntityEventDto extends AbstractDto {
 	@NotNull
 	private String instanceId;
 	private OperationResultDto result;
+	@Size(max = 64)
+	private String contentHash; // event content fingerprint - used for duplicate events detection
 	
 	public IdmEntityEventDto() {
 	}
@@ -235,4 +237,26 @@ public class IdmEntityEventDto extends AbstractDto {
 	public void setEventEnded(ZonedDateTime eventEnded) {
 		this.eventEnded = eventEnded;
 	}
+	
+	/**
+	 * Event content fingerprint - event type, parent event type, properties and original source
+	 * (without embedded and audit fields) are included. Fingerprint is computed, when created event is persisted.
+	 * 
+	 * @return fingerprint
+	 * @since 11.1.0
+	 */
+	public String getContentHash() {
+		return contentHash;
+	}
+	
+	/**
+	 * Event content fingerprint - event type, parent event type, properties and original source
+	 * (without embedded and audit fields) are included. Fingerprint is computed, when created event is persisted.
+	 * 
+	 * @param contentHash fingerprint
+	 * @since 11.1.0
+	 */
+	public void setContentHash(String contentHash) {
+		this.contentHash = contentHash;
+	}
 }
@@ -0,0 +1,36 @@
+package eu.bcvsolutions.idm.core.api.dto.filter;
+
+/**
+ * Context (~filter) for count total number of found records. Count query can be skipped,
+ * when total number of records is not needed (e.g. "load more" in table, next page is loaded only, when it exists).
+ *
+ * @author Radek Tomiška
+ * @since 11.1.0
+ */
+public interface CountableFilter extends BaseDataFilter {
+
+	/**
+	 * Count total number of found records.
+	 * Parameter name can be given in url parameters together with filter parameters.
+	 */
+	String PARAMETER_COUNT = "count";
+
+	/**
+	 * Count total number of found records. If count is disabled, then total number of records in returned page is
+	 * estimated only - page contains information, if next page exists.
+	 *
+	 * @return true - total number of records will be counted (default)
+	 */
+	default boolean getCount() {
+		return getParameterConverter().toBoolean(getData(), PARAMETER_COUNT, true);
+	}
+
+	/**
+	 * Count total number of found records.
+	 *
+	 * @param value false - count query will be skipped
+	 */
+	default void setCount(boolean value) {
+		set(PARAMETER_COUNT, value);
+	}
+}
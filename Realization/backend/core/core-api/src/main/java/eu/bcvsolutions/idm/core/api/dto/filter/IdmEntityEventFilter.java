@@ -29,6 +29,7 @@ public class IdmEntityEventFilter extends DataFilter {
 	public static final String PARAMETER_PRIORITY = "priority";
 	public static final String PARAMETER_RESULT_CODE = "resultCode";
 	public static final String PARAMETER_EVENT_TYPE = "eventType";
+	public static final String PARAMETER_CONTENT_HASHES = "contentHashes"; // @since 11.1.0
 	
 	public IdmEntityEventFilter() {
 		this(new LinkedMultiValueMap<>());
@@ -113,4 +114,24 @@ public class IdmEntityEventFilter extends DataFilter {
 	public void setEventType(String eventType) {
 		set(PARAMETER_EVENT_TYPE, eventType);
 	}
+	
+	/**
+	 * Event content fingerprints - events with one of given fingerprint.
+	 * 
+	 * @return fingerprints
+	 * @since 11.1.0
+	 */
+	public List<String> getContentHashes() {
+		return getParameterConverter().toStrings(getData(), PARAMETER_CONTENT_HASHES);
+	}
+	
+	/**
+	 * Event content fingerprints - events with one of given fingerprint.
+	 * 
+	 * @param contentHashes fingerprints
+	 * @since 11.1.0
+	 */
+	public void setContentHashes(List<String> contentHashes) {
+		put(PARAMETER_CONTENT_HASHES, contentHashes);
+	}
 }
@@ -99,9 +99,12 @@ public abstract class AbstractEntityEventProcessor<E extends Serializable> imple
 		Assert.notNull(event, "Event is required to processing.");
 		Assert.notNull(event.getContent(), "Entity event does not contain content, content is required!");
 		//
+		if (!entityClass.isAssignableFrom(event.getContent().getClass())) {
+			// event types are not resolved - configuration is not needed
+			return false;
+		}
 		final List<String> supportedEventTypes = Arrays.asList(getEventTypes());
-		return entityClass.isAssignableFrom(event.getContent().getClass())
-				&& (supportedEventTypes.isEmpty() || supportedEventTypes.contains(event.getType().name()));
+		return supportedEventTypes.isEmpty() || supportedEventTypes.contains(event.getType().name());
 	}
 	
 	/**
@@ -198,7 +198,10 @@ public abstract class AbstractReadDtoController<DTO extends BaseDto, F extends B
         @ApiImplicitParam(name = "sort", allowMultiple = true, dataType = "string", paramType = "query",
                 value = "Sorting criteria in the format: property(,asc|desc). " +
                         "Default sort order is ascending. " +
-                        "Multiple sort criteria are supported.")
+                        "Multiple sort criteria are supported."),
+        @ApiImplicitParam(name = "count", dataType = "boolean", paramType = "query",
+        		value = "Count total number of records (default true). "
+        				+ "Count query is skipped, if false is given - total number of records is estimated only (next page exists).")
 	})
 	public Resources<?> find(
 			@RequestParam(required = false) MultiValueMap<String, Object> parameters,
@@ -226,7 +229,10 @@ public abstract class AbstractReadDtoController<DTO extends BaseDto, F extends B
         @ApiImplicitParam(name = "sort", allowMultiple = true, dataType = "string", paramType = "query",
                 value = "Sorting criteria in the format: property(,asc|desc). " +
                         "Default sort order is ascending. " +
-                        "Multiple sort criteria are supported.")
+                        "Multiple sort criteria are supported."),
+        @ApiImplicitParam(name = "count", dataType = "boolean", paramType = "query",
+        		value = "Count total number of records (default true). "
+        				+ "Count query is skipped, if false is given - total number of records is estimated only (next page exists).")
 	})
 	public Resources<?> findQuick(
 			@RequestParam(required = false) MultiValueMap<String, Object> parameters,
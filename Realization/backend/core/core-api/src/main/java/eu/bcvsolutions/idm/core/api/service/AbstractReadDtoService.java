@@ -5,9 +5,17 @@ import java.lang.reflect.Field;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.UUID;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import javax.persistence.EntityManager;
 import javax.persistence.FetchType;
@@ -20,6 +28,12 @@ import javax.persistence.criteria.Order;
 import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
 
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.query.Query;
 import org.hibernate.query.criteria.internal.PathImplementor;
 import org.hibernate.query.criteria.internal.predicate.ExistsPredicate;
 import org.hibernate.query.criteria.internal.predicate.InPredicate;
@@ -32,10 +46,13 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.query.QueryUtils;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 import org.springframework.util.ObjectUtils;
 
@@ -46,6 +63,7 @@ import eu.bcvsolutions.idm.core.api.dto.BaseDto;
 import eu.bcvsolutions.idm.core.api.dto.ExportDescriptorDto;
 import eu.bcvsolutions.idm.core.api.dto.IdmExportImportDto;
 import eu.bcvsolutions.idm.core.api.dto.filter.BaseFilter;
+import eu.bcvsolutions.idm.core.api.dto.filter.CountableFilter;
 import eu.bcvsolutions.idm.core.api.dto.filter.DataFilter;
 import eu.bcvsolutions.idm.core.api.dto.filter.PermissionContext;
 import eu.bcvsolutions.idm.core.api.entity.AbstractEntity;
@@ -216,15 +234,148 @@ public abstract class AbstractReadDtoService<DTO extends BaseDto, E extends Base
 	@Override
 	@Transactional(readOnly = true)
 	public Page<DTO> find(final F filter, Pageable pageable, BasePermission... permission) {
-		Page<DTO> results = toDtoPage(findEntities(filter, pageable, permission), filter);
+		Page<E> entities = findEntities(filter, pageable, permission);
+		Page<DTO> results = toDtoPage(entities, filter);
 		//
-		results.getContent().forEach(dto -> {
-			// apply context on each loaded dto
-			applyContext(dto, filter, permission);
-		});
+		applyContext(entities.getContent(), results.getContent(), filter, permission);
 		//
 		return results;
 	}
+	
+	/**
+	 * Returns slice of DTOs by given filter after given record (keyset pagination), authorization permission will be evaluated.
+	 * DTOs are ordered by identifier, count query is not executed and offset is not used
+	 * => usable for iterating over large tables (e.g. in long running tasks, reports). Usage:
+	 * <pre>
+	 * UUID lastId = null;
+	 * do {
+	 *   Slice&lt;DTO&gt; slice = service.findAfter(filter, lastId, 100);
+	 *   ... process slice content ...
+	 *   lastId = slice.hasContent() ? slice.getContent().get(slice.getNumberOfElements() - 1).getId() : null;
+	 * } while (slice.hasNext());
+	 * </pre>
+	 * Never throws {@link ForbiddenEntityException} - returning available dtos by given permissions (AND).
+	 * 
+	 * @param filter
+	 * @param lastId identifier of the last record in the previous slice, {@code null} - first slice will be returned
+	 * @param size max number of records in slice
+	 * @param permission base permissions to evaluate (AND)
+	 * @return slice of DTOs ordered by identifier
+	 * @throws UnsupportedOperationException if entity is not identified by uuid
+	 * @since 11.1.0
+	 */
+	@Transactional(readOnly = true)
+	public Slice<DTO> findAfter(F filter, UUID lastId, int size, BasePermission... permission) {
+		Assert.isTrue(size > 0, "Slice size has to be greater than zero.");
+		if (!AbstractEntity.class.isAssignableFrom(getEntityClass())) {
+			throw new UnsupportedOperationException(String.format("Keyset pagination is not supported for entity [%s] "
+					+ "- entity is not identified by uuid.", getEntityClass()));
+		}
+		//
+		Specification<E> criteria = toCriteria(filter, true, permission);
+		if (lastId != null) {
+			criteria = criteria.and((root, query, builder) -> {
+				return builder.greaterThan(root.<UUID>get(AbstractEntity_.id.getName()), lastId);
+			});
+		}
+		Sort sort = Sort.by(AbstractEntity_.id.getName());
+		// one more record is loaded => next slice exists
+		List<E> entities = findEntities(criteria, sort, 0, size + 1);
+		boolean hasNext = entities.size() > size;
+		if (hasNext) {
+			entities = entities.subList(0, size);
+		}
+		List<DTO> results = toDtosWithContext(entities, filter, permission);
+		//
+		return new SliceImpl<>(results, PageRequest.of(0, size, sort), hasNext);
+	}
+	
+	/**
+	 * DTOs are loaded by database cursor in blocks - loaded entities are detached after the block is processed
+	 * => usable for iterating over large tables in constant memory (e.g. in reports, exports).
+	 * Stream has to be opened and consumed in transaction (read only transaction is preferred) and closed after usage.
+	 * Entities managed in persistence context before stream is opened are not detached.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public Stream<DTO> stream(F filter, Sort sort, BasePermission... permission) {
+		Assert.isTrue(TransactionSynchronizationManager.isActualTransactionActive(), 
+				"Stream has to be opened and consumed in (read only) transaction - database cursor is used.");
+		//
+		if ((sort == null || sort.isUnsorted()) && AbstractEntity.class.isAssignableFrom(getEntityClass())) {
+			// stable order by default
+			sort = Sort.by(AbstractEntity_.id.getName());
+		}
+		int fetchSize = getStreamFetchSize();
+		Assert.isTrue(fetchSize > 0, "Stream fetch size has to be greater than zero.");
+		//
+		Query<E> query = createQuery(toCriteria(filter, true, permission), sort).unwrap(Query.class);
+		query.setFetchSize(fetchSize);
+		query.setReadOnly(true);
+		//
+		// entities loaded by stream are detached only - persistence context can contain entities managed by caller (unflushed changes)
+		// => entities managed before stream is opened are not detached (cursor returns the same managed instance)
+		Session session = entityManager.unwrap(Session.class);
+		Set<Object> managedEntities = Collections.newSetFromMap(new IdentityHashMap<>());
+		for (Map.Entry<Object, EntityEntry> entry : session
+				.unwrap(SessionImplementor.class)
+				.getPersistenceContext()
+				.reentrantSafeEntityEntries()) {
+			if (getEntityClass().isInstance(entry.getKey())) {
+				managedEntities.add(entry.getKey());
+			}
+		}
+		ScrollableResults results = query.scroll(ScrollMode.FORWARD_ONLY);
+		//
+		Iterator<DTO> iterator = new Iterator<DTO>() {
+			
+			private List<E> entities = Collections.emptyList();
+			private Iterator<DTO> dtos = Collections.emptyIterator();
+			private boolean completed = false;
+			
+			@Override
+			public boolean hasNext() {
+				if (!dtos.hasNext() && !completed) {
+					// previous block is consumed - detach loaded entities, which were not managed before
+					entities
+						.stream()
+						.filter(entity -> !managedEntities.contains(entity))
+						.forEach(session::detach);
+					// load next block by cursor
+					entities = new ArrayList<>(fetchSize);
+					while (entities.size() < fetchSize && results.next()) {
+						entities.add((E) results.get(0));
+					}
+					completed = entities.size() < fetchSize;
+					dtos = toDtosWithContext(entities, filter, permission).iterator();
+				}
+				return dtos.hasNext();
+			}
+			
+			@Override
+			public DTO next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return dtos.next();
+			}
+		};
+		//
+		return StreamSupport
+				.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+				.onClose(results::close);
+	}
+	
+	/**
+	 * Count of records loaded by one database cursor round-trip, when dtos are streamed.
+	 * Loaded entities are detached from persistence context after the whole block is processed.
+	 * 
+	 * @return {@value #DEFAULT_STREAM_FETCH_SIZE} by default
+	 * @since 11.1.0
+	 */
+	protected int getStreamFetchSize() {
+		return DEFAULT_STREAM_FETCH_SIZE;
+	}
 
 	@Override
 	public Page<UUID> findIds(Pageable pageable, BasePermission... permission) {
@@ -393,11 +544,69 @@ public abstract class AbstractReadDtoService<DTO extends BaseDto, E extends Base
 			}
 		}
 		//
-		Page<E> entities = getRepository().findAll(toCriteria(filter, true, permission), pageable);
+		Page<E> entities;
+		if (!isCount(filter) && pageable.isPaged() && pageable.getPageSize() < Integer.MAX_VALUE) {
+			// count query is skipped - one more record is loaded => next page exists
+			List<E> content = findEntities(
+					toCriteria(filter, true, permission),
+					pageable.getSort(),
+					pageable.getOffset(),
+					pageable.getPageSize() + 1);
+			long total = pageable.getOffset() + content.size();
+			if (content.size() > pageable.getPageSize()) {
+				content = content.subList(0, pageable.getPageSize());
+			}
+			entities = new PageImpl<>(content, pageable, total);
+		} else {
+			entities = getRepository().findAll(toCriteria(filter, true, permission), pageable);
+		}
 		//
 		LOG.trace("Found entities [{}].", entities.getTotalElements());
 		return entities;
 	}
+	
+	/**
+	 * Find entities by given criteria without count query.
+	 * 
+	 * @param criteria jpa criteria
+	 * @param sort nullable
+	 * @param offset first result
+	 * @param maxResults max results
+	 * @return entities
+	 * @since 11.1.0
+	 */
+	private List<E> findEntities(Specification<E> criteria, Sort sort, long offset, int maxResults) {
+		TypedQuery<E> query = createQuery(criteria, sort);
+		query.setFirstResult((int) offset);
+		query.setMaxResults(maxResults);
+		//
+		return query.getResultList();
+	}
+	
+	/**
+	 * Create query by given criteria.
+	 * 
+	 * @param criteria jpa criteria
+	 * @param sort nullable
+	 * @return query
+	 * @since 11.1.0
+	 */
+	private TypedQuery<E> createQuery(Specification<E> criteria, Sort sort) {
+		CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+		CriteriaQuery<E> cq = criteriaBuilder.createQuery(getEntityClass());
+		Root<E> root = cq.from(getEntityClass());
+		cq.select(root);
+		//
+		Predicate predicate = criteria.toPredicate(root, cq, criteriaBuilder);
+		if (predicate != null) {
+			cq.where(predicate);
+		}
+		if (sort != null && sort.isSorted()) {
+			cq.orderBy(QueryUtils.toOrders(sort, root, criteriaBuilder));
+		}
+		//
+		return entityManager.createQuery(cq);
+	}
 
 	/**
 	 * Constructs find / count jpa criteria from given filter and permissions
@@ -471,12 +680,12 @@ public abstract class AbstractReadDtoService<DTO extends BaseDto, E extends Base
 		if (!(dto instanceof AbstractDto)) {
 			return dto;
 		}
-		// context not support permissions
-		if (!(context instanceof PermissionContext)) {
+		// load permissions is not needed
+		if (!isAddPermissions(context)) {
 			return dto;
 		}
-		// load permissions is not needed
-		if (!((PermissionContext) context).getAddPermissions()) {
+		// permissions are already loaded (e.g. for whole page)
+		if (((AbstractDto) dto).getPermissions() != null) {
 			return dto;
 		}
 		// load permissions
@@ -485,6 +694,82 @@ public abstract class AbstractReadDtoService<DTO extends BaseDto, E extends Base
 		return dto;
 	}
 	
+	/**
+	 * Convert loaded entities to dtos and apply context.
+	 * 
+	 * @param entities loaded entities
+	 * @param context nullable
+	 * @param permission
+	 * @return dtos
+	 * @since 11.1.0
+	 */
+	private List<DTO> toDtosWithContext(List<E> entities, F context, BasePermission... permission) {
+		List<DTO> results;
+		if (supportsToDtoWithFilter()) {
+			results = toDtos(entities, true, context);
+		} else {
+			results = toDtos(entities, true);
+		}
+		//
+		applyContext(entities, results, context, permission);
+		//
+		return results;
+	}
+	
+	/**
+	 * Apply context on loaded dtos - permissions are evaluated for all dtos at once.
+	 * 
+	 * @param entities loaded entities
+	 * @param dtos dtos converted from loaded entities
+	 * @param context nullable
+	 * @param permission
+	 * @since 11.1.0
+	 */
+	private void applyContext(List<E> entities, List<DTO> dtos, F context, BasePermission... permission) {
+		if (isAddPermissions(context)) {
+			// evaluate permissions for the whole page at once
+			Map<Serializable, Set<String>> permissions = getPermissions(entities);
+			dtos.forEach(dto -> {
+				if (dto instanceof AbstractDto) {
+					((AbstractDto) dto).setPermissions(permissions.get(dto.getId()));
+				}
+			});
+		}
+		dtos.forEach(dto -> {
+			// apply context on each loaded dto
+			applyContext(dto, context, permission);
+		});
+	}
+	
+	/**
+	 * Returns {@code false}, when count query should be skipped by given context.
+	 * 
+	 * @param context nullable
+	 * @return true - total number of records is counted (default)
+	 * @since 11.1.0
+	 */
+	protected boolean isCount(F context) {
+		if (!(context instanceof CountableFilter)) {
+			return true;
+		}
+		return ((CountableFilter) context).getCount();
+	}
+	
+	/**
+	 * Returns {@code true}, when permissions should be added into loaded dtos by given context.
+	 * 
+	 * @param context nullable
+	 * @return true - permissions are required
+	 * @since 11.1.0
+	 */
+	protected boolean isAddPermissions(F context) {
+		// context not support permissions
+		if (!(context instanceof PermissionContext)) {
+			return false;
+		}
+		return ((PermissionContext) context).getAddPermissions();
+	}
+	
 	@Override
 	public void export(UUID id, IdmExportImportDto batch) {
 		Assert.notNull(batch, "Export batch must exist!");
@@ -523,6 +808,19 @@ public abstract class AbstractReadDtoService<DTO extends BaseDto, E extends Base
 		//
 		return getAuthorizationManager().getPermissions(entity);
 	}
+	
+	/**
+	 * Evaluate permissions for given entities at once.
+	 * 
+	 * @param entities persisted entities
+	 * @return entity identifier => permissions
+	 * @since 11.1.0
+	 */
+	protected Map<Serializable, Set<String>> getPermissions(List<E> entities) {
+		Assert.notNull(entities, "Entities are required get permissions.");
+		//
+		return getAuthorizationManager().getPermissions(entities);
+	}
 
 	/**
 	 *
@@ -1,6 +1,9 @@
 package eu.bcvsolutions.idm.core.api.service;
 
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import eu.bcvsolutions.idm.core.api.domain.Identifiable;
@@ -181,6 +184,29 @@ public interface ConfidentialStorage {
 	 */
 	GuardedString getGuardedString(Identifiable owner, String key);
 	
+	/**
+	 * Get values by owners and keys at once (one query is used). 
+	 * Owners and keys without value are not contained in result map.
+	 * 
+	 * @param ownerIds values owner identifiers
+	 * @param ownerType owner type
+	 * @param keys value keys
+	 * @return owner identifier => key => value
+	 * @since 11.1.0
+	 */
+	Map<UUID, Map<String, Serializable>> get(Collection<UUID> ownerIds, Class<? extends Identifiable> ownerType, Collection<String> keys);
+	
+	/**
+	 * Persists (create, update) values of owners at once - persisted values are loaded by one query.
+	 * Values with the other keys (not given) are not changed.
+	 * 
+	 * @param ownerType owner type
+	 * @param values owner identifier => key => value
+	 * @see #get(Collection, Class, Collection)
+	 * @since 11.1.0
+	 */
+	void save(Class<? extends Identifiable> ownerType, Map<UUID, Map<String, Serializable>> values);
+	
 	/**
 	 * Persists (create, update) given guarded string
 	 * 
@@ -212,6 +238,16 @@ public interface ConfidentialStorage {
 	 */	
 	void changeCryptKey(IdmConfidentialStorageValueDto value, GuardedString oldCryptKey);
 	
+	/**
+	 * Method read values from confidential storage with old crypt key and resave values with new one (configured).
+	 * Values are processed at once (in one transaction) - all values are changed or none of them.
+	 *
+	 * @param values values to change
+	 * @param oldCryptKey old crypt key
+	 * @since 11.1.0
+	 */
+	void changeCryptKey(List<IdmConfidentialStorageValueDto> values, GuardedString oldCryptKey);
+	
 	/**
 	 * Returns owner type - owner type has to be entity class - dto class can be given.
 	 * Its used as default definition type for given owner type.
@@ -239,4 +275,13 @@ public interface ConfidentialStorage {
 	 * @since 10.8.0
 	 */
 	void renewVector(IdmConfidentialStorageValueDto value);
+	
+	/**
+	 * Generates a new initialization vector for each given value and uses it for encrypting and saving given confidential storage values.
+	 * Values are processed at once (in one transaction) - all values are changed or none of them.
+	 * 
+	 * @param values values to change
+	 * @since 11.1.0
+	 */
+	void renewVector(List<IdmConfidentialStorageValueDto> values);
 }
@@ -471,4 +471,15 @@ public interface EntityEventManager extends ScriptEnabled {
 	 * @since 11.1.0
 	 */
 	int switchInstanceId(String previousInstanceId, String newInstanceId);
+	
+	/**
+	 * Computes fingerprint of event content - event type, parent event type, event properties (without internal properties used 
+	 * for processing) and original source (without embedded and audit fields) are included. 
+	 * Events with the same fingerprint (and owner) are duplicates => older created event can be canceled.
+	 * 
+	 * @param event persisted event
+	 * @return fingerprint or {@code null}, when fingerprint cannot be computed (e.g. original source is not DTO).
+	 * @since 11.1.0
+	 */
+	String getContentHash(IdmEntityEventDto event);
 }
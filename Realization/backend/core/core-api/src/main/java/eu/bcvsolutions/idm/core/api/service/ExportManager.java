@@ -7,6 +7,8 @@ import java.util.UUID;
 import eu.bcvsolutions.idm.core.api.dto.BaseDto;
 import eu.bcvsolutions.idm.core.api.dto.ExportDescriptorDto;
 import eu.bcvsolutions.idm.core.api.dto.IdmExportImportDto;
+import eu.bcvsolutions.idm.core.api.dto.filter.BaseFilter;
+import eu.bcvsolutions.idm.core.security.api.domain.BasePermission;
 
 /**
  * Export manager
@@ -35,6 +37,20 @@ public interface ExportManager {
 	 * @return
 	 */
 	IdmExportImportDto exportDto(BaseDto dto, IdmExportImportDto batch);
+	
+	/**
+	 * Exports all DTOs found by given filter into batch - DTOs are exported by given service 
+	 * ({@link ReadDtoService#export(UUID, IdmExportImportDto)}). DTOs are streamed 
+	 * ({@link ReadDtoService#stream(BaseFilter, BasePermission...)}), 
+	 * {@link #BLANK_UUID} is exported, if no DTO is found (DTO type is added into export order).
+	 * 
+	 * @param service service exporting DTOs
+	 * @param filter filter
+	 * @param batch batch
+	 * @return count of exported DTOs
+	 * @since 11.1.0
+	 */
+	<DTO extends BaseDto, F extends BaseFilter> long export(ReadDtoService<DTO, F> service, F filter, IdmExportImportDto batch);
 
 	/**
 	 * Sets authoritative mode for given DTO class. It means data (this DTO class)
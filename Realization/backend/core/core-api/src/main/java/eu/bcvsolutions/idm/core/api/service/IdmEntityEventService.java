@@ -54,6 +54,42 @@ public interface IdmEntityEventService extends
 			List<UUID> exceptOwnerIds,
 			Pageable pageable);
 	
+	/**
+	 * Find created events, which could be claimed by any instance. 
+	 * Events of owners with a running event (on any instance) are excluded.
+	 * 
+	 * @param executeDate - events with execute date less or equals than given
+	 * @param priority - events with priority
+	 * @param pageable
+	 * @return events to claim
+	 * @see #claim(IdmEntityEventDto, String)
+	 * @since 11.1.0
+	 */
+	Page<IdmEntityEventDto> findToClaim(ZonedDateTime executeDate, PriorityType priority, Pageable pageable);
+	
+	/**
+	 * Claim created event to be processed by given instance - created event is switched to running state atomically (in new transaction).
+	 * Created and running events of the event owner (and super owner) are locked before => event is not claimed, 
+	 * if another event for the same owner is running (on any instance).
+	 * 
+	 * @param event created event
+	 * @param instanceId claiming instance
+	 * @return true - event is claimed by given instance, false - event is not in created state (e.g. claimed by another instance already) 
+	 * 	or another event for the same owner is running.
+	 * @since 11.1.0
+	 */
+	boolean claim(IdmEntityEventDto event, String instanceId);
+	
+	/**
+	 * Release claimed event back to queue - running event is switched back to created state (in new transaction).
+	 * 
+	 * @param eventId event identifier
+	 * @param instanceId claiming instance
+	 * @return true - event is released
+	 * @since 11.1.0
+	 */
+	boolean release(UUID eventId, String instanceId);
+	
 	/**
 	 * Delete all persisted events and their states.
 	 * 
@@ -1,5 +1,7 @@
 package eu.bcvsolutions.idm.core.api.service;
 
+import java.util.List;
+
 import eu.bcvsolutions.idm.core.api.dto.IdmEntityStateDto;
 import eu.bcvsolutions.idm.core.api.dto.filter.IdmEntityStateFilter;
 import eu.bcvsolutions.idm.core.api.script.ScriptEnabled;
@@ -15,4 +17,15 @@ public interface IdmEntityStateService extends
 		EventableDtoService<IdmEntityStateDto, IdmEntityStateFilter>,
 		AuthorizableService<IdmEntityStateDto>,
 		ScriptEnabled {
+	
+	/**
+	 * Delete previous states and persist new states together in new transaction - JDBC batching is used for new states.
+	 * Event is not published for deleted and created states (~ deleteInternal, saveInternal).
+	 * 
+	 * @param previousStates persisted states to delete (e.g. running processor states) - states without identifier are ignored
+	 * @param states new states
+	 * @return persisted new states (in the same order)
+	 * @since 11.1.0
+	 */
+	List<IdmEntityStateDto> replaceStates(List<IdmEntityStateDto> previousStates, List<IdmEntityStateDto> states);
 }
@@ -3,11 +3,14 @@ package eu.bcvsolutions.idm.core.api.service;
 import java.io.Serializable;
 import java.util.UUID;
 
+import org.springframework.data.domain.Slice;
+
 import eu.bcvsolutions.idm.core.api.dto.IdmIdentityDto;
 import eu.bcvsolutions.idm.core.api.dto.IdmPasswordDto;
 import eu.bcvsolutions.idm.core.api.dto.PasswordChangeDto;
 import eu.bcvsolutions.idm.core.api.dto.filter.IdmPasswordFilter;
 import eu.bcvsolutions.idm.core.api.script.ScriptEnabled;
+import eu.bcvsolutions.idm.core.security.api.domain.BasePermission;
 import eu.bcvsolutions.idm.core.security.api.domain.GuardedString;
 import eu.bcvsolutions.idm.core.security.api.service.AuthorizableService;
 
@@ -120,4 +123,17 @@ public interface IdmPasswordService extends
 	 * @return updated password dto
 	 */
 	IdmPasswordDto setLastSuccessfulLogin(IdmPasswordDto passwordDto);
+	
+	/**
+	 * Returns slice of passwords by given filter after given password ordered by identifier (keyset pagination).
+	 * Count query is not executed and offset is not used.
+	 * 
+	 * @param filter
+	 * @param lastId identifier of the last password in the previous slice, {@code null} - first slice will be returned
+	 * @param size max number of passwords in slice
+	 * @param permission base permissions to evaluate (AND)
+	 * @return slice of passwords ordered by identifier
+	 * @since 11.1.0
+	 */
+	Slice<IdmPasswordDto> findAfter(IdmPasswordFilter filter, UUID lastId, int size, BasePermission... permission);
 }
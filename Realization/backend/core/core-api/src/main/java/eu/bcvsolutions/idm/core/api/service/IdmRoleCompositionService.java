@@ -52,6 +52,16 @@ public interface IdmRoleCompositionService extends
 	 */
 	List<IdmRoleCompositionDto> findAllSubRoles(UUID superiorId, BasePermission... permission);
 	
+	/**
+	 * Return identifiers of all sub roles (all level in depth) of role given by its role ID.
+	 * Role composition graph held in memory is used - permissions are not evaluated.
+	 * 
+	 * @param superiorId superior role identifier
+	 * @return all sub roles identifiers (without given superior role)
+	 * @since 11.1.0
+	 */
+	Set<UUID> findAllSubRoleIds(UUID superiorId);
+	
 	/**
 	 * Returns all superior roles for given sub role. Superior roles are sorted from sub to upper superior roles.
 	 * 
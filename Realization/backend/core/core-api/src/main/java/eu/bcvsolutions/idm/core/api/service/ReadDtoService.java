@@ -1,10 +1,18 @@
 package eu.bcvsolutions.idm.core.api.service;
 
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.UUID;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
@@ -33,6 +41,13 @@ import eu.bcvsolutions.idm.core.security.api.domain.BasePermission;
  */
 public interface ReadDtoService<DTO extends BaseDto, F extends BaseFilter>
 		extends BaseDtoService<DTO> {
+	
+	/**
+	 * Count of records loaded by one round-trip, when dtos are streamed.
+	 * 
+	 * @since 11.1.0
+	 */
+	int DEFAULT_STREAM_FETCH_SIZE = 100;
 
 	/**
 	 * Returns {@link BaseFilter} type class, which is controlled by this
@@ -117,6 +132,69 @@ public interface ReadDtoService<DTO extends BaseDto, F extends BaseFilter>
 	 */
 	Page<UUID> findIds(F filter, Pageable pageable, BasePermission... permission);
 	
+	/**
+	 * Returns stream of DTOs by given filter ordered by identifier, authorization permission will be evaluated.
+	 * DTOs are loaded in blocks => usable for iterating over large tables (e.g. in reports, bulk actions, exports).
+	 * Stream should be consumed in transaction (read only transaction is preferred) and closed after usage:
+	 * <pre>
+	 * try (Stream&lt;DTO&gt; dtos = service.stream(filter)) {
+	 *   dtos.forEach(dto -&gt; ... process dto ...);
+	 * }
+	 * </pre>
+	 * Never throws {@link ForbiddenEntityException} - returning available dtos by given permissions (AND).
+	 * 
+	 * @param filter
+	 * @param permission base permissions to evaluate (AND)
+	 * @return stream of DTOs, has to be closed
+	 * @since 11.1.0
+	 */
+	default Stream<DTO> stream(F filter, BasePermission... permission) {
+		return stream(filter, null, permission);
+	}
+	
+	/**
+	 * Returns stream of DTOs by given filter in given order, authorization permission will be evaluated.
+	 * DTOs are loaded by pages ({@link #find(BaseFilter, Pageable, BasePermission...)}) by default,
+	 * database cursor is used in {@link AbstractReadDtoService}.
+	 * 
+	 * @param filter
+	 * @param sort nullable - DTOs are ordered by identifier by default
+	 * @param permission base permissions to evaluate (AND)
+	 * @return stream of DTOs, has to be closed
+	 * @see #stream(BaseFilter, BasePermission...)
+	 * @since 11.1.0
+	 */
+	default Stream<DTO> stream(F filter, Sort sort, BasePermission... permission) {
+		Sort order = sort == null || sort.isUnsorted() ? Sort.by(BaseEntity.PROPERTY_ID) : sort;
+		//
+		Iterator<DTO> iterator = new Iterator<DTO>() {
+			
+			private Page<DTO> page = null;
+			private Iterator<DTO> dtos = Collections.emptyIterator();
+			
+			@Override
+			public boolean hasNext() {
+				while (!dtos.hasNext() && (page == null || page.hasNext())) {
+					// load next page
+					Pageable pageable = page == null ? PageRequest.of(0, DEFAULT_STREAM_FETCH_SIZE, order) : page.nextPageable();
+					page = find(filter, pageable, permission);
+					dtos = page.iterator();
+				}
+				return dtos.hasNext();
+			}
+			
+			@Override
+			public DTO next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return dtos.next();
+			}
+		};
+		//
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false);
+	}
+	
 	/**
 	 * The number of entities that match the filter.
 	 * Never throws {@link ForbiddenEntityException} - returning available dtos by given permissions (AND).
@@ -5,7 +5,6 @@
 package eu.bcvsolutions.idm.core.api.utils;
 
 import java.beans.IntrospectionException;
-import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
@@ -14,7 +13,6 @@ import java.time.LocalDate;
 import java.time.ZonedDateTime;
 import java.util.Arrays;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.UUID;
 
 import org.apache.commons.lang3.StringUtils;
@@ -191,14 +189,38 @@ public class EntityUtils {
 		return true;
 	}
 
+    /**
+     * Returns the first field with given name in class hierarchy. Field of bean property is resolved once
+     * and cached in {@link PropertyAccessor}.
+     * 
+     * @param sourceType class
+     * @param field field name
+     * @return field
+     * @throws NoSuchFieldException if field is not found in class hierarchy
+     */
     public static Field getFirstFieldInClassHierarchy(Class<?> sourceType, String field) throws NoSuchFieldException {
-        Field result = getFirstFieldInClassHierarchyInternal(sourceType, field);
+        Field result = getCachedField(sourceType, field);
         if (result == null) {
             throw new NoSuchFieldException(String.format("No field %s found in class %s", field, sourceType));
         }
         return result;
     }
 
+    private static Field getCachedField(Class<?> sourceType, String field) {
+        if (sourceType == null || StringUtils.isEmpty(field)) {
+            return null;
+        }
+        try {
+            PropertyAccessor propertyAccessor = PropertyAccessor.of(sourceType, field);
+            if (propertyAccessor != null) {
+                return propertyAccessor.getField();
+            }
+        } catch (IntrospectionException ex) {
+            // field without bean property is found in class hierarchy below
+        }
+        return getFirstFieldInClassHierarchyInternal(sourceType, field);
+    }
+
     private static Field getFirstFieldInClassHierarchyInternal(Class<?> sourceType, String field) {
         if (sourceType == null || field == null) {
             return null;
@@ -224,22 +246,7 @@ public class EntityUtils {
      */
     public static PropertyDescriptor getFieldDescriptor(Object entity, String propertyName) 
     		throws IntrospectionException, IllegalAccessException {
-    	Assert.notNull(entity, "Dto /  entity / ojec is required to find field property descriptor.");
-    	Assert.hasLength(propertyName, "Property name is requred.");
-    	Class<?> entityClass = entity.getClass();
-    	//
-		Optional<PropertyDescriptor> propertyDescriptionOptional = Arrays
-				.asList(Introspector.getBeanInfo(entityClass).getPropertyDescriptors())
-				.stream()
-				.filter(propertyDescriptor -> {
-					return propertyName.equals(propertyDescriptor.getName());
-				})
-				.findFirst();
-		//
-		if (!propertyDescriptionOptional.isPresent()) {
-			throw new IllegalAccessException(String.format("Class [%s] field [%s] not found.", entityClass, propertyName));
-		}
-		return propertyDescriptionOptional.get();
+		return getPropertyAccessor(entity, propertyName).getPropertyDescriptor();
 	}
     
 	/**
@@ -255,9 +262,7 @@ public class EntityUtils {
 	 */
 	public static Object getEntityValue(Object entity, String propertyName) 
 			throws IntrospectionException, IllegalAccessException, IllegalArgumentException, InvocationTargetException {
-		PropertyDescriptor propertyDescriptor = getFieldDescriptor(entity, propertyName);
-		//
-		return propertyDescriptor.getReadMethod().invoke(entity);
+		return getPropertyAccessor(entity, propertyName).getValue(entity);
 	}
 	
 	/**
@@ -275,16 +280,11 @@ public class EntityUtils {
 	 */
 	public static Object setEntityValue(Object entity, String propertyName, Object value)
 			throws IntrospectionException, IllegalAccessException, IllegalArgumentException, InvocationTargetException {
-		Optional<PropertyDescriptor> propertyDescriptionOptional = Arrays
-				.asList(Introspector.getBeanInfo(entity.getClass()).getPropertyDescriptors()).stream()
-				.filter(propertyDescriptor -> {
-					return propertyName.equals(propertyDescriptor.getName());
-				}).findFirst(); 
-		if (!propertyDescriptionOptional.isPresent()) {
-			throw new IllegalAccessException("Field " + propertyName + " not found!");
+		PropertyAccessor propertyAccessor = getPropertyAccessor(entity, propertyName);
+		Class<?> parameterClass = propertyAccessor.getParameterType();
+		if (parameterClass == null) {
+			throw new IllegalAccessException("Field " + propertyName + " is not writable!");
 		}
-		PropertyDescriptor propertyDescriptor = propertyDescriptionOptional.get();
-		Class<?> parameterClass = propertyDescriptor.getWriteMethod().getParameterTypes()[0];
 		if (value != null && String.class.equals(parameterClass) && !(value instanceof String)) {
 			value = String.valueOf(value);
 		}
@@ -297,7 +297,31 @@ public class EntityUtils {
 					MessageFormat.format("Wrong type of value [{0}]. Value must be instance of [{1}] type, but has type [{2}]!",
 							value, parameterClass, value.getClass()));
 		}
-		return propertyDescriptor.getWriteMethod().invoke(entity, value);
+		propertyAccessor.setValue(entity, value);
+		// setter result (void)
+		return null;
+	}
+	
+	/**
+	 * Returns cached property accessor.
+	 * 
+	 * @param entity dto / entity / object
+	 * @param propertyName field name
+	 * @return property accessor
+	 * @throws IntrospectionException
+	 * @throws IllegalAccessException if property is not found
+	 */
+	private static PropertyAccessor getPropertyAccessor(Object entity, String propertyName) 
+			throws IntrospectionException, IllegalAccessException {
+		Assert.notNull(entity, "Dto /  entity / ojec is required to find field property descriptor.");
+		Assert.hasLength(propertyName, "Property name is requred.");
+		Class<?> entityClass = entity.getClass();
+		//
+		PropertyAccessor propertyAccessor = PropertyAccessor.of(entityClass, propertyName);
+		if (propertyAccessor == null) {
+			throw new IllegalAccessException(String.format("Class [%s] field [%s] not found.", entityClass, propertyName));
+		}
+		return propertyAccessor;
 	}
 
 	/**
@@ -0,0 +1,201 @@
+package eu.bcvsolutions.idm.core.api.utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.util.Assert;
+
+import eu.bcvsolutions.idm.core.api.domain.TransactionContext;
+import eu.bcvsolutions.idm.core.api.domain.TransactionContextHolder;
+
+/**
+ * Worker pool for parallel processing (e.g. items processed by long running task).
+ *
+ * Tasks are submitted into lanes by key - tasks in one lane are processed one by one in submitted order
+ * (e.g. items of the same identity). Lanes are processed by shared workers => any free worker processes the next lane
+ * with waiting tasks. Lane queue can be bounded - submitting is blocked, when lane queue is full
+ * (=> reading items is throttled by processing).
+ *
+ * Security and transaction context of the submitting thread is propagated into the worker.
+ *
+ * @author Radek Tomiška
+ * @since 11.1.0
+ */
+public class ParallelWorkerPool {
+
+	private static final org.slf4j.Logger LOG = org.slf4j.LoggerFactory.getLogger(ParallelWorkerPool.class);
+	//
+	private final ThreadPoolExecutor workers;
+	private final List<Lane> lanes;
+
+	/**
+	 * Creates and starts workers - each worker has one lane with unbounded queue.
+	 *
+	 * @param name thread name prefix
+	 * @param workers count of workers
+	 */
+	public ParallelWorkerPool(String name, int workers) {
+		this(name, workers, workers, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Creates and starts workers.
+	 *
+	 * @param name thread name prefix
+	 * @param workers count of workers
+	 * @param lanes count of lanes
+	 * @param laneCapacity bounded queue capacity of each lane
+	 */
+	public ParallelWorkerPool(String name, int workers, int lanes, int laneCapacity) {
+		Assert.hasLength(name, "Worker name is required.");
+		Assert.isTrue(workers > 0, "Count of workers has to be greater than zero.");
+		Assert.isTrue(lanes > 0, "Count of lanes has to be greater than zero.");
+		Assert.isTrue(laneCapacity > 0, "Lane capacity has to be greater than zero.");
+		//
+		this.workers = new ThreadPoolExecutor(
+				workers,
+				workers,
+				0L,
+				TimeUnit.MILLISECONDS,
+				new LinkedBlockingQueue<>(), // lanes waiting to free worker
+				new CustomizableThreadFactory(String.format("%s-", name)));
+		this.lanes = new ArrayList<>(lanes);
+		for (int index = 0; index < lanes; index++) {
+			this.lanes.add(new Lane(laneCapacity));
+		}
+	}
+
+	/**
+	 * Submit task into the lane by given key. Method blocks, if lane queue is full.
+	 *
+	 * @param key tasks with the same key are processed in submitted order
+	 * @param task processed task
+	 * @return task future
+	 * @throws RejectedExecutionException if pool is shut down or submitting thread is interrupted
+	 */
+	public Future<?> submit(Object key, Runnable task) {
+		Assert.notNull(task, "Task is required.");
+		//
+		TransactionContext transactionContext = TransactionContextHolder.getContext();
+		Runnable worker = () -> {
+			TransactionContextHolder.setContext(transactionContext);
+			try {
+				task.run();
+			} finally {
+				TransactionContextHolder.clearContext();
+			}
+		};
+		FutureTask<?> futureTask = new FutureTask<>(new DelegatingSecurityContextRunnable(worker), null);
+		lanes.get(Math.floorMod(Objects.hashCode(key), lanes.size())).add(futureTask);
+		//
+		return futureTask;
+	}
+
+	/**
+	 * Count of workers.
+	 *
+	 * @return workers count
+	 */
+	public int getWorkers() {
+		return workers.getCorePoolSize();
+	}
+
+	/**
+	 * Stop accepting new tasks and wait to all submitted tasks are processed.
+	 *
+	 * @throws InterruptedException if waiting thread is interrupted
+	 */
+	public void awaitCompletion() throws InterruptedException {
+		workers.shutdown();
+		while (!workers.awaitTermination(1, TimeUnit.SECONDS)) {
+			LOG.trace("Waiting to workers completion, remaining lanes in queue [{}].", workers.getQueue().size());
+		}
+	}
+
+	/**
+	 * Stop processing - running tasks are interrupted, waiting tasks are canceled.
+	 */
+	public void shutdownNow() {
+		workers.shutdownNow();
+		lanes.forEach(Lane::cancel);
+	}
+
+	/**
+	 * Tasks processed one by one - lane is processed by one worker at a time.
+	 */
+	private class Lane implements Runnable {
+
+		private final Queue<FutureTask<?>> tasks = new ArrayDeque<>();
+		private final Semaphore capacity;
+		private boolean scheduled = false; // guarded by this
+
+		Lane(int capacity) {
+			this.capacity = new Semaphore(capacity);
+		}
+
+		void add(FutureTask<?> task) {
+			if (workers.isShutdown()) {
+				throw new RejectedExecutionException("Worker pool is shut down.");
+			}
+			try {
+				// lane is full => block submitting thread
+				capacity.acquire();
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new RejectedExecutionException("Submitting task was interrupted.", ex);
+			}
+			synchronized (this) {
+				tasks.add(task);
+				if (scheduled) {
+					return;
+				}
+				scheduled = true;
+			}
+			try {
+				workers.execute(this);
+			} catch (RejectedExecutionException ex) {
+				cancel();
+				throw ex;
+			}
+		}
+
+		@Override
+		public void run() {
+			while (!Thread.currentThread().isInterrupted()) {
+				FutureTask<?> task;
+				synchronized (this) {
+					task = tasks.poll();
+					if (task == null) {
+						scheduled = false;
+						return;
+					}
+				}
+				capacity.release();
+				task.run();
+			}
+		}
+
+		void cancel() {
+			synchronized (this) {
+				tasks.forEach(task -> {
+					task.cancel(false);
+					capacity.release();
+				});
+				tasks.clear();
+				scheduled = false;
+			}
+		}
+	}
+}
@@ -0,0 +1,360 @@
+package eu.bcvsolutions.idm.core.api.utils;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Cached bean property accessor - registry is keyed by class and property name.
+ *
+ * Property descriptors are resolved by {@link Introspector} once for each class. Getter and setter are compiled
+ * by {@link LambdaMetafactory} lazily, when property is used at the first time.
+ * Reflection is used as fallback, when lambda cannot be generated (e.g. class is not accessible).
+ * Default constructor of the class is compiled the same way, when new instance is created by {@link #newInstance(Class)}.
+ *
+ * Registries are held by {@link ClassValue} => cached accessors don't prevent class unloading.
+ *
+ * @author Radek Tomiška
+ * @since 11.1.0
+ */
+public final class PropertyAccessor {
+
+	private static final org.slf4j.Logger LOG = org.slf4j.LoggerFactory.getLogger(PropertyAccessor.class);
+	//
+	private static final ClassValue<Map<String, PropertyAccessor>> REGISTRY = new ClassValue<Map<String, PropertyAccessor>>() {
+
+		@Override
+		protected Map<String, PropertyAccessor> computeValue(Class<?> type) {
+			try {
+				PropertyDescriptor[] propertyDescriptors = Introspector.getBeanInfo(type).getPropertyDescriptors();
+				Map<String, PropertyAccessor> accessors = new HashMap<>(propertyDescriptors.length);
+				for (PropertyDescriptor propertyDescriptor : propertyDescriptors) {
+					// the first wins - the same as linear search in descriptors
+					accessors.putIfAbsent(propertyDescriptor.getName(), new PropertyAccessor(type, propertyDescriptor));
+				}
+				return Collections.unmodifiableMap(accessors);
+			} catch (IntrospectionException ex) {
+				throw new IllegalArgumentException(String.format("Class [%s] cannot be introspected.", type), ex);
+			}
+		}
+	};
+	private static final ClassValue<Supplier<Object>> CONSTRUCTORS = new ClassValue<Supplier<Object>>() {
+
+		@Override
+		protected Supplier<Object> computeValue(Class<?> type) {
+			return compileConstructor(type);
+		}
+	};
+	//
+	private final Class<?> type;
+	private final PropertyDescriptor propertyDescriptor;
+	private volatile Function<Object, Object> getter;
+	private volatile BiConsumer<Object, Object> setter;
+	private volatile Field field;
+	private volatile boolean fieldResolved;
+
+	private PropertyAccessor(Class<?> type, PropertyDescriptor propertyDescriptor) {
+		this.type = type;
+		this.propertyDescriptor = propertyDescriptor;
+	}
+
+	/**
+	 * Returns cached property accessor.
+	 *
+	 * @param type bean class
+	 * @param propertyName property name
+	 * @return accessor or {@code null}, if property not found
+	 * @throws IntrospectionException if class cannot be introspected
+	 */
+	public static PropertyAccessor of(Class<?> type, String propertyName) throws IntrospectionException {
+		Assert.notNull(type, "Class is required.");
+		Assert.hasLength(propertyName, "Property name is requred.");
+		//
+		try {
+			return REGISTRY.get(type).get(propertyName);
+		} catch (IllegalArgumentException ex) {
+			if (ex.getCause() instanceof IntrospectionException) {
+				throw (IntrospectionException) ex.getCause();
+			}
+			throw ex;
+		}
+	}
+
+	/**
+	 * Property descriptor (~ {@link Introspector}).
+	 *
+	 * @return property descriptor
+	 */
+	public PropertyDescriptor getPropertyDescriptor() {
+		return propertyDescriptor;
+	}
+
+	/**
+	 * Field with the same name as property - the first field in class hierarchy wins
+	 * (the same as {@link EntityUtils#getFirstFieldInClassHierarchy(Class, String)}). Field is resolved once.
+	 *
+	 * @return field or {@code null}, if class doesn't have field with property name
+	 */
+	public Field getField() {
+		if (!fieldResolved) {
+			field = ReflectionUtils.findField(type, propertyDescriptor.getName());
+			fieldResolved = true;
+		}
+		return field;
+	}
+
+	/**
+	 * Creates new instance of given class by default constructor. Constructor is compiled once for each class.
+	 *
+	 * @param type class with default constructor
+	 * @return new instance
+	 * @throws ReflectiveOperationException if class cannot be instantiated (e.g. abstract class, missing default constructor)
+	 */
+	public static <T> T newInstance(Class<T> type) throws ReflectiveOperationException {
+		Assert.notNull(type, "Class is required.");
+		//
+		try {
+			return type.cast(CONSTRUCTORS.get(type).get());
+		} catch (UndeclaredInvocationException ex) {
+			throw ex.getCause();
+		}
+	}
+
+	/**
+	 * Setter parameter type.
+	 *
+	 * @return type or {@code null}, if property is not writable
+	 */
+	public Class<?> getParameterType() {
+		Method writeMethod = propertyDescriptor.getWriteMethod();
+		//
+		return writeMethod == null ? null : writeMethod.getParameterTypes()[0];
+	}
+
+	/**
+	 * Invokes property getter.
+	 *
+	 * @param bean bean instance
+	 * @return property value
+	 * @throws IllegalAccessException if property is not readable
+	 * @throws IllegalArgumentException if bean is {@code null} or is not instance of accessor class
+	 * @throws InvocationTargetException if getter throws an exception (the same as reflection)
+	 */
+	public Object getValue(Object bean) throws IllegalAccessException, IllegalArgumentException, InvocationTargetException {
+		checkBean(bean);
+		//
+		Function<Object, Object> getter = this.getter;
+		if (getter == null) {
+			Method readMethod = propertyDescriptor.getReadMethod();
+			if (readMethod == null) {
+				throw new IllegalAccessException(String.format("Field [%s] is not readable.", propertyDescriptor.getName()));
+			}
+			getter = compileGetter(readMethod);
+			this.getter = getter;
+		}
+		//
+		try {
+			return getter.apply(bean);
+		} catch (UndeclaredInvocationException ex) {
+			if (ex.getCause() instanceof IllegalAccessException) {
+				throw (IllegalAccessException) ex.getCause();
+			}
+			throw (InvocationTargetException) ex.getCause();
+		} catch (RuntimeException ex) {
+			throw new InvocationTargetException(ex);
+		}
+	}
+
+	/**
+	 * Invokes property setter. Value has to be compatible with setter parameter type - type coercion is not done here.
+	 *
+	 * @param bean bean instance
+	 * @param value property value
+	 * @throws IllegalAccessException if property is not writable
+	 * @throws IllegalArgumentException if bean is {@code null} or is not instance of accessor class, 
+	 * if value is not compatible with setter parameter (the same as reflection)
+	 * @throws InvocationTargetException if setter throws an exception (the same as reflection)
+	 */
+	public void setValue(Object bean, Object value)
+			throws IllegalAccessException, IllegalArgumentException, InvocationTargetException {
+		checkBean(bean);
+		//
+		Method writeMethod = propertyDescriptor.getWriteMethod();
+		if (writeMethod == null) {
+			throw new IllegalAccessException(String.format("Field [%s] is not writable.", propertyDescriptor.getName()));
+		}
+		Class<?> parameterType = writeMethod.getParameterTypes()[0];
+		if (parameterType.isPrimitive() && (value == null || ClassUtils.resolvePrimitiveIfNecessary(parameterType) != value.getClass())) {
+			// null and widening conversions of primitives are handled by reflection
+			writeMethod.invoke(bean, value);
+			return;
+		}
+		if (value != null && !ClassUtils.resolvePrimitiveIfNecessary(parameterType).isInstance(value)) {
+			throw new IllegalArgumentException(String.format("Argument type mismatch - value of type [%s] cannot be set into field [%s] of type [%s].",
+					value.getClass(), propertyDescriptor.getName(), parameterType));
+		}
+		//
+		BiConsumer<Object, Object> setter = this.setter;
+		if (setter == null) {
+			setter = compileSetter(writeMethod);
+			this.setter = setter;
+		}
+		//
+		try {
+			setter.accept(bean, value);
+		} catch (UndeclaredInvocationException ex) {
+			if (ex.getCause() instanceof IllegalAccessException) {
+				throw (IllegalAccessException) ex.getCause();
+			}
+			throw (InvocationTargetException) ex.getCause();
+		} catch (RuntimeException ex) {
+			throw new InvocationTargetException(ex);
+		}
+	}
+
+	/**
+	 * Bean is checked before accessor is invoked => runtime exception thrown by accessor is thrown by getter / setter itself.
+	 *
+	 * @param bean bean instance
+	 * @throws IllegalArgumentException if bean is {@code null} or is not instance of accessor class
+	 */
+	private void checkBean(Object bean) {
+		if (!type.isInstance(bean)) {
+			throw new IllegalArgumentException(String.format("Object [%s] is not an instance of class [%s] - field [%s] cannot be accessed.",
+					bean == null ? null : bean.getClass(), type, propertyDescriptor.getName()));
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Function<Object, Object> compileGetter(Method readMethod) {
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(readMethod.getDeclaringClass(), MethodHandles.lookup());
+			MethodHandle getterHandle = lookup.unreflect(readMethod);
+			CallSite callSite = LambdaMetafactory.metafactory(
+					lookup,
+					"apply",
+					MethodType.methodType(Function.class),
+					MethodType.methodType(Object.class, Object.class),
+					getterHandle,
+					getterHandle.type().wrap().changeParameterType(0, readMethod.getDeclaringClass()));
+			//
+			return (Function<Object, Object>) callSite.getTarget().invokeExact();
+		} catch (Throwable ex) {
+			LOG.debug("Getter [{}] cannot be compiled, reflection will be used.", readMethod, ex);
+			//
+			return bean -> {
+				try {
+					return readMethod.invoke(bean);
+				} catch (InvocationTargetException | IllegalAccessException e) {
+					throw new UndeclaredInvocationException(e);
+				}
+			};
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static BiConsumer<Object, Object> compileSetter(Method writeMethod) {
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(writeMethod.getDeclaringClass(), MethodHandles.lookup());
+			MethodHandle setterHandle = lookup.unreflect(writeMethod);
+			CallSite callSite = LambdaMetafactory.metafactory(
+					lookup,
+					"accept",
+					MethodType.methodType(BiConsumer.class),
+					MethodType.methodType(void.class, Object.class, Object.class),
+					setterHandle,
+					MethodType.methodType(void.class, writeMethod.getDeclaringClass(), ClassUtils.resolvePrimitiveIfNecessary(writeMethod.getParameterTypes()[0])));
+			//
+			return (BiConsumer<Object, Object>) callSite.getTarget().invokeExact();
+		} catch (Throwable ex) {
+			LOG.debug("Setter [{}] cannot be compiled, reflection will be used.", writeMethod, ex);
+			//
+			return (bean, value) -> {
+				try {
+					writeMethod.invoke(bean, value);
+				} catch (InvocationTargetException | IllegalAccessException e) {
+					throw new UndeclaredInvocationException(e);
+				}
+			};
+		}
+	}
+
+	private static Supplier<Object> compileConstructor(Class<?> type) {
+		Constructor<?> constructor;
+		try {
+			constructor = type.getDeclaredConstructor();
+		} catch (NoSuchMethodException ex) {
+			return () -> {
+				throw new UndeclaredInvocationException(ex);
+			};
+		}
+		if (!Modifier.isAbstract(type.getModifiers())) {
+			try {
+				MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+				MethodHandle constructorHandle = lookup.unreflectConstructor(constructor);
+				CallSite callSite = LambdaMetafactory.metafactory(
+						lookup,
+						"get",
+						MethodType.methodType(Supplier.class),
+						MethodType.methodType(Object.class),
+						constructorHandle,
+						MethodType.methodType(type));
+				//
+				@SuppressWarnings("unchecked")
+				Supplier<Object> supplier = (Supplier<Object>) callSite.getTarget().invokeExact();
+				return supplier;
+			} catch (Throwable ex) {
+				LOG.debug("Constructor [{}] cannot be compiled, reflection will be used.", constructor, ex);
+			}
+		}
+		// abstract class cannot be instantiated - reflection throws checked exception
+		return () -> {
+			try {
+				return constructor.newInstance();
+			} catch (ReflectiveOperationException ex) {
+				throw new UndeclaredInvocationException(ex);
+			}
+		};
+	}
+
+	/**
+	 * Propagates checked reflection exceptions through functional interface (reflection fallback).
+	 */
+	private static final class UndeclaredInvocationException extends RuntimeException {
+
+		private static final long serialVersionUID = 1L;
+		//
+		private final ReflectiveOperationException cause;
+
+		UndeclaredInvocationException(ReflectiveOperationException cause) {
+			super(cause);
+			//
+			this.cause = cause;
+		}
+
+		@Override
+		public synchronized ReflectiveOperationException getCause() {
+			return cause;
+		}
+	}
+}
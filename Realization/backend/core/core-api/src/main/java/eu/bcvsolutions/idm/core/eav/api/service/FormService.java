@@ -855,6 +855,18 @@ public interface FormService extends ScriptEnabled {
 	 */
 	Serializable getConfidentialPersistentValue(IdmFormValueDto guardedValue);
 	
+	/**
+	 * Returns values in FormValue's persistent type from confidential storage at once.
+	 * Values of different owner types can be given.
+	 * 
+	 * @see #getConfidentialPersistentValue(IdmFormValueDto)
+	 * 
+	 * @param guardedValues
+	 * @return form value id => persistent value (value is {@code null}, when value is not found in confidential storage)
+	 * @since 11.1.0
+	 */
+	Map<UUID, Serializable> getConfidentialPersistentValues(List<IdmFormValueDto> guardedValues);
+	
 	/**
 	 * Finds owners by attribute value
 	 * Returns owner as {@link BaseDto}.
@@ -2,6 +2,7 @@ package eu.bcvsolutions.idm.core.eav.api.service;
 
 import java.io.Serializable;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
@@ -101,6 +102,17 @@ public interface FormValueService<O extends FormableEntity> extends
 	 */
 	Serializable getConfidentialPersistentValue(IdmFormValueDto guardedValue);
 	
+	/**
+	 * Returns values in FormValue's persistent type from confidential storage at once.
+	 * 
+	 * @see #getConfidentialPersistentValue(IdmFormValueDto)
+	 * 
+	 * @param guardedValues
+	 * @return form value id => persistent value (value is {@code null}, when value is not found in confidential storage)
+	 * @since 11.1.0
+	 */
+	Map<UUID, Serializable> getConfidentialPersistentValues(List<IdmFormValueDto> guardedValues);
+	
 	/**
 	 * Finds owners by string attribute value
 	 * 
@@ -49,7 +49,18 @@ public interface SchedulerConfiguration {
 	String PROPERTY_TASK_ASYNCHRONOUS_STOP_PROCESSING = 
 			ConfigurationService.IDM_PRIVATE_PROPERTY_PREFIX + "core.scheduler.task.asynchronous.stopProcessing";
 	boolean DEFAULT_TASK_ASYNCHRONOUS_STOP_PROCESSING = false;
-	
+
+	/**
+	 * Count of workers used by stateful tasks supporting parallel processing.
+	 * Count of available processors is used by default.
+	 *
+	 * Lookout: under idm private prefix => can be changed on fly.
+	 *
+	 * @since 11.1.0
+	 */
+	String PROPERTY_TASK_PARALLEL_WORKERS =
+			ConfigurationService.IDM_PRIVATE_PROPERTY_PREFIX + "core.scheduler.task.parallel.workers";
+
 	/**
 	 * Task queue processing period (ms)
 	 */
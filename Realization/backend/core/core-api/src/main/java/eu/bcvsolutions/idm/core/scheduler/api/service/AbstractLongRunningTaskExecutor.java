@@ -76,6 +76,8 @@ public abstract class AbstractLongRunningTaskExecutor<V> implements
 	protected Long counter = null;
 	private Optional<V> result = null;
 	private final Map<String, Object> properties = new HashMap<>();
+	private int notUpdatedStateCount = 0; // count of skipped state updates
+	private long lastStateUpdate = 0; // last state update (millis)
 	
 	@Override
 	public String getName() {
@@ -405,6 +407,8 @@ public abstract class AbstractLongRunningTaskExecutor<V> implements
 
 	@Override
 	public boolean updateState() {
+		notUpdatedStateCount = 0;
+		lastStateUpdate = System.currentTimeMillis();
 		// TODO: interface only + AOP => task can be ran directly without executor
 		if (longRunningTaskService == null || longRunningTaskId == null) {
 			return true;
@@ -419,6 +423,24 @@ public abstract class AbstractLongRunningTaskExecutor<V> implements
 		return task.isRunning() && OperationState.isRunnable(task.getResultState());
 	}
 	
+	/**
+	 * Update state (counter) and check task is still running (e.g. was not canceled) after given count of calls
+	 * or after given time period from the last update - usable for tasks processing lots of items, where
+	 * updating state after each item is expensive.
+	 * 
+	 * @param batchSize count of calls, after which state is updated
+	 * @param interval time period in milliseconds, after which state is updated
+	 * @return true - task can continue, false - task was canceled or interrupted
+	 * @see #updateState()
+	 * @since 11.1.0
+	 */
+	protected boolean updateState(int batchSize, long interval) {
+		if (++notUpdatedStateCount < batchSize && System.currentTimeMillis() - lastStateUpdate < interval) {
+			return true;
+		}
+		return updateState();
+	}
+	
 	@Override
 	public boolean isStateful() {
 		return true;
@@ -6,9 +6,15 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 
 import javax.persistence.EntityManager;
 
@@ -20,6 +26,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.transaction.PlatformTransactionManager;
@@ -39,7 +46,10 @@ import eu.bcvsolutions.idm.core.api.dto.AbstractDto;
 import eu.bcvsolutions.idm.core.api.dto.DefaultResultModel;
 import eu.bcvsolutions.idm.core.api.entity.BaseEntity;
 import eu.bcvsolutions.idm.core.api.entity.OperationResult;
+import eu.bcvsolutions.idm.core.api.exception.CoreException;
 import eu.bcvsolutions.idm.core.api.exception.ResultCodeException;
+import eu.bcvsolutions.idm.core.api.utils.ParallelWorkerPool;
+import eu.bcvsolutions.idm.core.scheduler.api.config.SchedulerConfiguration;
 import eu.bcvsolutions.idm.core.scheduler.api.dto.IdmLongRunningTaskDto;
 import eu.bcvsolutions.idm.core.scheduler.api.dto.IdmProcessedTaskItemDto;
 import eu.bcvsolutions.idm.core.scheduler.api.dto.filter.IdmProcessedTaskItemFilter;
@@ -65,8 +75,11 @@ public abstract class AbstractSchedulableStatefulExecutor<DTO extends AbstractDt
 	
 	private static final Logger LOG = LoggerFactory.getLogger(AbstractSchedulableStatefulExecutor.class);
 	private static final int DEFAULT_PAGE_SIZE = 100;
+	private static final int DEFAULT_BATCH_SIZE = 100;
+	private static final long DEFAULT_BATCH_INTERVAL = 5000; // 5s
 	private boolean continueOnException = false; 
 	private boolean requireNewTransaction = false;
+	private List<IdmProcessedTaskItemDto> processedItems = null; // buffered processed items in batch processing mode
 	//
 	@Autowired private IdmProcessedTaskItemService itemService;
 	@Autowired private PlatformTransactionManager platformTransactionManager;
@@ -93,9 +106,54 @@ public abstract class AbstractSchedulableStatefulExecutor<DTO extends AbstractDt
 			//
 			return null;
 		}
+		if (processedItems != null) {
+			// batch processing - item will be persisted with the next state update
+			IdmProcessedTaskItemDto processedItem = createProcessedItem(dto, opResult);
+			processedItem.setScheduledTaskQueueOwner(this.getScheduledTaskId());
+			processedItems.add(processedItem);
+			//
+			return processedItem;
+		}
 		return itemService.createQueueItem(dto, opResult, this.getScheduledTaskId());
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * Log item is persisted with the next state update in batch processing mode.
+	 * 
+	 * @see #isBatchProcessing()
+	 */
+	@Override
+	public <E extends AbstractDto> IdmProcessedTaskItemDto logItemProcessed(E item, OperationResult opResult) {
+		if (processedItems == null || this.getLongRunningTaskId() == null) {
+			return super.logItemProcessed(item, opResult);
+		}
+		Assert.notNull(item, "Item is required for logging.");
+		//
+		if (opResult == null) {
+			// default result - executed
+			opResult = new OperationResult.Builder(OperationState.EXECUTED).build();
+		}
+		IdmProcessedTaskItemDto processedItem = createProcessedItem(item, opResult);
+		processedItem.setLongRunningTask(this.getLongRunningTaskId());
+		processedItems.add(processedItem);
+		//
+		return processedItem;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * Buffered processed items are persisted before state is updated in batch processing mode.
+	 */
+	@Override
+	public boolean updateState() {
+		flushProcessedItems();
+		//
+		return super.updateState();
+	}
+	
 	@Override
 	public Collection<UUID> getProcessedItemRefsFromQueue() {
 		if (!supportsQueue()) {
@@ -185,6 +243,99 @@ public abstract class AbstractSchedulableStatefulExecutor<DTO extends AbstractDt
 	public void setRequireNewTransaction(boolean requireNewTransaction) {
 		this.requireNewTransaction = requireNewTransaction;
 	}
+	
+	/**
+	 * Batch processing mode - processed items in queue are loaded for the whole page at once, processed items 
+	 * (queue and log) are persisted together and task state is updated (and checked for cancel) 
+	 * after {@link #getBatchSize()} items or after {@link #getBatchInterval()} milliseconds.
+	 * 
+	 * Returns {@code false} by default (backward compatibility - {@link #isInProcessedQueue(AbstractDto)} 
+	 * is not used in batch processing mode).
+	 * 
+	 * @return true - batch processing mode is used
+	 * @since 11.1.0
+	 */
+	protected boolean isBatchProcessing() {
+		return false;
+	}
+	
+	/**
+	 * Count of processed items, after which buffered items are persisted and state is updated in batch processing mode.
+	 * 
+	 * @return {@value #DEFAULT_BATCH_SIZE} by default.
+	 * @since 11.1.0
+	 */
+	protected int getBatchSize() {
+		return DEFAULT_BATCH_SIZE;
+	}
+	
+	/**
+	 * Time period in milliseconds, after which buffered items are persisted and state is updated in batch processing mode.
+	 * 
+	 * @return {@value #DEFAULT_BATCH_INTERVAL} by default.
+	 * @since 11.1.0
+	 */
+	protected long getBatchInterval() {
+		return DEFAULT_BATCH_INTERVAL;
+	}
+	
+	/**
+	 * Parallel processing mode - items on the page are processed concurrently by {@link #getParallelWorkers()} workers,
+	 * every item in new transaction (regardless of {@link #requireNewTransaction()}). Items with the same 
+	 * {@link #getParallelKey(AbstractDto)} are processed by the same worker in given order. Next page is loaded, 
+	 * after all items on the previous page are processed.
+	 * 
+	 * Task has to be thread safe ({@link #processItem(AbstractDto)} is called concurrently) to support parallel processing.
+	 * Returns {@code false} by default. Parallel processing is not used in dry run mode.
+	 * 
+	 * @return true - parallel processing is supported
+	 * @since 11.1.0
+	 */
+	protected boolean supportsParallelProcessing() {
+		return false;
+	}
+	
+	/**
+	 * Count of parallel workers.
+	 * 
+	 * @return configured count of workers (count of available processors by default).
+	 * @see SchedulerConfiguration#PROPERTY_TASK_PARALLEL_WORKERS
+	 * @since 11.1.0
+	 */
+	protected int getParallelWorkers() {
+		return getConfigurationService().getIntegerValue(
+				SchedulerConfiguration.PROPERTY_TASK_PARALLEL_WORKERS, 
+				Runtime.getRuntime().availableProcessors());
+	}
+	
+	/**
+	 * Items with the same key are processed by the same worker in given order in parallel processing mode
+	 * (e.g. items of the same identity).
+	 * 
+	 * @param item processed item
+	 * @return item identifier by default
+	 * @since 11.1.0
+	 */
+	protected Object getParallelKey(DTO item) {
+		return item.getId();
+	}
+	
+	/**
+	 * Returns items to process - the next page (offset) and identifier of the last processed item (keyset) are given.
+	 * Items are loaded by {@link #getItemsToProcess(Pageable)} by default (offset pagination).
+	 * Override to load items ordered by identifier after the last item (keyset pagination, e.g. by {@code AbstractReadDtoService#findAfter})
+	 * => offset and count query are not used for the next pages and items, which stop matching the search criteria 
+	 * during processing, are not skipped. Count of all items ({@link #setCount(Long)}) can be set, 
+	 * when the first slice is loaded - loaded items are counted otherwise.
+	 * 
+	 * @param pageable next page (offset pagination)
+	 * @param lastId identifier of the last loaded item (keyset pagination), {@code null} - the first page
+	 * @return items to process
+	 * @since 11.1.0
+	 */
+	protected Slice<DTO> getItemsToProcess(Pageable pageable, UUID lastId) {
+		return getItemsToProcess(pageable);
+	}
 
 	/**
 	 * Process long running task.
@@ -197,45 +348,99 @@ public abstract class AbstractSchedulableStatefulExecutor<DTO extends AbstractDt
 		boolean canContinue = true;
 		boolean updateStateSucceed = true;
 		boolean dryRun = longRunningTaskService.get(this.getLongRunningTaskId()).isDryRun();
+		boolean batchProcessing = isBatchProcessing();
+		UUID lastId = null;
+		boolean countLoadedItems = false;
 		Pageable pageable = PageRequest.of(
 				0, 
 				getPageSize(),
 				new Sort(Direction.ASC, BaseEntity.PROPERTY_ID)
 		);
 		//
-		do {
-			Page<DTO> candidates = this.getItemsToProcess(pageable);
-			//
-			if (count == null) {
-				count = candidates.getTotalElements();
-			}
+		if (batchProcessing) {
+			processedItems = new ArrayList<>();
+		}
+		ParallelWorkerPool workers = null;
+		if (!dryRun && supportsParallelProcessing()) {
+			int parallelWorkers = getParallelWorkers();
+			Assert.isTrue(parallelWorkers > 0, "Count of parallel workers has to be greater than zero.");
 			//
-			for (Iterator<DTO> i = candidates.iterator(); i.hasNext() && canContinue;) {
-				DTO candidate = i.next();
-				Assert.notNull(candidate, "DTO candidate is required for LRT processing.");
-				Assert.notNull(candidate.getId(), "DTO candidate has to be persisted for LRT processing.");
+			LOG.info("Stateful process [{}] will be processed by [{}] parallel workers.", getClass().getSimpleName(), parallelWorkers);
+			workers = new ParallelWorkerPool(getClass().getSimpleName(), parallelWorkers);
+		}
+		try {
+			do {
+				Slice<DTO> candidates = this.getItemsToProcess(pageable, lastId);
+				//
+				if (count == null) {
+					if (candidates instanceof Page) {
+						count = ((Page<DTO>) candidates).getTotalElements();
+					} else {
+						// count is not known - loaded items are counted
+						count = 0L;
+						countLoadedItems = true;
+					}
+				}
+				if (countLoadedItems) {
+					count += candidates.getNumberOfElements();
+				}
+				// processed items in queue are loaded for the whole page at once
+				Set<UUID> queueRefs = batchProcessing ? getProcessedItemRefsFromQueue(candidates.getContent()) : null;
 				//
-				Optional<OperationResult> result = processCandidate(candidate, dryRun);
-				if (!result.isPresent() 
-						|| result.get().getState().isSuccessful() // executed
-						|| result.get().getState().isRunnable()) { // running (e.q. asynchronously)
-					if (supportsQueue()) {
-						processedRefs.add(candidate.getId());
-					}					
+				if (workers != null) {
+					// items on the page are processed concurrently, the next page is loaded after all items are processed
+					updateStateSucceed = processCandidatesParallel(workers, candidates.getContent(), queueRefs, processedRefs, batchProcessing);
+					canContinue &= updateStateSucceed;
+					//
+					if (getHibernateSession().isOpen()) {
+						getHibernateSession().flush();
+						getHibernateSession().clear();
+					}
+				} else {
+					for (Iterator<DTO> i = candidates.iterator(); i.hasNext() && canContinue;) {
+						DTO candidate = i.next();
+						Assert.notNull(candidate, "DTO candidate is required for LRT processing.");
+						Assert.notNull(candidate.getId(), "DTO candidate has to be persisted for LRT processing.");
+						//
+						Optional<OperationResult> result = processCandidate(candidate, dryRun, queueRefs);
+						if (!result.isPresent() 
+								|| result.get().getState().isSuccessful() // executed
+								|| result.get().getState().isRunnable()) { // running (e.q. asynchronously)
+							if (supportsQueue()) {
+								processedRefs.add(candidate.getId());
+							}					
+						}
+						updateStateSucceed = updateProcessingState(batchProcessing);
+						canContinue &= updateStateSucceed;
+		 				//
+		 				// flush and clear session - if LRT is wrapped in parent transaction, we need to clear it
+		 				if (getHibernateSession().isOpen()) {
+		 					getHibernateSession().flush();
+		 					getHibernateSession().clear();
+		 				}
+					}
 				}
+				canContinue &= candidates.hasNext();
+				pageable = candidates.nextPageable();
+				if (candidates.hasContent()) {
+					lastId = candidates.getContent().get(candidates.getNumberOfElements() - 1).getId();
+				}
+				//
+			} while (canContinue);
+			//
+			if (batchProcessing && updateStateSucceed) {
+				// persist the rest of buffered items and the last state
 				updateStateSucceed = this.updateState();
-				canContinue &= updateStateSucceed;
- 				//
- 				// flush and clear session - if LRT is wrapped in parent transaction, we need to clear it
- 				if (getHibernateSession().isOpen()) {
- 					getHibernateSession().flush();
- 					getHibernateSession().clear();
- 				}
 			}
-			canContinue &= candidates.hasNext();			
-			pageable = candidates.nextPageable();
-			//
-		} while (canContinue);
+		} finally {
+			if (workers != null) {
+				workers.shutdownNow();
+			}
+			if (batchProcessing) {
+				flushProcessedItems();
+				processedItems = null;
+			}
+		}
 		//
 		// if task doesn't support queue, we can end
 		if (!supportsQueue()) {
@@ -260,57 +465,220 @@ public abstract class AbstractSchedulableStatefulExecutor<DTO extends AbstractDt
 	private Session getHibernateSession() {
 		return (Session) this.entityManager.getDelegate();
 	}
+	
+	/**
+	 * Update task state after item is processed.
+	 * 
+	 * @param batchProcessing batch processing mode - state is updated after batch size or interval
+	 * @return true - task can continue
+	 */
+	private boolean updateProcessingState(boolean batchProcessing) {
+		if (batchProcessing) {
+			return this.updateState(getBatchSize(), getBatchInterval());
+		}
+		return this.updateState();
+	}
+	
+	/**
+	 * Process items on the page concurrently. Items are divided into lanes by {@link #getParallelKey(AbstractDto)} - 
+	 * each lane is processed by single worker. Processed items are counted, logged and added into queue synchronously.
+	 * 
+	 * @param workers worker pool - one lane for each worker
+	 * @param candidates items on the page
+	 * @param queueRefs items in processed queue (batch processing mode)
+	 * @param processedRefs processed items
+	 * @param batchProcessing batch processing mode
+	 * @return true - task can continue, false - task was canceled
+	 */
+	private boolean processCandidatesParallel(
+			ParallelWorkerPool workers,
+			List<DTO> candidates,
+			Set<UUID> queueRefs,
+			Set<UUID> processedRefs,
+			boolean batchProcessing) {
+		int parallelWorkers = workers.getWorkers();
+		List<List<DTO>> lanes = new ArrayList<>(parallelWorkers);
+		for (int index = 0; index < parallelWorkers; index++) {
+			lanes.add(new ArrayList<>());
+		}
+		for (DTO candidate : candidates) {
+			Assert.notNull(candidate, "DTO candidate is required for LRT processing.");
+			Assert.notNull(candidate.getId(), "DTO candidate has to be persisted for LRT processing.");
+			//
+			lanes.get(Math.floorMod(Objects.hashCode(getParallelKey(candidate)), parallelWorkers)).add(candidate);
+		}
+		//
+		Object lock = new Object();
+		AtomicBoolean canceled = new AtomicBoolean(false);
+		AtomicReference<RuntimeException> failure = new AtomicReference<>();
+		List<Future<?>> futures = new ArrayList<>(parallelWorkers);
+		for (int index = 0; index < parallelWorkers; index++) {
+			List<DTO> lane = lanes.get(index);
+			if (lane.isEmpty()) {
+				continue;
+			}
+			Runnable worker = () -> {
+				for (DTO candidate : lane) {
+					if (canceled.get()) {
+						return;
+					}
+					boolean inProcessedQueue = queueRefs == null ? isInProcessedQueue(candidate) : queueRefs.contains(candidate.getId());
+					Optional<OperationResult> result = inProcessedQueue ? null : processItemInNewTransaction(candidate);
+					//
+					synchronized (lock) {
+						if (inProcessedQueue) {
+							// item was processed earlier - just drop the count by one
+							--count;
+							if (supportsQueue()) {
+								processedRefs.add(candidate.getId());
+							}
+							continue;
+						}
+						try {
+							result = processResult(candidate, result);
+							if (supportsQueue() && (!result.isPresent() 
+									|| result.get().getState().isSuccessful() // executed
+									|| result.get().getState().isRunnable())) { // running (e.q. asynchronously)
+								processedRefs.add(candidate.getId());
+							}
+						} catch (RuntimeException ex) {
+							// task cannot continue on exception - not started items are skipped
+							failure.compareAndSet(null, ex);
+							canceled.set(true);
+						}
+						if (!canceled.get() && !updateProcessingState(batchProcessing)) {
+							canceled.set(true);
+						}
+					}
+				}
+			};
+			futures.add(workers.submit(index, worker)); // lane index => worker
+		}
+		//
+		for (Future<?> future : futures) {
+			try {
+				future.get();
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new CoreException("Waiting to processed items was interrupted.", ex);
+			} catch (ExecutionException ex) {
+				throw new CoreException("Item processing failed.", ex.getCause());
+			}
+		}
+		if (failure.get() != null) {
+			throw failure.get();
+		}
+		//
+		return !canceled.get();
+	}
 
-	private Optional<OperationResult> processCandidate(DTO candidate, boolean dryRun) {
-		if (isInProcessedQueue(candidate)) {
+	/**
+	 * Referenced entities of given candidates, which are already in processed queue.
+	 * 
+	 * @param candidates items to process
+	 * @return referenced entity identifiers in processed queue
+	 */
+	private Set<UUID> getProcessedItemRefsFromQueue(List<DTO> candidates) {
+		if (!supportsQueue() || this.getScheduledTaskId() == null) {
+			return new HashSet<>();
+		}
+		List<UUID> candidateIds = candidates
+				.stream()
+				.map(DTO::getId)
+				.collect(Collectors.toList());
+		//
+		return itemService.findRefEntityIdsInQueueByScheduledTaskId(this.getScheduledTaskId(), candidateIds);
+	}
+	
+	/**
+	 * Persist buffered processed items (batch processing mode).
+	 */
+	private void flushProcessedItems() {
+		if (processedItems == null || processedItems.isEmpty()) {
+			return;
+		}
+		itemService.createItems(processedItems);
+		processedItems = new ArrayList<>();
+	}
+	
+	private IdmProcessedTaskItemDto createProcessedItem(AbstractDto dto, OperationResult opResult) {
+		IdmProcessedTaskItemDto item = new IdmProcessedTaskItemDto();
+		item.setReferencedEntityId(dto.getId());
+		item.setReferencedDtoType(dto.getClass().getCanonicalName());
+		item.setOperationResult(opResult);
+		//
+		return item;
+	}
+
+	private Optional<OperationResult> processCandidate(DTO candidate, boolean dryRun, Set<UUID> queueRefs) {
+		boolean inProcessedQueue = queueRefs == null ? isInProcessedQueue(candidate) : queueRefs.contains(candidate.getId());
+		if (inProcessedQueue) {
 			// item was processed earlier - just drop the count by one
 			// FIXME: this is confusing => task ends with 0 count, if all items are skipped (processed before)
 			--count;
 			return Optional.empty();
 		}
-		// Is not possible to get real cause from UnexpectedRollbackException,
-		// so result has to be evaluated inside before this exception is catch.
-		List<Optional<OperationResult>> results = new ArrayList<>(1); 
-		//
+		Optional<OperationResult> result;
 		if (dryRun) {
 			if (!supportsDryRun()) {
 				throw new DryRunNotSupportedException(getName());
 			}
 			// dry run mode - operation is not executed with dry run code (no content)
-			results.add(Optional.of(new OperationResult
+			result = Optional.of(new OperationResult
 					.Builder(OperationState.NOT_EXECUTED)
 					.setModel(new DefaultResultModel(CoreResultCode.DRY_RUN))
-					.build()));
+					.build());
 		} else if (requireNewTransaction()) {
-			TransactionTemplate template = new TransactionTemplate(platformTransactionManager);
-			template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
-			//
-			try {
-				template.execute(new TransactionCallbackWithoutResult() {
-					
-					@Override
-					protected void doInTransactionWithoutResult(TransactionStatus status) {
-						results.add(processItemInternal(candidate));
-					}
-				});
-			} catch (UnexpectedRollbackException ex ) {
-				// Just log for sure ... exception solved in new transaction, but this lower transaction is marked as roll-back.
-				LOG.debug("Statefull process [{}] processed item [{}] failed",
-						getClass().getSimpleName(), candidate, ex);
-			}
+			result = processItemInNewTransaction(candidate);
 		} else {
-			results.add(this.processItemInternal(candidate));
+			result = this.processItemInternal(candidate);
 		}
 		//
+		return processResult(candidate, result);
+	}
+	
+	/**
+	 * Process item in new transaction.
+	 * 
+	 * @param candidate item
+	 * @return item result
+	 */
+	private Optional<OperationResult> processItemInNewTransaction(DTO candidate) {
+		// Is not possible to get real cause from UnexpectedRollbackException,
+		// so result has to be evaluated inside before this exception is catch.
+		List<Optional<OperationResult>> results = new ArrayList<>(1); 
+		TransactionTemplate template = new TransactionTemplate(platformTransactionManager);
+		template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		//
+		try {
+			template.execute(new TransactionCallbackWithoutResult() {
+				
+				@Override
+				protected void doInTransactionWithoutResult(TransactionStatus status) {
+					results.add(processItemInternal(candidate));
+				}
+			});
+		} catch (UnexpectedRollbackException ex ) {
+			// Just log for sure ... exception solved in new transaction, but this lower transaction is marked as roll-back.
+			LOG.debug("Statefull process [{}] processed item [{}] failed",
+					getClass().getSimpleName(), candidate, ex);
+		}
+		//
+		return results.isEmpty() ? Optional.empty() : results.get(0);
+	}
+	
+	/**
+	 * Count processed item, log item result and add item into processed queue.
+	 * 
+	 * @param candidate processed item
+	 * @param result item result
+	 * @return item result
+	 * @throws ResultCodeException if item failed and task cannot continue on exception
+	 */
+	private Optional<OperationResult> processResult(DTO candidate, Optional<OperationResult> result) {
 		++counter;
-		Optional<OperationResult> result;
-		if (!results.isEmpty()) {
-			result = results.get(0);
-			if (result == null) {
-				// null can be returned simply => empty result
-				result = Optional.empty();
-			}
-		} else {
+		if (result == null) {
+			// null can be returned simply => empty result
 			result = Optional.empty();
 		}
 		//
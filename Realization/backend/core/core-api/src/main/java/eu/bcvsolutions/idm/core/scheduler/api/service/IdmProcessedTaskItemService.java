@@ -1,6 +1,8 @@
 package eu.bcvsolutions.idm.core.scheduler.api.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
@@ -53,6 +55,17 @@ public interface IdmProcessedTaskItemService extends
 	 */
 	List<UUID> findAllRefEntityIdsInQueueByScheduledTaskId(UUID scheduledTaskId);
 	
+	/**
+	 * Find referenced entity identifiers by scheduled task - only given referenced entities are checked
+	 * (e.g. items on the processed page).
+	 * 
+	 * @param scheduledTaskId scheduled task (queue owner)
+	 * @param referencedEntityIds referenced entities to check
+	 * @return referenced entity identifiers, which are in queue
+	 * @since 11.1.0
+	 */
+	Set<UUID> findRefEntityIdsInQueueByScheduledTaskId(UUID scheduledTaskId, Collection<UUID> referencedEntityIds);
+	
 	/**
 	 * Find all queue items of given scheduled tasks.
 	 * @param scheduledTask
@@ -88,5 +101,13 @@ public interface IdmProcessedTaskItemService extends
 	 * @return
 	 */
 	<DTO extends AbstractDto> IdmProcessedTaskItemDto createQueueItem(DTO processedItem, OperationResult result, UUID scheduledTaskId);
+	
+	/**
+	 * Persist processed items (queue and log items) together in new transaction - JDBC batching is used.
+	 * 
+	 * @param items items with queue (scheduled task) or log (long running task) owner
+	 * @since 11.1.0
+	 */
+	void createItems(List<IdmProcessedTaskItemDto> items);
 
 }
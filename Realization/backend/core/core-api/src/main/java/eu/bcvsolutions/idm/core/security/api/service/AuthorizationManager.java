@@ -1,6 +1,9 @@
 package eu.bcvsolutions.idm.core.security.api.service;
 
+import java.io.Serializable;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 
@@ -25,9 +28,16 @@ import eu.bcvsolutions.idm.core.security.api.dto.AuthorizationEvaluatorDto;
 public interface AuthorizationManager {
 	
 	/**
-	 * Logged identity permissions for shown record.
+	 * Logged identity permissions for shown record - cache generation of logged identity is cached (uuid),
+	 * evict identity generation => cached permissions of evicted identity will not be used.
 	 */
 	String PERMISSION_CACHE_NAME = String.format("%s:permission-cache", CoreModule.MODULE_ID);
+	/**
+	 * Logged identity permissions for shown record - permissions are cached for identity, generation and entity (key).
+	 *
+	 * @since 11.1.0
+	 */
+	String PERMISSION_ENTITY_CACHE_NAME = String.format("%s:permission-entity-cache", CoreModule.MODULE_ID);
 	/**
 	 * Logged identity authorization policies (as uuid).
 	 * 
@@ -61,6 +71,16 @@ public interface AuthorizationManager {
 	 */
 	<E extends Identifiable> Set<String> getPermissions(E entity);
 	
+	/**
+	 * Returns, what logged user could do with given entities - evaluates permissions for all given entities at once 
+	 * (e.g. for all entities in result page). Authorization policies are loaded once for each entity type.
+	 * 
+	 * @param entities persisted entities (with identifier)
+	 * @return entity identifier => permissions
+	 * @since 11.1.0
+	 */
+	<E extends Identifiable> Map<Serializable, Set<String>> getPermissions(Collection<E> entities);
+	
 	/**
 	 * Returns, what logged user could do with given entity by given policy
 	 * 
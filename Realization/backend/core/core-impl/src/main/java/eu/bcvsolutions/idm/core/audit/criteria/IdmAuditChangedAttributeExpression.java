@@ -0,0 +1,62 @@
+package eu.bcvsolutions.idm.core.audit.criteria;
+
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+import org.hibernate.envers.boot.internal.EnversService;
+import org.hibernate.envers.internal.reader.AuditReaderImplementor;
+import org.hibernate.envers.internal.tools.query.Parameters;
+import org.hibernate.envers.internal.tools.query.QueryBuilder;
+import org.hibernate.envers.query.criteria.AuditCriterion;
+import org.springframework.util.Assert;
+
+import eu.bcvsolutions.idm.core.api.entity.BaseEntity;
+import eu.bcvsolutions.idm.core.audit.entity.IdmAudit;
+import eu.bcvsolutions.idm.core.audit.entity.IdmAudit_;
+
+/**
+ * Audit query criterion - revision (audit) changed given attribute.
+ * Indexed changed attributes (idm_audit_attribute) are used by exists subquery => like on changed attributes column is not needed.
+ *
+ * @author Radek Tomiška
+ * @since 11.1.0
+ */
+public class IdmAuditChangedAttributeExpression implements AuditCriterion {
+
+	private static final String AUDIT_ALIAS = "changed_audit";
+	private static final String ATTRIBUTE_ALIAS = "changed_attribute";
+	//
+	private final String attributeName;
+	
+	/**
+	 * Revision changed given attribute.
+	 * 
+	 * @param attributeName entity attribute name (~ metamodel attribute name)
+	 */
+	public IdmAuditChangedAttributeExpression(String attributeName) {
+		Assert.isTrue(StringUtils.isAlphanumeric(attributeName), "Attribute name has to be alphanumeric.");
+		//
+		// indexed attribute names are lower case
+		this.attributeName = attributeName.toLowerCase();
+	}
+	
+	@Override
+	public void addToQuery(
+			EnversService enversService, 
+			AuditReaderImplementor versionsReader,
+			Map<String, String> aliasToEntityNameMap, 
+			String baseAlias, QueryBuilder qb, Parameters parameters) {
+		// attribute name is alphanumeric constant => can be used in query directly
+		String subquery = String.format(
+				"(select %1$s.%2$s from %3$s %1$s join %1$s.%4$s %5$s where %1$s.%2$s = %6$s.%7$s and %5$s = '%8$s')",
+				AUDIT_ALIAS,
+				BaseEntity.PROPERTY_ID,
+				IdmAudit.class.getSimpleName(),
+				IdmAudit_.changedAttributeNames.getName(),
+				ATTRIBUTE_ALIAS,
+				baseAlias,
+				enversService.getAuditEntitiesConfiguration().getRevisionPropPath(BaseEntity.PROPERTY_ID),
+				attributeName);
+		parameters.addWhere(null, "exists", "", null, subquery);
+	}
+}
@@ -2,11 +2,15 @@ package eu.bcvsolutions.idm.core.audit.entity;
 
 import java.io.Serializable;
 import java.text.DateFormat;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
+import javax.persistence.CollectionTable;
 import javax.persistence.Column;
 import javax.persistence.ElementCollection;
 import javax.persistence.Entity;
@@ -90,6 +94,18 @@ public class IdmAudit implements BaseEntity {
 	@Column(name = "changed_attributes", length = DefaultFieldLengths.LOG)
 	private String changedAttributes;
 	
+	/*
+	 * Changed attributes (lower case) indexed for search - filled together with changed attributes.
+	 */
+	@JsonIgnore
+	@ElementCollection(fetch = FetchType.LAZY)
+	@CollectionTable(
+			name = "idm_audit_attribute", 
+			joinColumns = @JoinColumn(name = "audit_id"),
+			indexes = @Index(name = "idx_idm_audit_attribute_name", columnList = "attribute_name,audit_id"))
+	@Column(name = "attribute_name", length = DefaultFieldLengths.NAME)
+	private Set<String> changedAttributeNames = new HashSet<>();
+	
 	@Size(max = DefaultFieldLengths.NAME)
 	@Column(name = "modifier", length = DefaultFieldLengths.NAME)
 	private String modifier;
@@ -199,6 +215,17 @@ public class IdmAudit implements BaseEntity {
 
 	public void setChangedAttributes(String changedAttributes) {
 		this.changedAttributes = changedAttributes;
+		//
+		// collection instance is preserved - audit can be already persisted (changed attributes are set by audit strategy)
+		changedAttributeNames.clear();
+		if (StringUtils.isNotBlank(changedAttributes)) {
+			changedAttributeNames.addAll(Arrays
+					.stream(StringUtils.split(changedAttributes, IdmAuditDto.CHANGED_COLUMNS_DELIMITER))
+					.map(StringUtils::trimToNull)
+					.filter(StringUtils::isNotEmpty)
+					.map(StringUtils::lowerCase)
+					.collect(Collectors.toSet()));
+		}
 	}
 
 	public String getType() {
@@ -219,9 +246,9 @@ public class IdmAudit implements BaseEntity {
 	
 	public void addChanged(String changedColumn) {
 		if (StringUtils.isEmpty(changedAttributes)) {
-			changedAttributes = changedColumn;
+			setChangedAttributes(changedColumn);
 		} else {
-			changedAttributes = String.format("%s%s%s", changedAttributes, IdmAuditDto.CHANGED_COLUMNS_DELIMITER, changedColumn);
+			setChangedAttributes(String.format("%s%s%s", changedAttributes, IdmAuditDto.CHANGED_COLUMNS_DELIMITER, changedColumn));
 		}
 	}
 	
@@ -1,8 +1,10 @@
 package eu.bcvsolutions.idm.core.audit.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -52,4 +54,40 @@ public interface IdmAuditRepository extends AbstractEntityRepository<IdmAudit> {
 	 * @return
 	 */
 	IdmAudit findOneById(@Param(value = "id") Long id);
+	
+	/**
+	 * Identifiers of audits with changed attributes, which are not indexed (idm_audit_attribute) yet.
+	 * Ordered by identifier - audits with greater identifier than given are returned (~ next chunk).
+	 * 
+	 * @param id previous chunk last identifier
+	 * @param pageable chunk size
+	 * @return audit identifiers
+	 * @since 11.1.0
+	 */
+	@Query(value = "SELECT e.id "
+			+ "FROM "
+				+ "#{#entityName} e "
+			+ "WHERE "
+				+ "e.id > :id "
+			+ "AND "
+				+ "e.changedAttributes IS NOT null "
+			+ "AND "
+				+ "e.changedAttributeNames IS EMPTY "
+			+ "ORDER BY e.id")
+	List<Long> findIdsWithoutChangedAttributeNames(@Param(value = "id") Long id, Pageable pageable);
+	
+	/**
+	 * Audits by given identifiers with initialized changed attribute names (fetched by one query).
+	 * 
+	 * @param ids audit identifiers
+	 * @return audits
+	 * @since 11.1.0
+	 */
+	@Query(value = "SELECT DISTINCT e "
+			+ "FROM "
+				+ "#{#entityName} e "
+			+ "LEFT JOIN FETCH e.changedAttributeNames "
+			+ "WHERE "
+				+ "e.id IN (:ids)")
+	List<IdmAudit> findAllByIdsWithChangedAttributeNames(@Param(value = "ids") Collection<Long> ids);
 }
@@ -16,6 +16,7 @@ import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
@@ -23,11 +24,14 @@ import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
+import javax.persistence.criteria.SetJoin;
+import javax.persistence.criteria.Subquery;
 import javax.persistence.metamodel.EntityType;
 
 import org.apache.commons.beanutils.PropertyUtils;
 import org.apache.commons.lang.BooleanUtils;
 import org.apache.commons.lang.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.apache.commons.lang3.reflect.FieldUtils;
 import org.hibernate.annotations.LazyCollection;
 import org.hibernate.annotations.LazyCollectionOption;
@@ -35,13 +39,13 @@ import org.hibernate.envers.AuditReader;
 import org.hibernate.envers.AuditReaderFactory;
 import org.hibernate.envers.Audited;
 import org.hibernate.envers.RevisionType;
+import org.hibernate.envers.exception.NotAuditedException;
 import org.hibernate.envers.exception.RevisionDoesNotExistException;
 import org.hibernate.envers.query.AuditEntity;
 import org.hibernate.envers.query.AuditQuery;
 import org.hibernate.envers.query.criteria.AuditConjunction;
 import org.hibernate.envers.query.criteria.AuditDisjunction;
 import org.hibernate.envers.query.criteria.AuditProperty;
-import org.hibernate.envers.query.criteria.MatchMode;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.LazyInitializer;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -59,6 +63,8 @@ import org.springframework.util.MultiValueMap;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 
 import eu.bcvsolutions.idm.core.api.audit.criteria.IdmPasswordSelfRelationWithOwnerExpression;
 import eu.bcvsolutions.idm.core.api.audit.dto.IdmAuditDto;
@@ -69,9 +75,11 @@ import eu.bcvsolutions.idm.core.api.domain.CoreResultCode;
 import eu.bcvsolutions.idm.core.api.entity.AbstractEntity;
 import eu.bcvsolutions.idm.core.api.entity.BaseEntity;
 import eu.bcvsolutions.idm.core.api.exception.ResultCodeException;
+import eu.bcvsolutions.idm.core.api.repository.filter.FilterManager;
 import eu.bcvsolutions.idm.core.api.service.AbstractReadWriteDtoService;
 import eu.bcvsolutions.idm.core.api.service.LookupService;
 import eu.bcvsolutions.idm.core.api.utils.FilterConverter;
+import eu.bcvsolutions.idm.core.audit.criteria.IdmAuditChangedAttributeExpression;
 import eu.bcvsolutions.idm.core.audit.entity.IdmAudit;
 import eu.bcvsolutions.idm.core.audit.entity.IdmAudit_;
 import eu.bcvsolutions.idm.core.audit.repository.IdmAuditRepository;
@@ -135,10 +143,14 @@ public class DefaultAuditService extends AbstractReadWriteDtoService<IdmAuditDto
 		if (transactionId != null) {
 			predicates.add(builder.equal(root.get(IdmAudit_.transactionId), transactionId));
 		}
-		// Text filtering is by id, is this really mandatory?
-		// TODO: thing about it
-		if (StringUtils.isNotEmpty(filter.getText())) {
-			predicates.add(builder.like(root.get(IdmAudit_.id).as(String.class), "%" + filter.getText().toLowerCase() + "%"));
+		// Text filtering is by id - id is compared directly (index is used), id is not casted to string
+		String text = filter.getText();
+		if (StringUtils.isNotEmpty(text)) {
+			if (NumberUtils.isDigits(text) && text.length() < 19) { // long max value
+				predicates.add(builder.equal(root.get(IdmAudit_.id), Long.valueOf(text)));
+			} else {
+				predicates.add(builder.disjunction()); // audit id is numeric => nothing found
+			}
 		}
 
 		if (StringUtils.isNotEmpty(filter.getModification())) {
@@ -147,11 +159,24 @@ public class DefaultAuditService extends AbstractReadWriteDtoService<IdmAuditDto
 
 		List<String> changedAttributes = filter.getChangedAttributesList();
 		if (changedAttributes != null && !changedAttributes.isEmpty()) {
-			List<Predicate> orPredicates = new ArrayList<>(changedAttributes.size());
-			for (String attribute : changedAttributes) {
-				orPredicates.add(builder.like(builder.lower(root.get(IdmAudit_.changedAttributes)), "%" + attribute.toLowerCase() + "%"));
+			// indexed changed attributes are used (attribute name is lower case) - attribute name starts with given value
+			Set<String> changedAttributeNames = changedAttributes
+					.stream()
+					.map(StringUtils::trimToNull)
+					.filter(Objects::nonNull)
+					.map(String::toLowerCase)
+					.collect(Collectors.toSet());
+			if (!changedAttributeNames.isEmpty()) {
+				Subquery<String> subquery = query.subquery(String.class);
+				Root<IdmAudit> subRoot = subquery.correlate(root);
+				SetJoin<IdmAudit, String> changedAttributeName = subRoot.join(IdmAudit_.changedAttributeNames);
+				subquery.select(changedAttributeName);
+				subquery.where(builder.or(changedAttributeNames
+						.stream()
+						.map(attributeName -> builder.like(changedAttributeName, attributeName + "%"))
+						.toArray(Predicate[]::new)));
+				predicates.add(builder.exists(subquery));
 			}
-			predicates.add(builder.or(orPredicates.toArray(new Predicate[orPredicates.size()])));
 		}
 
 		if (StringUtils.isNotEmpty(filter.getModifier())) {
@@ -204,6 +229,32 @@ public class DefaultAuditService extends AbstractReadWriteDtoService<IdmAuditDto
 		return predicates;
 	}
 
+	/**
+	 * Entity versions are loaded for the whole page at once, if versions are required.
+	 */
+	@Override
+	protected List<IdmAuditDto> toDtos(List<IdmAudit> entities, boolean trimmed, IdmAuditFilter filter) {
+		if (entities == null || entities.isEmpty() || filter == null || BooleanUtils.isNotTrue(filter.getWithVersion())) {
+			return super.toDtos(entities, trimmed, filter);
+		}
+		//
+		Map<Long, Object> versions = findVersions(entities);
+		List<IdmAuditDto> dtos = new ArrayList<>(entities.size());
+		for (IdmAudit entity : entities) {
+			Object version = versions.get(entity.getId());
+			if (version == null) {
+				// deleted entity, child revision, unknown type - resolved one by one
+				dtos.add(toDto(entity, new IdmAuditDto(), filter));
+			} else {
+				IdmAuditEntityDto dto = (IdmAuditEntityDto) super.toDto(entity, new IdmAuditEntityDto(), filter);
+				dto.setEntity(getValuesFromVersion(version));
+				dtos.add(dto);
+			}
+		}
+		//
+		return dtos;
+	}
+
 	@Override
 	protected IdmAuditDto toDto(IdmAudit entity, IdmAuditDto dto, IdmAuditFilter filter) {
 		if (filter != null && BooleanUtils.isTrue(filter.getWithVersion())) {
@@ -596,10 +647,10 @@ public class DefaultAuditService extends AbstractReadWriteDtoService<IdmAuditDto
 
 		AuditDisjunction disjunction = AuditEntity.disjunction();
 		
-		conjunctionForFailed.add(AuditEntity.revisionProperty(IdmAudit_.changedAttributes.getName()).ilike(IdmPassword_.unsuccessfulAttempts.getName(), MatchMode.ANYWHERE));
+		conjunctionForFailed.add(new IdmAuditChangedAttributeExpression(IdmPassword_.unsuccessfulAttempts.getName()));
 		conjunctionForFailed.add(AuditEntity.property(IdmPassword_.modifier.getName()).eq(SecurityService.GUEST_NAME));
 		
-		conjunctionForSuccessful.add(AuditEntity.revisionProperty(IdmAudit_.changedAttributes.getName()).ilike(IdmPassword_.lastSuccessfulLogin.getName(), MatchMode.ANYWHERE));
+		conjunctionForSuccessful.add(new IdmAuditChangedAttributeExpression(IdmPassword_.lastSuccessfulLogin.getName()));
 		// Self created relation, created by expression
 		conjunctionForSuccessful.add(new IdmPasswordSelfRelationWithOwnerExpression());
 		
@@ -702,6 +753,63 @@ public class DefaultAuditService extends AbstractReadWriteDtoService<IdmAuditDto
 		return reader.find(entityClass, entityId, revisionId);
 	}
 	
+	/**
+	 * Find entity versions for given audit records at once - one query for each audited entity type (and partition).
+	 * Only versions stored exactly in audit record revision are returned (deleted entities and child revisions are not).
+	 * 
+	 * @param audits audit records
+	 * @return audit record id => entity version
+	 */
+	private Map<Long, Object> findVersions(List<IdmAudit> audits) {
+		Map<Long, Object> results = new HashMap<>(audits.size());
+		Map<String, List<IdmAudit>> auditsByType = audits
+				.stream()
+				.filter(audit -> audit.getEntityId() != null && StringUtils.isNotEmpty(audit.getType()))
+				.filter(audit -> !RevisionType.DEL.name().equals(audit.getModification()))
+				.collect(Collectors.groupingBy(IdmAudit::getType));
+		//
+		auditsByType.forEach((type, typeAudits) -> {
+			Class<?> entityClass;
+			try {
+				entityClass = Class.forName(type);
+			} catch (ClassNotFoundException ex) {
+				// logged, when audit is resolved one by one
+				return;
+			}
+			for (List<IdmAudit> partition : Lists.partition(typeAudits, FilterManager.DEFAULT_CHECK_FILTER_SIZE_MAXIMUM)) {
+				Map<Long, UUID> entityIds = new HashMap<>(partition.size());
+				partition.forEach(audit -> entityIds.put((Long) audit.getId(), audit.getEntityId()));
+				//
+				List<?> rows;
+				try {
+					rows = getAuditReader()
+							.createQuery()
+							.forRevisionsOfEntity(entityClass, false, true)
+							.add(AuditEntity.revisionNumber().in(entityIds.keySet()))
+							.add(AuditEntity.id().in(Sets.newHashSet(entityIds.values())))
+							.getResultList();
+				} catch (NotAuditedException ex) {
+					// type is not audited entity => resolved one by one
+					LOG.debug("Versions of type [{}] cannot be loaded at once.", type, ex);
+					continue;
+				}
+				for (Object row : rows) {
+					Object[] revision = (Object[]) row;
+					if (!(revision[0] instanceof BaseEntity) || !(revision[1] instanceof BaseEntity)) {
+						continue;
+					}
+					Long revisionId = (Long) ((BaseEntity) revision[1]).getId();
+					// revisions and entities are queried independently => revision has to be paired with entity
+					if (Objects.equals(entityIds.get(revisionId), ((BaseEntity) revision[0]).getId())) {
+						results.put(revisionId, revision[0]);
+					}
+				}
+			}
+		});
+		//
+		return results;
+	}
+	
 	/**
 	 * Method return true if at least one fields has annotation {@link Audited} 
 	 * @param fields
@@ -0,0 +1,73 @@
+package eu.bcvsolutions.idm.core.audit.task.impl;
+
+import java.util.List;
+
+import org.quartz.DisallowConcurrentExecution;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import eu.bcvsolutions.idm.core.audit.entity.IdmAudit;
+import eu.bcvsolutions.idm.core.audit.repository.IdmAuditRepository;
+import eu.bcvsolutions.idm.core.scheduler.api.service.AbstractSchedulableTaskExecutor;
+
+/**
+ * Fill indexed changed attributes (idm_audit_attribute) of audit records created before version 11.1.0.
+ * Audit records are processed in chunks ordered by identifier, each chunk in new transaction
+ * => task can be canceled and executed again, already indexed audit records are skipped.
+ *
+ * @author Radek Tomiška
+ * @since 11.1.0
+ */
+@DisallowConcurrentExecution
+@Component(RebuildAuditChangedAttributeIndexTaskExecutor.TASK_NAME)
+public class RebuildAuditChangedAttributeIndexTaskExecutor extends AbstractSchedulableTaskExecutor<Boolean> {
+
+	private static final org.slf4j.Logger LOG = org.slf4j.LoggerFactory.getLogger(RebuildAuditChangedAttributeIndexTaskExecutor.class);
+	public static final String TASK_NAME = "core-rebuild-audit-changed-attribute-index-long-running-task";
+	private static final int CHUNK_SIZE = 500;
+	//
+	@Autowired private IdmAuditRepository auditRepository;
+	@Autowired private PlatformTransactionManager platformTransactionManager;
+
+	@Override
+	public String getName() {
+		return TASK_NAME;
+	}
+
+	@Override
+	public Boolean process() {
+		counter = 0L;
+		Long lastId = 0L;
+		boolean canContinue = true;
+		//
+		TransactionTemplate template = new TransactionTemplate(platformTransactionManager);
+		template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		//
+		do {
+			List<Long> auditIds = auditRepository.findIdsWithoutChangedAttributeNames(lastId, PageRequest.of(0, CHUNK_SIZE));
+			if (auditIds.isEmpty()) {
+				break;
+			}
+			// chunk is processed in new transaction => large data support, processed chunks are not rolled back
+			template.execute(status -> {
+				for (IdmAudit audit : auditRepository.findAllByIdsWithChangedAttributeNames(auditIds)) {
+					// changed attribute names are filled by changed attributes
+					audit.setChangedAttributes(audit.getChangedAttributes());
+				}
+				return null;
+			});
+			lastId = auditIds.get(auditIds.size() - 1);
+			counter += auditIds.size();
+			//
+			canContinue = updateState();
+		} while (canContinue);
+		//
+		LOG.info("Changed attributes of [{}] audit records were indexed.", counter);
+		//
+		return Boolean.TRUE;
+	}
+}
@@ -30,7 +30,6 @@ import eu.bcvsolutions.idm.core.api.dto.filter.IdmRoleFilter;
 import eu.bcvsolutions.idm.core.api.dto.filter.IdmRoleFormAttributeFilter;
 import eu.bcvsolutions.idm.core.api.dto.filter.IdmRoleGuaranteeFilter;
 import eu.bcvsolutions.idm.core.api.dto.filter.IdmRoleGuaranteeRoleFilter;
-import eu.bcvsolutions.idm.core.api.service.ExportManager;
 import eu.bcvsolutions.idm.core.api.service.IdmAuthorizationPolicyService;
 import eu.bcvsolutions.idm.core.api.service.IdmIncompatibleRoleService;
 import eu.bcvsolutions.idm.core.api.service.IdmRoleCatalogueRoleService;
@@ -135,14 +134,7 @@ public class RoleExportBulkAction extends AbstractExportBulkAction<IdmRoleDto, I
 	private void exportIncompatibleRoles(IdmRoleDto role) {
 		IdmIncompatibleRoleFilter incompatibleFilter = new IdmIncompatibleRoleFilter();
 		incompatibleFilter.setRoleId(role.getId());
-		List<IdmIncompatibleRoleDto> incompatibles = incompatibleRoleService.find(incompatibleFilter, null)
-				.getContent();
-		if (incompatibles.isEmpty()) {
-			incompatibleRoleService.export(ExportManager.BLANK_UUID, this.getBatch());
-		}
-		incompatibles.forEach(incompatible -> {
-			incompatibleRoleService.export(incompatible.getId(), this.getBatch());
-		});
+		this.getExportManager().export(incompatibleRoleService, incompatibleFilter, this.getBatch());
 
 		// Set parent fields -> set authoritative mode. Here are two parent fields!
 		Set<String> parents = new LinkedHashSet<>();
@@ -161,13 +153,7 @@ public class RoleExportBulkAction extends AbstractExportBulkAction<IdmRoleDto, I
 	private void exportBusinessRoles(IdmRoleDto role) {
 		IdmRoleCompositionFilter compositionFilter = new IdmRoleCompositionFilter();
 		compositionFilter.setRoleId(role.getId());
-		List<IdmRoleCompositionDto> compositions = roleCompositionService.find(compositionFilter, null).getContent();
-		if (compositions.isEmpty()) {
-			roleCompositionService.export(ExportManager.BLANK_UUID, this.getBatch());
-		}
-		compositions.forEach(composition -> {
-			roleCompositionService.export(composition.getId(), this.getBatch());
-		});
+		this.getExportManager().export(roleCompositionService, compositionFilter, this.getBatch());
 		// Set parent fields -> set authoritative mode. Here are two parent fields!
 		Set<String> parents = new LinkedHashSet<>();
 		parents.add(IdmRoleComposition_.superior.getName());
@@ -185,13 +171,7 @@ public class RoleExportBulkAction extends AbstractExportBulkAction<IdmRoleDto, I
 	private void exportIdentityGuarantees(IdmRoleDto role) {
 		IdmRoleGuaranteeFilter filter = new IdmRoleGuaranteeFilter();
 		filter.setRole(role.getId());
-		List<IdmRoleGuaranteeDto> dtos = roleGuaranteeService.find(filter, null).getContent();
-		if (dtos.isEmpty()) {
-			roleGuaranteeService.export(ExportManager.BLANK_UUID, this.getBatch());
-		}
-		dtos.forEach(dto -> {
-			roleGuaranteeService.export(dto.getId(), this.getBatch());
-		});
+		this.getExportManager().export(roleGuaranteeService, filter, this.getBatch());
 		// Set parent field -> set authoritative mode.
 		this.getExportManager().setAuthoritativeMode(IdmRoleGuarantee_.role.getName(),
 				IdmRoleGuaranteeFilter.PARAMETER_ROLE, IdmRoleGuaranteeDto.class, this.getBatch());
@@ -205,13 +185,7 @@ public class RoleExportBulkAction extends AbstractExportBulkAction<IdmRoleDto, I
 	private void exportRoleGuarantees(IdmRoleDto role) {
 		IdmRoleGuaranteeRoleFilter filter = new IdmRoleGuaranteeRoleFilter();
 		filter.setRole(role.getId());
-		List<IdmRoleGuaranteeRoleDto> dtos = roleGuaranteeRoleService.find(filter, null).getContent();
-		if (dtos.isEmpty()) {
-			roleGuaranteeRoleService.export(ExportManager.BLANK_UUID, this.getBatch());
-		}
-		dtos.forEach(dto -> {
-			roleGuaranteeRoleService.export(dto.getId(), this.getBatch());
-		});
+		this.getExportManager().export(roleGuaranteeRoleService, filter, this.getBatch());
 		// Set parent field -> set authoritative mode.
 		this.getExportManager().setAuthoritativeMode(IdmRoleGuaranteeRole_.role.getName(),
 				IdmRoleGuaranteeFilter.PARAMETER_ROLE, IdmRoleGuaranteeRoleDto.class, this.getBatch());
@@ -226,13 +200,7 @@ public class RoleExportBulkAction extends AbstractExportBulkAction<IdmRoleDto, I
 		IdmAuthorizationPolicyFilter filter = new IdmAuthorizationPolicyFilter();
 		filter.setRoleId(role.getId());
 
-		List<IdmAuthorizationPolicyDto> dtos = authorizationPolicyService.find(filter, null).getContent();
-		if (dtos.isEmpty()) {
-			authorizationPolicyService.export(ExportManager.BLANK_UUID, this.getBatch());
-		}
-		dtos.forEach(dto -> {
-			authorizationPolicyService.export(dto.getId(), this.getBatch());
-		});
+		this.getExportManager().export(authorizationPolicyService, filter, this.getBatch());
 		// Set parent field -> set authoritative mode.
 		this.getExportManager().setAuthoritativeMode(IdmAuthorizationPolicy_.role.getName(), "roleId",
 				IdmAuthorizationPolicyDto.class, this.getBatch());
@@ -247,13 +215,7 @@ public class RoleExportBulkAction extends AbstractExportBulkAction<IdmRoleDto, I
 		IdmRoleCatalogueRoleFilter filter = new IdmRoleCatalogueRoleFilter();
 		filter.setRoleId(role.getId());
 
-		List<IdmRoleCatalogueRoleDto> dtos = roleCatalogueRoleService.find(filter, null).getContent();
-		if (dtos.isEmpty()) {
-			roleCatalogueRoleService.export(ExportManager.BLANK_UUID, this.getBatch());
-		}
-		dtos.forEach(dto -> {
-			roleCatalogueRoleService.export(dto.getId(), this.getBatch());
-		});
+		this.getExportManager().export(roleCatalogueRoleService, filter, this.getBatch());
 		// Set parent field -> set authoritative mode.
 		this.getExportManager().setAuthoritativeMode(IdmRoleCatalogueRole_.role.getName(), "roleId",
 				IdmRoleCatalogueRoleDto.class, this.getBatch());
@@ -283,13 +245,7 @@ public class RoleExportBulkAction extends AbstractExportBulkAction<IdmRoleDto, I
 		IdmRoleFormAttributeFilter filter = new IdmRoleFormAttributeFilter();
 		filter.setRole(role.getId());
 
-		List<IdmRoleFormAttributeDto> dtos = roleFormAttributeService.find(filter, null).getContent();
-		if (dtos.isEmpty()) {
-			roleFormAttributeService.export(ExportManager.BLANK_UUID, this.getBatch());
-		}
-		dtos.forEach(dto -> {
-			roleFormAttributeService.export(dto.getId(), this.getBatch());
-		});
+		this.getExportManager().export(roleFormAttributeService, filter, this.getBatch());
 		// Set parent field -> set authoritative mode.
 		this.getExportManager().setAuthoritativeMode(IdmRoleFormAttribute_.role.getName(), "role",
 				IdmRoleFormAttributeDto.class, this.getBatch());
@@ -18,10 +18,17 @@ import eu.bcvsolutions.idm.core.api.service.EntityEventManager;
 import eu.bcvsolutions.idm.core.api.service.IdmRoleCompositionService;
 import eu.bcvsolutions.idm.core.eav.api.domain.FormDefinitionCache;
 import eu.bcvsolutions.idm.core.eav.api.service.FormService;
+import eu.bcvsolutions.idm.core.model.domain.AutomaticRoleAttributeRuleEngine;
+import eu.bcvsolutions.idm.core.model.domain.RoleCompositionGraph;
+import eu.bcvsolutions.idm.core.model.service.api.AutomaticRoleAttributeRuleEngineManager;
+import eu.bcvsolutions.idm.core.model.service.api.LongPollingManager;
+import eu.bcvsolutions.idm.core.model.service.api.RoleCompositionGraphManager;
 import eu.bcvsolutions.idm.core.model.service.impl.DefaultConfigurationService;
 import eu.bcvsolutions.idm.core.model.service.impl.DefaultGroovyScriptService;
 import eu.bcvsolutions.idm.core.security.api.service.AuthorizationManager;
 import eu.bcvsolutions.idm.core.security.api.service.TokenManager;
+import eu.bcvsolutions.idm.core.security.domain.PermissionCacheKey;
+import eu.bcvsolutions.idm.core.security.service.impl.DefaultAuthorizationManager;
 import groovy.lang.Script;
 
 /**
@@ -49,33 +56,53 @@ public class CoreCacheConfiguration {
 
 	/**
 	 * Define local only cache for {@link DefaultGroovyScriptService}. The reason, why we use local only cache
-	 * is {@link Script} class, which this service caches, is not {@link java.io.Serializable} so it cannot
-	 * be shared in distributed cache.
+	 * is compiled {@link Script} class, which this service caches, is loaded by local class loader, so it cannot
+	 * be shared in distributed cache. Key is digest of script source.
 	 *
 	 * @return IdMCacheConfiguration for {@link DefaultGroovyScriptService}
 	 */
 	@Bean
+	@SuppressWarnings("rawtypes")
 	public IdMCacheConfiguration groovyScriptCacheConfiguration() {
-		return LocalIdMCacheConfiguration.<String, Script>builder()
+		return LocalIdMCacheConfiguration.<String, Class> builder()
 				.withName(DefaultGroovyScriptService.CACHE_NAME)
 				.withKeyType(String.class)
-				.withValueType(Script.class)
+				.withValueType(Class.class)
 				.build();
 	}
 	
 	/**
-	 * Define distributed cache for {@link AuthorizationManager} - logged identity permissions for entities.
+	 * Define distributed cache for {@link AuthorizationManager} - logged identity permissions cache generation.
 	 *
 	 * @return permission cache
 	 * @since 10.4.1
 	 */
 	@Bean
-	@SuppressWarnings("rawtypes")
 	public IdMCacheConfiguration permissionCacheConfiguration() {
-		return DistributedIdMCacheConfiguration.<UUID, HashMap> builder()
+		return DistributedIdMCacheConfiguration.<UUID, UUID> builder()
 			.withName(AuthorizationManager.PERMISSION_CACHE_NAME)
 				.withKeyType(UUID.class) // identity uuid ~ logged users
-				.withValueType(HashMap.class)
+				.withValueType(UUID.class) // cache generation
+				.withTtl(Duration.ofMinutes(1)) // permissions are based on data structure => cache should be effective short time (one request)
+				.build();
+	}
+	
+	/**
+	 * Define distributed cache for {@link AuthorizationManager} - logged identity permissions for entities.
+	 * Permissions are cached for each entity separately => cached permissions are not copied and serialized together.
+	 * Cache size is limited globally (all identities together) - see {@link DefaultAuthorizationManager#PERMISSION_CACHE_MAX_SIZE}.
+	 *
+	 * @return permission cache
+	 * @since 11.1.0
+	 */
+	@Bean
+	@SuppressWarnings("rawtypes")
+	public IdMCacheConfiguration permissionEntityCacheConfiguration() {
+		return DistributedIdMCacheConfiguration.<PermissionCacheKey, HashSet> builder()
+			.withName(AuthorizationManager.PERMISSION_ENTITY_CACHE_NAME)
+				.withKeyType(PermissionCacheKey.class) // identity, cache generation and entity
+				.withValueType(HashSet.class)
+				.witchCacheSize(DefaultAuthorizationManager.PERMISSION_CACHE_MAX_SIZE)
 				.withTtl(Duration.ofMinutes(1)) // permissions are based on data structure => cache should be effective short time (one request)
 				.build();
 	}
@@ -160,6 +187,82 @@ public class CoreCacheConfiguration {
 				.build();
 	}
 	
+	/**
+	 * Role composition graph version - graph is rebuilt on all nodes, when version is evicted.
+	 *
+	 * @return current graph version
+	 * @since 11.1.0
+	 */
+	@Bean
+	public IdMCacheConfiguration roleCompositionGraphVersionCacheConfiguration() {
+		return DistributedIdMCacheConfiguration.<String, UUID> builder()
+			.withName(RoleCompositionGraphManager.GRAPH_VERSION_CACHE_NAME)
+				.withKeyType(String.class)
+				.withValueType(UUID.class) // graph version
+				.build();
+	}
+	
+	/**
+	 * Role composition graph by version. Built graph is held locally only - graph is not serialized.
+	 *
+	 * @return built graph
+	 * @since 11.1.0
+	 */
+	@Bean
+	public IdMCacheConfiguration roleCompositionGraphCacheConfiguration() {
+		return LocalIdMCacheConfiguration.<UUID, RoleCompositionGraph> builder()
+			.withName(RoleCompositionGraphManager.GRAPH_CACHE_NAME)
+				.withKeyType(UUID.class) // graph version
+				.withValueType(RoleCompositionGraph.class)
+				.build();
+	}
+	
+	/**
+	 * Compiled rules of automatic roles by attribute version - rules are recompiled on all nodes, when version is evicted.
+	 *
+	 * @return current engine version
+	 * @since 11.1.0
+	 */
+	@Bean
+	public IdMCacheConfiguration automaticRoleAttributeRuleEngineVersionCacheConfiguration() {
+		return DistributedIdMCacheConfiguration.<String, UUID> builder()
+			.withName(AutomaticRoleAttributeRuleEngineManager.ENGINE_VERSION_CACHE_NAME)
+				.withKeyType(String.class)
+				.withValueType(UUID.class) // engine version
+				.build();
+	}
+	
+	/**
+	 * Compiled rules of automatic roles by attribute by version. Compiled engine is held locally only - engine is not serialized.
+	 *
+	 * @return compiled engine
+	 * @since 11.1.0
+	 */
+	@Bean
+	public IdMCacheConfiguration automaticRoleAttributeRuleEngineCacheConfiguration() {
+		return LocalIdMCacheConfiguration.<UUID, AutomaticRoleAttributeRuleEngine> builder()
+			.withName(AutomaticRoleAttributeRuleEngineManager.ENGINE_CACHE_NAME)
+				.withKeyType(UUID.class) // engine version
+				.withValueType(AutomaticRoleAttributeRuleEngine.class)
+				.build();
+	}
+	
+	/**
+	 * Last change version of entities subscribed by long polling requests - changes are published for all server instances.
+	 *
+	 * @return change version by entity id
+	 * @since 11.1.0
+	 */
+	@Bean
+	public IdMCacheConfiguration longPollingChangeCacheConfiguration() {
+		return DistributedIdMCacheConfiguration.<UUID, UUID> builder()
+			.withName(LongPollingManager.CHANGE_CACHE_NAME)
+				.withKeyType(UUID.class) // subscribed entity id
+				.withValueType(UUID.class) // change version
+				.withTtl(Duration.ofHours(1)) // unused subscribers are cleared after one hour
+				.build();
+	}
+	
 	/**
 	 * Transaction events by transaction id.
 	 *
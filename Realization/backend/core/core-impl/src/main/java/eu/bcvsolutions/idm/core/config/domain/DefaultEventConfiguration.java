@@ -54,4 +54,14 @@ public class DefaultEventConfiguration extends AbstractConfiguration implements
 	public int getBatchSize() {
 		return getConfigurationService().getIntegerValue(PROPERTY_EVENT_ASYNCHRONOUS_BATCH_SIZE, DEFAULT_EVENT_BATCH_SIZE);
 	}
+	
+	@Override
+	public boolean isClaim() {
+		return getConfigurationService().getBooleanValue(PROPERTY_EVENT_ASYNCHRONOUS_CLAIM, DEFAULT_EVENT_ASYNCHRONOUS_CLAIM);
+	}
+	
+	@Override
+	public boolean isStateJournal() {
+		return getConfigurationService().getBooleanValue(PROPERTY_EVENT_ASYNCHRONOUS_STATE_JOURNAL, DEFAULT_EVENT_ASYNCHRONOUS_STATE_JOURNAL);
+	}
 }
@@ -215,4 +215,9 @@ public class DefaultRoleConfiguration extends AbstractConfiguration implements R
 	public boolean isShowEnvironment() {
 		return getConfigurationService().getBooleanValue(PROPERTY_SHOW_ENVIRONMENT, DEFAULT_SHOW_ENVIRONMENT);
 	}
+	
+	@Override
+	public boolean isAutomaticRoleAttributeInMemory() {
+		return getConfigurationService().getBooleanValue(PROPERTY_AUTOMATIC_ROLE_ATTRIBUTE_IN_MEMORY, DEFAULT_AUTOMATIC_ROLE_ATTRIBUTE_IN_MEMORY);
+	}
 }
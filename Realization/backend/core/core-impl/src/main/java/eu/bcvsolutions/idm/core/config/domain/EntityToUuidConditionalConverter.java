@@ -20,6 +20,7 @@ import eu.bcvsolutions.idm.core.api.dto.BaseDto;
 import eu.bcvsolutions.idm.core.api.entity.BaseEntity;
 import eu.bcvsolutions.idm.core.api.exception.CoreException;
 import eu.bcvsolutions.idm.core.api.service.LookupService;
+import eu.bcvsolutions.idm.core.api.utils.PropertyAccessor;
 
 /**
  * Converter for transform fields (marked with {@link Embedded} annotation) from BaseEntity to UUID 
@@ -94,7 +95,7 @@ public class EntityToUuidConditionalConverter implements ConditionalConverter<Ba
 					if (Modifier.isAbstract(embeddedAnnotation.dtoClass().getModifiers())) {
 						dto = (AbstractDto) getLookupService().lookupDto(entity.getClass(), entity.getId());
 					} else {
-						dto = embeddedAnnotation.dtoClass().getDeclaredConstructor().newInstance();
+						dto = PropertyAccessor.newInstance(embeddedAnnotation.dtoClass());
 					}
 					dto.setTrimmed(true);
 					// Separate map entity to new embedded DTO
@@ -4,7 +4,11 @@ import java.io.Serializable;
 import java.math.BigDecimal;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import javax.persistence.criteria.CriteriaBuilder;
@@ -340,6 +344,31 @@ public abstract class AbstractFormValueService<O extends FormableEntity, E exten
 		//
 		return confidentialStorage.get(guardedValue.getId(), getEntityClass(), getConfidentialStorageKey(guardedValue.getFormAttribute()));
 	}
+	
+	@Override
+	public Map<UUID, Serializable> getConfidentialPersistentValues(List<IdmFormValueDto> guardedValues) {
+		Map<UUID, Serializable> results = new HashMap<>();
+		if (CollectionUtils.isEmpty(guardedValues)) {
+			return results;
+		}
+		//
+		Set<UUID> formValueIds = new HashSet<>(guardedValues.size());
+		Set<String> keys = new HashSet<>();
+		guardedValues.forEach(guardedValue -> {
+			formValueIds.add(guardedValue.getId());
+			keys.add(getConfidentialStorageKey(guardedValue.getFormAttribute()));
+		});
+		Map<UUID, Map<String, Serializable>> storageValues = confidentialStorage.get(formValueIds, getEntityClass(), keys);
+		// each form value has own key by attribute
+		guardedValues.forEach(guardedValue -> {
+			Map<String, Serializable> ownerValues = storageValues.get(guardedValue.getId());
+			results.put(
+					guardedValue.getId(), 
+					ownerValues == null ? null : ownerValues.get(getConfidentialStorageKey(guardedValue.getFormAttribute())));
+		});
+		//
+		return results;
+	}
 
 	@Override
 	@Transactional(readOnly = true)
@@ -59,6 +59,7 @@ import eu.bcvsolutions.idm.core.api.event.EntityEvent;
 import eu.bcvsolutions.idm.core.api.event.EventContext;
 import eu.bcvsolutions.idm.core.api.exception.CoreException;
 import eu.bcvsolutions.idm.core.api.exception.ResultCodeException;
+import eu.bcvsolutions.idm.core.api.rest.lookup.DtoLookup;
 import eu.bcvsolutions.idm.core.api.service.EntityEventManager;
 import eu.bcvsolutions.idm.core.api.service.IdmCacheManager;
 import eu.bcvsolutions.idm.core.api.service.LookupService;
@@ -1163,10 +1164,27 @@ public class DefaultFormService implements FormService {
 		FormValueService<?> formValueService = getFormValueService(ownerEntity);
 		return formValueService.getConfidentialPersistentValue(guardedValue);
 	}
+	
+	@Override
+	public Map<UUID, Serializable> getConfidentialPersistentValues(List<IdmFormValueDto> guardedValues) {
+		Map<UUID, Serializable> results = new HashMap<>();
+		if (CollectionUtils.isEmpty(guardedValues)) {
+			return results;
+		}
+		// values are loaded by owner type
+		guardedValues
+			.stream()
+			.collect(Collectors.groupingBy(IdmFormValueDto::getOwnerType))
+			.forEach((ownerType, values) -> {
+				FormValueService<?> formValueService = getFormValueService(ownerType);
+				results.putAll(formValueService.getConfidentialPersistentValues(values));
+			});
+		//
+		return results;
+	}
 
 	@Override
 	@Transactional(readOnly = true)
-	@SuppressWarnings("unchecked")
 	public <O extends BaseDto> Page<O> findOwners(Class<? extends Identifiable> ownerType,
 			IdmFormAttributeDto attribute, Serializable persistentValue, Pageable pageable) {
 		Assert.notNull(ownerType, "Owner type is required.");
@@ -1183,13 +1201,20 @@ public class DefaultFormService implements FormService {
 			pageable = PageRequest.of(0, Integer.MAX_VALUE);
 		}
 		Page<FormableEntity> ownerEntities = formValueService.findOwners(attribute, persistentValue, pageable);
+		if (!ownerEntities.hasContent()) {
+			return new PageImpl<>(new ArrayList<>(), pageable, ownerEntities.getTotalElements());
+		}
 		//
-		// convert to dtos
+		// convert to dtos - owner entities are loaded in persistence context already => lookup by id doesn't hit database
+		DtoLookup<O> ownerLookup = lookupService.getDtoLookup(ownerType);
+		if (ownerLookup == null) {
+			throw new IllegalArgumentException(String.format("Dto lookup for identifiable type [%s] is not supported", ownerType));
+		}
 		List<O> ownerDtos = ownerEntities
 				.getContent()
 				.stream()
 				.map(ownerEntity -> {
-					return (O) lookupService.lookupDto(ownerType, ownerEntity.getId());
+					return ownerLookup.lookup(ownerEntity.getId());
 				})
 				.collect(Collectors.toList());
 
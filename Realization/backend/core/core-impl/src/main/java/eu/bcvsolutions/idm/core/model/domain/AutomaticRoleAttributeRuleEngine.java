@@ -0,0 +1,603 @@
+package eu.bcvsolutions.idm.core.model.domain;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.io.Serializable;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.util.Assert;
+
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.SetMultimap;
+
+import eu.bcvsolutions.idm.core.api.domain.AutomaticRoleAttributeRuleComparison;
+import eu.bcvsolutions.idm.core.api.domain.AutomaticRoleAttributeRuleType;
+import eu.bcvsolutions.idm.core.api.dto.IdmAutomaticRoleAttributeDto;
+import eu.bcvsolutions.idm.core.api.dto.IdmAutomaticRoleAttributeRuleDto;
+import eu.bcvsolutions.idm.core.api.exception.CoreException;
+import eu.bcvsolutions.idm.core.api.utils.DtoUtils;
+import eu.bcvsolutions.idm.core.eav.api.dto.IdmFormAttributeDto;
+import eu.bcvsolutions.idm.core.eav.api.dto.IdmFormValueDto;
+import eu.bcvsolutions.idm.core.eav.entity.AbstractFormValue;
+import eu.bcvsolutions.idm.core.model.entity.IdmIdentity;
+import eu.bcvsolutions.idm.core.model.entity.IdmIdentityContract;
+
+/**
+ * Automatic roles by attribute - rules compiled into in-memory predicates.
+ *
+ * Rules are evaluated over snapshot of one contract, its identity and their extended attribute values (loaded once),
+ * instead of one sql query for each automatic role. Rules are indexed by their type - only automatic roles with rules
+ * of changed type are evaluated.
+ *
+ * Only rules, which can be evaluated in memory with the same result as sql criteria, are compiled
+ * (e.g. string, boolean, numeric and uuid values, values without like wildcards). Automatic role with at least one
+ * rule, which cannot be compiled, is not evaluated by engine - sql criteria has to be used for this automatic role.
+ *
+ * Lookout: strings are compared case sensitive.
+ *
+ * Engine is immutable after rules are compiled - compiled engine can be shared by more threads (cached).
+ *
+ * @author Radek Tomiška
+ * @since 11.1.0
+ */
+public class AutomaticRoleAttributeRuleEngine {
+
+	private static final org.slf4j.Logger LOG = org.slf4j.LoggerFactory.getLogger(AutomaticRoleAttributeRuleEngine.class);
+	private static final Set<AutomaticRoleAttributeRuleComparison> LIKE_COMPARISONS = ImmutableSet.of(
+			AutomaticRoleAttributeRuleComparison.START_WITH,
+			AutomaticRoleAttributeRuleComparison.NOT_START_WITH,
+			AutomaticRoleAttributeRuleComparison.END_WITH,
+			AutomaticRoleAttributeRuleComparison.NOT_END_WITH,
+			AutomaticRoleAttributeRuleComparison.CONTAINS,
+			AutomaticRoleAttributeRuleComparison.NOT_CONTAINS);
+	private static final Set<AutomaticRoleAttributeRuleComparison> NOT_COMPARISONS = ImmutableSet.of(
+			AutomaticRoleAttributeRuleComparison.NOT_EQUALS,
+			AutomaticRoleAttributeRuleComparison.NOT_START_WITH,
+			AutomaticRoleAttributeRuleComparison.NOT_END_WITH,
+			AutomaticRoleAttributeRuleComparison.NOT_CONTAINS);
+	//
+	private final Map<UUID, List<Predicate<Snapshot>>> compiledRules = new LinkedHashMap<>();
+	private final Set<UUID> notCompiledAutomaticRoles = new HashSet<>();
+	private final SetMultimap<AutomaticRoleAttributeRuleType, UUID> automaticRolesByType = HashMultimap.create();
+	private final SetMultimap<AutomaticRoleAttributeRuleType, UUID> formAttributesByType = HashMultimap.create();
+	private final Map<UUID, IdmAutomaticRoleAttributeDto> automaticRoles = new HashMap<>();
+	private final ListMultimap<UUID, IdmAutomaticRoleAttributeRuleDto> rulesByAutomaticRole = ArrayListMultimap.create();
+
+	/**
+	 * Compile given rules.
+	 *
+	 * @param rules rules of automatic roles - rules are grouped by automatic role.
+	 */
+	public AutomaticRoleAttributeRuleEngine(Collection<IdmAutomaticRoleAttributeRuleDto> rules) {
+		this(null, rules);
+	}
+	
+	/**
+	 * Compile given rules of given automatic roles. Rules of other automatic roles are ignored.
+	 *
+	 * @param automaticRoles automatic roles to process, {@code null} - automatic roles are not registered (all rules are compiled)
+	 * @param rules rules of automatic roles - rules are grouped by automatic role.
+	 */
+	public AutomaticRoleAttributeRuleEngine(Collection<IdmAutomaticRoleAttributeDto> automaticRoles, Collection<IdmAutomaticRoleAttributeRuleDto> rules) {
+		Assert.notNull(rules, "Rules are required.");
+		//
+		if (automaticRoles != null) {
+			automaticRoles.forEach(automaticRole -> {
+				this.automaticRoles.put(automaticRole.getId(), automaticRole);
+			});
+		}
+		for (IdmAutomaticRoleAttributeRuleDto rule : rules) {
+			UUID automaticRoleId = rule.getAutomaticRoleAttribute();
+			Assert.notNull(automaticRoleId, "Automatic role is required.");
+			if (automaticRoles != null && !this.automaticRoles.containsKey(automaticRoleId)) {
+				continue;
+			}
+			//
+			rulesByAutomaticRole.put(automaticRoleId, rule);
+			automaticRolesByType.put(rule.getType(), automaticRoleId);
+			if (rule.getFormAttribute() != null) {
+				formAttributesByType.put(rule.getType(), rule.getFormAttribute());
+			}
+			List<Predicate<Snapshot>> automaticRoleRules = compiledRules.computeIfAbsent(automaticRoleId, id -> new ArrayList<>());
+			if (notCompiledAutomaticRoles.contains(automaticRoleId)) {
+				continue;
+			}
+			Predicate<Snapshot> compiledRule = compile(rule);
+			if (compiledRule == null) {
+				LOG.debug("Rule [{}] of automatic role [{}] cannot be evaluated in memory, sql criteria will be used.",
+						rule.getId(), automaticRoleId);
+				notCompiledAutomaticRoles.add(automaticRoleId);
+				automaticRoleRules.clear();
+			} else {
+				automaticRoleRules.add(compiledRule);
+			}
+		}
+	}
+
+	/**
+	 * Automatic roles with at least one rule of given type.
+	 *
+	 * @param type rule type, {@code null} - all automatic roles with at least one rule
+	 * @return automatic role identifiers
+	 */
+	public Set<UUID> getAutomaticRoles(AutomaticRoleAttributeRuleType type) {
+		if (type == null) {
+			return Collections.unmodifiableSet(compiledRules.keySet());
+		}
+		return Collections.unmodifiableSet(automaticRolesByType.get(type));
+	}
+
+	/**
+	 * Registered automatic role.
+	 *
+	 * @param automaticRoleId automatic role identifier
+	 * @return automatic role, or {@code null}, if automatic role is not registered
+	 */
+	public IdmAutomaticRoleAttributeDto getAutomaticRole(UUID automaticRoleId) {
+		return automaticRoles.get(automaticRoleId);
+	}
+
+	/**
+	 * Rules of given automatic role (e.g. for sql criteria, when automatic role is not compiled).
+	 *
+	 * @param automaticRoleId automatic role identifier
+	 * @return rules
+	 */
+	public List<IdmAutomaticRoleAttributeRuleDto> getRules(UUID automaticRoleId) {
+		return Collections.unmodifiableList(rulesByAutomaticRole.get(automaticRoleId));
+	}
+
+	/**
+	 * Form attributes used in rules with given type - values of these attributes are needed in snapshot.
+	 *
+	 * @param type rule type (CONTRACT_EAV, IDENTITY_EAV)
+	 * @return form attribute identifiers
+	 */
+	public Set<UUID> getFormAttributes(AutomaticRoleAttributeRuleType type) {
+		Assert.notNull(type, "Rule type is required.");
+		//
+		return Collections.unmodifiableSet(formAttributesByType.get(type));
+	}
+
+	/**
+	 * Returns {@code true}, when all rules of given automatic role can be evaluated in memory.
+	 *
+	 * @param automaticRoleId automatic role identifier
+	 * @return true - all rules are compiled
+	 */
+	public boolean isCompiled(UUID automaticRoleId) {
+		return compiledRules.containsKey(automaticRoleId) && !notCompiledAutomaticRoles.contains(automaticRoleId);
+	}
+
+	/**
+	 * Evaluate all rules of given automatic role on given snapshot.
+	 *
+	 * @param automaticRoleId automatic role identifier
+	 * @param snapshot contract, identity and their values
+	 * @return true - all rules passed, false - at least one rule didn't pass
+	 */
+	public boolean evaluate(UUID automaticRoleId, Snapshot snapshot) {
+		Assert.notNull(snapshot, "Snapshot is required.");
+		Assert.isTrue(isCompiled(automaticRoleId), String.format("Automatic role [%s] is not compiled.", automaticRoleId));
+		//
+		return compiledRules
+				.get(automaticRoleId)
+				.stream()
+				.allMatch(rule -> rule.test(snapshot));
+	}
+
+	/**
+	 * Compile rule into predicate.
+	 *
+	 * @param rule rule
+	 * @return predicate or {@code null}, when rule cannot be evaluated in memory.
+	 */
+	protected Predicate<Snapshot> compile(IdmAutomaticRoleAttributeRuleDto rule) {
+		AutomaticRoleAttributeRuleComparison comparison = rule.getComparison();
+		AutomaticRoleAttributeRuleType type = rule.getType();
+		if (comparison == null || type == null) {
+			return null;
+		}
+		//
+		switch (type) {
+			case CONTRACT: {
+				return compileAttribute(IdmIdentityContract.class, rule, Snapshot::getContract);
+			}
+			case IDENTITY: {
+				return compileAttribute(IdmIdentity.class, rule, Snapshot::getIdentity);
+			}
+			case CONTRACT_EAV: {
+				return compileFormAttribute(rule, snapshot -> snapshot.getContractValues(rule.getFormAttribute()));
+			}
+			case IDENTITY_EAV: {
+				return compileFormAttribute(rule, snapshot -> snapshot.getIdentityValues(rule.getFormAttribute()));
+			}
+			default: {
+				return null;
+			}
+		}
+	}
+
+	/**
+	 * Rule for contract or identity attribute (~ entity field).
+	 * String and boolean attributes are supported.
+	 *
+	 * @param entityType contract or identity
+	 * @param rule rule
+	 * @param entity contract or identity from snapshot
+	 * @return predicate or {@code null}, when rule cannot be evaluated in memory.
+	 */
+	private Predicate<Snapshot> compileAttribute(
+			Class<?> entityType,
+			IdmAutomaticRoleAttributeRuleDto rule,
+			Function<Snapshot, Object> entity) {
+		String attributeName = rule.getAttributeName();
+		if (StringUtils.isEmpty(attributeName)) {
+			return null;
+		}
+		Method readMethod;
+		try {
+			readMethod = Arrays
+					.stream(Introspector.getBeanInfo(entityType).getPropertyDescriptors())
+					.filter(propertyDescriptor -> attributeName.equals(propertyDescriptor.getName()))
+					.map(PropertyDescriptor::getReadMethod)
+					.filter(Objects::nonNull)
+					.findFirst()
+					.orElse(null);
+		} catch (IntrospectionException ex) {
+			return null;
+		}
+		if (readMethod == null) {
+			return null;
+		}
+		Class<?> attributeType = readMethod.getReturnType();
+		AutomaticRoleAttributeRuleComparison comparison = rule.getComparison();
+		Predicate<Object> predicate = null;
+		if (attributeType == String.class) {
+			predicate = compileValue(comparison, rule.getValue(), value -> getEntityValue(value, readMethod));
+		} else if ((attributeType == boolean.class || attributeType == Boolean.class)
+				&& (comparison == AutomaticRoleAttributeRuleComparison.EQUALS || comparison == AutomaticRoleAttributeRuleComparison.NOT_EQUALS)
+				&& rule.getValue() != null) {
+			predicate = compileValue(comparison, Boolean.valueOf(rule.getValue()), value -> getEntityValue(value, readMethod));
+		}
+		if (predicate == null) {
+			return null;
+		}
+		//
+		final Predicate<Object> entityPredicate = predicate;
+		return snapshot -> entityPredicate.test(entity.apply(snapshot));
+	}
+
+	/**
+	 * Rule for extended attribute.
+	 *
+	 * @param rule rule
+	 * @param values extended attribute values from snapshot
+	 * @return predicate or {@code null}, when rule cannot be evaluated in memory.
+	 */
+	private Predicate<Snapshot> compileFormAttribute(
+			IdmAutomaticRoleAttributeRuleDto rule,
+			Function<Snapshot, List<? extends AbstractFormValue<?>>> values) {
+		IdmFormAttributeDto formAttribute = getFormAttribute(rule);
+		if (formAttribute == null || formAttribute.getPersistentType() == null) {
+			return null;
+		}
+		AutomaticRoleAttributeRuleComparison comparison = rule.getComparison();
+		// is empty - attribute value doesn't exist
+		if (comparison == AutomaticRoleAttributeRuleComparison.IS_EMPTY) {
+			return snapshot -> values.apply(snapshot).isEmpty();
+		}
+		Predicate<Object> predicate = null;
+		switch (formAttribute.getPersistentType()) {
+			case SHORTTEXT:
+			case CODELIST:
+			case ENUMERATION: {
+				predicate = compileValue(comparison, rule.getValue(), value -> ((AbstractFormValue<?>) value).getShortTextValue());
+				break;
+			}
+			case BOOLEAN: {
+				if (comparison == AutomaticRoleAttributeRuleComparison.EQUALS || comparison == AutomaticRoleAttributeRuleComparison.NOT_EQUALS) {
+					predicate = compileValue(comparison, getFormValue(rule, formAttribute), value -> ((AbstractFormValue<?>) value).getBooleanValue());
+				}
+				break;
+			}
+			case INT:
+			case LONG: {
+				if (!LIKE_COMPARISONS.contains(comparison)) {
+					predicate = compileValue(comparison, toNumber(getFormValue(rule, formAttribute)), value -> toNumber(((AbstractFormValue<?>) value).getLongValue()));
+				}
+				break;
+			}
+			case DOUBLE: {
+				if (!LIKE_COMPARISONS.contains(comparison)) {
+					predicate = compileValue(comparison, toNumber(getFormValue(rule, formAttribute)), value -> toNumber(((AbstractFormValue<?>) value).getDoubleValue()));
+				}
+				break;
+			}
+			case UUID: {
+				if (!LIKE_COMPARISONS.contains(comparison)
+						&& comparison != AutomaticRoleAttributeRuleComparison.LESS_THAN_OR_EQUAL
+						&& comparison != AutomaticRoleAttributeRuleComparison.GREATER_THAN_OR_EQUAL) {
+					predicate = compileValue(comparison, getFormValue(rule, formAttribute), value -> ((AbstractFormValue<?>) value).getUuidValue());
+				}
+				break;
+			}
+			default: {
+				// dates, binary values etc. are evaluated by sql criteria only
+			}
+		}
+		if (predicate == null) {
+			return null;
+		}
+		//
+		final Predicate<Object> valuePredicate = predicate;
+		if (NOT_COMPARISONS.contains(comparison)) {
+			// passed, when at least one value matches or value doesn't exist
+			return snapshot -> {
+				List<? extends AbstractFormValue<?>> formValues = values.apply(snapshot);
+				return formValues.isEmpty() || formValues.stream().anyMatch(valuePredicate);
+			};
+		}
+		return snapshot -> values.apply(snapshot).stream().anyMatch(valuePredicate);
+	}
+
+	/**
+	 * Compile comparison with given expected value - the same evaluation as in sql criteria (null values included).
+	 *
+	 * @param comparison comparison
+	 * @param expected expected value (~ value configured in rule)
+	 * @param getter returns compared (actual) value
+	 * @return predicate or {@code null}, when rule cannot be evaluated in memory.
+	 */
+	private Predicate<Object> compileValue(AutomaticRoleAttributeRuleComparison comparison, Object expected, Function<Object, Object> getter) {
+		// empty values
+		if (comparison == AutomaticRoleAttributeRuleComparison.IS_EMPTY) {
+			return object -> isEmpty(getter.apply(object));
+		}
+		if (comparison == AutomaticRoleAttributeRuleComparison.IS_NOT_EMPTY) {
+			return object -> !isEmpty(getter.apply(object));
+		}
+		// null is not comparable in sql
+		if (expected == null) {
+			return null;
+		}
+		if (LIKE_COMPARISONS.contains(comparison)) {
+			if (!(expected instanceof String)
+					|| StringUtils.containsAny((String) expected, '%', '_')) { // like wildcards
+				return null;
+			}
+		}
+		String expectedString = String.valueOf(expected);
+		switch (comparison) {
+			case EQUALS: {
+				return object -> {
+					Object value = getter.apply(object);
+					return value != null && equals(value, expected);
+				};
+			}
+			case NOT_EQUALS: {
+				return object -> {
+					Object value = getter.apply(object);
+					return value == null || !equals(value, expected);
+				};
+			}
+			case START_WITH: {
+				return object -> {
+					Object value = getter.apply(object);
+					return value != null && ((String) value).startsWith(expectedString);
+				};
+			}
+			case NOT_START_WITH: {
+				return object -> {
+					Object value = getter.apply(object);
+					return value == null || !((String) value).startsWith(expectedString);
+				};
+			}
+			case END_WITH: {
+				return object -> {
+					Object value = getter.apply(object);
+					return value != null && ((String) value).endsWith(expectedString);
+				};
+			}
+			case NOT_END_WITH: {
+				return object -> {
+					Object value = getter.apply(object);
+					return value == null || !((String) value).endsWith(expectedString);
+				};
+			}
+			case CONTAINS: {
+				return object -> {
+					Object value = getter.apply(object);
+					return value != null && ((String) value).contains(expectedString);
+				};
+			}
+			case NOT_CONTAINS: {
+				return object -> {
+					Object value = getter.apply(object);
+					return value == null || !((String) value).contains(expectedString);
+				};
+			}
+			case LESS_THAN_OR_EQUAL: {
+				if (!(expected instanceof BigDecimal)) {
+					return null;
+				}
+				return object -> {
+					Object value = getter.apply(object);
+					return value != null && ((BigDecimal) value).compareTo((BigDecimal) expected) <= 0;
+				};
+			}
+			case GREATER_THAN_OR_EQUAL: {
+				if (!(expected instanceof BigDecimal)) {
+					return null;
+				}
+				return object -> {
+					Object value = getter.apply(object);
+					return value != null && ((BigDecimal) value).compareTo((BigDecimal) expected) >= 0;
+				};
+			}
+			default: {
+				return null;
+			}
+		}
+	}
+
+	private IdmFormAttributeDto getFormAttribute(IdmAutomaticRoleAttributeRuleDto rule) {
+		if (rule.getFormAttribute() == null) {
+			return null;
+		}
+		return DtoUtils.getEmbedded(rule, IdmAutomaticRoleAttributeRuleDto.PROPERTY_FORM_ATTRIBUTE, IdmFormAttributeDto.class, null);
+	}
+
+	/**
+	 * Cast rule value to attribute persistent type - the same as in sql criteria.
+	 *
+	 * @param rule rule
+	 * @param formAttribute form attribute
+	 * @return typed value
+	 */
+	private Serializable getFormValue(IdmAutomaticRoleAttributeRuleDto rule, IdmFormAttributeDto formAttribute) {
+		if (rule.getValue() == null) {
+			return null;
+		}
+		try {
+			IdmFormValueDto formValue = new IdmFormValueDto(formAttribute);
+			formValue.setValue(rule.getValue());
+			//
+			return formValue.getValue();
+		} catch (RuntimeException ex) {
+			LOG.debug("Value [{}] of rule [{}] cannot be cast to persistent type [{}].",
+					rule.getValue(), rule.getId(), formAttribute.getPersistentType(), ex);
+			return null;
+		}
+	}
+
+	private BigDecimal toNumber(Object value) {
+		if (value == null) {
+			return null;
+		}
+		if (value instanceof BigDecimal) {
+			return (BigDecimal) value;
+		}
+		return new BigDecimal(String.valueOf(value));
+	}
+
+	private boolean equals(Object value, Object expected) {
+		if (value instanceof BigDecimal && expected instanceof BigDecimal) {
+			return ((BigDecimal) value).compareTo((BigDecimal) expected) == 0;
+		}
+		return Objects.equals(value, expected);
+	}
+
+	private boolean isEmpty(Object value) {
+		return value == null || "".equals(value);
+	}
+
+	private Object getEntityValue(Object entity, Method readMethod) {
+		if (entity == null) {
+			return null;
+		}
+		try {
+			return readMethod.invoke(entity);
+		} catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException ex) {
+			throw new CoreException(String.format("Attribute [%s] cannot be read from [%s].", readMethod.getName(), entity.getClass()), ex);
+		}
+	}
+
+	/**
+	 * Snapshot of contract, its identity and their extended attribute values.
+	 *
+	 * @author Radek Tomiška
+	 * @since 11.1.0
+	 */
+	public static class Snapshot {
+
+		private final IdmIdentityContract contract;
+		private final Map<UUID, List<? extends AbstractFormValue<?>>> contractValues = new HashMap<>();
+		private final Map<UUID, List<? extends AbstractFormValue<?>>> identityValues = new HashMap<>();
+		private final Set<UUID> automaticRoles;
+
+		/**
+		 * Snapshot.
+		 *
+		 * @param contract contract
+		 * @param contractValues contract extended attribute values (attribute id => values)
+		 * @param identityValues identity extended attribute values (attribute id => values)
+		 * @param automaticRoles automatic roles already assigned to the contract
+		 */
+		public Snapshot(
+				IdmIdentityContract contract,
+				Map<UUID, ? extends List<? extends AbstractFormValue<?>>> contractValues,
+				Map<UUID, ? extends List<? extends AbstractFormValue<?>>> identityValues,
+				Set<UUID> automaticRoles) {
+			Assert.notNull(contract, "Contract is required.");
+			//
+			this.contract = contract;
+			if (contractValues != null) {
+				this.contractValues.putAll(contractValues);
+			}
+			if (identityValues != null) {
+				this.identityValues.putAll(identityValues);
+			}
+			this.automaticRoles = automaticRoles == null ? Collections.emptySet() : automaticRoles;
+		}
+
+		public IdmIdentityContract getContract() {
+			return contract;
+		}
+
+		public IdmIdentity getIdentity() {
+			return contract.getIdentity();
+		}
+
+		public List<? extends AbstractFormValue<?>> getContractValues(UUID formAttributeId) {
+			return contractValues.getOrDefault(formAttributeId, Collections.emptyList());
+		}
+
+		public List<? extends AbstractFormValue<?>> getIdentityValues(UUID formAttributeId) {
+			return identityValues.getOrDefault(formAttributeId, Collections.emptyList());
+		}
+
+		/**
+		 * Returns {@code true}, when given automatic role is already assigned to the contract.
+		 *
+		 * @param automaticRoleId automatic role identifier
+		 * @return true - assigned
+		 */
+		public boolean isAssigned(UUID automaticRoleId) {
+			return automaticRoles.contains(automaticRoleId);
+		}
+
+		/**
+		 * Contract is valid now or in future and is not disabled - new automatic roles can be assigned.
+		 *
+		 * @return true - valid
+		 */
+		public boolean isValidNowOrInFuture() {
+			LocalDate validTill = contract.getValidTill();
+			//
+			return (validTill == null || !validTill.isBefore(LocalDate.now())) && !contract.isDisabled();
+		}
+	}
+}
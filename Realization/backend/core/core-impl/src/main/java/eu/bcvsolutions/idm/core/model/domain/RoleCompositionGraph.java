@@ -0,0 +1,274 @@
+package eu.bcvsolutions.idm.core.model.domain;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.util.Assert;
+
+/**
+ * Immutable in-memory graph of role composition (business roles) and incompatible roles (segregation of duties).
+ *
+ * Roles used in composition or in incompatible role definition are indexed by dense integers. All sub roles
+ * (transitive closure) are precomputed for each role and incompatible roles are held as bitsets
+ * => sub roles and incompatible roles are resolved without database queries. Bitsets are allocated
+ * for roles with some sub role or incompatible role only (shared empty bitset is used otherwise)
+ * and are sized by the highest reached role index.
+ *
+ * Graph is built for one version - graph has to be rebuilt, when role composition or incompatible role is changed.
+ *
+ * @author Radek Tomiška
+ * @since 11.1.0
+ */
+public final class RoleCompositionGraph {
+
+	private static final BitSet EMPTY_ROLES = new BitSet(0); // shared - never modified
+	private static final int[] EMPTY_DEFINITIONS = new int[0];
+	//
+	private final UUID version;
+	private final Map<UUID, Integer> roleIndexes; // role id => index
+	private final UUID[] roles; // index => role id
+	private final BitSet[] subRoles; // index => all sub roles (transitive closure)
+	private final UUID[] incompatibleRoleIds; // definition index => incompatible role id
+	private final int[] incompatibleSuperiors; // definition index => superior role index
+	private final int[] incompatibleSubs; // definition index => sub role index
+	private final int[][] incompatibleRolesByRole; // role index => definition indexes (both sides)
+	private final BitSet[] incompatibleRoles; // role index => incompatible roles (both sides)
+
+	private RoleCompositionGraph(UUID version, Builder builder) {
+		this.version = version;
+		this.roleIndexes = Collections.unmodifiableMap(new HashMap<>(builder.roleIndexes));
+		this.roles = builder.roles.toArray(new UUID[builder.roles.size()]);
+		int roleCount = roles.length;
+		//
+		// direct sub roles - cyclic composition in the first level is ignored
+		Map<Integer, Set<Integer>> directSubRoles = new HashMap<>();
+		for (int[] composition : builder.compositions) {
+			if (composition[0] != composition[1]) {
+				directSubRoles.computeIfAbsent(composition[0], index -> new LinkedHashSet<>()).add(composition[1]);
+			}
+		}
+		this.subRoles = new BitSet[roleCount];
+		for (int index = 0; index < roleCount; index++) {
+			subRoles[index] = directSubRoles.containsKey(index) ? resolveSubRoles(index, directSubRoles) : EMPTY_ROLES;
+		}
+		//
+		// incompatible roles - the same role on both sides is ignored
+		int definitionCount = builder.incompatibleRoleIds.size();
+		this.incompatibleRoleIds = builder.incompatibleRoleIds.toArray(new UUID[definitionCount]);
+		this.incompatibleSuperiors = new int[definitionCount];
+		this.incompatibleSubs = new int[definitionCount];
+		Map<Integer, List<Integer>> definitionsByRole = new HashMap<>();
+		this.incompatibleRoles = new BitSet[roleCount];
+		for (int definition = 0; definition < definitionCount; definition++) {
+			int superior = builder.incompatibleRoles.get(definition)[0];
+			int sub = builder.incompatibleRoles.get(definition)[1];
+			incompatibleSuperiors[definition] = superior;
+			incompatibleSubs[definition] = sub;
+			if (superior == sub) {
+				continue;
+			}
+			definitionsByRole.computeIfAbsent(superior, index -> new ArrayList<>()).add(definition);
+			definitionsByRole.computeIfAbsent(sub, index -> new ArrayList<>()).add(definition);
+			if (incompatibleRoles[superior] == null) {
+				incompatibleRoles[superior] = new BitSet();
+			}
+			incompatibleRoles[superior].set(sub);
+			if (incompatibleRoles[sub] == null) {
+				incompatibleRoles[sub] = new BitSet();
+			}
+			incompatibleRoles[sub].set(superior);
+		}
+		this.incompatibleRolesByRole = new int[roleCount][];
+		for (int index = 0; index < roleCount; index++) {
+			if (incompatibleRoles[index] == null) {
+				incompatibleRoles[index] = EMPTY_ROLES;
+				incompatibleRolesByRole[index] = EMPTY_DEFINITIONS;
+			} else {
+				incompatibleRolesByRole[index] = definitionsByRole.get(index).stream().mapToInt(Integer::intValue).toArray();
+			}
+		}
+	}
+
+	/**
+	 * Graph version.
+	 *
+	 * @return version
+	 */
+	public UUID getVersion() {
+		return version;
+	}
+
+	/**
+	 * Returns all sub roles (all level in depth) of given role. Given role is not contained in result
+	 * (cyclic composition is ignored).
+	 *
+	 * @param superiorId superior role identifier
+	 * @return all sub roles identifiers, empty set, when role has no sub roles
+	 */
+	public Set<UUID> getSubRoles(UUID superiorId) {
+		Assert.notNull(superiorId, "Superior role identifier is required.");
+		//
+		Integer index = roleIndexes.get(superiorId);
+		if (index == null) {
+			return Collections.emptySet();
+		}
+		return toRoleIds(subRoles[index]);
+	}
+
+	/**
+	 * Resolve incompatible roles for given (e.g. assigned and requested) roles - given roles can be business roles.
+	 * Incompatible role definition is resolved, when both sides of definition are given roles or their sub roles.
+	 *
+	 * @param roleIds direct roles (e.g. assigned roles and roles in concepts)
+	 * @return direct role identifier => incompatible role (definition) identifiers, only direct roles with some incompatibility are returned
+	 */
+	public Map<UUID, Set<UUID>> resolveIncompatibleRoles(Collection<UUID> roleIds) {
+		Map<UUID, Set<UUID>> results = new HashMap<>();
+		if (roleIds == null || roleIds.isEmpty()) {
+			return results;
+		}
+		//
+		// direct roles with all sub roles
+		Map<UUID, BitSet> directRoles = new HashMap<>();
+		BitSet allRoles = new BitSet(); // sized by reached roles
+		for (UUID roleId : roleIds) {
+			Integer index = roleId == null ? null : roleIndexes.get(roleId);
+			if (index == null || directRoles.containsKey(roleId)) {
+				// role is not used in composition nor in incompatible roles
+				continue;
+			}
+			BitSet directRoleWithSubRoles = (BitSet) subRoles[index].clone();
+			directRoleWithSubRoles.set(index);
+			//
+			directRoles.put(roleId, directRoleWithSubRoles);
+			allRoles.or(directRoleWithSubRoles);
+		}
+		//
+		// both sides of incompatible roles have to be in all roles
+		directRoles.forEach((directRoleId, directRoleWithSubRoles) -> {
+			for (int role = directRoleWithSubRoles.nextSetBit(0); role >= 0; role = directRoleWithSubRoles.nextSetBit(role + 1)) {
+				if (!incompatibleRoles[role].intersects(allRoles)) {
+					continue;
+				}
+				for (int definition : incompatibleRolesByRole[role]) {
+					if (allRoles.get(incompatibleSuperiors[definition]) && allRoles.get(incompatibleSubs[definition])) {
+						results
+							.computeIfAbsent(directRoleId, id -> new HashSet<>())
+							.add(incompatibleRoleIds[definition]);
+					}
+				}
+			}
+		});
+		//
+		return results;
+	}
+
+	/**
+	 * Count of indexed roles - roles used in composition or in incompatible role definition.
+	 *
+	 * @return count of indexed roles
+	 */
+	public int getRoleCount() {
+		return roles.length;
+	}
+
+	private BitSet resolveSubRoles(int superior, Map<Integer, Set<Integer>> directSubRoles) {
+		BitSet results = new BitSet(); // sized by reached sub roles
+		List<Integer> stack = new ArrayList<>(directSubRoles.get(superior));
+		while (!stack.isEmpty()) {
+			int sub = stack.remove(stack.size() - 1);
+			if (results.get(sub)) {
+				continue;
+			}
+			results.set(sub);
+			stack.addAll(directSubRoles.getOrDefault(sub, Collections.emptySet()));
+		}
+		// cycle to original role
+		results.clear(superior);
+		//
+		return results;
+	}
+
+	private Set<UUID> toRoleIds(BitSet indexes) {
+		Set<UUID> results = new HashSet<>(indexes.cardinality());
+		for (int index = indexes.nextSetBit(0); index >= 0; index = indexes.nextSetBit(index + 1)) {
+			results.add(roles[index]);
+		}
+		return Collections.unmodifiableSet(results);
+	}
+
+	/**
+	 * Graph builder - not thread safe.
+	 *
+	 * @author Radek Tomiška
+	 * @since 11.1.0
+	 */
+	public static class Builder {
+
+		private final Map<UUID, Integer> roleIndexes = new HashMap<>();
+		private final List<UUID> roles = new ArrayList<>();
+		private final List<int[]> compositions = new ArrayList<>();
+		private final List<UUID> incompatibleRoleIds = new ArrayList<>();
+		private final List<int[]> incompatibleRoles = new ArrayList<>();
+
+		/**
+		 * Add role composition.
+		 *
+		 * @param superiorId superior role
+		 * @param subId sub role
+		 * @return builder
+		 */
+		public Builder addComposition(UUID superiorId, UUID subId) {
+			compositions.add(new int[] { getRoleIndex(superiorId), getRoleIndex(subId) });
+			//
+			return this;
+		}
+
+		/**
+		 * Add incompatible role definition.
+		 *
+		 * @param incompatibleRoleId incompatible role (definition) identifier
+		 * @param superiorId superior role
+		 * @param subId sub role
+		 * @return builder
+		 */
+		public Builder addIncompatibleRole(UUID incompatibleRoleId, UUID superiorId, UUID subId) {
+			Assert.notNull(incompatibleRoleId, "Incompatible role identifier is required.");
+			//
+			incompatibleRoleIds.add(incompatibleRoleId);
+			incompatibleRoles.add(new int[] { getRoleIndex(superiorId), getRoleIndex(subId) });
+			//
+			return this;
+		}
+
+		/**
+		 * Build graph with given version.
+		 *
+		 * @param version graph version
+		 * @return immutable graph
+		 */
+		public RoleCompositionGraph build(UUID version) {
+			Assert.notNull(version, "Graph version is required.");
+			//
+			return new RoleCompositionGraph(version, this);
+		}
+
+		private int getRoleIndex(UUID roleId) {
+			Assert.notNull(roleId, "Role identifier is required.");
+			//
+			return roleIndexes.computeIfAbsent(roleId, id -> {
+				roles.add(id);
+				return roles.size() - 1;
+			});
+		}
+	}
+}
@@ -41,7 +41,8 @@ import eu.bcvsolutions.idm.core.api.entity.OperationResult;
 		@Index(name = "idx_idm_entity_event_exe", columnList = "execute_date"),
 		@Index(name = "idx_idm_entity_event_inst", columnList = "instance_id"),
 		@Index(name = "idx_idm_entity_event_root", columnList = "root_id"),
-		@Index(name = "idx_idm_entity_event_trans_id", columnList = "transaction_id")})
+		@Index(name = "idx_idm_entity_event_trans_id", columnList = "transaction_id"),
+		@Index(name = "idx_idm_entity_event_hash", columnList = "content_hash")})
 public class IdmEntityEvent extends AbstractEntity {
 
 	private static final long serialVersionUID = 1L;
@@ -113,6 +114,10 @@ public class IdmEntityEvent extends AbstractEntity {
 	
 	@Embedded
 	private OperationResult result;
+	
+	@Size(max = 64)
+	@Column(name = "content_hash", length = 64)
+	private String contentHash; // event content fingerprint - used for duplicate events detection
 
 	public String getOwnerType() {
 		return ownerType;
@@ -291,4 +296,24 @@ public class IdmEntityEvent extends AbstractEntity {
 	public void setEventEnded(ZonedDateTime eventEnded) {
 		this.eventEnded = eventEnded;
 	}
+	
+	/**
+	 * Event content fingerprint - used for duplicate events detection.
+	 * 
+	 * @return fingerprint
+	 * @since 11.1.0
+	 */
+	public String getContentHash() {
+		return contentHash;
+	}
+	
+	/**
+	 * Event content fingerprint - used for duplicate events detection.
+	 * 
+	 * @param contentHash fingerprint
+	 * @since 11.1.0
+	 */
+	public void setContentHash(String contentHash) {
+		this.contentHash = contentHash;
+	}
 }
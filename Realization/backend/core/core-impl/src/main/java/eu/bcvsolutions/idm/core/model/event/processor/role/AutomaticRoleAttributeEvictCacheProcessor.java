@@ -0,0 +1,55 @@
+package eu.bcvsolutions.idm.core.model.event.processor.role;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Description;
+import org.springframework.stereotype.Component;
+
+import eu.bcvsolutions.idm.core.api.dto.IdmAutomaticRoleAttributeDto;
+import eu.bcvsolutions.idm.core.api.event.CoreEvent;
+import eu.bcvsolutions.idm.core.api.event.CoreEventProcessor;
+import eu.bcvsolutions.idm.core.api.event.DefaultEventResult;
+import eu.bcvsolutions.idm.core.api.event.EntityEvent;
+import eu.bcvsolutions.idm.core.api.event.EventResult;
+import eu.bcvsolutions.idm.core.model.event.AutomaticRoleAttributeEvent.AutomaticRoleAttributeEventType;
+import eu.bcvsolutions.idm.core.model.service.api.AutomaticRoleAttributeRuleEngineManager;
+
+/**
+ * Clear compiled rules of automatic roles by attribute, when automatic role is changed (CUD).
+ * 
+ * @author Radek Tomiška
+ * @since 11.1.0
+ */
+@Component(AutomaticRoleAttributeEvictCacheProcessor.PROCESSOR_NAME)
+@Description("Clear compiled rules of automatic roles by attribute, when automatic role is changed (CUD).")
+public class AutomaticRoleAttributeEvictCacheProcessor extends CoreEventProcessor<IdmAutomaticRoleAttributeDto> {
+
+	public static final String PROCESSOR_NAME = "core-automatic-role-attribute-evict-cache-processor";
+	//
+	@Autowired private AutomaticRoleAttributeRuleEngineManager automaticRoleAttributeRuleEngineManager;
+
+	public AutomaticRoleAttributeEvictCacheProcessor() {
+		super(AutomaticRoleAttributeEventType.CREATE, AutomaticRoleAttributeEventType.UPDATE, AutomaticRoleAttributeEventType.DELETE);
+	}
+
+	@Override
+	public String getName() {
+		return PROCESSOR_NAME;
+	}
+
+	@Override
+	public EventResult<IdmAutomaticRoleAttributeDto> process(EntityEvent<IdmAutomaticRoleAttributeDto> event) {
+		automaticRoleAttributeRuleEngineManager.evictEngine();
+		//
+		return new DefaultEventResult<>(event, this);
+	}
+	
+	@Override
+	public boolean isDisableable() {
+		return false;
+	}
+	
+	@Override
+	public int getOrder() {
+		return CoreEvent.DEFAULT_ORDER + 10;
+	}
+}
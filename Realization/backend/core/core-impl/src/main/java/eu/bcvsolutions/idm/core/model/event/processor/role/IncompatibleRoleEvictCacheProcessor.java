@@ -0,0 +1,53 @@
+package eu.bcvsolutions.idm.core.model.event.processor.role;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Description;
+import org.springframework.stereotype.Component;
+
+import eu.bcvsolutions.idm.core.api.dto.IdmIncompatibleRoleDto;
+import eu.bcvsolutions.idm.core.api.event.CoreEvent;
+import eu.bcvsolutions.idm.core.api.event.CoreEventProcessor;
+import eu.bcvsolutions.idm.core.api.event.DefaultEventResult;
+import eu.bcvsolutions.idm.core.api.event.EntityEvent;
+import eu.bcvsolutions.idm.core.api.event.EventResult;
+import eu.bcvsolutions.idm.core.api.event.processor.IncompatibleRoleProcessor;
+import eu.bcvsolutions.idm.core.model.event.IncompatibleRoleEvent.IncompatibleRoleEventType;
+import eu.bcvsolutions.idm.core.model.service.api.RoleCompositionGraphManager;
+
+/**
+ * Evict role composition graph, when incompatible role is changed (CUD).
+ * 
+ * @author Radek Tomiška
+ * @since 11.1.0
+ */
+@Component(IncompatibleRoleEvictCacheProcessor.PROCESSOR_NAME)
+@Description("Evict role composition graph, when incompatible role is changed (CUD).")
+public class IncompatibleRoleEvictCacheProcessor 
+		extends CoreEventProcessor<IdmIncompatibleRoleDto> 
+		implements IncompatibleRoleProcessor {
+
+	public static final String PROCESSOR_NAME = "core-incompatible-role-evict-cache-processor";
+	//
+	@Autowired private RoleCompositionGraphManager roleCompositionGraphManager;
+
+	public IncompatibleRoleEvictCacheProcessor() {
+		super(IncompatibleRoleEventType.CREATE, IncompatibleRoleEventType.UPDATE, IncompatibleRoleEventType.DELETE);
+	}
+
+	@Override
+	public String getName() {
+		return PROCESSOR_NAME;
+	}
+
+	@Override
+	public EventResult<IdmIncompatibleRoleDto> process(EntityEvent<IdmIncompatibleRoleDto> event) {
+		roleCompositionGraphManager.evictGraph();
+		//
+		return new DefaultEventResult<>(event, this);
+	}
+	
+	@Override
+	public int getOrder() {
+		return CoreEvent.DEFAULT_ORDER + 10;
+	}
+}
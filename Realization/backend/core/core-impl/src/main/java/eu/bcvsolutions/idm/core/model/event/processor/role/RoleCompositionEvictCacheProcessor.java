@@ -14,6 +14,7 @@ import eu.bcvsolutions.idm.core.api.event.processor.RoleCompositionProcessor;
 import eu.bcvsolutions.idm.core.api.service.IdmCacheManager;
 import eu.bcvsolutions.idm.core.api.service.IdmRoleCompositionService;
 import eu.bcvsolutions.idm.core.model.event.RoleCompositionEvent.RoleCompositionEventType;
+import eu.bcvsolutions.idm.core.model.service.api.RoleCompositionGraphManager;
 
 /**
  * Clear sub role cache, when  role composition is changed (CUD).
@@ -30,6 +31,7 @@ public class RoleCompositionEvictCacheProcessor
 	public static final String PROCESSOR_NAME = "core-role-composition-evict-cache-processor";
 	//
 	@Autowired private IdmCacheManager cacheManager;
+	@Autowired private RoleCompositionGraphManager roleCompositionGraphManager;
 
 	public RoleCompositionEvictCacheProcessor() {
 		super(RoleCompositionEventType.CREATE, RoleCompositionEventType.UPDATE, RoleCompositionEventType.DELETE);
@@ -44,6 +46,7 @@ public class RoleCompositionEvictCacheProcessor
 	public EventResult<IdmRoleCompositionDto> process(EntityEvent<IdmRoleCompositionDto> event) {
 		// evict all cached sub roles
 		cacheManager.evictCache(IdmRoleCompositionService.ALL_SUB_ROLES_CACHE_NAME);
+		roleCompositionGraphManager.evictGraph();
 		//
 		return new DefaultEventResult<>(event, this);
 	}
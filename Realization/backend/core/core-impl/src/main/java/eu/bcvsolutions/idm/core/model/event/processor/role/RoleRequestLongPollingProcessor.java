@@ -0,0 +1,63 @@
+package eu.bcvsolutions.idm.core.model.event.processor.role;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Description;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import eu.bcvsolutions.idm.core.api.dto.IdmIdentityDto;
+import eu.bcvsolutions.idm.core.api.dto.IdmRoleRequestDto;
+import eu.bcvsolutions.idm.core.api.event.CoreEventProcessor;
+import eu.bcvsolutions.idm.core.api.event.DefaultEventResult;
+import eu.bcvsolutions.idm.core.api.event.EntityEvent;
+import eu.bcvsolutions.idm.core.api.event.EventResult;
+import eu.bcvsolutions.idm.core.api.event.processor.RoleRequestProcessor;
+import eu.bcvsolutions.idm.core.model.event.RoleRequestEvent.RoleRequestEventType;
+import eu.bcvsolutions.idm.core.model.service.api.LongPollingManager;
+
+/**
+ * Notify applicant's long polling subscribers about changed role request (~ unresolved requests on identity detail).
+ *
+ * @author Radek Tomiška
+ * @since 11.1.0
+ */
+@Component(RoleRequestLongPollingProcessor.PROCESSOR_NAME)
+@Description("Notify applicant's long polling subscribers about changed role request.")
+public class RoleRequestLongPollingProcessor extends CoreEventProcessor<IdmRoleRequestDto> implements RoleRequestProcessor {
+
+	public static final String PROCESSOR_NAME = "role-request-long-polling-processor";
+	//
+	private final LongPollingManager longPollingManager;
+
+	@Autowired
+	public RoleRequestLongPollingProcessor(LongPollingManager longPollingManager) {
+		super(RoleRequestEventType.CREATE, RoleRequestEventType.UPDATE, RoleRequestEventType.DELETE);
+		//
+		Assert.notNull(longPollingManager, "Manager is required.");
+		//
+		this.longPollingManager = longPollingManager;
+	}
+
+	@Override
+	public String getName() {
+		return PROCESSOR_NAME;
+	}
+
+	@Override
+	public boolean conditional(EntityEvent<IdmRoleRequestDto> event) {
+		return super.conditional(event) && event.getContent().getApplicant() != null;
+	}
+
+	@Override
+	public EventResult<IdmRoleRequestDto> process(EntityEvent<IdmRoleRequestDto> event) {
+		longPollingManager.notifyChange(IdmIdentityDto.class, event.getContent().getApplicant());
+		//
+		return new DefaultEventResult<>(event, this);
+	}
+
+	@Override
+	public int getOrder() {
+		// after save / delete
+		return super.getOrder() + 500;
+	}
+}
@@ -1,5 +1,7 @@
 package eu.bcvsolutions.idm.core.model.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 import javax.transaction.Transactional;
@@ -25,6 +27,17 @@ public interface IdmConfidentialStorageValueRepository extends AbstractEntityRep
 	 */
 	IdmConfidentialStorageValue findOneByOwnerIdAndOwnerTypeAndKey(UUID ownerId, String ownerType, String key);
 	
+	/**
+	 * Finds storage values by given owners and keys
+	 * 
+	 * @param ownerIds
+	 * @param ownerType
+	 * @param keys
+	 * @return
+	 * @since 11.1.0
+	 */
+	List<IdmConfidentialStorageValue> findByOwnerIdInAndOwnerTypeAndKeyIn(Collection<UUID> ownerIds, String ownerType, Collection<String> keys);
+	
 	/**
 	 * Deletes all values by given key from all owners
 	 * 
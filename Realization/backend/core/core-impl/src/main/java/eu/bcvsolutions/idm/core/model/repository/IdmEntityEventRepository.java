@@ -1,12 +1,16 @@
 package eu.bcvsolutions.idm.core.model.repository;
 
 import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
+import javax.persistence.LockModeType;
+
 import org.joda.time.DateTime;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -90,6 +94,71 @@ public interface IdmEntityEventRepository extends AbstractEntityRepository<IdmEn
 			@Param("exceptOwnerIds") List<UUID> exceptOwnerIds,
 			Pageable pageable);
 	
+	/**
+	 * Find created events to claim - events can be processed by any instance.
+	 * Events of owners with a running event (on any instance) are excluded (owner and super owner are checked).
+	 * 
+	 * @param state created state
+	 * @param runningState running state
+	 * @param executeDate
+	 * @param priority
+	 * @param pageable
+	 * @return events to claim
+	 * @since 11.1.0
+	 */
+	@Query(value = "SELECT e FROM #{#entityName} e WHERE"
+			+ " (e.executeDate is null or e.executeDate <= :executeDate)"
+			+ " AND"
+			+ " (:priority is null or e.priority = :priority)"
+			+ " AND"
+			+ " e.result.state = :state"
+			+ " AND"
+			+ " NOT EXISTS (SELECT r.id FROM #{#entityName} r WHERE r.result.state = :runningState"
+			+ " AND"
+			+ " (r.ownerId = e.ownerId OR r.superOwnerId = e.ownerId OR r.ownerId = e.superOwnerId OR r.superOwnerId = e.superOwnerId))")
+	Page<IdmEntityEvent> findToClaim(
+			@Param("state") OperationState state,
+			@Param("runningState") OperationState runningState,
+			@Param("executeDate") ZonedDateTime executeDate,
+			@Param("priority") PriorityType priority,
+			Pageable pageable);
+	
+	/**
+	 * Lock events in given states for given owners (owner or super owner is one of given owners).
+	 * Lock is held until transaction ends => events for the same owner are claimed sequentially (on all instances).
+	 * 
+	 * @param ownerIds owners and super owners
+	 * @param states event states
+	 * @return locked events
+	 * @since 11.1.0
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query(value = "SELECT e FROM #{#entityName} e WHERE"
+			+ " e.result.state IN (:states)"
+			+ " AND"
+			+ " (e.ownerId IN (:ownerIds) OR e.superOwnerId IN (:ownerIds))")
+	List<IdmEntityEvent> lockOwnerEvents(
+			@Param("ownerIds") Collection<UUID> ownerIds,
+			@Param("states") Collection<OperationState> states);
+	
+	/**
+	 * Change event state and instance atomically - event is updated, only if event is in the expected state.
+	 * 
+	 * @param id event identifier
+	 * @param state expected (current) state
+	 * @param newState new state
+	 * @param instanceId instance, which processes event
+	 * @return updated events count - 1: state is changed, 0: event is not in the expected state
+	 * @since 11.1.0
+	 */
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query("update #{#entityName} e set e.result.state = :newState, e.instanceId = :instanceId where e.id = :id and e.result.state = :state")
+	int changeState(
+			@Param("id") UUID id,
+			@Param("state") OperationState state,
+			@Param("newState") OperationState newState,
+			@Param("instanceId") String instanceId);
+	
 	/**
 	 * Returns children count for given parent
 	 * 
@@ -38,4 +38,13 @@ public interface IdmIncompatibleRoleRepository extends AbstractEntityRepository<
 	        + "WHERE "
 	        + "e.superior.id IN :roleIds OR e.sub.id IN :roleIds")
 	List<IdmIncompatibleRole> findAllByRoles(@Param("roleIds") List<UUID> roleIds);
+	
+	/**
+	 * Returns identifiers of all defined incompatible roles with superior and sub role identifiers - used for build role composition graph.
+	 * 
+	 * @return [id, superior id, sub id]
+	 * @since 11.1.0
+	 */
+	@Query(value = "SELECT e.id, e.superior.id, e.sub.id FROM #{#entityName} e")
+	List<Object[]> findAllSuperiorAndSubIds();
 }
@@ -1,5 +1,9 @@
 package eu.bcvsolutions.idm.core.model.repository;
 
+import java.util.List;
+
+import org.springframework.data.jpa.repository.Query;
+
 import eu.bcvsolutions.idm.core.api.repository.AbstractEntityRepository;
 import eu.bcvsolutions.idm.core.model.entity.IdmRoleComposition;
 
@@ -11,4 +15,12 @@ import eu.bcvsolutions.idm.core.model.entity.IdmRoleComposition;
  */
 public interface IdmRoleCompositionRepository extends AbstractEntityRepository<IdmRoleComposition> {
 	
+	/**
+	 * Returns superior and sub role identifiers of all compositions - used for build role composition graph.
+	 * 
+	 * @return [superior id, sub id]
+	 * @since 11.1.0
+	 */
+	@Query(value = "SELECT e.superior.id, e.sub.id FROM #{#entityName} e")
+	List<Object[]> findAllSuperiorAndSubIds();
 }
@@ -0,0 +1,40 @@
+package eu.bcvsolutions.idm.core.model.service.api;
+
+import eu.bcvsolutions.idm.core.api.CoreModule;
+import eu.bcvsolutions.idm.core.model.domain.AutomaticRoleAttributeRuleEngine;
+
+/**
+ * Compiled rules of automatic roles by attribute held in memory.
+ *
+ * Engine version is held in distributed cache - engine is recompiled on all nodes, when version is evicted.
+ * Compiled engine is held in local cache by version.
+ *
+ * @author Radek Tomiška
+ * @since 11.1.0
+ */
+public interface AutomaticRoleAttributeRuleEngineManager {
+
+	/**
+	 * Current engine version (distributed).
+	 */
+	String ENGINE_VERSION_CACHE_NAME = String.format("%s:automatic-role-rule-engine-version", CoreModule.MODULE_ID);
+
+	/**
+	 * Compiled engine by version (local).
+	 */
+	String ENGINE_CACHE_NAME = String.format("%s:automatic-role-rule-engine", CoreModule.MODULE_ID);
+
+	/**
+	 * Returns current engine with compiled rules of all automatic roles to process
+	 * (with at least one rule and not in concept state) - engine is compiled, if current version is not available.
+	 *
+	 * @return current engine
+	 */
+	AutomaticRoleAttributeRuleEngine getEngine();
+
+	/**
+	 * Evict current engine version on all nodes - engine will be recompiled, when engine will be needed.
+	 * Version is evicted immediately and again after current transaction is completed.
+	 */
+	void evictEngine();
+}
@@ -1,9 +1,11 @@
 package eu.bcvsolutions.idm.core.model.service.api;
 
 import java.time.ZonedDateTime;
+import java.util.UUID;
 
 import org.springframework.web.context.request.async.DeferredResult;
 
+import eu.bcvsolutions.idm.core.api.CoreModule;
 import eu.bcvsolutions.idm.core.api.dto.AbstractDto;
 import eu.bcvsolutions.idm.core.api.dto.OperationResultDto;
 import eu.bcvsolutions.idm.core.api.dto.filter.ModifiedFromFilter;
@@ -22,6 +24,12 @@ import eu.bcvsolutions.idm.core.rest.LongPollingSubscriber;
 public interface LongPollingManager {
 	
 	String LONG_POLLING_ENABLED_KEY = "idm.pub.app.long-polling.enabled";
+	/**
+	 * Last change version of subscribed entity (entity id -> uuid) - change is published for subscribers on all server instances.
+	 * 
+	 * @since 11.1.0
+	 */
+	String CHANGE_CACHE_NAME = String.format("%s:long-polling-change-cache", CoreModule.MODULE_ID);
 
 	/**
 	 * Add new deferred result for type and ID defined inner result.
@@ -31,12 +39,26 @@ public interface LongPollingManager {
 	void addSuspendedResult(DeferredResultWrapper result);
 
 	/**
-	 * Check deferred requests for given type
+	 * Check deferred requests for given type. 
+	 * Requests of changed subscribers (see {@link #notifyChange(Class, UUID)}) are completed, 
+	 * registered check callback is called for new or notified subscriber (initialize check state) and as safety fallback 
+	 * otherwise (when subscriber was not notified for a long while).
 	 * 
 	 * @param type
 	 */
 	void checkDeferredRequests(Class<? extends AbstractDto> type);
 
+	/**
+	 * Notify subscriber about changed entity - suspended requests for given type and entity are completed on the next check
+	 * without any database query. Change is published into distributed cache after current transaction is committed 
+	 * => subscribers registered on all server instances are notified.
+	 * 
+	 * @param type subscribed type (e.g. identity for role requests)
+	 * @param entityId subscribed entity identifier (e.g. identity id for role requests)
+	 * @since 11.1.0
+	 */
+	void notifyChange(Class<? extends AbstractDto> type, UUID entityId);
+
 	/**
 	 * If return false, then will be long-polling requests disabled. As default returns true.
 	 * 
@@ -0,0 +1,39 @@
+package eu.bcvsolutions.idm.core.model.service.api;
+
+import eu.bcvsolutions.idm.core.api.CoreModule;
+import eu.bcvsolutions.idm.core.model.domain.RoleCompositionGraph;
+
+/**
+ * Role composition graph (business roles and incompatible roles) held in memory.
+ * 
+ * Graph version is held in distributed cache - graph is rebuilt on all nodes, when version is evicted.
+ * Built graph is held in local cache by version.
+ * 
+ * @author Radek Tomiška
+ * @since 11.1.0
+ */
+public interface RoleCompositionGraphManager {
+	
+	/**
+	 * Current graph version (distributed).
+	 */
+	String GRAPH_VERSION_CACHE_NAME = String.format("%s:role-composition-graph-version", CoreModule.MODULE_ID);
+	
+	/**
+	 * Built graph by version (local).
+	 */
+	String GRAPH_CACHE_NAME = String.format("%s:role-composition-graph", CoreModule.MODULE_ID);
+	
+	/**
+	 * Returns current graph - graph is built, if current version is not available.
+	 * 
+	 * @return current graph
+	 */
+	RoleCompositionGraph getGraph();
+	
+	/**
+	 * Evict current graph version on all nodes - graph will be rebuilt, when graph will be needed.
+	 * Version is evicted immediately and again after current transaction is completed.
+	 */
+	void evictGraph();
+}
@@ -0,0 +1,142 @@
+package eu.bcvsolutions.idm.core.model.service.impl;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.Assert;
+
+import eu.bcvsolutions.idm.core.api.config.cache.domain.ValueWrapper;
+import eu.bcvsolutions.idm.core.api.dto.IdmAutomaticRoleAttributeDto;
+import eu.bcvsolutions.idm.core.api.dto.IdmAutomaticRoleAttributeRuleDto;
+import eu.bcvsolutions.idm.core.api.dto.filter.IdmAutomaticRoleAttributeRuleFilter;
+import eu.bcvsolutions.idm.core.api.service.EntityEventManager;
+import eu.bcvsolutions.idm.core.api.service.IdmAutomaticRoleAttributeRuleService;
+import eu.bcvsolutions.idm.core.api.service.IdmAutomaticRoleAttributeService;
+import eu.bcvsolutions.idm.core.api.service.IdmCacheManager;
+import eu.bcvsolutions.idm.core.model.domain.AutomaticRoleAttributeRuleEngine;
+import eu.bcvsolutions.idm.core.model.service.api.AutomaticRoleAttributeRuleEngineManager;
+
+/**
+ * Compiled rules of automatic roles by attribute held in local cache by version from distributed cache.
+ *
+ * @author Radek Tomiška
+ * @since 11.1.0
+ */
+@Service("automaticRoleAttributeRuleEngineManager")
+public class DefaultAutomaticRoleAttributeRuleEngineManager implements AutomaticRoleAttributeRuleEngineManager {
+
+	private static final org.slf4j.Logger LOG = org.slf4j.LoggerFactory.getLogger(DefaultAutomaticRoleAttributeRuleEngineManager.class);
+	private static final String ENGINE_VERSION_KEY = "version";
+	//
+	private final IdmAutomaticRoleAttributeRuleService automaticRoleAttributeRuleService;
+	private final IdmCacheManager cacheManager;
+	private final Object lock = new Object();
+	//
+	@Autowired @Lazy private IdmAutomaticRoleAttributeService automaticRoleAttributeService;
+	@Autowired @Lazy private EntityEventManager entityEventManager;
+
+	@Autowired
+	public DefaultAutomaticRoleAttributeRuleEngineManager(
+			IdmAutomaticRoleAttributeRuleService automaticRoleAttributeRuleService,
+			IdmCacheManager cacheManager) {
+		Assert.notNull(automaticRoleAttributeRuleService, "Service is required.");
+		Assert.notNull(cacheManager, "Cache manager is required.");
+		//
+		this.automaticRoleAttributeRuleService = automaticRoleAttributeRuleService;
+		this.cacheManager = cacheManager;
+	}
+
+	@Override
+	public AutomaticRoleAttributeRuleEngine getEngine() {
+		AutomaticRoleAttributeRuleEngine engine = getCachedEngine();
+		if (engine != null) {
+			return engine;
+		}
+		//
+		synchronized (lock) {
+			engine = getCachedEngine();
+			if (engine != null) {
+				return engine;
+			}
+			// new version is registered before data are loaded => version evicted in the mean time is not lost
+			UUID version = getVersion();
+			if (version == null) {
+				version = UUID.randomUUID();
+				cacheManager.cacheValue(ENGINE_VERSION_CACHE_NAME, ENGINE_VERSION_KEY, version);
+			}
+			engine = compileEngine(version);
+			// previous versions are not needed
+			cacheManager.evictCache(ENGINE_CACHE_NAME);
+			cacheManager.cacheValue(ENGINE_CACHE_NAME, version, engine);
+			//
+			return engine;
+		}
+	}
+
+	@Override
+	public void evictEngine() {
+		cacheManager.evictCache(ENGINE_VERSION_CACHE_NAME);
+		// engine can be compiled in the mean time with uncommitted data (e.g. by the same transaction, which can be rolled back)
+		entityEventManager.publishEvent(new EngineChangedEvent());
+	}
+
+	/**
+	 * Evict engine version after transaction is completed - committed or rolled back (or immediately without transaction).
+	 * Lookout: public method required for aop event listener only.
+	 *
+	 * @param event changed rules
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+	public void evictEngineVersion(EngineChangedEvent event) {
+		cacheManager.evictCache(ENGINE_VERSION_CACHE_NAME);
+	}
+
+	private AutomaticRoleAttributeRuleEngine getCachedEngine() {
+		UUID version = getVersion();
+		if (version == null) {
+			return null;
+		}
+		ValueWrapper value = cacheManager.getValue(ENGINE_CACHE_NAME, version);
+		if (value == null) {
+			return null;
+		}
+		return (AutomaticRoleAttributeRuleEngine) value.get();
+	}
+
+	private UUID getVersion() {
+		ValueWrapper value = cacheManager.getValue(ENGINE_VERSION_CACHE_NAME, ENGINE_VERSION_KEY);
+		if (value == null) {
+			return null;
+		}
+		return (UUID) value.get();
+	}
+
+	private AutomaticRoleAttributeRuleEngine compileEngine(UUID version) {
+		long start = System.currentTimeMillis();
+		// all automatic roles that has at least one rule and isn't in concept state
+		List<IdmAutomaticRoleAttributeDto> automaticRoles = automaticRoleAttributeService.findAllToProcess(null, null).getContent();
+		// all rules are loaded by one query
+		List<IdmAutomaticRoleAttributeRuleDto> rules = automaticRoleAttributeRuleService
+				.find(new IdmAutomaticRoleAttributeRuleFilter(), null)
+				.getContent();
+		AutomaticRoleAttributeRuleEngine engine = new AutomaticRoleAttributeRuleEngine(automaticRoles, rules);
+		//
+		LOG.debug("Rules of automatic roles [{}] were compiled in [{}]ms, version [{}].",
+				automaticRoles.size(), System.currentTimeMillis() - start, version);
+		return engine;
+	}
+
+	/**
+	 * Rules were changed - evict engine version after transaction is completed.
+	 *
+	 * @author Radek Tomiška
+	 * @since 11.1.0
+	 */
+	private static class EngineChangedEvent {
+	}
+}
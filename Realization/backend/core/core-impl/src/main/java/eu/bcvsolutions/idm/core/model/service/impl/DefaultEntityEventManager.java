@@ -1,8 +1,10 @@
 package eu.bcvsolutions.idm.core.model.service.impl;
 
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
@@ -11,6 +13,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.RejectedExecutionException;
@@ -20,8 +23,11 @@ import org.apache.commons.lang3.StringUtils;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationListener;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.GenericApplicationListener;
 import org.springframework.core.annotation.AnnotationAwareOrderComparator;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -30,9 +36,12 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.http.HttpStatus;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.Assert;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -40,6 +49,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.Objects;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
+import com.google.common.hash.Hashing;
 
 import eu.bcvsolutions.idm.core.api.config.cache.domain.ValueWrapper;
 import eu.bcvsolutions.idm.core.api.config.domain.EventConfiguration;
@@ -85,6 +95,7 @@ import eu.bcvsolutions.idm.core.api.service.EntityEventManager;
 import eu.bcvsolutions.idm.core.api.service.EntityStateManager;
 import eu.bcvsolutions.idm.core.api.service.IdmCacheManager;
 import eu.bcvsolutions.idm.core.api.service.IdmEntityEventService;
+import eu.bcvsolutions.idm.core.api.service.IdmEntityStateService;
 import eu.bcvsolutions.idm.core.api.service.LookupService;
 import eu.bcvsolutions.idm.core.api.service.ReadDtoService;
 import eu.bcvsolutions.idm.core.api.utils.AutowireHelper;
@@ -111,11 +122,20 @@ import eu.bcvsolutions.idm.core.security.api.utils.IdmAuthorityUtils;
  *
  */
 public class DefaultEntityEventManager implements EntityEventManager {
+	
+	/**
+	 * Completed processor states kept in state journal are persisted, when count of states reaches this size
+	 * (or when running or suspended state is persisted).
+	 * 
+	 * @since 11.1.0
+	 */
+	public static final int STATE_JOURNAL_FLUSH_SIZE = 50;
 
 	private static final org.slf4j.Logger LOG = org.slf4j.LoggerFactory.getLogger(DefaultEntityEventManager.class);
 	private static final ConcurrentHashMap<UUID, UUID> runningOwnerEvents = new ConcurrentHashMap<>();
 	private static final ConcurrentHashMap<UUID, List<LongRunningTaskExecutor<?>>> lrts = new ConcurrentHashMap<>();
 	private static final ConcurrentHashMap<UUID, Boolean> notifiedLrts = new ConcurrentHashMap<>();
+	private static final ConcurrentHashMap<UUID, StateJournal> stateJournals = new ConcurrentHashMap<>();
 	//
 	@Autowired private ApplicationContext context;
 	@Autowired private ApplicationEventPublisher publisher;
@@ -123,14 +143,20 @@ public class DefaultEntityEventManager implements EntityEventManager {
 	@Autowired private ObjectMapper mapper;
 	@Autowired private IdmCacheManager cacheManager;
 	@Autowired private EntityEventLock lock;
+	@Autowired private PlatformTransactionManager platformTransactionManager;
 	//
 	@Autowired @Lazy private EnabledEvaluator enabledEvaluator;
 	@Autowired @Lazy private IdmEntityEventService entityEventService;
+	@Autowired @Lazy private IdmEntityStateService entityStateService;
 	@Autowired @Lazy private EntityStateManager entityStateManager;
 	@Autowired @Lazy private SecurityService securityService;
 	@Autowired @Lazy private EventConfiguration eventConfiguration;
 	@Autowired @Lazy private LookupService lookupService;
 	@Autowired @Lazy private ConfigurationService configurationService;
+	//
+	// registered processors - ordered processors supporting content type
+	private final Map<Class<?>, List<EntityEventProcessor>> registeredProcessors = new ConcurrentHashMap<>();
+	private volatile List<EntityEventProcessor> processors = null;
 	
 	/**
 	 * Cancel all previously ran events
@@ -238,7 +264,7 @@ public class DefaultEntityEventManager implements EntityEventManager {
 				//
 				// prepared event is be executed
 				CoreEvent<IdmEntityEventDto> executeEvent = new CoreEvent<>(EntityEventType.EXECUTE, preparedEvent);
-				publisher.publishEvent(executeEvent);
+				dispatchEvent(executeEvent);
 				//
 				// fill original event result
 				E processedContent = (E) preparedEvent.getContent();
@@ -249,7 +275,7 @@ public class DefaultEntityEventManager implements EntityEventManager {
 				//
 				return completeEvent(event);
 			} else {
-				publisher.publishEvent(event); 
+				dispatchEvent(event); 
 				//
 				return completeEvent(event);
 			}
@@ -628,6 +654,19 @@ public class DefaultEntityEventManager implements EntityEventManager {
 				return;
 			}
 		}
+		// claim event from shared queue - event can be claimed by another instance in the meantime
+		boolean claimed = false;
+		if (eventConfiguration.isClaim() 
+				&& event.getId() != null 
+				&& event.getResult() != null 
+				&& event.getResult().getState() == OperationState.CREATED) {
+			if (!claimEvent(event)) {
+				removeRunningEvent(event);
+				// event will be processed in another scheduling or by another instance
+				return;
+			}
+			claimed = true;
+		}
 		// execute event in new thread asynchronously
 		try {
 			eventConfiguration.getExecutor().execute(new Runnable() {
@@ -650,6 +689,7 @@ public class DefaultEntityEventManager implements EntityEventManager {
 							securityService.getUsername(),
 							TransactionContextHolder.getContext().getTransactionId());
 					//
+					boolean stateJournal = openStateJournal(event);
 					try {
 						process(new CoreEvent<>(EntityEventType.EXECUTE, event));
 					} catch (Exception ex) {
@@ -697,6 +737,9 @@ public class DefaultEntityEventManager implements EntityEventManager {
 						
 					} finally {
 						LOG.trace("Event [{}] ends for owner with id [{}].", event.getId(), event.getOwnerId());
+						if (stateJournal) {
+							flushStateJournal(event.getId());
+						}
 						removeRunningEvent(event);
 					}
 				}
@@ -706,6 +749,10 @@ public class DefaultEntityEventManager implements EntityEventManager {
 		} catch (RejectedExecutionException ex) {
 			// thread pool queue is full - wait for another try
 			removeRunningEvent(event);
+			if (claimed) {
+				// return event back to shared queue
+				entityEventService.release(event.getId(), event.getInstanceId());
+			}
 		}
 	}
 	
@@ -772,11 +819,52 @@ public class DefaultEntityEventManager implements EntityEventManager {
 	}
 	
 	@Override
-	@Transactional(propagation = Propagation.REQUIRES_NEW)
 	public List<IdmEntityStateDto> saveStates(
 			EntityEvent<?> event, 
 			List<IdmEntityStateDto> previousStates,
 			EventResult<?> result) {
+		UUID eventId = getEventId(event);
+		StateJournal stateJournal = eventId == null ? null : stateJournals.get(eventId);
+		if (stateJournal == null) {
+			// states are persisted immediately in new transaction
+			TransactionTemplate template = new TransactionTemplate(platformTransactionManager);
+			template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+			//
+			return template.execute(status -> {
+				return saveStatesInternal(event, previousStates, result);
+			});
+		}
+		//
+		// completed states are kept in journal - transaction is not needed
+		List<IdmEntityStateDto> states = createStates(stateJournal.getEvent(), result);
+		stateJournal.saveStates(previousStates, states);
+		if (states.stream().allMatch(StateJournal::isJournaled)
+				&& stateJournal.size() < STATE_JOURNAL_FLUSH_SIZE) {
+			return states;
+		}
+		// running and suspended states are persisted immediately (visible in event states) - with states in journal
+		List<IdmEntityStateDto> persistedStates = persistStates(eventId, stateJournal);
+		if (persistedStates.size() < states.size()) {
+			// states cannot be persisted
+			return states;
+		}
+		//
+		return persistedStates.subList(persistedStates.size() - states.size(), persistedStates.size());
+	}
+	
+	/**
+	 * Persist processor states immediately - new transaction is expected.
+	 * 
+	 * @param event processed event
+	 * @param previousStates previous states of the same processor (e.g. running)
+	 * @param result processor result
+	 * @return persisted states
+	 * @since 11.1.0
+	 */
+	protected List<IdmEntityStateDto> saveStatesInternal(
+			EntityEvent<?> event, 
+			List<IdmEntityStateDto> previousStates,
+			EventResult<?> result) {
 		IdmEntityEventDto entityEvent = getEvent(event);
 		List<IdmEntityStateDto> results = new ArrayList<>();
 		if (entityEvent == null) {
@@ -789,21 +877,8 @@ public class DefaultEntityEventManager implements EntityEventManager {
 			});
 		}
 		//
-		if (result == null) {
-			IdmEntityStateDto state = new IdmEntityStateDto(entityEvent);
-			// default result without model
-			state.setResult(new OperationResultDto
-					.Builder(OperationState.EXECUTED)
-					.build());
+		createStates(entityEvent, result).forEach(state -> {
 			results.add(entityStateManager.saveState(null, state));
-			return results;
-		}
-		if (result.getResults().isEmpty()) {
-			results.add(entityStateManager.saveState(null, createState(entityEvent, result, new OperationResultDto.Builder(OperationState.EXECUTED).build())));
-			return results;
-		}
-		result.getResults().forEach(opeartionResult -> {
-			results.add(entityStateManager.saveState(null, createState(entityEvent, result, opeartionResult.toDto())));
 		});
 		//
 		return results;
@@ -849,17 +924,84 @@ public class DefaultEntityEventManager implements EntityEventManager {
 	@Override
 	@SuppressWarnings({ "unchecked", "rawtypes" })
 	public List<EntityEventProcessor> getEnabledProcessors(EntityEvent<?> event) {
-		return context
-				.getBeansOfType(EntityEventProcessor.class)
-				.values()
+		Assert.notNull(event, "Event is required.");
+		Assert.notNull(event.getContent(), "Entity event does not contain content, content is required!");
+		//
+		return getRegisteredProcessors(event.getContent().getClass())
 				.stream()
 				.filter(enabledEvaluator::isEnabled)
 				.filter(processor -> !processor.isDisabled())
 				.filter(processor -> processor.supports(event))
-				.sorted(new AnnotationAwareOrderComparator())
 				.collect(Collectors.toList());
 	}
 	
+	/**
+	 * Dispatch event to registered processors directly - event is not broadcasted to all application listeners. 
+	 * Processors are called in the same order as application listeners.
+	 * Processor checks, if event is supported and if processor (and module) is enabled - configuration can be changed on the fly.
+	 * 
+	 * @param event processed event
+	 * @since 11.1.0
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	protected void dispatchEvent(EntityEvent<?> event) {
+		if (!(event instanceof ApplicationEvent) || event.getContent() == null) {
+			// not registered event type - standard spring publisher is used
+			publisher.publishEvent(event);
+			return;
+		}
+		ApplicationEvent applicationEvent = (ApplicationEvent) event;
+		Class<?> contentType = event.getContent().getClass();
+		//
+		for (EntityEventProcessor processor : getRegisteredProcessors(contentType)) {
+			if (event.isClosed() || event.isSuspended()) {
+				// other processors will be skipped
+				LOG.debug("Event [{}] is closed or suspended, other processors will be skipped.", event);
+				break;
+			}
+			if (!(processor instanceof ApplicationListener)) {
+				// processor is not listener => cannot be called from spring publisher
+				continue;
+			}
+			if (processor instanceof GenericApplicationListener
+					&& !((GenericApplicationListener) processor).supportsSourceType(contentType)) {
+				continue;
+			}
+			((ApplicationListener) processor).onApplicationEvent(applicationEvent);
+		}
+	}
+	
+	/**
+	 * Processors registered for given content type. Processors are ordered.
+	 * Registry is initialized for each content type once - processors are singletons registered on startup.
+	 * 
+	 * @param contentType event content type
+	 * @return ordered processors
+	 * @since 11.1.0
+	 */
+	@SuppressWarnings("rawtypes")
+	protected List<EntityEventProcessor> getRegisteredProcessors(Class<?> contentType) {
+		return registeredProcessors.computeIfAbsent(contentType, type -> {
+			return getProcessors()
+					.stream()
+					.filter(processor -> processor.getEntityClass() == null || processor.getEntityClass().isAssignableFrom(type))
+					.collect(Collectors.toList());
+		});
+	}
+	
+	@SuppressWarnings("rawtypes")
+	private List<EntityEventProcessor> getProcessors() {
+		if (processors == null) {
+			processors = context
+					.getBeansOfType(EntityEventProcessor.class)
+					.values()
+					.stream()
+					.sorted(new AnnotationAwareOrderComparator())
+					.collect(Collectors.toList());
+		}
+		return processors;
+	}
+	
 	/**
 	 * Propagate properties from parent to child event.
 	 * Properties need for internal event processing are ignored (see {@link EntityEvent} properties). 
@@ -1036,25 +1178,40 @@ public class DefaultEntityEventManager implements EntityEventManager {
 	protected List<IdmEntityEventDto> getCreatedEvents(String instanceId) {
 		Assert.notNull(instanceId, "Server instance identifier is required.");
 		//
-		// already running owners are excluded (super owner is excluded too)
-		List<UUID> exceptOwnerIds = Lists.newArrayList(runningOwnerEvents.keySet());
-		exceptOwnerIds = exceptOwnerIds.subList(0, exceptOwnerIds.size() > 500 ? 500 : exceptOwnerIds.size()); // prevent sql queue size is exceeded
-		//
-		// load created events - high priority
 		ZonedDateTime executeDate = ZonedDateTime.now();
-		Page<IdmEntityEventDto> highEvents = entityEventService.findToExecute(
-				instanceId,
-				executeDate,
-				PriorityType.HIGH,
-				exceptOwnerIds,
-				PageRequest.of(0, eventConfiguration.getBatchSize(), new Sort(Direction.ASC, Auditable.PROPERTY_CREATED)));
-		// load created events - low priority
-		Page<IdmEntityEventDto> normalEvents = entityEventService.findToExecute(
-				instanceId,
-				executeDate,
-				PriorityType.NORMAL,
-				exceptOwnerIds,
-				PageRequest.of(0, eventConfiguration.getBatchSize(), new Sort(Direction.ASC, Auditable.PROPERTY_CREATED)));
+		boolean claim = eventConfiguration.isClaim();
+		Page<IdmEntityEventDto> highEvents;
+		Page<IdmEntityEventDto> normalEvents;
+		if (claim) {
+			// shared queue - owners with running event (on all instances) are excluded in database => running owners are not limited
+			highEvents = entityEventService.findToClaim(
+					executeDate,
+					PriorityType.HIGH,
+					PageRequest.of(0, eventConfiguration.getBatchSize(), new Sort(Direction.ASC, Auditable.PROPERTY_CREATED)));
+			normalEvents = entityEventService.findToClaim(
+					executeDate,
+					PriorityType.NORMAL,
+					PageRequest.of(0, eventConfiguration.getBatchSize(), new Sort(Direction.ASC, Auditable.PROPERTY_CREATED)));
+		} else {
+			// already running owners are excluded (super owner is excluded too)
+			List<UUID> exceptOwnerIds = Lists.newArrayList(runningOwnerEvents.keySet());
+			exceptOwnerIds = exceptOwnerIds.subList(0, exceptOwnerIds.size() > 500 ? 500 : exceptOwnerIds.size()); // prevent sql queue size is exceeded
+			//
+			// load created events - high priority
+			highEvents = entityEventService.findToExecute(
+					instanceId,
+					executeDate,
+					PriorityType.HIGH,
+					exceptOwnerIds,
+					PageRequest.of(0, eventConfiguration.getBatchSize(), new Sort(Direction.ASC, Auditable.PROPERTY_CREATED)));
+			// load created events - low priority
+			normalEvents = entityEventService.findToExecute(
+					instanceId,
+					executeDate,
+					PriorityType.NORMAL,
+					exceptOwnerIds,
+					PageRequest.of(0, eventConfiguration.getBatchSize(), new Sort(Direction.ASC, Auditable.PROPERTY_CREATED)));
+		}
 		// merge events
 		List<IdmEntityEventDto> events = new ArrayList<>();
 		events.addAll(highEvents.getContent());
@@ -1073,29 +1230,16 @@ public class DefaultEntityEventManager implements EntityEventManager {
 				// cancel duplicate older event 
 				IdmEntityEventDto olderEvent = distinctEvents.get(event.getOwnerId());
 				if (isDuplicate(olderEvent, event)) {
-					// try to set higher priority
-					if (olderEvent.getPriority() == PriorityType.HIGH) {
-						event.setPriority(PriorityType.HIGH);
-					}
 					distinctEvents.put(event.getOwnerId(), event);
-					//
-					LOG.debug(new DefaultResultModel(
-							CoreResultCode.EVENT_DUPLICATE_CANCELED, 
-							ImmutableMap.of(
-									"eventId", olderEvent.getId(), 
-									"eventType", String.valueOf(olderEvent.getEventType()),
-									"ownerId", String.valueOf(olderEvent.getOwnerId()),
-									"instanceId", String.valueOf(olderEvent.getInstanceId()),
-									"neverEventId", event.getId())).toString());
-					//
-					IdmEntityEventFilter eventFilter = new IdmEntityEventFilter();
-					eventFilter.setParentId(olderEvent.getId());
-					if (entityEventService.find(eventFilter, PageRequest.of(0, 1)).getTotalElements() == 0) {
-						deleteEvent(olderEvent);
-					}
+					cancelDuplicate(olderEvent, event, claim);
 				}
 			}
 		});
+		//
+		// cancel older duplicates in the whole queue (e.g. with different priority - not loaded in this batch)
+		if (highEvents.hasNext() || normalEvents.hasNext()) {
+			cancelQueuedDuplicates(instanceId, executeDate, events, distinctEvents.values(), claim);
+		}
 		// 
 		// sort by priority
 		events = distinctEvents
@@ -1132,9 +1276,109 @@ public class DefaultEntityEventManager implements EntityEventManager {
 		return prioritizedEvents;
 	}
 	
+	/**
+	 * Cancel older created events in the whole queue, which are duplicates of given events to execute.
+	 * Duplicates are found by owner and content fingerprint (indexed equality query).
+	 * 
+	 * @param instanceId server instance identifier
+	 * @param executeDate events with execute date till this date can be canceled only
+	 * @param loadedEvents events loaded in processed batch - duplicates in batch are canceled already
+	 * @param events events to execute
+	 * @param claim true - shared queue is used
+	 */
+	private void cancelQueuedDuplicates(
+			String instanceId,
+			ZonedDateTime executeDate,
+			List<IdmEntityEventDto> loadedEvents,
+			Collection<IdmEntityEventDto> events,
+			boolean claim) {
+		Set<UUID> loadedEventIds = loadedEvents
+				.stream()
+				.map(IdmEntityEventDto::getId)
+				.collect(Collectors.toSet());
+		//
+		events
+			.stream()
+			.filter(event -> event.getContentHash() != null)
+			.forEach(event -> {
+				IdmEntityEventFilter filter = new IdmEntityEventFilter();
+				filter.setOwnerId(event.getOwnerId());
+				filter.setContentHashes(Lists.newArrayList(event.getContentHash()));
+				filter.setStates(Lists.newArrayList(OperationState.CREATED));
+				//
+				entityEventService
+					.find(filter, PageRequest.of(0, eventConfiguration.getBatchSize(), new Sort(Direction.ASC, Auditable.PROPERTY_CREATED)))
+					.forEach(olderEvent -> {
+						if (loadedEventIds.contains(olderEvent.getId()) // processed in batch already
+								|| !olderEvent.getCreated().isBefore(event.getCreated()) // newer event will be executed later
+								|| (olderEvent.getExecuteDate() != null && olderEvent.getExecuteDate().isAfter(executeDate))
+								|| (!claim && !Objects.equal(olderEvent.getInstanceId(), instanceId))) { // event of another instance
+							return;
+						}
+						cancelDuplicate(olderEvent, event, claim);
+					});
+			});
+	}
+	
+	/**
+	 * Cancel (delete) older duplicate event - newer event will be executed instead.
+	 * Older event is not deleted, if it has child events or it was claimed by another instance.
+	 * 
+	 * @param olderEvent duplicate older event
+	 * @param event newer event
+	 * @param claim true - shared queue is used
+	 */
+	private void cancelDuplicate(IdmEntityEventDto olderEvent, IdmEntityEventDto event, boolean claim) {
+		// try to set higher priority
+		if (olderEvent.getPriority() == PriorityType.HIGH) {
+			event.setPriority(PriorityType.HIGH);
+		}
+		//
+		LOG.debug(new DefaultResultModel(
+				CoreResultCode.EVENT_DUPLICATE_CANCELED, 
+				ImmutableMap.of(
+						"eventId", olderEvent.getId(), 
+						"eventType", String.valueOf(olderEvent.getEventType()),
+						"ownerId", String.valueOf(olderEvent.getOwnerId()),
+						"instanceId", String.valueOf(olderEvent.getInstanceId()),
+						"neverEventId", event.getId())).toString());
+		//
+		IdmEntityEventFilter eventFilter = new IdmEntityEventFilter();
+		eventFilter.setParentId(olderEvent.getId());
+		if (entityEventService.find(eventFilter, PageRequest.of(0, 1)).getTotalElements() == 0
+				&& (!claim || claimEvent(olderEvent))) { // shared queue - older event can be claimed by another instance in the meantime
+			deleteEvent(olderEvent);
+		}
+	}
+	
+	@Override
+	public String getContentHash(IdmEntityEventDto event) {
+		Assert.notNull(event, "Event is required.");
+		//
+		Identifiable originalSource = event.getOriginalSource();
+		if (originalSource != null && !(originalSource instanceof AbstractDto)) {
+			// Only DTOs can be compared as json.
+			return null;
+		}
+		try {
+			Map<String, Object> content = new LinkedHashMap<>(4);
+			content.put("eventType", event.getEventType());
+			content.put("parentEventType", event.getParentEventType());
+			content.put("properties", event.getProperties() == null ? null : new TreeMap<>(getProperties(event).toMap()));
+			content.put("originalSource", originalSource == null ? null : getComparableSource((AbstractDto) originalSource));
+			//
+			return Hashing.sha256().hashString(mapper.writeValueAsString(content), StandardCharsets.UTF_8).toString();
+		} catch (JsonProcessingException | ReflectiveOperationException ex) {
+			LOG.debug("Computing fingerprint of event [{}] failed - duplicates will be compared by event content.", event, ex);
+			//
+			return null;
+		}
+	}
+	
 	/**
 	 * Returns true, when events are duplicates
-	 * - event type, parent event type, properties and original source is compared => all properties, which can be used in processors. 
+	 * - event type, parent event type, properties and original source is compared => all properties, which can be used in processors.
+	 * Content fingerprints are compared, if fingerprints are computed for both events (computed, when event is persisted).
 	 * 
 	 * @param olderEvent
 	 * @param event
@@ -1144,6 +1388,10 @@ public class DefaultEntityEventManager implements EntityEventManager {
 		Assert.notNull(olderEvent, "Older event is required.");
 		Assert.notNull(event, "Event is required.");
 		//
+		if (olderEvent.getContentHash() != null && event.getContentHash() != null) {
+			return olderEvent.getContentHash().equals(event.getContentHash());
+		}
+		// Fingerprint is not available (e.g. events persisted in previous version) => events are compared by content.
 		boolean result = Objects.equal(olderEvent.getEventType(), event.getEventType())
 				&& Objects.equal(olderEvent.getParentEventType(), event.getParentEventType())
 				&& Objects.equal(getProperties(olderEvent), getProperties(event));
@@ -1167,20 +1415,8 @@ public class DefaultEntityEventManager implements EntityEventManager {
 		AbstractDto olderOriginalSource = (AbstractDto) olderEvent.getOriginalSource();
 		AbstractDto originalSource = (AbstractDto) event.getOriginalSource();
 		try {
-			// Prevent to change event setting => defensive copy by mapper.
-			AbstractDto olderOriginalSourceCopy = olderOriginalSource.getClass().getDeclaredConstructor().newInstance();
-			modelMapper.map(olderOriginalSource, olderOriginalSourceCopy);
-			AbstractDto originalSourceCopy = originalSource.getClass().getDeclaredConstructor().newInstance();
-			modelMapper.map(originalSource, originalSourceCopy);
-			// Embedded is ignored.
-			olderOriginalSourceCopy.setEmbedded(null);
-			originalSourceCopy.setEmbedded(null);
-			// Audit fields are ignored.
-			DtoUtils.clearAuditFields(olderOriginalSourceCopy);
-			DtoUtils.clearAuditFields(originalSourceCopy);
-			//
-			return mapper.writeValueAsString(olderOriginalSourceCopy)
-					.equals(mapper.writeValueAsString(originalSourceCopy));
+			return mapper.writeValueAsString(getComparableSource(olderOriginalSource))
+					.equals(mapper.writeValueAsString(getComparableSource(originalSource)));
 		} catch (JsonProcessingException | ReflectiveOperationException ex) {
 			LOG.warn("Comparing json for checking duplicate events failed - both events [{}]-[{}] will be executed!", 
 					olderEvent, event, ex);
@@ -1189,6 +1425,50 @@ public class DefaultEntityEventManager implements EntityEventManager {
 		}
 	}
 	
+	/**
+	 * Claim created event from shared queue to be processed by this instance.
+	 * 
+	 * @param event created event
+	 * @return true - event is claimed, false - event is claimed by another instance or another event for the same owner is running
+	 */
+	private boolean claimEvent(IdmEntityEventDto event) {
+		String instanceId = eventConfiguration.getAsynchronousInstanceId();
+		try {
+			if (entityEventService.claim(event, instanceId)) {
+				event.setInstanceId(instanceId);
+				//
+				return true;
+			}
+		} catch (Exception ex) {
+			// lock cannot be acquired (e.g. deadlock detected) - event will be claimed in another scheduling
+			LOG.debug("Claiming event [{}] for owner with id [{}] failed.", event.getId(), event.getOwnerId(), ex);
+			//
+			return false;
+		}
+		LOG.debug("Event [{}] for owner with id [{}] was not claimed by instance [{}].", event.getId(), event.getOwnerId(), instanceId);
+		//
+		return false;
+	}
+	
+	/**
+	 * Original source copy without embedded and audit fields. 
+	 * 
+	 * @param originalSource event original source
+	 * @return copy used for comparing
+	 * @throws ReflectiveOperationException if copy cannot be constructed
+	 */
+	private AbstractDto getComparableSource(AbstractDto originalSource) throws ReflectiveOperationException {
+		// Prevent to change event setting => defensive copy by mapper.
+		AbstractDto originalSourceCopy = originalSource.getClass().getDeclaredConstructor().newInstance();
+		modelMapper.map(originalSource, originalSourceCopy);
+		// Embedded is ignored.
+		originalSourceCopy.setEmbedded(null);
+		// Audit fields are ignored.
+		DtoUtils.clearAuditFields(originalSourceCopy);
+		//
+		return originalSourceCopy;
+	}
+	
 	private void removeRunningEvent(IdmEntityEventDto event) {
 		runningOwnerEvents.remove(event.getOwnerId());
 		UUID superOwnerId = event.getSuperOwnerId();
@@ -1329,6 +1609,92 @@ public class DefaultEntityEventManager implements EntityEventManager {
 		return copiedProperies;
 	}
 	
+	/**
+	 * Open state journal for given asynchronous event - processor states will be kept in memory until event ends.
+	 * 
+	 * @param event persisted asynchronous event
+	 * @return true - journal was opened and has to be flushed, when event ends
+	 * @since 11.1.0
+	 */
+	protected boolean openStateJournal(IdmEntityEventDto event) {
+		if (event.getId() == null || !eventConfiguration.isStateJournal()) {
+			return false;
+		}
+		//
+		return stateJournals.putIfAbsent(event.getId(), new StateJournal(event)) == null;
+	}
+	
+	/**
+	 * Persist processor states remaining in state journal - all states are persisted together.
+	 * Journal is closed.
+	 * 
+	 * @param eventId persisted asynchronous event
+	 * @since 11.1.0
+	 */
+	protected void flushStateJournal(UUID eventId) {
+		StateJournal stateJournal = stateJournals.remove(eventId);
+		if (stateJournal == null) {
+			return;
+		}
+		persistStates(eventId, stateJournal);
+	}
+	
+	/**
+	 * Persist journal states together (in one new transaction by JDBC batch) - replaced persisted states are deleted.
+	 * Journal is drained.
+	 * 
+	 * @param eventId persisted asynchronous event
+	 * @param stateJournal state journal
+	 * @return persisted states (in journal order), empty list, when states cannot be persisted
+	 */
+	private List<IdmEntityStateDto> persistStates(UUID eventId, StateJournal stateJournal) {
+		List<IdmEntityStateDto> previousStates = stateJournal.drainPreviousStates();
+		List<IdmEntityStateDto> states = stateJournal.drainStates();
+		if (previousStates.isEmpty() && states.isEmpty()) {
+			return states;
+		}
+		states.forEach(state -> {
+			if (state.getInstanceId() == null) {
+				state.setInstanceId(configurationService.getInstanceId());
+			}
+		});
+		try {
+			return entityStateService.replaceStates(previousStates, states);
+		} catch (Exception ex) {
+			// event result is persisted already => states are not required
+			LOG.error("Processor states of event [{}] cannot be persisted.", eventId, ex);
+			//
+			return new ArrayList<>();
+		}
+	}
+	
+	/**
+	 * New processor states by given processor result.
+	 * 
+	 * @param entityEvent persisted event
+	 * @param result processor result
+	 * @return new states
+	 */
+	private List<IdmEntityStateDto> createStates(IdmEntityEventDto entityEvent, EventResult<?> result) {
+		List<IdmEntityStateDto> states = new ArrayList<>();
+		if (result == null) {
+			IdmEntityStateDto state = new IdmEntityStateDto(entityEvent);
+			// default result without model
+			state.setResult(new OperationResultDto
+					.Builder(OperationState.EXECUTED)
+					.build());
+			states.add(state);
+		} else if (result.getResults().isEmpty()) {
+			states.add(createState(entityEvent, result, new OperationResultDto.Builder(OperationState.EXECUTED).build()));
+		} else {
+			result.getResults().forEach(opeartionResult -> {
+				states.add(createState(entityEvent, result, opeartionResult.toDto()));
+			});
+		}
+		//
+		return states;
+	}
+	
 	private <E extends Serializable> IdmEntityStateDto createState(
 			IdmEntityEventDto entityEvent, 
 			EventResult<E> eventResult, 
@@ -1607,4 +1973,91 @@ public class DefaultEntityEventManager implements EntityEventManager {
 			return lrt;
 		}
 	}
+	
+	/**
+	 * Completed processor states of one asynchronous event kept in memory until they are flushed
+	 * (running or suspended state is persisted, count of states reaches {@link DefaultEntityEventManager#STATE_JOURNAL_FLUSH_SIZE} or event ends).
+	 * Running and suspended states are persisted immediately - persisted running states replaced by completed states are deleted,
+	 * when journal is flushed.
+	 * Event is processed by one thread.
+	 * 
+	 * @author Radek Tomiška
+	 * @since 11.1.0
+	 */
+	private static class StateJournal {
+		
+		private final IdmEntityEventDto event;
+		private List<IdmEntityStateDto> states = new ArrayList<>();
+		private List<IdmEntityStateDto> previousStates = new ArrayList<>();
+		
+		public StateJournal(IdmEntityEventDto event) {
+			this.event = event;
+		}
+		
+		public IdmEntityEventDto getEvent() {
+			return event;
+		}
+		
+		/**
+		 * Replace previous states (e.g. running) with the new states.
+		 * 
+		 * @param previousStates previous states of the same processor
+		 * @param newStates new states
+		 */
+		public void saveStates(List<IdmEntityStateDto> previousStates, List<IdmEntityStateDto> newStates) {
+			if (previousStates != null) {
+				previousStates.forEach(previousState -> {
+					// simple drop, if state is not persisted yet
+					if (!states.removeIf(state -> state == previousState)) {
+						this.previousStates.add(previousState);
+					}
+				});
+			}
+			states.addAll(newStates);
+		}
+		
+		/**
+		 * Count of states in journal (new and replaced).
+		 * 
+		 * @return count of states
+		 */
+		public int size() {
+			return states.size() + previousStates.size();
+		}
+		
+		/**
+		 * Remove new states from journal.
+		 * 
+		 * @return removed states
+		 */
+		public List<IdmEntityStateDto> drainStates() {
+			List<IdmEntityStateDto> drainedStates = states;
+			states = new ArrayList<>();
+			//
+			return drainedStates;
+		}
+		
+		/**
+		 * Remove replaced persisted states from journal.
+		 * 
+		 * @return removed states
+		 */
+		public List<IdmEntityStateDto> drainPreviousStates() {
+			List<IdmEntityStateDto> drainedStates = previousStates;
+			previousStates = new ArrayList<>();
+			//
+			return drainedStates;
+		}
+		
+		/**
+		 * Completed (not running and not suspended) states can be kept in journal.
+		 * 
+		 * @param state processor state
+		 * @return true - state can be kept in journal
+		 */
+		private static boolean isJournaled(IdmEntityStateDto state) {
+			return !state.isSuspended() 
+					&& (state.getResult() == null || state.getResult().getState() != OperationState.RUNNING);
+		}
+	}
 }
@@ -6,11 +6,15 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.text.MessageFormat;
+import java.util.Iterator;
 import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
 import com.fasterxml.jackson.core.JsonEncoding;
@@ -23,8 +27,10 @@ import eu.bcvsolutions.idm.core.api.domain.CoreResultCode;
 import eu.bcvsolutions.idm.core.api.dto.BaseDto;
 import eu.bcvsolutions.idm.core.api.dto.ExportDescriptorDto;
 import eu.bcvsolutions.idm.core.api.dto.IdmExportImportDto;
+import eu.bcvsolutions.idm.core.api.dto.filter.BaseFilter;
 import eu.bcvsolutions.idm.core.api.exception.ResultCodeException;
 import eu.bcvsolutions.idm.core.api.service.ExportManager;
+import eu.bcvsolutions.idm.core.api.service.ReadDtoService;
 import eu.bcvsolutions.idm.core.ecm.api.service.AttachmentManager;
 
 /**
@@ -89,6 +95,27 @@ public class DefaultExportManager implements ExportManager {
 		return batch;
 	}
 	
+	@Override
+	@Transactional
+	public <DTO extends BaseDto, F extends BaseFilter> long export(ReadDtoService<DTO, F> service, F filter, IdmExportImportDto batch) {
+		Assert.notNull(service, "Service is required.");
+		Assert.notNull(batch, "Batch cannot be null!");
+		//
+		long count = 0;
+		try (Stream<DTO> dtos = service.stream(filter)) {
+			for (Iterator<DTO> i = dtos.iterator(); i.hasNext();) {
+				service.export((UUID) i.next().getId(), batch);
+				count++;
+			}
+		}
+		if (count == 0) {
+			// DTO type has to be added into export order
+			service.export(BLANK_UUID, batch);
+		}
+		//
+		return count;
+	}
+	
 	@Override
 	public Path createDtoDirectory(Class<? extends BaseDto> dtoClass, IdmExportImportDto batch) {
 		Assert.notNull(dtoClass, "DTO class cannot be null!");
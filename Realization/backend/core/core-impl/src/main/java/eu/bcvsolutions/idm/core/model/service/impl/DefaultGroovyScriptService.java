@@ -1,5 +1,6 @@
 package eu.bcvsolutions.idm.core.model.service.impl;
 
+import java.nio.charset.StandardCharsets;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -9,6 +10,7 @@ import org.codehaus.groovy.control.CompilationFailedException;
 import org.codehaus.groovy.control.CompilerConfiguration;
 import org.codehaus.groovy.control.MultipleCompilationErrorsException;
 import org.codehaus.groovy.control.messages.SyntaxErrorMessage;
+import org.codehaus.groovy.runtime.InvokerHelper;
 import org.codehaus.groovy.syntax.SyntaxException;
 import org.kohsuke.groovy.sandbox.GroovyInterceptor;
 import org.kohsuke.groovy.sandbox.SandboxTransformer;
@@ -18,6 +20,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.Assert;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.hash.Hashing;
 
 import eu.bcvsolutions.idm.core.CoreModuleDescriptor;
 import eu.bcvsolutions.idm.core.api.config.cache.domain.ValueWrapper;
@@ -32,9 +35,13 @@ import groovy.lang.GroovyShell;
 import groovy.lang.Script;
 
 /**
- * Service for evaluate groovy scripts
+ * Service for evaluate groovy scripts.
+ * 
+ * Compiled script classes are cached (key is digest of script source), new script instance is created for each evaluation
+ * => the same script can be evaluated concurrently. Sandbox interceptors are registered for the current thread only.
  * 
  * @author svandav
+ * @author Radek Tomiška
  *
  */
 @Service
@@ -77,14 +84,11 @@ public class DefaultGroovyScriptService implements GroovyScriptService {
 				sandboxFilter.register();
 			}
 			
-			// Get script and fill it with variables
-			Script scriptObj = getScript(script);
-			
-			// Scripts aren't thread safe
-			synchronized(scriptObj) {
-				scriptObj.setBinding(binding);
-				return scriptObj.run();
-			}
+			// Get compiled script class and create new script instance filled with variables
+			// => script instances aren't thread safe, but they are not shared
+			Script scriptObj = InvokerHelper.createScript(getScriptClass(script), binding);
+			//
+			return scriptObj.run();
 			
 		} catch (SecurityException | IdmSecurityException ex) {
 			LOG.error("SecurityException [{}]", ex.getLocalizedMessage());
@@ -166,15 +170,35 @@ public class DefaultGroovyScriptService implements GroovyScriptService {
 		}
 	}
 
-	private Script getScript(String source) {
-		// TODO: consider hashing source in order to not waste so much space
-		ValueWrapper value = cacheManager.getValue(CACHE_NAME, source);
+	/**
+	 * Returns compiled script class - class is cached, digest of script source is used as cache key.
+	 * 
+	 * @param source script source
+	 * @return compiled script class
+	 * @since 11.1.0
+	 */
+	@SuppressWarnings("unchecked")
+	private Class<? extends Script> getScriptClass(String source) {
+		String digest = getDigest(source);
+		ValueWrapper value = cacheManager.getValue(CACHE_NAME, digest);
 		if (value == null) {
-			Script script = buildScript(source);
-			cacheManager.cacheValue(CACHE_NAME, source, script);
-			return script;
+			// script can be compiled concurrently by more threads at the first time - the last one wins, compiled classes are the same
+			Class<? extends Script> scriptClass = buildScript(source).getClass();
+			cacheManager.cacheValue(CACHE_NAME, digest, scriptClass);
+			return scriptClass;
 		}
-		return (Script) value.get();
+		return (Class<? extends Script>) value.get();
+	}
+	
+	/**
+	 * Digest of script source - used as cache key.
+	 * 
+	 * @param source script source
+	 * @return SHA-256 digest
+	 * @since 11.1.0
+	 */
+	private String getDigest(String source) {
+		return Hashing.sha256().hashString(source, StandardCharsets.UTF_8).toString();
 	}
 
 	private Script buildScript(String source) {
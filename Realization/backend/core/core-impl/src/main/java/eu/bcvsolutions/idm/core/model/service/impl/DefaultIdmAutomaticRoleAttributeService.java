@@ -7,6 +7,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -34,6 +35,7 @@ import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
+import eu.bcvsolutions.idm.core.api.config.domain.RoleConfiguration;
 import eu.bcvsolutions.idm.core.api.domain.AutomaticRoleAttributeRuleComparison;
 import eu.bcvsolutions.idm.core.api.domain.AutomaticRoleAttributeRuleType;
 import eu.bcvsolutions.idm.core.api.domain.ConceptRoleRequestOperation;
@@ -72,7 +74,10 @@ import eu.bcvsolutions.idm.core.eav.api.service.IdmFormAttributeService;
 import eu.bcvsolutions.idm.core.eav.entity.AbstractFormValue;
 import eu.bcvsolutions.idm.core.eav.entity.AbstractFormValue_;
 import eu.bcvsolutions.idm.core.eav.entity.IdmFormProjection;
+import eu.bcvsolutions.idm.core.model.domain.AutomaticRoleAttributeRuleEngine;
+import eu.bcvsolutions.idm.core.model.domain.AutomaticRoleAttributeRuleEngine.Snapshot;
 import eu.bcvsolutions.idm.core.model.domain.CoreGroupPermission;
+import eu.bcvsolutions.idm.core.model.entity.IdmAutomaticRole;
 import eu.bcvsolutions.idm.core.model.entity.IdmAutomaticRoleAttribute;
 import eu.bcvsolutions.idm.core.model.entity.IdmAutomaticRoleAttributeRule;
 import eu.bcvsolutions.idm.core.model.entity.IdmAutomaticRoleAttributeRule_;
@@ -99,6 +104,7 @@ import eu.bcvsolutions.idm.core.model.event.RoleRequestEvent.RoleRequestEventTyp
 import eu.bcvsolutions.idm.core.model.event.processor.role.AutomaticRoleAttributeDeleteProcessor;
 import eu.bcvsolutions.idm.core.model.repository.IdmAutomaticRoleAttributeRepository;
 import eu.bcvsolutions.idm.core.model.repository.IdmIdentityContractRepository;
+import eu.bcvsolutions.idm.core.model.service.api.AutomaticRoleAttributeRuleEngineManager;
 import eu.bcvsolutions.idm.core.scheduler.api.service.LongRunningTaskManager;
 import eu.bcvsolutions.idm.core.scheduler.task.impl.ProcessAutomaticRoleByAttributeTaskExecutor;
 import eu.bcvsolutions.idm.core.security.api.domain.BasePermission;
@@ -131,6 +137,10 @@ public class DefaultIdmAutomaticRoleAttributeService
 	private final LongRunningTaskManager longRunningTaskManager;
 	@Autowired
 	private IdmRoleRequestService roleRequestService;
+	@Autowired
+	private RoleConfiguration roleConfiguration;
+	@Autowired
+	private AutomaticRoleAttributeRuleEngineManager automaticRoleAttributeRuleEngineManager;
 	
 	@Autowired
 	public DefaultIdmAutomaticRoleAttributeService(
@@ -203,7 +213,11 @@ public class DefaultIdmAutomaticRoleAttributeService
 		// only attribute that can be changed is concept
 		IdmAutomaticRoleAttributeDto oldDto = this.get(dto.getId());
 		if (dto.getRole().equals(oldDto.getRole()) && dto.getName().equals(oldDto.getName())) {
-			return super.save(dto, permission);
+			dto = super.save(dto, permission);
+			// concept state is changed without event => evict compiled rules
+			automaticRoleAttributeRuleEngineManager.evictEngine();
+			//
+			return dto;
 		}
 		//
 		throw new ResultCodeException(CoreResultCode.METHOD_NOT_ALLOWED, "Automatic role update is not supported");
@@ -448,6 +462,130 @@ public class DefaultIdmAutomaticRoleAttributeService
 	
 	@Override
 	public Set<AbstractIdmAutomaticRoleDto> getRulesForContract(boolean pass, AutomaticRoleAttributeRuleType type, UUID contractId) {
+		if (roleConfiguration.isAutomaticRoleAttributeInMemory()) {
+			return getRulesForContractInMemory(pass, type, contractId);
+		}
+		return getRulesForContractBySql(pass, type, contractId);
+	}
+	
+	/**
+	 * Evaluate rules in memory - contract, identity and their extended attribute values are loaded once 
+	 * and rules compiled by {@link AutomaticRoleAttributeRuleEngine} are evaluated over them. 
+	 * Sql criteria are used for automatic roles with rules, which cannot be evaluated in memory.
+	 * 
+	 * @param pass
+	 * @param type
+	 * @param contractId
+	 * @return
+	 * @since 11.1.0
+	 */
+	private Set<AbstractIdmAutomaticRoleDto> getRulesForContractInMemory(boolean pass, AutomaticRoleAttributeRuleType type, UUID contractId) {
+		Set<AbstractIdmAutomaticRoleDto> automaticRoles = new HashSet<>();
+		IdmIdentityContract contract = identityContractRepository.findById(contractId).orElse(null);
+		if (contract == null) {
+			return automaticRoles;
+		}
+		//
+		// compiled rules of all automatic roles that has at least one rule and isn't in concept state
+		AutomaticRoleAttributeRuleEngine engine = automaticRoleAttributeRuleEngineManager.getEngine();
+		if (engine.getAutomaticRoles(null).isEmpty()) {
+			return automaticRoles;
+		}
+		//
+		// snapshot - values are loaded once for all automatic roles
+		Snapshot snapshot = new Snapshot(
+				contract,
+				getFormValues(IdmIdentityContractFormValue.class, contractId, engine.getFormAttributes(AutomaticRoleAttributeRuleType.CONTRACT_EAV)),
+				getFormValues(IdmIdentityFormValue.class, contract.getIdentity().getId(), engine.getFormAttributes(AutomaticRoleAttributeRuleType.IDENTITY_EAV)),
+				getAssignedAutomaticRoles(contractId));
+		//
+		for (UUID automaticRoleId : engine.getAutomaticRoles(type)) {
+			IdmAutomaticRoleAttributeDto automaticRole = engine.getAutomaticRole(automaticRoleId);
+			if (automaticRole == null) {
+				continue;
+			}
+			if (pass && (!snapshot.isValidNowOrInFuture() || snapshot.isAssigned(automaticRoleId))) {
+				// new automatic role can be assigned to valid contract only
+				continue;
+			}
+			if (!pass && !snapshot.isAssigned(automaticRoleId)) {
+				// automatic role is not assigned - nothing to remove
+				continue;
+			}
+			//
+			boolean result;
+			if (engine.isCompiled(automaticRoleId)) {
+				// passed => all rules pass, not passed => at least one rule doesn't pass
+				result = engine.evaluate(automaticRoleId, snapshot) == pass;
+			} else {
+				LOG.trace("Automatic role [{}] cannot be evaluated in memory, sql criteria will be used.", automaticRoleId);
+				//
+				List<IdmAutomaticRoleAttributeRuleDto> allRulesForAutomaticRole = engine.getRules(automaticRoleId);
+				Specification<IdmIdentityContract> criteria = this.getCriteriaForRulesByContract(automaticRoleId, allRulesForAutomaticRole, pass, contractId);
+				result = !identityContractRepository.findAll(criteria).isEmpty();
+			}
+			if (result) {
+				automaticRoles.add(automaticRole);
+			}
+		}
+		//
+		return automaticRoles;
+	}
+	
+	/**
+	 * Loads owner's values of given attributes by one query.
+	 * 
+	 * @param formValueClass form value entity
+	 * @param ownerId owner identifier
+	 * @param formAttributes form attribute identifiers
+	 * @return values grouped by form attribute identifier
+	 * @since 11.1.0
+	 */
+	private <V extends AbstractFormValue<?>> Map<UUID, List<V>> getFormValues(Class<V> formValueClass, UUID ownerId, Set<UUID> formAttributes) {
+		if (formAttributes.isEmpty()) {
+			return Collections.emptyMap();
+		}
+		//
+		return entityManager
+				.createQuery(
+						String.format("select e from %s e where e.owner.id = :ownerId and e.formAttribute.id in :formAttributes", formValueClass.getSimpleName()),
+						formValueClass)
+				.setParameter("ownerId", ownerId)
+				.setParameter("formAttributes", formAttributes)
+				.getResultList()
+				.stream()
+				.collect(Collectors.groupingBy(value -> value.getFormAttribute().getId()));
+	}
+	
+	/**
+	 * Automatic roles by attribute already assigned to given contract.
+	 * 
+	 * @param contractId contract identifier
+	 * @return automatic role identifiers
+	 * @since 11.1.0
+	 */
+	private Set<UUID> getAssignedAutomaticRoles(UUID contractId) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<UUID> query = cb.createQuery(UUID.class);
+		Root<IdmIdentityRole> root = query.from(IdmIdentityRole.class);
+		Path<IdmAutomaticRole> automaticRole = root.get(IdmIdentityRole_.automaticRole);
+		query.select(automaticRole.get(IdmAutomaticRole_.id));
+		query.where(
+				cb.equal(root.get(IdmIdentityRole_.identityContract).get(AbstractEntity_.id), contractId),
+				cb.isNotNull(automaticRole));
+		//
+		return new HashSet<>(entityManager.createQuery(query).getResultList());
+	}
+	
+	/**
+	 * Evaluate rules by sql criteria - one query for each automatic role.
+	 * 
+	 * @param pass
+	 * @param type
+	 * @param contractId
+	 * @return
+	 */
+	private Set<AbstractIdmAutomaticRoleDto> getRulesForContractBySql(boolean pass, AutomaticRoleAttributeRuleType type, UUID contractId) {
 		Set<AbstractIdmAutomaticRoleDto> automaticRoles = new HashSet<>();
 		//
 		// iterate trough all automatic role that has at least one rule and isn't in concept state
@@ -2,17 +2,30 @@ package eu.bcvsolutions.idm.core.model.service.impl;
 
 import java.io.Serializable;
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.SerializationUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
+
+import com.google.common.collect.Lists;
 
 import eu.bcvsolutions.idm.core.api.domain.Identifiable;
 import eu.bcvsolutions.idm.core.api.dto.IdmConfidentialStorageValueDto;
 import eu.bcvsolutions.idm.core.api.entity.BaseEntity;
+import eu.bcvsolutions.idm.core.api.repository.filter.FilterManager;
 import eu.bcvsolutions.idm.core.api.service.ConfidentialStorage;
 import eu.bcvsolutions.idm.core.api.service.LookupService;
 import eu.bcvsolutions.idm.core.model.entity.IdmConfidentialStorageValue;
@@ -91,17 +104,21 @@ public class DefaultIdmConfidentialStorage implements ConfidentialStorage {
 		IdmConfidentialStorageValue storage = getStorageValue(value.getOwnerId(), value.getOwnerType(), value.getKey());
 		Assert.notNull(storage, "Storage is required.");
 		//
-		// decrypt value with old key
-		byte[] decryptedValue = cryptService.decryptWithKey(storage.getValue(), oldCryptKey, value.getIv());
-		// create new IV
-		byte[] vector = cryptService.generateVector();
-		storage.setIv(vector);
-		// and crypt value with new key
-		storage.setValue(cryptService.encrypt(decryptedValue, vector));
+		changeCryptKey(storage, oldCryptKey);
 		// persist new value
 		repository.save(storage);
 	}
 	
+	@Override
+	@Transactional
+	public void changeCryptKey(List<IdmConfidentialStorageValueDto> values, GuardedString oldCryptKey) {
+		List<IdmConfidentialStorageValue> storageValues = getStorageValues(values);
+		//
+		storageValues.forEach(storage -> changeCryptKey(storage, oldCryptKey));
+		// persist new values
+		repository.saveAll(storageValues);
+	}
+	
 	@Override
 	@Transactional
 	public void delete(UUID ownerId, Class<? extends Identifiable> ownerType, String key) {
@@ -224,6 +241,76 @@ public class DefaultIdmConfidentialStorage implements ConfidentialStorage {
 		return getGuardedString(getOwnerId(owner), owner.getClass(), key);
 	}
 	
+	@Override
+	public Map<UUID, Map<String, Serializable>> get(Collection<UUID> ownerIds, Class<? extends Identifiable> ownerType, Collection<String> keys) {
+		Assert.notNull(ownerType, "Owner type is required.");
+		Map<UUID, Map<String, Serializable>> results = new HashMap<>();
+		if (CollectionUtils.isEmpty(ownerIds) || CollectionUtils.isEmpty(keys)) {
+			return results;
+		}
+		//
+		String ownerTypeName = getOwnerType(ownerType);
+		LOG.debug("Get values for owners [{}] of type [{}] and keys [{}] from confidential storage", ownerIds.size(), ownerTypeName, keys);
+		//
+		for (IdmConfidentialStorageValue storageValue : getStorageValues(ownerIds, ownerTypeName, keys)) {
+			results
+				.computeIfAbsent(storageValue.getOwnerId(), ownerId -> new HashMap<>())
+				.put(storageValue.getKey(), fromStorageValue(storageValue.getValue(), storageValue.getIv()));
+		}
+		//
+		return results;
+	}
+	
+	@Override
+	@Transactional
+	public void save(Class<? extends Identifiable> ownerType, Map<UUID, Map<String, Serializable>> values) {
+		Assert.notNull(ownerType, "Owner type is required.");
+		if (CollectionUtils.isEmpty(values)) {
+			return;
+		}
+		//
+		String ownerTypeName = getOwnerType(ownerType);
+		Set<String> keys = new HashSet<>();
+		values.values().forEach(ownerValues -> keys.addAll(ownerValues.keySet()));
+		LOG.debug("Saving values for owners [{}] of type [{}] and keys [{}] to confidential storage", values.size(), ownerTypeName, keys);
+		//
+		// owner identifier => key => persisted value
+		Map<UUID, Map<String, IdmConfidentialStorageValue>> persistedValues = new HashMap<>();
+		if (!keys.isEmpty()) {
+			for (IdmConfidentialStorageValue storageValue : getStorageValues(values.keySet(), ownerTypeName, keys)) {
+				persistedValues
+					.computeIfAbsent(storageValue.getOwnerId(), ownerId -> new HashMap<>())
+					.putIfAbsent(storageValue.getKey(), storageValue);
+			}
+		}
+		//
+		List<IdmConfidentialStorageValue> storageValues = new ArrayList<>();
+		values.forEach((ownerId, ownerValues) -> {
+			Assert.notNull(ownerId, "Owner identifier is required");
+			//
+			ownerValues.forEach((key, value) -> {
+				Assert.hasLength(key, "Key is required.");
+				//
+				IdmConfidentialStorageValue storage = persistedValues.getOrDefault(ownerId, Collections.emptyMap()).get(key);
+				if (storage == null) {
+					// create new storage
+					storage = new IdmConfidentialStorageValue();
+					storage.setOwnerType(ownerTypeName);
+					storage.setOwnerId(ownerId);
+					storage.setKey(key);
+				}
+				byte[] vector = cryptService.generateVector();
+				// Set new IV vector
+				storage.setIv(vector);
+				// set storage value
+				storage.setValue(toStorageValue(value, vector));
+				storageValues.add(storage);
+			});
+		});
+		// persist
+		repository.saveAll(storageValues);
+	}
+	
 	@Override
 	@Transactional
 	public void saveGuardedString(UUID ownerId, Class<? extends Identifiable> ownerType, String key, GuardedString value) {
@@ -265,13 +352,94 @@ public class DefaultIdmConfidentialStorage implements ConfidentialStorage {
 		Assert.notNull(storageValue, String.format("Value was not found in the confidential storage. Owner id [%s], owner type [%s], key [%s].",
 				value.getOwnerId(), value.getOwnerType(), value.getKey()));
 		//
+		renewVector(storageValue);
+		repository.save(storageValue);
+	}
+	
+	@Override
+	@Transactional
+	public void renewVector(List<IdmConfidentialStorageValueDto> values) {
+		List<IdmConfidentialStorageValue> storageValues = getStorageValues(values);
+		//
+		storageValues.forEach(this::renewVector);
+		repository.saveAll(storageValues);
+	}
+	
+	/**
+	 * Decrypt value with old key and encrypt it with new key (configured) and new vector.
+	 * 
+	 * @param storage persisted value
+	 * @param oldCryptKey old key
+	 */
+	private void changeCryptKey(IdmConfidentialStorageValue storage, GuardedString oldCryptKey) {
+		// decrypt value with old key
+		byte[] decryptedValue = cryptService.decryptWithKey(storage.getValue(), oldCryptKey, storage.getIv());
+		// create new IV
+		byte[] vector = cryptService.generateVector();
+		storage.setIv(vector);
+		// and crypt value with new key
+		storage.setValue(cryptService.encrypt(decryptedValue, vector));
+	}
+	
+	/**
+	 * Encrypt value with new vector.
+	 * 
+	 * @param storageValue persisted value
+	 */
+	private void renewVector(IdmConfidentialStorageValue storageValue) {
 		byte[] decryptedValue = cryptService.decrypt(storageValue.getValue(), storageValue.getIv());
 		// Renew the vector
 		byte[] newInitVector = cryptService.generateVector();
 		storageValue.setIv(newInitVector);
 		// Save the confidential value with the new vector
 		storageValue.setValue(cryptService.encrypt(decryptedValue, newInitVector));
-		repository.save(storageValue);
+	}
+	
+	/**
+	 * Get persisted storage values by given values' identifiers - one query is used.
+	 * 
+	 * @param values values
+	 * @return persisted values
+	 * @throws IllegalArgumentException if some value was not found
+	 */
+	private List<IdmConfidentialStorageValue> getStorageValues(List<IdmConfidentialStorageValueDto> values) {
+		Assert.notNull(values, "Values are required.");
+		List<UUID> ids = values
+				.stream()
+				.map(value -> {
+					Assert.notNull(value, "Value is required.");
+					Assert.notNull(value.getId(), "Value identifier is required.");
+					//
+					return value.getId();
+				})
+				.collect(Collectors.toList());
+		if (ids.isEmpty()) {
+			return new ArrayList<>(0);
+		}
+		List<IdmConfidentialStorageValue> storageValues = new ArrayList<>(ids.size());
+		for (List<UUID> partition : Lists.partition(ids, FilterManager.DEFAULT_CHECK_FILTER_SIZE_MAXIMUM)) {
+			repository.findAllById(partition).forEach(storageValues::add);
+		}
+		if (storageValues.size() != new HashSet<>(ids).size()) {
+			throw new IllegalArgumentException(String.format("Some of values [%s] was not found in the confidential storage.", ids.size()));
+		}
+		return storageValues;
+	}
+	
+	/**
+	 * Get persisted storage values by owners and keys - owners are partitioned by sql "in" limit. 
+	 * 
+	 * @param ownerIds owners
+	 * @param ownerType owner type
+	 * @param keys keys
+	 * @return persisted values
+	 */
+	private List<IdmConfidentialStorageValue> getStorageValues(Collection<UUID> ownerIds, String ownerType, Collection<String> keys) {
+		List<IdmConfidentialStorageValue> storageValues = new ArrayList<>();
+		for (List<UUID> partition : Lists.partition(new ArrayList<>(ownerIds), FilterManager.DEFAULT_CHECK_FILTER_SIZE_MAXIMUM)) {
+			storageValues.addAll(repository.findByOwnerIdInAndOwnerTypeAndKeyIn(partition, ownerType, keys));
+		}
+		return storageValues;
 	}
 	
 	/**
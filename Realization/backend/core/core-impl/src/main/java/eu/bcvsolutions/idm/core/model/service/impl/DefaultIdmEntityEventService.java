@@ -3,6 +3,7 @@ package eu.bcvsolutions.idm.core.model.service.impl;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import javax.persistence.criteria.CriteriaBuilder;
@@ -15,9 +16,13 @@ import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
 import eu.bcvsolutions.idm.core.api.domain.ConfigurationMap;
 import eu.bcvsolutions.idm.core.api.domain.OperationState;
 import eu.bcvsolutions.idm.core.api.domain.PriorityType;
@@ -52,6 +57,7 @@ public class DefaultIdmEntityEventService
 
 	private static final org.slf4j.Logger LOG = org.slf4j.LoggerFactory.getLogger(DefaultIdmEntityEventService.class);
 	private final IdmEntityEventRepository repository;
+	private final EntityEventManager entityEventManager;
 	//
 	@Autowired private IdmEntityStateService entityStateService;
 	@Autowired private IdmEntityStateRepository entityStateRepository;
@@ -64,6 +70,7 @@ public class DefaultIdmEntityEventService
 		super(repository, entityEventManager);
 		//
 		this.repository = repository;
+		this.entityEventManager = entityEventManager;
 	}
 	
 	@Override
@@ -102,6 +109,46 @@ public class DefaultIdmEntityEventService
 		);
 	}
 	
+	@Override
+	@Transactional(readOnly = true)
+	public Page<IdmEntityEventDto> findToClaim(ZonedDateTime executeDate, PriorityType priority, Pageable pageable) {
+		return toDtoPage(repository.findToClaim(OperationState.CREATED, OperationState.RUNNING, executeDate, priority, pageable));
+	}
+	
+	@Override
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public boolean claim(IdmEntityEventDto event, String instanceId) {
+		Assert.notNull(event, "Event is required.");
+		Assert.notNull(event.getId(), "Event identifier is required.");
+		Assert.notNull(event.getOwnerId(), "Event owner is required.");
+		Assert.hasLength(instanceId, "Instance identifier is required.");
+		//
+		Set<UUID> ownerIds = Sets.newHashSet(event.getOwnerId());
+		if (event.getSuperOwnerId() != null) {
+			ownerIds.add(event.getSuperOwnerId());
+		}
+		// lock created and running events of the same owner => events for the same owner are claimed sequentially
+		List<IdmEntityEvent> ownerEvents = repository.lockOwnerEvents(
+				ownerIds, 
+				Lists.newArrayList(OperationState.CREATED, OperationState.RUNNING));
+		if (ownerEvents.stream().anyMatch(ownerEvent -> ownerEvent.getResult().getState() == OperationState.RUNNING)) {
+			LOG.debug("Event [{}] cannot be claimed, another event for owner [{}] is running.", event.getId(), ownerIds);
+			//
+			return false;
+		}
+		//
+		return repository.changeState(event.getId(), OperationState.CREATED, OperationState.RUNNING, instanceId) == 1;
+	}
+	
+	@Override
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public boolean release(UUID eventId, String instanceId) {
+		Assert.notNull(eventId, "Event identifier is required.");
+		Assert.hasLength(instanceId, "Instance identifier is required.");
+		//
+		return repository.changeState(eventId, OperationState.RUNNING, OperationState.CREATED, instanceId) == 1;
+	}
+	
 	@Override
 	@Transactional
 	public IdmEntityEventDto saveInternal(IdmEntityEventDto dto) {
@@ -121,6 +168,10 @@ public class DefaultIdmEntityEventService
 				dto.setEventEnded(ZonedDateTime.now());
 			}
 		}
+		// content fingerprint - duplicate created events are canceled before processing
+		if (result == null || result.getState() == OperationState.CREATED) {
+			dto.setContentHash(entityEventManager.getContentHash(dto));
+		}
 		//
 		dto = super.saveInternal(dto);
 		//
@@ -230,6 +281,11 @@ public class DefaultIdmEntityEventService
 		if (StringUtils.isNotEmpty(eventType)) {
 			predicates.add(builder.equal(root.get(IdmEntityEvent_.eventType), eventType));
 		}
+		// content fingerprints - indexed equality
+		List<String> contentHashes = filter.getContentHashes();
+		if (!contentHashes.isEmpty()) {
+			predicates.add(root.get(IdmEntityEvent_.contentHash).in(contentHashes));
+		}
 		//
 		return predicates;
 	}
@@ -10,8 +10,10 @@ import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
 
 import org.apache.commons.lang3.StringUtils;
+import org.hibernate.Session;
 import org.modelmapper.internal.util.Assert;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import eu.bcvsolutions.idm.core.api.domain.OperationState;
@@ -40,6 +42,8 @@ public class DefaultIdmEntityStateService
 		extends AbstractEventableDtoService<IdmEntityStateDto, IdmEntityState, IdmEntityStateFilter> 
 		implements IdmEntityStateService {
 
+	private static final int JDBC_BATCH_SIZE = 50;
+	//
 	@Autowired private ConfidentialStorage confidentialStorage;
 	
 	@Autowired
@@ -54,6 +58,39 @@ public class DefaultIdmEntityStateService
 		return new AuthorizableType(CoreGroupPermission.ENTITYSTATE, getEntityClass());
 	}
 
+	@Override
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public List<IdmEntityStateDto> replaceStates(List<IdmEntityStateDto> previousStates, List<IdmEntityStateDto> states) {
+		Assert.notNull(states, "States are required.");
+		//
+		if (previousStates != null) {
+			previousStates
+				.stream()
+				.filter(state -> state.getId() != null)
+				.forEach(this::deleteInternal);
+		}
+		if (states.isEmpty()) {
+			return new ArrayList<>();
+		}
+		//
+		Session session = (Session) getEntityManager().getDelegate();
+		Integer jdbcBatchSize = session.getJdbcBatchSize();
+		session.setJdbcBatchSize(JDBC_BATCH_SIZE);
+		try {
+			List<IdmEntityState> entities = new ArrayList<>(states.size());
+			for (IdmEntityStateDto state : states) {
+				entities.add(toEntity(state));
+			}
+			// states are inserted at once on flush
+			getRepository().saveAll(entities);
+			session.flush();
+			//
+			return toDtos(entities, false);
+		} finally {
+			session.setJdbcBatchSize(jdbcBatchSize);
+		}
+	}
+
 	@Override
 	@Transactional
 	public void deleteInternal(IdmEntityStateDto dto) {
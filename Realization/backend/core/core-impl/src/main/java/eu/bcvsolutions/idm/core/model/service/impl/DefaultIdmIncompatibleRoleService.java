@@ -2,8 +2,10 @@ package eu.bcvsolutions.idm.core.model.service.impl;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -20,6 +22,8 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.util.Assert;
 
+import com.google.common.collect.Lists;
+
 import eu.bcvsolutions.idm.core.api.dto.BaseDto;
 import eu.bcvsolutions.idm.core.api.dto.ExportDescriptorDto;
 import eu.bcvsolutions.idm.core.api.dto.IdmExportImportDto;
@@ -28,10 +32,10 @@ import eu.bcvsolutions.idm.core.api.dto.IdmRoleDto;
 import eu.bcvsolutions.idm.core.api.dto.ResolvedIncompatibleRoleDto;
 import eu.bcvsolutions.idm.core.api.dto.filter.IdmIncompatibleRoleFilter;
 import eu.bcvsolutions.idm.core.api.exception.EntityNotFoundException;
+import eu.bcvsolutions.idm.core.api.repository.filter.FilterManager;
 import eu.bcvsolutions.idm.core.api.service.AbstractEventableDtoService;
 import eu.bcvsolutions.idm.core.api.service.EntityEventManager;
 import eu.bcvsolutions.idm.core.api.service.IdmIncompatibleRoleService;
-import eu.bcvsolutions.idm.core.api.service.IdmRoleCompositionService;
 import eu.bcvsolutions.idm.core.api.service.LookupService;
 import eu.bcvsolutions.idm.core.model.domain.CoreGroupPermission;
 import eu.bcvsolutions.idm.core.model.entity.IdmIncompatibleRole;
@@ -39,6 +43,7 @@ import eu.bcvsolutions.idm.core.model.entity.IdmIncompatibleRole_;
 import eu.bcvsolutions.idm.core.model.entity.IdmRole;
 import eu.bcvsolutions.idm.core.model.entity.IdmRole_;
 import eu.bcvsolutions.idm.core.model.repository.IdmIncompatibleRoleRepository;
+import eu.bcvsolutions.idm.core.model.service.api.RoleCompositionGraphManager;
 import eu.bcvsolutions.idm.core.security.api.dto.AuthorizableType;
 
 /**
@@ -55,7 +60,7 @@ public class DefaultIdmIncompatibleRoleService
 	//
 	private final IdmIncompatibleRoleRepository repository;
 	//
-	@Autowired private IdmRoleCompositionService roleCompositionService;
+	@Autowired private RoleCompositionGraphManager roleCompositionGraphManager;
 	@Autowired private LookupService lookupService;
 	
 	@Autowired
@@ -101,14 +106,11 @@ public class DefaultIdmIncompatibleRoleService
 		}
 		LOG.debug("Start resolving incompabible roles [{}]", rolesOrIdentifiers);
 		//
-		Set<UUID> allRoleIds = new HashSet<>();
-		Set<IdmRoleDto> roles = new HashSet<>();
-		// search all sub roles
+		Map<UUID, IdmRoleDto> directRoles = new HashMap<>();
 		for (Serializable roleOrIdentifier : rolesOrIdentifiers) {
 			if (roleOrIdentifier == null) {
 				continue;
 			}
-			roles.clear();
 			//
 			IdmRoleDto directRole = null;
 			if (roleOrIdentifier instanceof IdmRoleDto) {
@@ -119,35 +121,42 @@ public class DefaultIdmIncompatibleRoleService
 			if (directRole == null) {
 				throw new EntityNotFoundException(IdmRole.class, roleOrIdentifier);
 			}
-			//
-			roles.add(directRole);
-			if (directRole.getChildrenCount() > 0) {
-				roles.addAll(roleCompositionService.resolveDistinctRoles(roleCompositionService.findAllSubRoles(directRole.getId())));
-			}
-			//
-			// resolve incompatible roles 
-			List<UUID> roleIds = roles.stream().map(IdmRoleDto::getId).collect(Collectors.toList());
-			//
-			for (IdmIncompatibleRoleDto incompatibleRole : findAllByRoles(roleIds)) {
-				// find incompatible roles - we need to know, which from the given role is incompatible => ResolvedIncompatibleRoleDto
-				incompatibleRoles.add(new ResolvedIncompatibleRoleDto(directRole, incompatibleRole));
-			}
-			allRoleIds.addAll(roleIds);
+			directRoles.putIfAbsent(directRole.getId(), directRole);
 		}
 		//
-		// both sides of incompatible roles should be in the allRoleIds and superior vs. sub role has to be different.
-		Set<ResolvedIncompatibleRoleDto> resolvedRoles = incompatibleRoles
+		// sub roles and incompatible roles are resolved in memory
+		// both sides of incompatible roles should be in the all roles and superior vs. sub role has to be different.
+		Map<UUID, Set<UUID>> resolvedRoles = roleCompositionGraphManager.getGraph().resolveIncompatibleRoles(directRoles.keySet());
+		if (resolvedRoles.isEmpty()) {
+			LOG.debug("Resolved incompabible roles [0]");
+			return incompatibleRoles;
+		}
+		//
+		// load resolved incompatible roles only
+		List<UUID> incompatibleRoleIds = resolvedRoles
+				.values()
 				.stream()
-				.filter(ir -> { // superior vs. sub role has to be different.
-					return !ir.getIncompatibleRole().getSuperior().equals(ir.getIncompatibleRole().getSub());
-				})
-				.filter(ir -> { // superior and sub role has to be in all roles.
-					return allRoleIds.contains(ir.getIncompatibleRole().getSuperior()) && allRoleIds.contains(ir.getIncompatibleRole().getSub());
-				})
-				.collect(Collectors.toSet());
+				.flatMap(Set::stream)
+				.distinct()
+				.collect(Collectors.toList());
+		Map<UUID, IdmIncompatibleRoleDto> incompatibleRoleDtos = new HashMap<>(incompatibleRoleIds.size());
+		for (List<UUID> ids : Lists.partition(incompatibleRoleIds, FilterManager.DEFAULT_CHECK_FILTER_SIZE_MAXIMUM)) {
+			IdmIncompatibleRoleFilter filter = new IdmIncompatibleRoleFilter();
+			filter.setIds(ids);
+			find(filter, null).forEach(incompatibleRole -> incompatibleRoleDtos.put(incompatibleRole.getId(), incompatibleRole));
+		}
+		resolvedRoles.forEach((directRoleId, resolvedRoleIds) -> {
+			resolvedRoleIds.forEach(incompatibleRoleId -> {
+				IdmIncompatibleRoleDto incompatibleRole = incompatibleRoleDtos.get(incompatibleRoleId);
+				if (incompatibleRole != null) { // incompatible role can be deleted in the mean time
+					// we need to know, which from the given role is incompatible => ResolvedIncompatibleRoleDto
+					incompatibleRoles.add(new ResolvedIncompatibleRoleDto(directRoles.get(directRoleId), incompatibleRole));
+				}
+			});
+		});
 		//
-		LOG.debug("Resolved incompabible roles [{}]", resolvedRoles.size());
-		return resolvedRoles;
+		LOG.debug("Resolved incompabible roles [{}]", incompatibleRoles.size());
+		return incompatibleRoles;
 	}
 	
 	@Override
@@ -45,6 +45,7 @@ import eu.bcvsolutions.idm.core.model.entity.IdmRole_;
 import eu.bcvsolutions.idm.core.model.event.IdentityRoleEvent;
 import eu.bcvsolutions.idm.core.model.event.IdentityRoleEvent.IdentityRoleEventType;
 import eu.bcvsolutions.idm.core.model.repository.IdmRoleCompositionRepository;
+import eu.bcvsolutions.idm.core.model.service.api.RoleCompositionGraphManager;
 import eu.bcvsolutions.idm.core.security.api.domain.BasePermission;
 import eu.bcvsolutions.idm.core.security.api.dto.AuthorizableType;
 
@@ -63,6 +64,7 @@ public class DefaultIdmRoleCompositionService
 	//
 	@Autowired private IdmIdentityRoleService identityRoleService;
 	@Autowired private IdmCacheManager cacheManager;
+	@Autowired private RoleCompositionGraphManager roleCompositionGraphManager;
 	
 	@Autowired
 	public DefaultIdmRoleCompositionService(IdmRoleCompositionRepository repository, EntityEventManager entityEventManager) {
@@ -80,6 +82,7 @@ public class DefaultIdmRoleCompositionService
 		super.deleteInternal(dto);
 		// clear cache right here => delete is asynchronous
 		cacheManager.evictCache(IdmRoleCompositionService.ALL_SUB_ROLES_CACHE_NAME);
+		roleCompositionGraphManager.evictGraph();
 	}
 	
 	@Override
@@ -110,6 +113,11 @@ public class DefaultIdmRoleCompositionService
 		return results;
 	}
 	
+	@Override
+	public Set<UUID> findAllSubRoleIds(UUID superiorId) {
+		return roleCompositionGraphManager.getGraph().getSubRoles(superiorId);
+	}
+	
 	@Override
 	public List<IdmRoleCompositionDto> findAllSuperiorRoles(UUID subId, BasePermission... permission) {
 		Assert.notNull(subId, "Sub role identifier is required.");
@@ -1,5 +1,6 @@
 package eu.bcvsolutions.idm.core.model.service.impl;
 
+import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
@@ -18,15 +19,19 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.util.Assert;
 import org.springframework.web.context.request.async.DeferredResult;
 
+import eu.bcvsolutions.idm.core.api.config.cache.domain.ValueWrapper;
 import eu.bcvsolutions.idm.core.api.domain.OperationState;
 import eu.bcvsolutions.idm.core.api.dto.AbstractDto;
 import eu.bcvsolutions.idm.core.api.dto.OperationResultDto;
 import eu.bcvsolutions.idm.core.api.dto.filter.ModifiedFromFilter;
 import eu.bcvsolutions.idm.core.api.entity.AbstractEntity_;
 import eu.bcvsolutions.idm.core.api.service.ConfigurationService;
+import eu.bcvsolutions.idm.core.api.service.EntityEventManager;
+import eu.bcvsolutions.idm.core.api.service.IdmCacheManager;
 import eu.bcvsolutions.idm.core.api.service.ReadDtoService;
 import eu.bcvsolutions.idm.core.model.service.api.CheckLongPollingResult;
 import eu.bcvsolutions.idm.core.model.service.api.LongPollingManager;
@@ -44,6 +49,14 @@ import eu.bcvsolutions.idm.core.rest.LongPollingSubscriber;
 public class DefaultLongPollingManager implements LongPollingManager{
 
 	private static final Logger LOG = LoggerFactory.getLogger(DefaultLongPollingManager.class);
+	/**
+	 * Registered check callback is called for new subscriber and after subscriber is notified about change 
+	 * (check state is initialized again) only. Otherwise check callback is called as safety fallback in this interval 
+	 * (e.g. entity was changed without notification).
+	 * 
+	 * @since 11.1.0
+	 */
+	public static final Duration CHECK_FALLBACK_INTERVAL = Duration.ofMinutes(5);
 
 	/**
 	 * Queue of deferred results
@@ -57,6 +70,12 @@ public class DefaultLongPollingManager implements LongPollingManager{
 	@Autowired
 	@Lazy
 	private ConfigurationService configurationService;
+	@Autowired
+	@Lazy
+	private EntityEventManager entityEventManager;
+	@Autowired
+	@Lazy
+	private IdmCacheManager cacheManager;
 
 
 	@Override
@@ -79,13 +98,57 @@ public class DefaultLongPollingManager implements LongPollingManager{
 					} else {
 						subscriber = new LongPollingSubscriber(request.getEntityId(), type);
 					}
+					ZonedDateTime now = ZonedDateTime.now();
+					subscriber.setLastUsingSubscriber(now);
+					if (request.getResult().isSetOrExpired()) {
+						// Completed together with previous request for the same entity.
+						return;
+					}
+					UUID changeVersion = getChangeVersion(request.getEntityId());
+					if (changeVersion != null && !changeVersion.equals(subscriber.getChangeVersion())) {
+						// Notified by entity event (on any server instance) => refresh without check queries.
+						subscriber.setChangeVersion(changeVersion);
+						// check callback will initialize check state again with the next request - change is processed already
+						subscriber.setLastCheck(null);
+						subscriber.setLastTimeStamp(null);
+						subscriber.setLastNumberOfEntities(null);
+						notifySuspendedRequests(subscriber);
+						return;
+					}
 					CheckLongPollingResult checkResultCallback = request.getCheckResultCallback();
-					if (checkResultCallback != null) {
-						subscriber.setLastUsingSubscriber(ZonedDateTime.now());
+					if (checkResultCallback == null) {
+						return;
+					}
+					// Initialize check state (new or notified subscriber) or fallback - subscriber was not notified in the interval.
+					ZonedDateTime lastCheck = subscriber.getLastCheck();
+					if (lastCheck == null || !lastCheck.plus(CHECK_FALLBACK_INTERVAL).isAfter(now)) {
+						subscriber.setLastCheck(now);
 						checkResultCallback.checkDeferredResult(request.getResult(), subscriber);
 					}
 				});
 	}
+	
+	@Override
+	public void notifyChange(Class<? extends AbstractDto> type, UUID entityId) {
+		Assert.notNull(type, "Class type cannot be null!");
+		Assert.notNull(entityId, "Entity ID cannot be null!");
+		// Subscriber can be registered on another server instance => change is published into distributed cache.
+		LOG.trace("Entity [{}] of type [{}] was changed, subscribers will be notified after transaction is committed.", entityId, type);
+		//
+		entityEventManager.publishEvent(new SubscriberChangedEvent(entityId));
+	}
+	
+	/**
+	 * Publish new change version of subscribed entity after transaction is committed (or immediately without transaction).
+	 * Lookout: public method required for aop event listener only.
+	 * 
+	 * @param event changed subscriber
+	 * @since 11.1.0
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void markSubscriberChanged(SubscriberChangedEvent event) {
+		cacheManager.cacheValue(CHANGE_CACHE_NAME, event.getEntityId(), UUID.randomUUID());
+	}
 
 
 	@Override
@@ -100,7 +163,10 @@ public class DefaultLongPollingManager implements LongPollingManager{
 
 		this.suspendedRequests.add(result);
 		if (!this.registredSubscribers.containsKey(entityId)) {
-			this.registredSubscribers.put(entityId, new LongPollingSubscriber(result.getEntityId(), result.getType()));
+			LongPollingSubscriber subscriber = new LongPollingSubscriber(result.getEntityId(), result.getType());
+			// previous changes are not interesting for new subscriber
+			subscriber.setChangeVersion(getChangeVersion(entityId));
+			this.registredSubscribers.put(entityId, subscriber);
 		}
 
 		result.getResult().onCompletion(new Runnable() {
@@ -165,13 +231,7 @@ public class DefaultLongPollingManager implements LongPollingManager{
 			ZonedDateTime lastModified = this.getLastTimeStamp(changedRequestsFromLastCheck);
 			if (lastModified.isAfter(timeStamp)) {
 				// Notify FE -> Some of the entity was changed (refresh must be executed).
-				// Notified will be all suspended request for same entity ID!
-				this.suspendedRequests.stream()
-						.filter(request -> request.getEntityId().equals(subscriber.getEntityId()))
-						.forEach(request -> {
-									request.getResult().setResult(new OperationResultDto(OperationState.RUNNING));
-								}
-						);
+				notifySuspendedRequests(subscriber);
 				subscriber.setLastTimeStamp(lastModified);
 				return;
 			}
@@ -227,6 +287,35 @@ public class DefaultLongPollingManager implements LongPollingManager{
 		return lastModified.plus(1, ChronoUnit.MILLIS);
 	}
 
+	/**
+	 * Notify FE -> Some of the entity was changed (refresh must be executed).
+	 * Notified will be all suspended request for same entity ID!
+	 * 
+	 * @param subscriber changed subscriber
+	 */
+	private void notifySuspendedRequests(LongPollingSubscriber subscriber) {
+		this.suspendedRequests.stream()
+				.filter(request -> request.getEntityId().equals(subscriber.getEntityId()))
+				.forEach(request -> {
+							request.getResult().setResult(new OperationResultDto(OperationState.RUNNING));
+						}
+				);
+	}
+	
+	/**
+	 * Last published change of given entity (on any server instance).
+	 * 
+	 * @param entityId subscribed entity identifier
+	 * @return change version or {@code null}, if entity was not changed (or change expired)
+	 */
+	private UUID getChangeVersion(UUID entityId) {
+		ValueWrapper value = cacheManager.getValue(CHANGE_CACHE_NAME, entityId);
+		if (value == null) {
+			return null;
+		}
+		return (UUID) value.get();
+	}
+
 	/**
 	 * Get deferred results. For testing purpose.
 	 *
@@ -244,5 +333,23 @@ public class DefaultLongPollingManager implements LongPollingManager{
 	public Map<UUID, LongPollingSubscriber> getRegistredSubscribers() {
 		return registredSubscribers;
 	}
-
+	
+	/**
+	 * Subscribed entity was changed - published after entity is changed, change version is published after transaction is committed.
+	 * 
+	 * @author Radek Tomiška
+	 * @since 11.1.0
+	 */
+	private static class SubscriberChangedEvent {
+		
+		private final UUID entityId;
+		
+		public SubscriberChangedEvent(UUID entityId) {
+			this.entityId = entityId;
+		}
+		
+		public UUID getEntityId() {
+			return entityId;
+		}
+	}
 }
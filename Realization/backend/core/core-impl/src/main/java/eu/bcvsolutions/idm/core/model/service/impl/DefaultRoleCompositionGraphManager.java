@@ -0,0 +1,143 @@
+package eu.bcvsolutions.idm.core.model.service.impl;
+
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.Assert;
+
+import eu.bcvsolutions.idm.core.api.config.cache.domain.ValueWrapper;
+import eu.bcvsolutions.idm.core.api.service.EntityEventManager;
+import eu.bcvsolutions.idm.core.api.service.IdmCacheManager;
+import eu.bcvsolutions.idm.core.model.domain.RoleCompositionGraph;
+import eu.bcvsolutions.idm.core.model.repository.IdmIncompatibleRoleRepository;
+import eu.bcvsolutions.idm.core.model.repository.IdmRoleCompositionRepository;
+import eu.bcvsolutions.idm.core.model.service.api.RoleCompositionGraphManager;
+
+/**
+ * Role composition graph held in local cache by version from distributed cache.
+ * 
+ * @author Radek Tomiška
+ * @since 11.1.0
+ */
+@Service("roleCompositionGraphManager")
+public class DefaultRoleCompositionGraphManager implements RoleCompositionGraphManager {
+
+	private static final org.slf4j.Logger LOG = org.slf4j.LoggerFactory.getLogger(DefaultRoleCompositionGraphManager.class);
+	private static final String GRAPH_VERSION_KEY = "version";
+	//
+	private final IdmRoleCompositionRepository roleCompositionRepository;
+	private final IdmIncompatibleRoleRepository incompatibleRoleRepository;
+	private final IdmCacheManager cacheManager;
+	private final Object lock = new Object();
+	//
+	@Autowired @Lazy private EntityEventManager entityEventManager;
+	
+	@Autowired
+	public DefaultRoleCompositionGraphManager(
+			IdmRoleCompositionRepository roleCompositionRepository,
+			IdmIncompatibleRoleRepository incompatibleRoleRepository,
+			IdmCacheManager cacheManager) {
+		Assert.notNull(roleCompositionRepository, "Repository is required.");
+		Assert.notNull(incompatibleRoleRepository, "Repository is required.");
+		Assert.notNull(cacheManager, "Cache manager is required.");
+		//
+		this.roleCompositionRepository = roleCompositionRepository;
+		this.incompatibleRoleRepository = incompatibleRoleRepository;
+		this.cacheManager = cacheManager;
+	}
+	
+	@Override
+	public RoleCompositionGraph getGraph() {
+		RoleCompositionGraph graph = getCachedGraph();
+		if (graph != null) {
+			return graph;
+		}
+		//
+		synchronized (lock) {
+			graph = getCachedGraph();
+			if (graph != null) {
+				return graph;
+			}
+			// new version is registered before data are loaded => version evicted in the mean time is not lost
+			UUID version = getVersion();
+			if (version == null) {
+				version = UUID.randomUUID();
+				cacheManager.cacheValue(GRAPH_VERSION_CACHE_NAME, GRAPH_VERSION_KEY, version);
+			}
+			graph = buildGraph(version);
+			// previous versions are not needed
+			cacheManager.evictCache(GRAPH_CACHE_NAME);
+			cacheManager.cacheValue(GRAPH_CACHE_NAME, version, graph);
+			//
+			return graph;
+		}
+	}
+	
+	@Override
+	public void evictGraph() {
+		cacheManager.evictCache(GRAPH_VERSION_CACHE_NAME);
+		// graph can be loaded in the mean time with uncommitted data (e.g. by the same transaction, which can be rolled back)
+		entityEventManager.publishEvent(new GraphChangedEvent());
+	}
+	
+	/**
+	 * Evict graph version after transaction is completed - committed or rolled back (or immediately without transaction).
+	 * Lookout: public method required for aop event listener only.
+	 * 
+	 * @param event changed graph
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+	public void evictGraphVersion(GraphChangedEvent event) {
+		cacheManager.evictCache(GRAPH_VERSION_CACHE_NAME);
+	}
+	
+	private RoleCompositionGraph getCachedGraph() {
+		UUID version = getVersion();
+		if (version == null) {
+			return null;
+		}
+		ValueWrapper value = cacheManager.getValue(GRAPH_CACHE_NAME, version);
+		if (value == null) {
+			return null;
+		}
+		return (RoleCompositionGraph) value.get();
+	}
+	
+	private UUID getVersion() {
+		ValueWrapper value = cacheManager.getValue(GRAPH_VERSION_CACHE_NAME, GRAPH_VERSION_KEY);
+		if (value == null) {
+			return null;
+		}
+		return (UUID) value.get();
+	}
+	
+	private RoleCompositionGraph buildGraph(UUID version) {
+		long start = System.currentTimeMillis();
+		RoleCompositionGraph.Builder builder = new RoleCompositionGraph.Builder();
+		//
+		for (Object[] composition : roleCompositionRepository.findAllSuperiorAndSubIds()) {
+			builder.addComposition((UUID) composition[0], (UUID) composition[1]);
+		}
+		for (Object[] incompatibleRole : incompatibleRoleRepository.findAllSuperiorAndSubIds()) {
+			builder.addIncompatibleRole((UUID) incompatibleRole[0], (UUID) incompatibleRole[1], (UUID) incompatibleRole[2]);
+		}
+		RoleCompositionGraph graph = builder.build(version);
+		//
+		LOG.debug("Role composition graph [{}] with [{}] roles was built in [{}]ms.",
+				version, graph.getRoleCount(), System.currentTimeMillis() - start);
+		return graph;
+	}
+	
+	/**
+	 * Graph was changed - evict graph version after transaction is completed.
+	 * 
+	 * @author Radek Tomiška
+	 * @since 11.1.0
+	 */
+	private static class GraphChangedEvent {
+	}
+}
@@ -21,6 +21,15 @@ public class LongPollingSubscriber {
 	 * Time stamp when was this subscriber last used. It important for clearing map of subscribers.
 	 */
 	private ZonedDateTime lastUsingSubscriber;
+	/**
+	 * Last processed change version of subscribed entity - notified by entity event.
+	 */
+	private UUID changeVersion;
+	/**
+	 * Time stamp when subscriber was checked by check callback last time - {@code null} after subscriber was notified 
+	 * (check state will be initialized again).
+	 */
+	private ZonedDateTime lastCheck;
 
 	public LongPollingSubscriber(UUID entityId, Class<? extends AbstractDto> type) {
 		this.entityId = entityId;
@@ -59,4 +68,32 @@ public class LongPollingSubscriber {
 		this.lastUsingSubscriber = lastUsingSubscriber;
 	}
 
+	/**
+	 * Last processed change version of subscribed entity - notified by entity event.
+	 * 
+	 * @return change version
+	 * @since 11.1.0
+	 */
+	public UUID getChangeVersion() {
+		return changeVersion;
+	}
+
+	public void setChangeVersion(UUID changeVersion) {
+		this.changeVersion = changeVersion;
+	}
+
+	/**
+	 * Time stamp when subscriber was notified or checked by check callback last time.
+	 * 
+	 * @return last check
+	 * @since 11.1.0
+	 */
+	public ZonedDateTime getLastCheck() {
+		return lastCheck;
+	}
+
+	public void setLastCheck(ZonedDateTime lastCheck) {
+		this.lastCheck = lastCheck;
+	}
+
 }
\ No newline at end of file
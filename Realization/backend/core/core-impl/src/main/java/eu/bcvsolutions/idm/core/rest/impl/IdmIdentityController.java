@@ -1195,7 +1195,7 @@ public class IdmIdentityController extends AbstractFormableDtoController<IdmIden
 				new DeferredResult<OperationResultDto>( //
 						30000l, new OperationResultDto(OperationState.NOT_EXECUTED)) //
 		); //
-
+		// Changed role requests are notified by entity events - check callback is used as fallback only.
 		result.onCheckResultCallback(new CheckLongPollingResult() {
 
 			@Override
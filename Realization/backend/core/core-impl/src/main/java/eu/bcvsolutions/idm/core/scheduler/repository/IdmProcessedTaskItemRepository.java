@@ -1,5 +1,6 @@
 package eu.bcvsolutions.idm.core.scheduler.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -36,5 +37,19 @@ public interface IdmProcessedTaskItemRepository extends AbstractEntityRepository
 	
 	@Query("select e.referencedEntityId from #{#entityName} e where e.scheduledTaskQueueOwner.id = :stId")
 	List<UUID> findAllRefEntityIdsByScheduledTaskId(@Param("stId") UUID id);
+	
+	/**
+	 * Referenced entities in scheduled task queue - only given referenced entities are checked.
+	 * 
+	 * @param id scheduled task
+	 * @param referencedEntityIds referenced entities to check
+	 * @return referenced entities in queue
+	 * @since 11.1.0
+	 */
+	@Query("select e.referencedEntityId from #{#entityName} e where e.scheduledTaskQueueOwner.id = :stId"
+			+ " and e.referencedEntityId in (:referencedEntityIds)")
+	List<UUID> findRefEntityIdsByScheduledTaskId(
+			@Param("stId") UUID id, 
+			@Param("referencedEntityIds") Collection<UUID> referencedEntityIds);
 
 }
@@ -1,6 +1,10 @@
 package eu.bcvsolutions.idm.core.scheduler.service.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import javax.persistence.criteria.CriteriaBuilder;
@@ -9,6 +13,7 @@ import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
 
 import org.apache.commons.lang3.StringUtils;
+import org.hibernate.Session;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -44,6 +49,8 @@ public class DefaultIdmProcessedTaskItemService
 	extends AbstractReadWriteDtoService<IdmProcessedTaskItemDto, IdmProcessedTaskItem, IdmProcessedTaskItemFilter>
 	implements IdmProcessedTaskItemService {
 	
+	private static final int JDBC_BATCH_SIZE = 50;
+	//
 	private final IdmProcessedTaskItemRepository repository;
 
 	@Autowired
@@ -58,12 +65,7 @@ public class DefaultIdmProcessedTaskItemService
 	public IdmProcessedTaskItemDto saveInternal(IdmProcessedTaskItemDto dto) {
 		Assert.notNull(dto, "DTO is required.");
 		//
-		if (dto.getLongRunningTask() != null && dto.getScheduledTaskQueueOwner() != null) {
-			throw new CoreException("Item cannot be in both scheduled task queue and long running task log.");
-		}
-		if (dto.getLongRunningTask() == null && dto.getScheduledTaskQueueOwner() == null) {
-			throw new CoreException("Item must have either queue (IdmScheduledTask) or log (IdmLongRunningTask) association.");
-		}
+		validateItem(dto);
 		return super.saveInternal(dto);
 	}
 
@@ -143,6 +145,17 @@ public class DefaultIdmProcessedTaskItemService
 		return repository.findAllRefEntityIdsByScheduledTaskId(scheduledTaskId);
 	}
 
+	@Override
+	@Transactional(readOnly = true)
+	public Set<UUID> findRefEntityIdsInQueueByScheduledTaskId(UUID scheduledTaskId, Collection<UUID> referencedEntityIds) {
+		Assert.notNull(scheduledTaskId, "Scheduled task identifier is required.");
+		if (referencedEntityIds == null || referencedEntityIds.isEmpty()) {
+			return new HashSet<>();
+		}
+		//
+		return new HashSet<>(repository.findRefEntityIdsByScheduledTaskId(scheduledTaskId, referencedEntityIds));
+	}
+
 	@Override
 	@Transactional(readOnly = true)
 	public Page<IdmProcessedTaskItemDto> findQueueItems(IdmScheduledTaskDto scheduledTask, Pageable pageable) {
@@ -192,6 +205,40 @@ public class DefaultIdmProcessedTaskItemService
 		return this.saveInternal(item);
 	}
 	
+	@Override
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public void createItems(List<IdmProcessedTaskItemDto> items) {
+		Assert.notNull(items, "Items are required.");
+		if (items.isEmpty()) {
+			return;
+		}
+		//
+		Session session = (Session) getEntityManager().getDelegate();
+		Integer jdbcBatchSize = session.getJdbcBatchSize();
+		session.setJdbcBatchSize(JDBC_BATCH_SIZE);
+		try {
+			List<IdmProcessedTaskItem> entities = new ArrayList<>(items.size());
+			for (IdmProcessedTaskItemDto item : items) {
+				validateItem(item);
+				entities.add(toEntity(item));
+			}
+			// items are inserted at once on flush
+			repository.saveAll(entities);
+			session.flush();
+		} finally {
+			session.setJdbcBatchSize(jdbcBatchSize);
+		}
+	}
+	
+	private void validateItem(IdmProcessedTaskItemDto dto) {
+		if (dto.getLongRunningTask() != null && dto.getScheduledTaskQueueOwner() != null) {
+			throw new CoreException("Item cannot be in both scheduled task queue and long running task log.");
+		}
+		if (dto.getLongRunningTask() == null && dto.getScheduledTaskQueueOwner() == null) {
+			throw new CoreException("Item must have either queue (IdmScheduledTask) or log (IdmLongRunningTask) association.");
+		}
+	}
+	
 	private <E extends AbstractDto> IdmProcessedTaskItemDto createProcessedItemDto(E dto, OperationResult opResult) {
 		IdmProcessedTaskItemDto item = new IdmProcessedTaskItemDto();
 		item.setReferencedEntityId(dto.getId());
@@ -105,24 +105,19 @@ public class ChangeConfidentialStorageKeyTaskExecutor extends AbstractSchedulabl
 				count = values.getTotalElements();
 			}
 			//
-			for (Iterator<IdmConfidentialStorageValueDto> iterator = values.iterator(); iterator.hasNext()
-					&& canContinue;) {
-				IdmConfidentialStorageValueDto value = iterator.next();
-				Assert.notNull(value, "Value is required.");
-				Assert.notNull(value.getId(), "Value identifier is required.");
+			try {
+				// the whole page is re-encrypted at once (one transaction)
+				confidentialStorage.changeCryptKey(values.getContent(), oldCryptKey);
 				//
-				try {
-					confidentialStorage.changeCryptKey(value, oldCryptKey);
+				for (IdmConfidentialStorageValueDto value : values) {
 					counter++;
-					//
 					this.logItemProcessed(value, new OperationResult.Builder(OperationState.EXECUTED).build());
-				} catch (Exception ex) {
-					LOG.error("Error during change confidential storage key. For key [{}].", value.getKey(), ex);
-					this.logItemProcessed(value,
-							new OperationResult.Builder(OperationState.EXCEPTION).setCause(ex).build());
 				}
-				//
 				canContinue &= this.updateState();
+			} catch (Exception ex) {
+				LOG.warn("Error during change confidential storage key for page [{}], values will be processed one by one.", page, ex);
+				//
+				canContinue &= changeCryptKey(values);
 			}
 			canContinue &= values.hasNext();
 			++page;
@@ -132,6 +127,36 @@ public class ChangeConfidentialStorageKeyTaskExecutor extends AbstractSchedulabl
 		return Boolean.TRUE;
 	}
 
+	/**
+	 * Change key for each value separately - failed values are logged.
+	 * 
+	 * @param values processed page
+	 * @return can continue
+	 */
+	private boolean changeCryptKey(Page<IdmConfidentialStorageValueDto> values) {
+		boolean canContinue = true;
+		for (Iterator<IdmConfidentialStorageValueDto> iterator = values.iterator(); iterator.hasNext()
+				&& canContinue;) {
+			IdmConfidentialStorageValueDto value = iterator.next();
+			Assert.notNull(value, "Value is required.");
+			Assert.notNull(value.getId(), "Value identifier is required.");
+			//
+			try {
+				confidentialStorage.changeCryptKey(value, oldCryptKey);
+				counter++;
+				//
+				this.logItemProcessed(value, new OperationResult.Builder(OperationState.EXECUTED).build());
+			} catch (Exception ex) {
+				LOG.error("Error during change confidential storage key. For key [{}].", value.getKey(), ex);
+				this.logItemProcessed(value,
+						new OperationResult.Builder(OperationState.EXCEPTION).setCause(ex).build());
+			}
+			//
+			canContinue &= this.updateState();
+		}
+		return canContinue;
+	}
+
 	@Override
 	public List<IdmFormAttributeDto> getFormAttributes() {
 		IdmFormAttributeDto oldKey = new IdmFormAttributeDto(PARAMETER_OLD_CONFIDENTIAL_KEY,
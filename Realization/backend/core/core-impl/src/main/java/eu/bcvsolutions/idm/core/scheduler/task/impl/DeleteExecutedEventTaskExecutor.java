@@ -134,6 +134,11 @@ public class DeleteExecutedEventTaskExecutor extends AbstractSchedulableStateful
 		return true;
 	}
     
+    @Override
+    protected boolean isBatchProcessing() {
+    	return true; // lots of items are processed
+    }
+    
     @Override
     public boolean isRecoverable() {
     	return true;
@@ -154,6 +154,11 @@ public class DeleteNotificationTaskExecutor
 		return true;
 	}
     
+    @Override
+    protected boolean isBatchProcessing() {
+    	return true; // lots of items are processed
+    }
+    
     @Override
     public boolean isRecoverable() {
     	return true;
@@ -66,24 +66,19 @@ public class GenerateConfidentialStorageInitializationVectorsTaskExecutor extend
 				LOG.info("Starting to generate a new initialization vector for [{}] values in the confidential storage.", count);
 			}
 			//
-			for (Iterator<IdmConfidentialStorageValueDto> iterator = values.iterator(); iterator.hasNext()
-					&& canContinue;) {
-				IdmConfidentialStorageValueDto value = iterator.next();
-				Assert.notNull(value, "Value is required.");
+			try {
+				// the whole page is processed at once (one transaction)
+				confidentialStorage.renewVector(values.getContent());
 				//
-				try {
-					confidentialStorage.renewVector(value);
-					//
+				for (IdmConfidentialStorageValueDto value : values) {
 					counter++;
 					this.logItemProcessed(value, new OperationResult.Builder(OperationState.EXECUTED).build());
-				} catch (Exception ex) {
-					LOG.error("Error during generating new initialization vector for confidential storage value ID [{}], key [{}].",
-							value.getId(), value.getKey(), ex);
-					this.logItemProcessed(value,
-							new OperationResult.Builder(OperationState.EXCEPTION).setCause(ex).build());
 				}
-				//
 				canContinue &= this.updateState();
+			} catch (Exception ex) {
+				LOG.warn("Error during generating new initialization vectors for page [{}], values will be processed one by one.", page, ex);
+				//
+				canContinue &= renewVector(values);
 			}
 			canContinue &= values.hasNext();
 			++page;
@@ -94,4 +89,34 @@ public class GenerateConfidentialStorageInitializationVectorsTaskExecutor extend
 		//
 		return Boolean.TRUE;
 	}
+	
+	/**
+	 * Renew vector for each value separately - failed values are logged.
+	 * 
+	 * @param values processed page
+	 * @return can continue
+	 */
+	private boolean renewVector(Page<IdmConfidentialStorageValueDto> values) {
+		boolean canContinue = true;
+		for (Iterator<IdmConfidentialStorageValueDto> iterator = values.iterator(); iterator.hasNext()
+				&& canContinue;) {
+			IdmConfidentialStorageValueDto value = iterator.next();
+			Assert.notNull(value, "Value is required.");
+			//
+			try {
+				confidentialStorage.renewVector(value);
+				//
+				counter++;
+				this.logItemProcessed(value, new OperationResult.Builder(OperationState.EXECUTED).build());
+			} catch (Exception ex) {
+				LOG.error("Error during generating new initialization vector for confidential storage value ID [{}], key [{}].",
+						value.getId(), value.getKey(), ex);
+				this.logItemProcessed(value,
+						new OperationResult.Builder(OperationState.EXCEPTION).setCause(ex).build());
+			}
+			//
+			canContinue &= this.updateState();
+		}
+		return canContinue;
+	}
 }
@@ -83,6 +83,19 @@ public class IdentityContractExpirationTaskExecutor extends AbstractSchedulableS
 		return true;
 	}
 
+	@Override
+	protected boolean supportsParallelProcessing() {
+		return true;
+	}
+
+	/**
+	 * Contracts of the same identity are processed by the same worker - role requests of one identity are not executed concurrently.
+	 */
+	@Override
+	protected Object getParallelKey(IdmIdentityContractDto contract) {
+		return contract.getIdentity();
+	}
+
 	@Override
 	public Optional<OperationResult> processItem(IdmIdentityContractDto contract) {
 		LOG.info("Remove roles by expired identity contract [{}]. Contract ended for expiration less than [{}]",  contract.getId(), expiration);
@@ -52,6 +52,8 @@ public class ProcessAllAutomaticRoleByAttributeTaskExecutor extends AbstractSche
 
 	public static final String TASK_NAME = "core-process-all-automatic-role-attribute-long-running-task";
 	private static final int DEFAULT_PAGE_SIZE_ROLE = 10;
+	private static final int UPDATE_STATE_BATCH_SIZE = 100; // task is checked (e.g. canceled) after processed contracts
+	private static final long UPDATE_STATE_INTERVAL = 5000; // or after 5s
 
 	@Autowired
 	private IdmAutomaticRoleAttributeService automaticRoleAttributeService;
@@ -138,7 +140,7 @@ public class ProcessAllAutomaticRoleByAttributeTaskExecutor extends AbstractSche
     		roleRequest.setApplicant(contract.getIdentity());
     		roleRequest = roleRequestService.startConcepts(new RoleRequestEvent(RoleRequestEventType.EXCECUTE, roleRequest), null);
 
-			canContinue = updateState();
+			canContinue = updateState(UPDATE_STATE_BATCH_SIZE, UPDATE_STATE_INTERVAL);
 			if (!canContinue) {
 				break;
 			}
@@ -175,7 +177,7 @@ public class ProcessAllAutomaticRoleByAttributeTaskExecutor extends AbstractSche
     			roleRequest.setApplicant(identityId);
     			roleRequest = roleRequestService.startConcepts(new RoleRequestEvent(RoleRequestEventType.EXCECUTE, roleRequest), null);
 
-    			canContinue = updateState();
+    			canContinue = updateState(UPDATE_STATE_BATCH_SIZE, UPDATE_STATE_INTERVAL);
     			if (!canContinue) {
     				break;
     			}
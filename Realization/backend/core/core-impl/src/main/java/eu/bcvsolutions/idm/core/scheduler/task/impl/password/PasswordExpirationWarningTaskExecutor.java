@@ -6,11 +6,13 @@ import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 
 import org.quartz.DisallowConcurrentExecution;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 
 import com.google.common.collect.ImmutableMap;
@@ -76,11 +78,21 @@ public class PasswordExpirationWarningTaskExecutor extends AbstractSchedulableSt
 
 	@Override
 	public Page<IdmPasswordDto> getItemsToProcess(Pageable pageable) {
-		IdmPasswordFilter filter = new IdmPasswordFilter();
-		filter.setValidTill(expiration);
-		filter.setIdentityDisabled(Boolean.FALSE);
-		Page<IdmPasswordDto> result =  passwordService.find(filter, pageable);
-		return result;
+		return passwordService.find(getFilter(), pageable);
+	}
+	
+	/**
+	 * Passwords are loaded by keyset pagination - offset is not used on large password table.
+	 */
+	@Override
+	protected Slice<IdmPasswordDto> getItemsToProcess(Pageable pageable, UUID lastId) {
+		IdmPasswordFilter filter = getFilter();
+		if (lastId == null) {
+			// count all items only once, when the first slice is loaded
+			setCount(passwordService.count(filter));
+		}
+		//
+		return passwordService.findAfter(filter, lastId, pageable.getPageSize());
 	}
 
 	@Override
@@ -139,4 +151,12 @@ public class PasswordExpirationWarningTaskExecutor extends AbstractSchedulableSt
     public boolean isRecoverable() {
     	return true;
     }
+	
+	private IdmPasswordFilter getFilter() {
+		IdmPasswordFilter filter = new IdmPasswordFilter();
+		filter.setValidTill(expiration);
+		filter.setIdentityDisabled(Boolean.FALSE);
+		//
+		return filter;
+	}
 }
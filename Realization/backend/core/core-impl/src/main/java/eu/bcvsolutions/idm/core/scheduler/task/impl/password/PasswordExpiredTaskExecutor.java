@@ -3,11 +3,13 @@ package eu.bcvsolutions.idm.core.scheduler.task.impl.password;
 import java.time.LocalDate;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 
 import org.quartz.DisallowConcurrentExecution;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 
 import eu.bcvsolutions.idm.core.api.domain.CoreResultCode;
@@ -56,11 +58,21 @@ public class PasswordExpiredTaskExecutor extends AbstractSchedulableStatefulExec
 
 	@Override
 	public Page<IdmPasswordDto> getItemsToProcess(Pageable pageable) {
-		IdmPasswordFilter filter = new IdmPasswordFilter();
-		filter.setValidTill(expiration); // valid till filter <=
-		filter.setIdentityDisabled(Boolean.FALSE);
+		return passwordService.find(getFilter(), pageable);
+	}
+	
+	/**
+	 * Passwords are loaded by keyset pagination - offset is not used on large password table.
+	 */
+	@Override
+	protected Slice<IdmPasswordDto> getItemsToProcess(Pageable pageable, UUID lastId) {
+		IdmPasswordFilter filter = getFilter();
+		if (lastId == null) {
+			// count all items only once, when the first slice is loaded
+			setCount(passwordService.count(filter));
+		}
 		//
-		return passwordService.find(filter, pageable);
+		return passwordService.findAfter(filter, lastId, pageable.getPageSize());
 	}
 
 	@Override
@@ -93,4 +105,12 @@ public class PasswordExpiredTaskExecutor extends AbstractSchedulableStatefulExec
     public boolean isRecoverable() {
     	return true;
     }
+	
+	private IdmPasswordFilter getFilter() {
+		IdmPasswordFilter filter = new IdmPasswordFilter();
+		filter.setValidTill(expiration); // valid till filter <=
+		filter.setIdentityDisabled(Boolean.FALSE);
+		//
+		return filter;
+	}
 }
@@ -0,0 +1,72 @@
+package eu.bcvsolutions.idm.core.security.domain;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.springframework.util.Assert;
+
+import eu.bcvsolutions.idm.core.security.api.service.AuthorizationManager;
+
+/**
+ * Key of cached entity permissions of logged identity - identity, cache generation and entity identifier.
+ * Generation is held in {@link AuthorizationManager#PERMISSION_CACHE_NAME} for each identity - when generation is evicted,
+ * all entity permissions cached with previous generation are not used anymore (and they expire by ttl).
+ *
+ * @author Radek Tomiška
+ * @since 11.1.0
+ */
+public final class PermissionCacheKey implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+	//
+	private final UUID identityId;
+	private final UUID generation;
+	private final Serializable entityId;
+
+	public PermissionCacheKey(UUID identityId, UUID generation, Serializable entityId) {
+		Assert.notNull(identityId, "Identity identifier is required.");
+		Assert.notNull(generation, "Cache generation is required.");
+		Assert.notNull(entityId, "Entity identifier is required.");
+		//
+		this.identityId = identityId;
+		this.generation = generation;
+		this.entityId = entityId;
+	}
+
+	public UUID getIdentityId() {
+		return identityId;
+	}
+
+	public UUID getGeneration() {
+		return generation;
+	}
+
+	public Serializable getEntityId() {
+		return entityId;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof PermissionCacheKey)) {
+			return false;
+		}
+		PermissionCacheKey other = (PermissionCacheKey) obj;
+		return identityId.equals(other.identityId)
+				&& generation.equals(other.generation)
+				&& entityId.equals(other.entityId);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(identityId, generation, entityId);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s:%s:%s", identityId, generation, entityId);
+	}
+}
@@ -2,6 +2,7 @@ package eu.bcvsolutions.idm.core.security.service.impl;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -42,6 +43,7 @@ import eu.bcvsolutions.idm.core.security.api.service.AuthorizationEvaluator;
 import eu.bcvsolutions.idm.core.security.api.service.AuthorizationManager;
 import eu.bcvsolutions.idm.core.security.api.service.SecurityService;
 import eu.bcvsolutions.idm.core.security.api.utils.PermissionUtils;
+import eu.bcvsolutions.idm.core.security.domain.PermissionCacheKey;
 
 /**
  * Provides authorization evaluators to target read / write services.
@@ -52,6 +54,15 @@ import eu.bcvsolutions.idm.core.security.api.utils.PermissionUtils;
 public class DefaultAuthorizationManager implements AuthorizationManager {
 	
 	private static final org.slf4j.Logger LOG = org.slf4j.LoggerFactory.getLogger(DefaultAuthorizationManager.class);
+	/**
+	 * Maximum count of cached entity permissions held on heap - global cap shared by all identities 
+	 * (cache is not partitioned by identity). When cap is reached, the least recently used permissions 
+	 * are evicted (e.g. one identity can evict permissions of others by loading a lot of records) 
+	 * => evicted permissions are evaluated again, cached permissions live one minute only anyway.
+	 * 
+	 * @since 11.1.0
+	 */
+	public static final long PERMISSION_CACHE_MAX_SIZE = 50000;
 	//
 	private IdmAuthorizationPolicyService service;
 	private final ApplicationContext context;
@@ -106,46 +117,64 @@ public class DefaultAuthorizationManager implements AuthorizationManager {
 	}
 
 	@Override
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	public <E extends Identifiable> Set<String> getPermissions(E entity) {
 		Assert.notNull(entity, "Entity is required.");
-		final Set<String> permissions = new HashSet<>();
 		//
 		UUID loggedIdentityId = securityService.getCurrentId();
 		if (loggedIdentityId == null) {
 			// TODO: support setting policies to not logged user - e.g. public endpoints.
-			return permissions;
+			return new HashSet<>();
 		}
 		// try to get cached permissions
 		Serializable entityId = entity.getId();
-		Map<Serializable, Set<String>> cachedPermissions = null;
-		if (entityId != null) { // TODO: support cache for newly created entities without id
-			ValueWrapper value = cacheManager.getValue(PERMISSION_CACHE_NAME, loggedIdentityId);
-			if (value != null) {
-				// cache value is never null
-				cachedPermissions = new HashMap<>((Map) value.get());
-				//
-				if (cachedPermissions.containsKey(entityId)) {
-					return cachedPermissions.get(entityId);
-				}
-			}		
+		if (entityId == null) { // TODO: support cache for newly created entities without id
+			return evaluatePermissions(entity, getEnabledDistinctPolicies(loggedIdentityId, entity.getClass()));
 		}
-		// load policies and get permissions
-		getEnabledDistinctPolicies(loggedIdentityId, entity.getClass()).forEach(policy -> {				
-			permissions.addAll(getPermissions(entity, policy));
-		});
-		// cache permissions 
-		if (entityId != null) {
-			if (cachedPermissions == null) {
-				cachedPermissions = new HashMap<>();
-			}
-			cachedPermissions.put(entityId, permissions);
-			cacheManager.cacheValue(PERMISSION_CACHE_NAME, loggedIdentityId, cachedPermissions);
+		UUID generation = getPermissionCacheGeneration(loggedIdentityId);
+		Set<String> permissions = getCachedPermissions(loggedIdentityId, generation, entityId);
+		if (permissions == null) {
+			// load policies and get permissions
+			permissions = evaluatePermissions(entity, getEnabledDistinctPolicies(loggedIdentityId, entity.getClass()));
+			cachePermissions(loggedIdentityId, generation, entityId, permissions);
 		}
 		//
 		return permissions;
 	}
 	
+	@Override
+	public <E extends Identifiable> Map<Serializable, Set<String>> getPermissions(Collection<E> entities) {
+		Assert.notNull(entities, "Entities are required.");
+		//
+		Map<Serializable, Set<String>> results = new HashMap<>(entities.size());
+		UUID loggedIdentityId = securityService.getCurrentId();
+		if (loggedIdentityId == null) {
+			// TODO: support setting policies to not logged user - e.g. public endpoints.
+			entities.forEach(entity -> {
+				results.put(entity.getId(), new HashSet<>());
+			});
+			return results;
+		}
+		UUID generation = getPermissionCacheGeneration(loggedIdentityId);
+		// policies are loaded once for each entity type
+		Map<Class<?>, List<IdmAuthorizationPolicyDto>> policies = new HashMap<>();
+		for (E entity : entities) {
+			Assert.notNull(entity, "Entity is required.");
+			Serializable entityId = entity.getId();
+			Assert.notNull(entityId, "Entity identifier is required.");
+			//
+			Set<String> permissions = getCachedPermissions(loggedIdentityId, generation, entityId);
+			if (permissions == null) {
+				permissions = evaluatePermissions(
+						entity, 
+						policies.computeIfAbsent(entity.getClass(), type -> getEnabledDistinctPolicies(loggedIdentityId, entity.getClass())));
+				cachePermissions(loggedIdentityId, generation, entityId, permissions);
+			}
+			results.put(entityId, permissions);
+		}
+		//
+		return results;
+	}
+	
 	@Override
 	public <E extends Identifiable> Set<String> getPermissions(E entity, AuthorizationPolicy policy) {
 		Assert.notNull(policy, "Policy is required.");
@@ -346,6 +375,72 @@ public class DefaultAuthorizationManager implements AuthorizationManager {
 		return null;
 	}
 	
+	/**
+	 * Evaluate permissions for given entity by given policies.
+	 * 
+	 * @param entity evaluated entity
+	 * @param policies enabled policies
+	 * @return permissions
+	 */
+	private <E extends Identifiable> Set<String> evaluatePermissions(E entity, List<IdmAuthorizationPolicyDto> policies) {
+		final Set<String> permissions = new HashSet<>();
+		policies.forEach(policy -> {
+			permissions.addAll(getPermissions(entity, policy));
+		});
+		//
+		return permissions;
+	}
+	
+	/**
+	 * Cache generation of given identity permissions. New generation is created, when generation is evicted 
+	 * (e.g. policy or contract is changed) => permissions cached with previous generation are not used anymore.
+	 * 
+	 * @param identityId logged identity
+	 * @return cache generation
+	 */
+	protected UUID getPermissionCacheGeneration(UUID identityId) {
+		ValueWrapper value = cacheManager.getValue(PERMISSION_CACHE_NAME, identityId);
+		if (value != null && value.get() instanceof UUID) {
+			return (UUID) value.get();
+		}
+		UUID generation = UUID.randomUUID();
+		cacheManager.cacheValue(PERMISSION_CACHE_NAME, identityId, generation);
+		//
+		return generation;
+	}
+	
+	/**
+	 * Cached permissions of given identity for given entity.
+	 * 
+	 * @param identityId logged identity
+	 * @param generation identity cache generation
+	 * @param entityId entity identifier
+	 * @return cached permissions, or {@code null}, if permissions are not cached
+	 */
+	@SuppressWarnings("unchecked")
+	protected Set<String> getCachedPermissions(UUID identityId, UUID generation, Serializable entityId) {
+		ValueWrapper value = cacheManager.getValue(PERMISSION_ENTITY_CACHE_NAME, new PermissionCacheKey(identityId, generation, entityId));
+		if (value == null) {
+			return null;
+		}
+		return (Set<String>) value.get();
+	}
+	
+	/**
+	 * Cache permissions of given identity for given entity - only given entity permissions are cached (serialized).
+	 * 
+	 * @param identityId logged identity
+	 * @param generation identity cache generation
+	 * @param entityId entity identifier
+	 * @param permissions evaluated permissions
+	 */
+	protected void cachePermissions(UUID identityId, UUID generation, Serializable entityId, Set<String> permissions) {
+		cacheManager.cacheValue(
+				PERMISSION_ENTITY_CACHE_NAME, 
+				new PermissionCacheKey(identityId, generation, entityId), 
+				permissions instanceof HashSet ? permissions : new HashSet<>(permissions));
+	}
+	
 	/**
 	 * Cache decorator - get or load current identity authorization policies.
 	 * Distinct policies are returned only
@@ -59,9 +59,18 @@ public class DefaultCryptService implements CryptService {
 	 */
 	@Deprecated
 	private static byte [] IV = { 48, 104, 118, 113, 103, 116, 51, 114, 107, 54, 51, 57, 108, 121, 119, 101 };
+	/**
+	 * Secure random is thread safe - seeding is expensive => one instance is used for generating all vectors.
+	 */
+	private static final SecureRandom SECURE_RANDOM = new SecureRandom();
 	//
 	private final ConfigurableEnvironment env;
 	private SecretKey key;
+	/**
+	 * Cipher is not thread safe - instance is reused by thread (getting cipher instance is expensive).
+	 */
+	private final ThreadLocal<Cipher> encryptCipher = new ThreadLocal<>();
+	private final ThreadLocal<Cipher> decryptCipher = new ThreadLocal<>();
 	
 	public DefaultCryptService(ConfigurableEnvironment environment) {
 		Assert.notNull(environment, "Environment is required.");
@@ -182,8 +191,7 @@ public class DefaultCryptService implements CryptService {
 	@Override
 	public byte[] generateVector() {
 		byte[] vector = new byte[16];
-		SecureRandom s = new SecureRandom();
-		s.nextBytes(vector);
+		SECURE_RANDOM.nextBytes(vector);
 		
 		return vector;
 	}
@@ -241,7 +249,7 @@ public class DefaultCryptService implements CryptService {
 	
 	/**
 	 * Method init {@link Cipher} by encrypt mode {@link Cipher}. 
-	 * Cipher is not thread safe and is not reusable, has to be constructed for all requests.
+	 * Cipher is not thread safe - cipher instance is reused by the current thread only and it's initialized for all requests.
 	 * 
 	 * 
 	 * @param encryptMode
@@ -257,9 +265,13 @@ public class DefaultCryptService implements CryptService {
 			LOG.warn("Confidential storage value hasn't defined dynamic vector.");
 		}
 
-		Cipher cipher = null;
+		ThreadLocal<Cipher> threadCipher = encryptMode == Cipher.ENCRYPT_MODE ? encryptCipher : decryptCipher;
+		Cipher cipher = threadCipher.get();
 		try {
-			cipher = Cipher.getInstance(ALGORITHM + "/" + ALGORITHM_MODE + "/" + ALGORITHM_PADDING);
+			if (cipher == null) {
+				cipher = Cipher.getInstance(ALGORITHM + "/" + ALGORITHM_MODE + "/" + ALGORITHM_PADDING);
+				threadCipher.set(cipher);
+			}
 			cipher.init(encryptMode, key, new IvParameterSpec(iv));
 		} catch (NoSuchAlgorithmException | NoSuchPaddingException | InvalidAlgorithmParameterException e) {
 			LOG.error("Cipher can't be initialized!");
@@ -0,0 +1,9 @@
+--
+-- CzechIdM 11 Flyway script 
+-- BCV solutions s.r.o.
+--
+-- entity event content fingerprint - duplicate events detection
+
+ALTER TABLE idm_entity_event ADD COLUMN content_hash varchar(64);
+
+CREATE INDEX idx_idm_entity_event_hash ON idm_entity_event USING btree (content_hash);
@@ -0,0 +1,19 @@
+--
+-- CzechIdM 11 Flyway script 
+-- BCV solutions s.r.o.
+--
+-- indexed audit changed attributes - search by changed attribute without like on changed_attributes column
+-- existing audit records are indexed by long running task RebuildAuditChangedAttributeIndexTaskExecutor (in chunks)
+
+CREATE TABLE idm_audit_attribute
+(
+  audit_id bigint NOT NULL,
+  attribute_name character varying(255) NOT NULL,
+  CONSTRAINT idm_audit_attribute_pkey PRIMARY KEY (audit_id, attribute_name),
+  CONSTRAINT fk_idm_audit_attribute_audit FOREIGN KEY (audit_id)
+      REFERENCES idm_audit (id) MATCH SIMPLE
+      ON UPDATE NO ACTION ON DELETE NO ACTION
+);
+
+-- pattern ops - index is used for search by attribute name prefix (like 'name%') too
+CREATE INDEX idx_idm_audit_attribute_name ON idm_audit_attribute USING btree (attribute_name varchar_pattern_ops, audit_id);
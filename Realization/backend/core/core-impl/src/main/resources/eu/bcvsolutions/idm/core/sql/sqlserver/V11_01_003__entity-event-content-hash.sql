@@ -0,0 +1,10 @@
+--
+-- CzechIdM 11 Flyway script 
+-- BCV solutions s.r.o.
+--
+-- entity event content fingerprint - duplicate events detection
+
+ALTER TABLE idm_entity_event ADD content_hash nvarchar(64)
+GO
+
+CREATE INDEX idx_idm_entity_event_hash ON idm_entity_event (content_hash);
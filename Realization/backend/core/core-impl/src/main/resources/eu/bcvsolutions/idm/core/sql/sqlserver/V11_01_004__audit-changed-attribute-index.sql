@@ -0,0 +1,16 @@
+--
+-- CzechIdM 11 Flyway script 
+-- BCV solutions s.r.o.
+--
+-- indexed audit changed attributes - search by changed attribute without like on changed_attributes column
+-- existing audit records are indexed by long running task RebuildAuditChangedAttributeIndexTaskExecutor (in chunks)
+
+CREATE TABLE idm_audit_attribute (
+	audit_id numeric(19,0) NOT NULL,
+	attribute_name nvarchar(255) NOT NULL,
+	CONSTRAINT idm_audit_attribute_pkey PRIMARY KEY (audit_id, attribute_name),
+	CONSTRAINT fk_idm_audit_attribute_audit FOREIGN KEY (audit_id) REFERENCES idm_audit(id)
+);
+GO
+
+CREATE INDEX idx_idm_audit_attribute_name ON idm_audit_attribute (attribute_name, audit_id);
@@ -0,0 +1,72 @@
+package eu.bcvsolutions.idm.core.audit.task.impl;
+
+import java.util.List;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.google.common.collect.Lists;
+
+import eu.bcvsolutions.idm.core.api.audit.dto.IdmAuditDto;
+import eu.bcvsolutions.idm.core.api.audit.dto.filter.IdmAuditFilter;
+import eu.bcvsolutions.idm.core.api.audit.service.IdmAuditService;
+import eu.bcvsolutions.idm.core.api.dto.IdmIdentityDto;
+import eu.bcvsolutions.idm.core.api.service.IdmIdentityService;
+import eu.bcvsolutions.idm.core.api.utils.AutowireHelper;
+import eu.bcvsolutions.idm.core.model.entity.IdmIdentity_;
+import eu.bcvsolutions.idm.core.scheduler.api.service.LongRunningTaskManager;
+import eu.bcvsolutions.idm.test.api.AbstractIntegrationTest;
+
+/**
+ * LRT integration test - index changed attributes of audit records.
+ *
+ * @author Radek Tomiška
+ *
+ */
+public class RebuildAuditChangedAttributeIndexTaskExecutorIntegrationTest extends AbstractIntegrationTest {
+
+	@Autowired private IdmAuditService auditService;
+	@Autowired private IdmIdentityService identityService;
+	@Autowired private LongRunningTaskManager longRunningTaskManager;
+	@PersistenceContext private EntityManager entityManager;
+
+	@Test
+	public void testIndexChangedAttributes() {
+		IdmIdentityDto identity = getHelper().createIdentity();
+		identity.setFirstName(getHelper().createName());
+		identity = identityService.save(identity);
+		//
+		IdmAuditFilter filter = new IdmAuditFilter();
+		filter.setModification("MOD");
+		filter.setEntityId(identity.getId());
+		filter.setChangedAttributesList(Lists.newArrayList(IdmIdentity_.firstName.getName()));
+		List<IdmAuditDto> audits = auditService.find(filter, null).getContent();
+		Assert.assertEquals(1, audits.size());
+		Long auditId = (Long) audits.get(0).getId();
+		//
+		// audit record created before index was introduced
+		getTransactionTemplate().execute(status -> {
+			return entityManager
+				.createNativeQuery("DELETE FROM idm_audit_attribute WHERE audit_id = :auditId")
+				.setParameter("auditId", auditId)
+				.executeUpdate();
+		});
+		Assert.assertTrue(auditService.find(filter, null).getContent().isEmpty());
+		//
+		RebuildAuditChangedAttributeIndexTaskExecutor taskExecutor = AutowireHelper.createBean(RebuildAuditChangedAttributeIndexTaskExecutor.class);
+		longRunningTaskManager.executeSync(taskExecutor);
+		//
+		audits = auditService.find(filter, null).getContent();
+		Assert.assertEquals(1, audits.size());
+		Assert.assertEquals(auditId, audits.get(0).getId());
+		//
+		// indexed audit records are skipped
+		taskExecutor = AutowireHelper.createBean(RebuildAuditChangedAttributeIndexTaskExecutor.class);
+		longRunningTaskManager.executeSync(taskExecutor);
+		Assert.assertEquals(1, auditService.find(filter, null).getContent().size());
+	}
+}
@@ -530,6 +530,30 @@ public class DefaultFormServiceIntegrationTest extends AbstractIntegrationTest {
 		assertEquals(1, owners.getTotalElements());
 	}
 
+	@Test
+	public void testFindOwnersWithLimitedPage() {
+		IdmIdentityDto owner = getHelper().createIdentity((GuardedString) null);
+		IdmIdentityDto ownerTwo = getHelper().createIdentity((GuardedString) null);
+		IdmIdentityDto ownerThree = getHelper().createIdentity((GuardedString) null);
+		IdmFormDefinitionDto formDefinition = formService.getDefinition(IdmIdentity.class);
+		IdmFormAttributeDto attribute = formDefinition.getMappedAttributeByCode(InitDemoDataProcessor.FORM_ATTRIBUTE_PHONE);
+		String value = getHelper().createName();
+		// save values
+		formService.saveValues(owner.getId(), IdmIdentity.class, attribute, Lists.newArrayList(value));
+		formService.saveValues(ownerTwo.getId(), IdmIdentity.class, attribute, Lists.newArrayList(value));
+		formService.saveValues(ownerThree.getId(), IdmIdentity.class, attribute, Lists.newArrayList(value));
+		//
+		Page<IdmIdentityDto> owners = formService.findOwners(IdmIdentity.class, attribute, value, PageRequest.of(0, 2));
+		//
+		assertEquals(2, owners.getContent().size());
+		assertEquals(3, owners.getTotalElements());
+		assertTrue(owners.getContent().stream().allMatch(o -> o instanceof IdmIdentityDto));
+		//
+		owners = formService.findOwners(IdmIdentity.class, attribute, getHelper().createName(), PageRequest.of(0, 2));
+		Assert.assertFalse(owners.hasContent());
+		assertEquals(0, owners.getTotalElements());
+	}
+
 	@Test
 	public void testFindOwnersByStringAttributeValue() {
 		IdmIdentityDto owner = getHelper().createIdentity((GuardedString) null);
@@ -0,0 +1,232 @@
+package eu.bcvsolutions.idm.core.model.domain;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
+import eu.bcvsolutions.idm.core.api.domain.AutomaticRoleAttributeRuleComparison;
+import eu.bcvsolutions.idm.core.api.domain.AutomaticRoleAttributeRuleType;
+import eu.bcvsolutions.idm.core.api.dto.IdmAutomaticRoleAttributeDto;
+import eu.bcvsolutions.idm.core.api.dto.IdmAutomaticRoleAttributeRuleDto;
+import eu.bcvsolutions.idm.core.eav.api.domain.PersistentType;
+import eu.bcvsolutions.idm.core.eav.api.dto.IdmFormAttributeDto;
+import eu.bcvsolutions.idm.core.eav.entity.IdmFormAttribute;
+import eu.bcvsolutions.idm.core.model.domain.AutomaticRoleAttributeRuleEngine.Snapshot;
+import eu.bcvsolutions.idm.core.model.entity.IdmIdentity;
+import eu.bcvsolutions.idm.core.model.entity.IdmIdentityContract;
+import eu.bcvsolutions.idm.core.model.entity.eav.IdmIdentityContractFormValue;
+import eu.bcvsolutions.idm.test.api.AbstractUnitTest;
+
+/**
+ * In memory evaluation of automatic role rules.
+ *
+ * @author Radek Tomiška
+ */
+public class AutomaticRoleAttributeRuleEngineUnitTest extends AbstractUnitTest {
+
+	@Test
+	public void testContractAttribute() {
+		UUID automaticRoleId = UUID.randomUUID();
+		AutomaticRoleAttributeRuleEngine engine = new AutomaticRoleAttributeRuleEngine(Lists.newArrayList(
+				createRule(automaticRoleId, AutomaticRoleAttributeRuleType.CONTRACT, "position", AutomaticRoleAttributeRuleComparison.START_WITH, "dev")));
+		//
+		Assert.assertTrue(engine.isCompiled(automaticRoleId));
+		Assert.assertEquals(Sets.newHashSet(automaticRoleId), engine.getAutomaticRoles(AutomaticRoleAttributeRuleType.CONTRACT));
+		Assert.assertTrue(engine.getAutomaticRoles(AutomaticRoleAttributeRuleType.IDENTITY).isEmpty());
+		//
+		IdmIdentityContract contract = createContract();
+		contract.setPosition("developer");
+		Assert.assertTrue(engine.evaluate(automaticRoleId, new Snapshot(contract, null, null, null)));
+		contract.setPosition("tester");
+		Assert.assertFalse(engine.evaluate(automaticRoleId, new Snapshot(contract, null, null, null)));
+		contract.setPosition(null);
+		Assert.assertFalse(engine.evaluate(automaticRoleId, new Snapshot(contract, null, null, null)));
+	}
+
+	@Test
+	public void testIdentityAttributeNotEquals() {
+		UUID automaticRoleId = UUID.randomUUID();
+		AutomaticRoleAttributeRuleEngine engine = new AutomaticRoleAttributeRuleEngine(Lists.newArrayList(
+				createRule(automaticRoleId, AutomaticRoleAttributeRuleType.IDENTITY, "firstName", AutomaticRoleAttributeRuleComparison.NOT_EQUALS, "John")));
+		//
+		IdmIdentityContract contract = createContract();
+		contract.getIdentity().setFirstName("Jane");
+		Assert.assertTrue(engine.evaluate(automaticRoleId, new Snapshot(contract, null, null, null)));
+		contract.getIdentity().setFirstName(null);
+		Assert.assertTrue(engine.evaluate(automaticRoleId, new Snapshot(contract, null, null, null)));
+		contract.getIdentity().setFirstName("John");
+		Assert.assertFalse(engine.evaluate(automaticRoleId, new Snapshot(contract, null, null, null)));
+	}
+
+	@Test
+	public void testAllRulesHaveToPass() {
+		UUID automaticRoleId = UUID.randomUUID();
+		AutomaticRoleAttributeRuleEngine engine = new AutomaticRoleAttributeRuleEngine(Lists.newArrayList(
+				createRule(automaticRoleId, AutomaticRoleAttributeRuleType.CONTRACT, "position", AutomaticRoleAttributeRuleComparison.EQUALS, "developer"),
+				createRule(automaticRoleId, AutomaticRoleAttributeRuleType.IDENTITY, "lastName", AutomaticRoleAttributeRuleComparison.IS_EMPTY, null)));
+		//
+		Assert.assertEquals(Sets.newHashSet(automaticRoleId), engine.getAutomaticRoles(null));
+		IdmIdentityContract contract = createContract();
+		contract.setPosition("developer");
+		Assert.assertTrue(engine.evaluate(automaticRoleId, new Snapshot(contract, null, null, null)));
+		contract.getIdentity().setLastName("Doe");
+		Assert.assertFalse(engine.evaluate(automaticRoleId, new Snapshot(contract, null, null, null)));
+	}
+
+	@Test
+	public void testFormAttribute() {
+		UUID automaticRoleId = UUID.randomUUID();
+		IdmFormAttribute formAttribute = createFormAttribute(PersistentType.LONG);
+		IdmAutomaticRoleAttributeRuleDto rule = createRule(
+				automaticRoleId, AutomaticRoleAttributeRuleType.CONTRACT_EAV, null, AutomaticRoleAttributeRuleComparison.GREATER_THAN_OR_EQUAL, "10");
+		setFormAttribute(rule, formAttribute);
+		AutomaticRoleAttributeRuleEngine engine = new AutomaticRoleAttributeRuleEngine(Lists.newArrayList(rule));
+		//
+		Assert.assertTrue(engine.isCompiled(automaticRoleId));
+		Assert.assertEquals(Sets.newHashSet(formAttribute.getId()), engine.getFormAttributes(AutomaticRoleAttributeRuleType.CONTRACT_EAV));
+		Assert.assertTrue(engine.getFormAttributes(AutomaticRoleAttributeRuleType.IDENTITY_EAV).isEmpty());
+		//
+		IdmIdentityContract contract = createContract();
+		Assert.assertFalse(engine.evaluate(automaticRoleId, new Snapshot(contract, null, null, null)));
+		Assert.assertTrue(engine.evaluate(automaticRoleId, new Snapshot(contract, createValues(formAttribute, 10L), null, null)));
+		Assert.assertTrue(engine.evaluate(automaticRoleId, new Snapshot(contract, createValues(formAttribute, 5L, 12L), null, null)));
+		Assert.assertFalse(engine.evaluate(automaticRoleId, new Snapshot(contract, createValues(formAttribute, 9L), null, null)));
+	}
+
+	@Test
+	public void testFormAttributeNotEquals() {
+		UUID automaticRoleId = UUID.randomUUID();
+		IdmFormAttribute formAttribute = createFormAttribute(PersistentType.LONG);
+		IdmAutomaticRoleAttributeRuleDto rule = createRule(
+				automaticRoleId, AutomaticRoleAttributeRuleType.CONTRACT_EAV, null, AutomaticRoleAttributeRuleComparison.NOT_EQUALS, "10");
+		setFormAttribute(rule, formAttribute);
+		AutomaticRoleAttributeRuleEngine engine = new AutomaticRoleAttributeRuleEngine(Lists.newArrayList(rule));
+		//
+		IdmIdentityContract contract = createContract();
+		Assert.assertTrue(engine.evaluate(automaticRoleId, new Snapshot(contract, null, null, null)));
+		Assert.assertTrue(engine.evaluate(automaticRoleId, new Snapshot(contract, createValues(formAttribute, 5L), null, null)));
+		Assert.assertFalse(engine.evaluate(automaticRoleId, new Snapshot(contract, createValues(formAttribute, 10L), null, null)));
+	}
+
+	@Test
+	public void testNotCompiledRules() {
+		UUID automaticRoleId = UUID.randomUUID();
+		UUID otherAutomaticRoleId = UUID.randomUUID();
+		IdmAutomaticRoleAttributeRuleDto dateRule = createRule(
+				automaticRoleId, AutomaticRoleAttributeRuleType.CONTRACT_EAV, null, AutomaticRoleAttributeRuleComparison.EQUALS, "2020-01-01");
+		setFormAttribute(dateRule, createFormAttribute(PersistentType.DATE));
+		AutomaticRoleAttributeRuleEngine engine = new AutomaticRoleAttributeRuleEngine(Lists.newArrayList(
+				createRule(automaticRoleId, AutomaticRoleAttributeRuleType.CONTRACT, "position", AutomaticRoleAttributeRuleComparison.EQUALS, "developer"),
+				dateRule,
+				// wildcard is evaluated by sql criteria
+				createRule(otherAutomaticRoleId, AutomaticRoleAttributeRuleType.CONTRACT, "position", AutomaticRoleAttributeRuleComparison.CONTAINS, "dev%")));
+		//
+		Assert.assertFalse(engine.isCompiled(automaticRoleId));
+		Assert.assertFalse(engine.isCompiled(otherAutomaticRoleId));
+		Assert.assertFalse(engine.isCompiled(UUID.randomUUID()));
+		Assert.assertEquals(Sets.newHashSet(automaticRoleId, otherAutomaticRoleId), engine.getAutomaticRoles(AutomaticRoleAttributeRuleType.CONTRACT));
+	}
+
+	@Test
+	public void testSnapshot() {
+		UUID automaticRoleId = UUID.randomUUID();
+		IdmIdentityContract contract = createContract();
+		Snapshot snapshot = new Snapshot(contract, null, null, Sets.newHashSet(automaticRoleId));
+		//
+		Assert.assertTrue(snapshot.isAssigned(automaticRoleId));
+		Assert.assertFalse(snapshot.isAssigned(UUID.randomUUID()));
+		Assert.assertTrue(snapshot.isValidNowOrInFuture());
+		contract.setValidTill(LocalDate.now().minusDays(1));
+		Assert.assertFalse(snapshot.isValidNowOrInFuture());
+		contract.setValidTill(LocalDate.now());
+		Assert.assertTrue(snapshot.isValidNowOrInFuture());
+		contract.setDisabled(true);
+		Assert.assertFalse(snapshot.isValidNowOrInFuture());
+	}
+
+	@Test
+	public void testRegisteredAutomaticRoles() {
+		IdmAutomaticRoleAttributeDto automaticRole = new IdmAutomaticRoleAttributeDto();
+		automaticRole.setId(UUID.randomUUID());
+		UUID otherAutomaticRoleId = UUID.randomUUID();
+		IdmAutomaticRoleAttributeRuleDto rule = createRule(
+				automaticRole.getId(), AutomaticRoleAttributeRuleType.CONTRACT, "position", AutomaticRoleAttributeRuleComparison.EQUALS, "developer");
+		AutomaticRoleAttributeRuleEngine engine = new AutomaticRoleAttributeRuleEngine(
+				Lists.newArrayList(automaticRole),
+				Lists.newArrayList(
+						rule,
+						createRule(otherAutomaticRoleId, AutomaticRoleAttributeRuleType.CONTRACT, "position", AutomaticRoleAttributeRuleComparison.EQUALS, "tester")));
+		//
+		// rules of not registered automatic role are ignored (e.g. concept)
+		Assert.assertEquals(Sets.newHashSet(automaticRole.getId()), engine.getAutomaticRoles(null));
+		Assert.assertEquals(Sets.newHashSet(automaticRole.getId()), engine.getAutomaticRoles(AutomaticRoleAttributeRuleType.CONTRACT));
+		Assert.assertFalse(engine.isCompiled(otherAutomaticRoleId));
+		Assert.assertNull(engine.getAutomaticRole(otherAutomaticRoleId));
+		Assert.assertTrue(engine.getRules(otherAutomaticRoleId).isEmpty());
+		//
+		Assert.assertTrue(engine.isCompiled(automaticRole.getId()));
+		Assert.assertEquals(automaticRole, engine.getAutomaticRole(automaticRole.getId()));
+		Assert.assertEquals(Lists.newArrayList(rule), engine.getRules(automaticRole.getId()));
+	}
+
+	private IdmAutomaticRoleAttributeRuleDto createRule(
+			UUID automaticRoleId,
+			AutomaticRoleAttributeRuleType type,
+			String attributeName,
+			AutomaticRoleAttributeRuleComparison comparison,
+			String value) {
+		IdmAutomaticRoleAttributeRuleDto rule = new IdmAutomaticRoleAttributeRuleDto();
+		rule.setId(UUID.randomUUID());
+		rule.setAutomaticRoleAttribute(automaticRoleId);
+		rule.setType(type);
+		rule.setAttributeName(attributeName);
+		rule.setComparison(comparison);
+		rule.setValue(value);
+		//
+		return rule;
+	}
+
+	private IdmFormAttribute createFormAttribute(PersistentType persistentType) {
+		IdmFormAttribute formAttribute = new IdmFormAttribute();
+		formAttribute.setId(UUID.randomUUID());
+		formAttribute.setCode(UUID.randomUUID().toString());
+		formAttribute.setPersistentType(persistentType);
+		//
+		return formAttribute;
+	}
+
+	private void setFormAttribute(IdmAutomaticRoleAttributeRuleDto rule, IdmFormAttribute formAttribute) {
+		IdmFormAttributeDto formAttributeDto = new IdmFormAttributeDto(formAttribute.getCode());
+		formAttributeDto.setId(formAttribute.getId());
+		formAttributeDto.setPersistentType(formAttribute.getPersistentType());
+		//
+		rule.setFormAttribute(formAttribute.getId());
+		rule.getEmbedded().put(IdmAutomaticRoleAttributeRuleDto.PROPERTY_FORM_ATTRIBUTE, formAttributeDto);
+	}
+
+	private Map<UUID, List<IdmIdentityContractFormValue>> createValues(IdmFormAttribute formAttribute, Long... values) {
+		List<IdmIdentityContractFormValue> formValues = Lists.newArrayList();
+		for (Long value : values) {
+			IdmIdentityContractFormValue formValue = new IdmIdentityContractFormValue(formAttribute);
+			formValue.setLongValue(value);
+			formValues.add(formValue);
+		}
+		return ImmutableMap.of(formAttribute.getId(), formValues);
+	}
+
+	private IdmIdentityContract createContract() {
+		IdmIdentity identity = new IdmIdentity(UUID.randomUUID());
+		IdmIdentityContract contract = new IdmIdentityContract(UUID.randomUUID());
+		contract.setIdentity(identity);
+		//
+		return contract;
+	}
+}
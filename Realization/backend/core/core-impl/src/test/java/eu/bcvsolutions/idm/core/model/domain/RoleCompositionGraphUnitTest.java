@@ -0,0 +1,124 @@
+package eu.bcvsolutions.idm.core.model.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
+import eu.bcvsolutions.idm.test.api.AbstractUnitTest;
+
+/**
+ * In memory role composition graph.
+ *
+ * @author Radek Tomiška
+ */
+public class RoleCompositionGraphUnitTest extends AbstractUnitTest {
+
+	@Test
+	public void testSubRoles() {
+		UUID superior = UUID.randomUUID();
+		UUID sub = UUID.randomUUID();
+		UUID subSub = UUID.randomUUID();
+		UUID otherSub = UUID.randomUUID();
+		UUID version = UUID.randomUUID();
+		RoleCompositionGraph graph = new RoleCompositionGraph.Builder()
+				.addComposition(superior, sub)
+				.addComposition(sub, subSub)
+				.addComposition(superior, otherSub)
+				.addComposition(otherSub, subSub) // duplicate sub role from different superior
+				.build(version);
+		//
+		Assert.assertEquals(version, graph.getVersion());
+		Assert.assertEquals(4, graph.getRoleCount());
+		Assert.assertEquals(Sets.newHashSet(sub, subSub, otherSub), graph.getSubRoles(superior));
+		Assert.assertEquals(Sets.newHashSet(subSub), graph.getSubRoles(sub));
+		Assert.assertTrue(graph.getSubRoles(subSub).isEmpty());
+		Assert.assertTrue(graph.getSubRoles(UUID.randomUUID()).isEmpty());
+	}
+
+	@Test
+	public void testCyclicSubRoles() {
+		UUID superior = UUID.randomUUID();
+		UUID sub = UUID.randomUUID();
+		UUID subSub = UUID.randomUUID();
+		RoleCompositionGraph graph = new RoleCompositionGraph.Builder()
+				.addComposition(superior, superior) // cyclic composition in the first level
+				.addComposition(superior, sub)
+				.addComposition(sub, subSub)
+				.addComposition(subSub, superior) // cycle to original
+				.build(UUID.randomUUID());
+		//
+		Assert.assertEquals(Sets.newHashSet(sub, subSub), graph.getSubRoles(superior));
+		Assert.assertEquals(Sets.newHashSet(subSub, superior), graph.getSubRoles(sub));
+	}
+
+	@Test
+	public void testResolveIncompatibleRoles() {
+		UUID superior = UUID.randomUUID();
+		UUID sub = UUID.randomUUID();
+		UUID incompatible = UUID.randomUUID();
+		UUID other = UUID.randomUUID();
+		UUID incompatibleRoleId = UUID.randomUUID();
+		UUID selfIncompatibleRoleId = UUID.randomUUID();
+		RoleCompositionGraph graph = new RoleCompositionGraph.Builder()
+				.addComposition(superior, sub)
+				.addIncompatibleRole(incompatibleRoleId, sub, incompatible)
+				.addIncompatibleRole(selfIncompatibleRoleId, other, other) // the same role on both sides is ignored
+				.build(UUID.randomUUID());
+		//
+		// only one side is given
+		Assert.assertTrue(graph.resolveIncompatibleRoles(Lists.newArrayList(superior, other)).isEmpty());
+		Assert.assertTrue(graph.resolveIncompatibleRoles(Lists.newArrayList(incompatible, UUID.randomUUID())).isEmpty());
+		Assert.assertTrue(graph.resolveIncompatibleRoles(Lists.newArrayList()).isEmpty());
+		//
+		// sub role of business role is incompatible - both direct roles are marked
+		Map<UUID, Set<UUID>> resolvedRoles = graph.resolveIncompatibleRoles(Lists.newArrayList(superior, incompatible, other));
+		Assert.assertEquals(2, resolvedRoles.size());
+		Assert.assertEquals(Sets.newHashSet(incompatibleRoleId), resolvedRoles.get(superior));
+		Assert.assertEquals(Sets.newHashSet(incompatibleRoleId), resolvedRoles.get(incompatible));
+		//
+		// business role contains both sides
+		UUID businessRole = UUID.randomUUID();
+		graph = new RoleCompositionGraph.Builder()
+				.addComposition(businessRole, sub)
+				.addComposition(businessRole, incompatible)
+				.addIncompatibleRole(incompatibleRoleId, sub, incompatible)
+				.build(UUID.randomUUID());
+		resolvedRoles = graph.resolveIncompatibleRoles(Lists.newArrayList(businessRole));
+		Assert.assertEquals(1, resolvedRoles.size());
+		Assert.assertEquals(Sets.newHashSet(incompatibleRoleId), resolvedRoles.get(businessRole));
+	}
+	
+	@Test
+	public void testLargeSparseGraph() {
+		// 100k indexed roles - bitsets for all roles would require gigabytes
+		RoleCompositionGraph.Builder builder = new RoleCompositionGraph.Builder();
+		List<UUID> superiors = new ArrayList<>();
+		List<UUID> subs = new ArrayList<>();
+		UUID incompatibleRoleId = UUID.randomUUID();
+		for (int index = 0; index < 50000; index++) {
+			superiors.add(UUID.randomUUID());
+			subs.add(UUID.randomUUID());
+			builder.addComposition(superiors.get(index), subs.get(index));
+		}
+		builder.addIncompatibleRole(incompatibleRoleId, subs.get(0), subs.get(49999));
+		RoleCompositionGraph graph = builder.build(UUID.randomUUID());
+		//
+		Assert.assertEquals(100000, graph.getRoleCount());
+		Assert.assertEquals(Sets.newHashSet(subs.get(10)), graph.getSubRoles(superiors.get(10)));
+		Assert.assertTrue(graph.getSubRoles(subs.get(10)).isEmpty());
+		Assert.assertTrue(graph.resolveIncompatibleRoles(Lists.newArrayList(superiors.get(0), superiors.get(1))).isEmpty());
+		//
+		Map<UUID, Set<UUID>> resolvedRoles = graph.resolveIncompatibleRoles(Lists.newArrayList(superiors.get(0), superiors.get(49999)));
+		Assert.assertEquals(2, resolvedRoles.size());
+		Assert.assertEquals(Sets.newHashSet(incompatibleRoleId), resolvedRoles.get(superiors.get(0)));
+		Assert.assertEquals(Sets.newHashSet(incompatibleRoleId), resolvedRoles.get(superiors.get(49999)));
+	}
+}
@@ -2,12 +2,16 @@ package eu.bcvsolutions.idm.core.model.service.impl;
 
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -16,6 +20,7 @@ import java.util.stream.Collectors;
 import java.time.ZonedDateTime;
 import org.junit.Assert;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
@@ -27,18 +32,25 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 
 import eu.bcvsolutions.idm.core.api.config.domain.EventConfiguration;
+import eu.bcvsolutions.idm.core.api.domain.OperationState;
 import eu.bcvsolutions.idm.core.api.domain.PriorityType;
 import eu.bcvsolutions.idm.core.api.dto.IdmEntityEventDto;
+import eu.bcvsolutions.idm.core.api.dto.IdmEntityStateDto;
 import eu.bcvsolutions.idm.core.api.dto.IdmIdentityDto;
+import eu.bcvsolutions.idm.core.api.dto.IdmRoleDto;
 import eu.bcvsolutions.idm.core.api.dto.filter.IdmEntityEventFilter;
+import eu.bcvsolutions.idm.core.api.entity.OperationResult;
 import eu.bcvsolutions.idm.core.api.event.AbstractEntityEventProcessor;
 import eu.bcvsolutions.idm.core.api.event.AsyncEntityEventProcessor;
 import eu.bcvsolutions.idm.core.api.event.CoreEvent;
 import eu.bcvsolutions.idm.core.api.event.CoreEvent.CoreEventType;
+import eu.bcvsolutions.idm.core.api.event.DefaultEventResult;
 import eu.bcvsolutions.idm.core.api.event.EntityEvent;
+import eu.bcvsolutions.idm.core.api.event.EntityEventProcessor;
 import eu.bcvsolutions.idm.core.api.event.EventResult;
 import eu.bcvsolutions.idm.core.api.exception.EventContentDeletedException;
 import eu.bcvsolutions.idm.core.api.service.IdmEntityEventService;
@@ -55,6 +67,8 @@ import eu.bcvsolutions.idm.test.api.AbstractUnitTest;
  * - event priority
  * - find events to execute
  * - resurrect event 
+ * - registered processors
+ * - state journal
  * 
  * @author Radek Tomiška
  *
@@ -409,6 +423,126 @@ public class DefaultEntityEventManagerUnitTest extends AbstractUnitTest {
 		Assert.assertEquals(normalEventOne.getId(), events.get(2).getId());
 	}
 	
+	@Test
+	public void testCreatedEventsRemoveQueuedDuplicates() {
+		ZonedDateTime created = ZonedDateTime.now();
+		UUID ownerId = UUID.randomUUID();
+		IdmEntityEventDto highEvent = new IdmEntityEventDto(UUID.randomUUID());
+		highEvent.setCreated(created.minusNanos(2));
+		highEvent.setPriority(PriorityType.HIGH);
+		highEvent.setOwnerId(ownerId);
+		highEvent.setInstanceId("instance");
+		highEvent.setContentHash("hash");
+		when(entityEventService
+				.findToExecute(
+						any(), 						
+						any(ZonedDateTime.class), 
+						eq(PriorityType.HIGH), 
+						any(),
+						any()))
+				.thenReturn(new PageImpl<>(Lists.newArrayList(highEvent), PageRequest.of(0, 1), 2)); // queue is not loaded completely
+		when(entityEventService
+				.findToExecute(
+						any(), 						
+						any(ZonedDateTime.class), 
+						eq(PriorityType.NORMAL), 
+						any(),
+						any()))
+				.thenReturn(createEvents(PriorityType.NORMAL, 0));
+		// older normal duplicate - not loaded in batch
+		IdmEntityEventDto queuedEvent = new IdmEntityEventDto(UUID.randomUUID());
+		queuedEvent.setCreated(created.minusNanos(10));
+		queuedEvent.setPriority(PriorityType.NORMAL);
+		queuedEvent.setOwnerId(ownerId);
+		queuedEvent.setInstanceId("instance");
+		queuedEvent.setContentHash("hash");
+		when(entityEventService
+				.find(any(IdmEntityEventFilter.class), any(PageRequest.class)))
+				.thenAnswer(invocation -> {
+					IdmEntityEventFilter filter = invocation.getArgument(0);
+					if (filter.getContentHashes().contains("hash")) {
+						Assert.assertEquals(ownerId, filter.getOwnerId());
+						Assert.assertEquals(Lists.newArrayList(OperationState.CREATED), filter.getStates());
+						//
+						return new PageImpl<>(Lists.newArrayList(queuedEvent, highEvent));
+					}
+					// children
+					return new PageImpl<>(new ArrayList<>());
+				});
+		when(eventConfiguration.getBatchSize()).thenReturn(1);
+		//
+		List<IdmEntityEventDto> events = manager.getCreatedEvents("instance");
+		//
+		Assert.assertEquals(1, events.size());
+		Assert.assertEquals(highEvent.getId(), events.get(0).getId());
+		verify(entityEventService).delete(queuedEvent);
+		verify(entityEventService, never()).delete(highEvent);
+	}
+	
+	@Test
+	public void testCreatedEventsClaim() {
+		when(eventConfiguration.isClaim()).thenReturn(true);
+		when(entityEventService
+				.findToClaim(
+						any(ZonedDateTime.class), 
+						eq(PriorityType.HIGH),
+						any()))
+				.thenReturn(createEvents(PriorityType.HIGH, 10));
+		when(entityEventService
+				.findToClaim(
+						any(ZonedDateTime.class), 
+						eq(PriorityType.NORMAL),
+						any()))
+				.thenReturn(createEvents(PriorityType.NORMAL, 10));
+		when(eventConfiguration.getBatchSize()).thenReturn(100);
+		//
+		List<IdmEntityEventDto> events = manager.getCreatedEvents("instance");
+		//
+		Assert.assertEquals(20, events.size());
+		verify(entityEventService, never()).findToExecute(any(), any(ZonedDateTime.class), any(), any(), any());
+	}
+	
+	@Test
+	public void testCreatedEventsClaimDontRemoveDuplicateClaimedByAnotherInstance() {
+		ZonedDateTime created = ZonedDateTime.now();
+		UUID ownerId = UUID.randomUUID();
+		IdmEntityEventDto eventOne = new IdmEntityEventDto(UUID.randomUUID());
+		eventOne.setCreated(created.minusNanos(11));
+		eventOne.setPriority(PriorityType.NORMAL);
+		eventOne.setOwnerId(ownerId);
+		eventOne.setEventType("type");
+		IdmEntityEventDto eventTwo = new IdmEntityEventDto(UUID.randomUUID());
+		eventTwo.setCreated(created.minusNanos(2));
+		eventTwo.setPriority(PriorityType.NORMAL);
+		eventTwo.setOwnerId(ownerId);
+		eventTwo.setEventType("type");
+		when(eventConfiguration.isClaim()).thenReturn(true);
+		when(eventConfiguration.getAsynchronousInstanceId()).thenReturn("instance");
+		when(entityEventService
+				.findToClaim(
+						any(ZonedDateTime.class), 
+						eq(PriorityType.HIGH),
+						any()))
+				.thenReturn(new PageImpl<>(new ArrayList<>()));
+		when(entityEventService
+				.findToClaim(
+						any(ZonedDateTime.class), 
+						eq(PriorityType.NORMAL),
+						any()))
+				.thenReturn(new PageImpl<>(Lists.newArrayList(eventOne, eventTwo)));
+		when(entityEventService
+				.find(any(IdmEntityEventFilter.class), any(PageRequest.class)))
+				.thenReturn(new PageImpl<>(new ArrayList<>()));
+		when(entityEventService.claim(eventOne, "instance")).thenReturn(false);
+		when(eventConfiguration.getBatchSize()).thenReturn(100);
+		//
+		List<IdmEntityEventDto> events = manager.getCreatedEvents("instance");
+		//
+		Assert.assertEquals(1, events.size());
+		Assert.assertEquals(eventTwo.getId(), events.get(0).getId());
+		verify(entityEventService, never()).delete(eventOne);
+	}
+	
 	@Test
 	public void testCreatedEventsDontRemoveDuplicatesWithDifferentPerentEventType() {
 		ZonedDateTime created = ZonedDateTime.now();
@@ -546,6 +680,82 @@ public class DefaultEntityEventManagerUnitTest extends AbstractUnitTest {
 		
 	}
 	
+	@Test
+	public void testIsDuplicateByContentHash() {
+		ZonedDateTime created = ZonedDateTime.now();
+		UUID ownerId = UUID.randomUUID();
+		//
+		IdmEntityEventDto eventOne = new IdmEntityEventDto(UUID.randomUUID());
+		eventOne.setCreated(created.minusNanos(11));
+		eventOne.setPriority(PriorityType.HIGH);
+		eventOne.setOwnerId(ownerId);	
+		eventOne.setParentEventType("one");
+		eventOne.setEventType("type");
+		//
+		IdmEntityEventDto eventTwo = new IdmEntityEventDto(UUID.randomUUID());
+		eventTwo.setCreated(created.minusNanos(21));
+		eventTwo.setPriority(PriorityType.NORMAL);
+		eventTwo.setOwnerId(ownerId);
+		eventTwo.setEventType("type");
+		eventTwo.setParentEventType("one");
+		//
+		Assert.assertTrue(isDuplicateByContentHash(eventOne, eventTwo));
+		//
+		eventTwo.setParentEventType("two");
+		//
+		Assert.assertFalse(isDuplicateByContentHash(eventOne, eventTwo));
+		//
+		eventTwo.setParentEventType("one");
+		eventTwo.setEventType("type2");
+		//
+		Assert.assertFalse(isDuplicateByContentHash(eventOne, eventTwo));
+		//
+		eventTwo.setEventType("type");
+		eventOne.getProperties().put("one", "one");
+		eventOne.getProperties().put("two", "two");
+		//
+		Assert.assertFalse(isDuplicateByContentHash(eventOne, eventTwo));
+		//
+		// properties order and internal properties are ignored
+		eventTwo.getProperties().put("two", "two");
+		eventTwo.getProperties().put("one", "one");
+		eventTwo.getProperties().put(EntityEvent.EVENT_PROPERTY_PRIORITY, PriorityType.NORMAL);
+		//
+		Assert.assertTrue(isDuplicateByContentHash(eventOne, eventTwo));
+		//
+		eventTwo.getProperties().put("one", "one2");
+		//
+		Assert.assertFalse(isDuplicateByContentHash(eventOne, eventTwo));
+		//
+		eventTwo.getProperties().put("one", "one");
+		IdmIdentityDto originalSourceOne = new IdmIdentityDto(UUID.randomUUID());
+		eventOne.setOriginalSource(originalSourceOne);
+		//
+		Assert.assertFalse(isDuplicateByContentHash(eventOne, eventTwo));
+		//
+		IdmIdentityDto originalSourceTwo = new IdmIdentityDto(originalSourceOne.getId());
+		eventTwo.setOriginalSource(originalSourceTwo);
+		//
+		Assert.assertTrue(isDuplicateByContentHash(eventOne, eventTwo));
+		//
+		// embedded and audit fields are ignored
+		IdmIdentityDto embedded =  new IdmIdentityDto(UUID.randomUUID());
+		originalSourceOne.getEmbedded().put("embedded", embedded);
+		originalSourceOne.setModified(ZonedDateTime.now());
+		//
+		Assert.assertTrue(isDuplicateByContentHash(eventOne, eventTwo));
+		Assert.assertEquals(embedded, originalSourceOne.getEmbedded().get("embedded"));
+		//
+		originalSourceTwo.setFirstName("hoho");
+		//
+		Assert.assertFalse(isDuplicateByContentHash(eventOne, eventTwo));
+		//
+		// entity is not supported as original source
+		eventOne.setOriginalSource(new IdmIdentity(originalSourceOne.getId()));
+		//
+		Assert.assertNull(manager.getContentHash(eventOne));
+	}
+	
 	@Test
 	public void testCreatedEventsRemoveDuplicatesByProps() {
 		List<IdmEntityEventDto> highEvents = new ArrayList<>();
@@ -811,6 +1021,192 @@ public class DefaultEntityEventManagerUnitTest extends AbstractUnitTest {
 		Assert.assertNull(event.getProperties().get(EntityEvent.EVENT_PROPERTY_EXECUTE_DATE));
 	}
 	
+	@Test
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public void testRegisteredProcessors() {
+		MockIdentityProcessor two = new MockIdentityProcessor(2);
+		MockIdentityProcessor one = new MockIdentityProcessor(1);
+		MockAsyncProcessor all = new MockAsyncProcessor(null);
+		Map<String, EntityEventProcessor> processors = new LinkedHashMap<>();
+		processors.put("two", two);
+		processors.put("one", one);
+		processors.put("all", all);
+		when(context.getBeansOfType(EntityEventProcessor.class)).thenReturn(processors);
+		when(enabledEvaluator.isEnabled((Object) any())).thenReturn(true);
+		//
+		Assert.assertEquals(
+				Lists.newArrayList(all, one, two), 
+				manager.getEnabledProcessors(new CoreEvent<>(CoreEventType.CREATE, new IdmIdentityDto())));
+		Assert.assertEquals(
+				Lists.newArrayList(all), 
+				manager.getEnabledProcessors(new CoreEvent<>(CoreEventType.DELETE, new IdmIdentityDto())));
+		Assert.assertEquals(
+				Lists.newArrayList(all), 
+				manager.getEnabledProcessors(new CoreEvent<>(CoreEventType.CREATE, new IdmRoleDto())));
+		//
+		// registry is initialized once
+		verify(context, times(1)).getBeansOfType(EntityEventProcessor.class);
+	}
+	
+	@Test
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public void testDispatchEventToRegisteredProcessors() {
+		AbstractEntityEventProcessor processor = mock(AbstractEntityEventProcessor.class);
+		when(processor.supportsSourceType(IdmIdentityDto.class)).thenReturn(true);
+		when(context.getBeansOfType(EntityEventProcessor.class)).thenReturn(ImmutableMap.of("processor", processor));
+		//
+		CoreEvent<IdmIdentityDto> event = new CoreEvent<>(CoreEventType.CREATE, new IdmIdentityDto());
+		manager.dispatchEvent(event);
+		//
+		verify(processor).onApplicationEvent(event);
+		verify(publisher, never()).publishEvent(any());
+	}
+	
+	@Test
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void testStateJournal() {
+		IdmEntityEventDto entityEvent = new IdmEntityEventDto(UUID.randomUUID());
+		entityEvent.setOwnerId(UUID.randomUUID());
+		entityEvent.setOwnerType(IdmIdentity.class.getCanonicalName());
+		entityEvent.setInstanceId("instance");
+		when(eventConfiguration.isStateJournal()).thenReturn(true);
+		mockReplaceStates();
+		//
+		Assert.assertTrue(manager.openStateJournal(entityEvent));
+		Assert.assertFalse(manager.openStateJournal(entityEvent)); // journal is opened already
+		//
+		EntityEvent<IdmIdentityDto> event = new CoreEvent<>(CoreEventType.UPDATE, new IdmIdentityDto());
+		event.setId(entityEvent.getId());
+		MockIdentityProcessor processor = new MockIdentityProcessor(1);
+		List<IdmEntityStateDto> runningStates = manager.saveStates(
+				event, 
+				null, 
+				new DefaultEventResult
+					.Builder<>(event, processor)
+					.setResult(new OperationResult.Builder(OperationState.RUNNING).build())
+					.build());
+		// running state is persisted immediately
+		Assert.assertEquals(1, runningStates.size());
+		Assert.assertEquals(OperationState.RUNNING, runningStates.get(0).getResult().getState());
+		Assert.assertNotNull(runningStates.get(0).getId());
+		ArgumentCaptor<List> previousCaptor = ArgumentCaptor.forClass(List.class);
+		ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
+		verify(entityStateService).replaceStates(previousCaptor.capture(), captor.capture());
+		Assert.assertTrue(previousCaptor.getValue().isEmpty());
+		Assert.assertEquals(runningStates, captor.getValue());
+		//
+		// completed state is kept in journal
+		List<IdmEntityStateDto> states = manager.saveStates(event, runningStates, new DefaultEventResult<>(event, processor));
+		Assert.assertEquals(1, states.size());
+		verify(entityStateService, times(1)).replaceStates(any(), any());
+		//
+		// running state is replaced
+		manager.flushStateJournal(entityEvent.getId());
+		verify(entityStateService, times(2)).replaceStates(previousCaptor.capture(), captor.capture());
+		Assert.assertEquals(runningStates, previousCaptor.getValue());
+		List<IdmEntityStateDto> persistedStates = captor.getValue();
+		Assert.assertEquals(1, persistedStates.size());
+		IdmEntityStateDto state = persistedStates.get(0);
+		Assert.assertEquals(entityEvent.getId(), state.getEvent());
+		Assert.assertEquals(entityEvent.getOwnerId(), state.getOwnerId());
+		Assert.assertEquals("instance", state.getInstanceId());
+		Assert.assertEquals(OperationState.EXECUTED, state.getResult().getState());
+		//
+		// journal is closed
+		manager.flushStateJournal(entityEvent.getId());
+		verify(entityStateService, times(2)).replaceStates(any(), any());
+	}
+	
+	@Test
+	public void testStateJournalDisabled() {
+		when(eventConfiguration.isStateJournal()).thenReturn(false);
+		//
+		Assert.assertFalse(manager.openStateJournal(new IdmEntityEventDto(UUID.randomUUID())));
+	}
+	
+	@Test
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void testStateJournalPersistSuspendedState() {
+		IdmEntityEventDto entityEvent = new IdmEntityEventDto(UUID.randomUUID());
+		entityEvent.setOwnerId(UUID.randomUUID());
+		entityEvent.setOwnerType(IdmIdentity.class.getCanonicalName());
+		entityEvent.setInstanceId("instance");
+		when(eventConfiguration.isStateJournal()).thenReturn(true);
+		mockReplaceStates();
+		//
+		Assert.assertTrue(manager.openStateJournal(entityEvent));
+		EntityEvent<IdmIdentityDto> event = new CoreEvent<>(CoreEventType.UPDATE, new IdmIdentityDto());
+		event.setId(entityEvent.getId());
+		MockIdentityProcessor processor = new MockIdentityProcessor(1);
+		manager.saveStates(event, null, new DefaultEventResult<>(event, processor));
+		// closed event is completed - state is kept in journal
+		manager.saveStates(event, null, new DefaultEventResult.Builder<>(event, processor).setClosed(true).build());
+		verify(entityStateService, never()).replaceStates(any(), any());
+		//
+		// processor suspends event - suspended state is persisted immediately with completed states
+		List<IdmEntityStateDto> suspendedStates = manager.saveStates(
+				event, 
+				null, 
+				new DefaultEventResult.Builder<>(event, processor).setSuspended(true).build());
+		Assert.assertEquals(1, suspendedStates.size());
+		Assert.assertTrue(suspendedStates.get(0).isSuspended());
+		Assert.assertNotNull(suspendedStates.get(0).getId());
+		ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
+		verify(entityStateService).replaceStates(any(), captor.capture());
+		List<IdmEntityStateDto> persistedStates = captor.getValue();
+		Assert.assertEquals(3, persistedStates.size());
+		Assert.assertTrue(persistedStates.stream().allMatch(state -> state.getResult().getState() == OperationState.EXECUTED));
+		Assert.assertTrue(persistedStates.get(2).isSuspended());
+		//
+		// nothing remains in journal
+		manager.flushStateJournal(entityEvent.getId());
+		verify(entityStateService, times(1)).replaceStates(any(), any());
+	}
+	
+	@Test
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void testStateJournalFlushSize() {
+		IdmEntityEventDto entityEvent = new IdmEntityEventDto(UUID.randomUUID());
+		entityEvent.setOwnerId(UUID.randomUUID());
+		entityEvent.setOwnerType(IdmIdentity.class.getCanonicalName());
+		entityEvent.setInstanceId("instance");
+		when(eventConfiguration.isStateJournal()).thenReturn(true);
+		mockReplaceStates();
+		//
+		Assert.assertTrue(manager.openStateJournal(entityEvent));
+		EntityEvent<IdmIdentityDto> event = new CoreEvent<>(CoreEventType.UPDATE, new IdmIdentityDto());
+		event.setId(entityEvent.getId());
+		MockIdentityProcessor processor = new MockIdentityProcessor(1);
+		for (int i = 1; i < DefaultEntityEventManager.STATE_JOURNAL_FLUSH_SIZE; i++) {
+			manager.saveStates(event, null, new DefaultEventResult<>(event, processor));
+		}
+		verify(entityStateService, never()).replaceStates(any(), any());
+		//
+		// flush size is reached
+		manager.saveStates(event, null, new DefaultEventResult<>(event, processor));
+		manager.saveStates(event, null, new DefaultEventResult<>(event, processor));
+		ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
+		verify(entityStateService).replaceStates(any(), captor.capture());
+		Assert.assertEquals(DefaultEntityEventManager.STATE_JOURNAL_FLUSH_SIZE, captor.getValue().size());
+		//
+		// remaining state is persisted after event ends
+		manager.flushStateJournal(entityEvent.getId());
+		verify(entityStateService, times(2)).replaceStates(any(), captor.capture());
+		Assert.assertEquals(1, captor.getValue().size());
+	}
+	
+	/**
+	 * Persisted states get identifier.
+	 */
+	private void mockReplaceStates() {
+		when(entityStateService.replaceStates(any(), any())).thenAnswer(invocation -> {
+			List<IdmEntityStateDto> states = invocation.getArgument(1);
+			states.forEach(state -> state.setId(UUID.randomUUID()));
+			//
+			return states;
+		});
+	}
+	
 	private Page<IdmEntityEventDto> createEvents(PriorityType priority, int count) {
 		List<IdmEntityEventDto> events = new ArrayList<>();
 		ZonedDateTime created = ZonedDateTime.now().minusNanos(count);
@@ -826,6 +1222,37 @@ public class DefaultEntityEventManagerUnitTest extends AbstractUnitTest {
 		return new PageImpl<>(events);
 	}
 	
+	private boolean isDuplicateByContentHash(IdmEntityEventDto olderEvent, IdmEntityEventDto event) {
+		olderEvent.setContentHash(manager.getContentHash(olderEvent));
+		event.setContentHash(manager.getContentHash(event));
+		//
+		Assert.assertNotNull(olderEvent.getContentHash());
+		Assert.assertNotNull(event.getContentHash());
+		//
+		return manager.isDuplicate(olderEvent, event);
+	}
+	
+	private class MockIdentityProcessor extends AbstractEntityEventProcessor<IdmIdentityDto> {
+
+		private final int order;
+		
+		public MockIdentityProcessor(int order) {
+			super(CoreEventType.CREATE, CoreEventType.UPDATE);
+			//
+			this.order = order;
+		}
+		
+		@Override
+		public EventResult<IdmIdentityDto> process(EntityEvent<IdmIdentityDto> event) {
+			return null;
+		}
+
+		@Override
+		public int getOrder() {
+			return order;
+		}
+	}
+	
 	private class MockAsyncProcessor 
 			extends AbstractEntityEventProcessor<Serializable>
 			implements AsyncEntityEventProcessor<Serializable> {
@@ -852,4 +1279,5 @@ public class DefaultEntityEventManagerUnitTest extends AbstractUnitTest {
 		}
 		
 	}
+
 }
@@ -2,15 +2,27 @@ package eu.bcvsolutions.idm.core.model.service.impl;
 
 import static org.junit.Assert.assertEquals;
 
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import org.junit.After;
+import org.junit.Assert;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
+import com.google.common.hash.Hashing;
 
+import eu.bcvsolutions.idm.core.api.config.cache.domain.CacheObjectWrapper;
 import eu.bcvsolutions.idm.core.api.dto.BaseDto;
 import eu.bcvsolutions.idm.core.api.dto.IdmIdentityDto;
 import eu.bcvsolutions.idm.core.api.dto.IdmIdentityRoleDto;
@@ -161,4 +173,54 @@ public class DefaultGroovyScriptServiceTest extends AbstractVerifiableUnitTest {
 		groovyScriptService.evaluate(script, null);
 	}
 
+	@Test
+	public void testCompiledScriptClassIsCached() {
+		String script = "return \"testOne\";";
+		String digest = Hashing.sha256().hashString(script, StandardCharsets.UTF_8).toString();
+		//
+		groovyScriptService.evaluate(script, null);
+		//
+		ArgumentCaptor<Object> scriptClass = ArgumentCaptor.forClass(Object.class);
+		Mockito.verify(cacheManager).getValue(DefaultGroovyScriptService.CACHE_NAME, digest);
+		Mockito.verify(cacheManager).cacheValue(ArgumentMatchers.eq(DefaultGroovyScriptService.CACHE_NAME), ArgumentMatchers.eq(digest), scriptClass.capture());
+		Assert.assertTrue(scriptClass.getValue() instanceof Class);
+		//
+		// cached class is used
+		Mockito.when(cacheManager.getValue(DefaultGroovyScriptService.CACHE_NAME, digest))
+			.thenReturn(new CacheObjectWrapper<>(scriptClass.getValue()));
+		//
+		assertEquals(TEST_ONE, groovyScriptService.evaluate(script, null));
+		Mockito.verify(cacheManager, Mockito.times(1)).cacheValue(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any());
+	}
+
+	@Test
+	public void testConcurrentEvaluation() throws Exception {
+		String script = "return attributeValue + '-' + entity.username;";
+		IdmIdentityDto identity = new IdmIdentityDto();
+		identity.setUsername(TEST_ONE);
+		groovyScriptService.evaluate(script, ImmutableMap.of("attributeValue", "warmup", "entity", identity));
+		ArgumentCaptor<Object> scriptClass = ArgumentCaptor.forClass(Object.class);
+		Mockito.verify(cacheManager).cacheValue(ArgumentMatchers.any(), ArgumentMatchers.any(), scriptClass.capture());
+		Mockito.when(cacheManager.getValue(ArgumentMatchers.any(), ArgumentMatchers.any()))
+			.thenReturn(new CacheObjectWrapper<>(scriptClass.getValue()));
+		//
+		// the same script is evaluated concurrently with different variables
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Callable<Boolean>> evaluations = Lists.newArrayList();
+			for (int i = 0; i < 200; i++) {
+				String attributeValue = String.valueOf(i);
+				evaluations.add(() -> {
+					Object result = groovyScriptService.evaluate(script, ImmutableMap.of("attributeValue", attributeValue, "entity", identity));
+					//
+					return String.format("%s-%s", attributeValue, TEST_ONE).equals(result);
+				});
+			}
+			for (Future<Boolean> result : executor.invokeAll(evaluations)) {
+				Assert.assertTrue(result.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
 }
@@ -12,6 +12,7 @@ import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.hibernate.envers.RevisionType;
 import org.junit.Assert;
@@ -598,6 +599,35 @@ public class DefaultIdmAuditServiceIntegrationTest extends AbstractIntegrationTe
 		assertEquals(2, content.size());
 	}
 
+	@Test
+	public void testFilteringByChangedAttributesPrefixIgnoreCase() {
+		IdmIdentityDto identity = getHelper().createIdentity();
+		identity.setFirstName(getHelper().createName());
+		identity = identityService.save(identity);
+
+		IdmAuditFilter filter = new IdmAuditFilter();
+		filter.setModification("MOD");
+		filter.setEntityId(identity.getId());
+		filter.setChangedAttributesList(Lists.newArrayList(IdmIdentity_.firstName.getName().toUpperCase()));
+		List<IdmAuditDto> content = auditService.find(filter, null).getContent();
+		assertEquals(1, content.size());
+		//
+		// attribute name prefix is found
+		filter.setChangedAttributesList(Lists.newArrayList("First"));
+		content = auditService.find(filter, null).getContent();
+		assertEquals(1, content.size());
+		//
+		// part of attribute name inside is not found
+		filter.setChangedAttributesList(Lists.newArrayList("name"));
+		content = auditService.find(filter, null).getContent();
+		assertTrue(content.isEmpty());
+		//
+		// blank attribute is ignored
+		filter.setChangedAttributesList(Lists.newArrayList(" "));
+		content = auditService.find(filter, null).getContent();
+		assertEquals(1, content.size());
+	}
+
 	@Test
 	public void testToDtoWithoutVersion() {
 		IdmIdentityDto identity = getHelper().createIdentity();
@@ -655,6 +685,53 @@ public class DefaultIdmAuditServiceIntegrationTest extends AbstractIntegrationTe
 		}
 	}
 
+	@Test
+	public void testToDtoWithVersionMoreEntities() {
+		IdmIdentityDto identityOne = getHelper().createIdentity();
+		IdmIdentityDto identityTwo = getHelper().createIdentity();
+		String descriptionOne = getHelper().createName();
+		String descriptionTwo = getHelper().createName();
+		identityOne.setDescription(descriptionOne);
+		identityService.save(identityOne);
+		identityTwo.setDescription(descriptionTwo);
+		identityService.save(identityTwo);
+		identityService.delete(identityTwo);
+
+		IdmAuditFilter filter = new IdmAuditFilter();
+		filter.setType(IdmIdentity.class.getName());
+		filter.setChangedAttributesList(Lists.newArrayList(IdmIdentity_.description.getName()));
+		filter.setWithVersion(Boolean.TRUE);
+		List<IdmAuditDto> audits = auditService
+				.find(filter, null)
+				.getContent()
+				.stream()
+				.filter(audit -> audit.getEntityId().equals(identityOne.getId()) || audit.getEntityId().equals(identityTwo.getId()))
+				.collect(Collectors.toList());
+
+		assertEquals(2, audits.size());
+		for (IdmAuditDto audit : audits) {
+			assertTrue(audit instanceof IdmAuditEntityDto);
+			Map<String, Object> version = ((IdmAuditEntityDto) audit).getEntity();
+			assertNotNull(version);
+			// version is paired with audited entity
+			if (audit.getEntityId().equals(identityOne.getId())) {
+				assertEquals(descriptionOne, version.get(IdmIdentity_.description.getName()));
+			} else {
+				assertEquals(descriptionTwo, version.get(IdmIdentity_.description.getName()));
+			}
+		}
+		//
+		// deleted entity - previous version is returned
+		filter = new IdmAuditFilter();
+		filter.setEntityId(identityTwo.getId());
+		filter.setModification(RevisionType.DEL.name());
+		filter.setWithVersion(Boolean.TRUE);
+		audits = auditService.find(filter, null).getContent();
+		assertEquals(1, audits.size());
+		assertTrue(audits.get(0) instanceof IdmAuditEntityDto);
+		assertEquals(descriptionTwo, ((IdmAuditEntityDto) audits.get(0)).getEntity().get(IdmIdentity_.description.getName()));
+	}
+
 	@Test
 	public void testFilterById() {
 		IdmIdentityDto identity = getHelper().createIdentity();
@@ -690,6 +767,10 @@ public class DefaultIdmAuditServiceIntegrationTest extends AbstractIntegrationTe
 
 		assertEquals(1, audits.size());
 		assertEquals(auditDto.getId(), audits.get(0).getId());
+		//
+		// audit id is numeric
+		filter.setText("wrong");
+		assertTrue(auditService.find(filter, null).getContent().isEmpty());
 	}
 
 	@Test
@@ -7,6 +7,7 @@ import java.io.Serializable;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -25,6 +26,7 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 
 import eu.bcvsolutions.idm.core.api.audit.dto.IdmAuditDto;
@@ -113,6 +115,116 @@ public class DefaultIdmConfidentialStorageIntegrationTest extends AbstractIntegr
 		Assert.assertEquals(value, storageValue);
 	}
 	
+	@Test
+	@Transactional
+	public void testGetValuesAtOnce() {
+		IdmIdentityDto identityOne = getHelper().createIdentity((GuardedString) null);
+		IdmIdentityDto identityTwo = getHelper().createIdentity((GuardedString) null);
+		IdmIdentityDto identityThree = getHelper().createIdentity((GuardedString) null);
+		String storageKeyOne = getHelper().createName();
+		String storageKeyTwo = getHelper().createName();
+		confidentalStorage.save(identityOne.getId(), IdmIdentity.class, storageKeyOne, "one");
+		confidentalStorage.save(identityOne.getId(), IdmIdentity.class, storageKeyTwo, "two");
+		confidentalStorage.save(identityTwo.getId(), IdmIdentity.class, storageKeyTwo, "three");
+		//
+		Map<UUID, Map<String, Serializable>> values = confidentalStorage.get(
+				Lists.newArrayList(identityOne.getId(), identityTwo.getId(), identityThree.getId()), 
+				IdmIdentityDto.class, 
+				Lists.newArrayList(storageKeyOne, storageKeyTwo));
+		//
+		Assert.assertEquals(2, values.size());
+		Assert.assertEquals(2, values.get(identityOne.getId()).size());
+		Assert.assertEquals("one", values.get(identityOne.getId()).get(storageKeyOne));
+		Assert.assertEquals("two", values.get(identityOne.getId()).get(storageKeyTwo));
+		Assert.assertEquals(1, values.get(identityTwo.getId()).size());
+		Assert.assertEquals("three", values.get(identityTwo.getId()).get(storageKeyTwo));
+		Assert.assertFalse(values.containsKey(identityThree.getId()));
+		Assert.assertTrue(confidentalStorage.get(Lists.newArrayList(), IdmIdentity.class, Lists.newArrayList(storageKeyOne)).isEmpty());
+	}
+	
+	@Test
+	@Transactional
+	public void testSaveValuesAtOnce() {
+		IdmIdentityDto identityOne = getHelper().createIdentity((GuardedString) null);
+		IdmIdentityDto identityTwo = getHelper().createIdentity((GuardedString) null);
+		String storageKeyOne = getHelper().createName();
+		String storageKeyTwo = getHelper().createName();
+		confidentalStorage.save(identityOne.getId(), IdmIdentity.class, storageKeyOne, "original");
+		IdmConfidentialStorageValueDto originalValue = getConfidentialValueForIdentity(identityOne);
+		//
+		Map<UUID, Map<String, Serializable>> values = new HashMap<>();
+		values.put(identityOne.getId(), ImmutableMap.of(storageKeyOne, "one", storageKeyTwo, "two"));
+		values.put(identityTwo.getId(), ImmutableMap.of(storageKeyTwo, "three"));
+		confidentalStorage.save(IdmIdentity.class, values);
+		//
+		Assert.assertEquals(values, confidentalStorage.get(
+				Lists.newArrayList(identityOne.getId(), identityTwo.getId()), 
+				IdmIdentity.class, 
+				Lists.newArrayList(storageKeyOne, storageKeyTwo)));
+		// existing value is updated
+		IdmConfidentialStorageValueFilter filter = new IdmConfidentialStorageValueFilter();
+		filter.setOwnerId(identityOne.getId());
+		filter.setKey(storageKeyOne);
+		List<IdmConfidentialStorageValueDto> content = conidentialStorageValueService.find(filter, null).getContent();
+		Assert.assertEquals(1, content.size());
+		Assert.assertEquals(originalValue.getId(), content.get(0).getId());
+		//
+		confidentalStorage.save(IdmIdentity.class, new HashMap<>());
+	}
+	
+	@Test
+	@Transactional
+	public void testRenewVectorAtOnce() {
+		IdmIdentityDto identityOne = getHelper().createIdentity((GuardedString) null);
+		IdmIdentityDto identityTwo = getHelper().createIdentity((GuardedString) null);
+		String storageKey = getHelper().createName();
+		confidentalStorage.save(identityOne.getId(), IdmIdentity.class, storageKey, "one");
+		confidentalStorage.save(identityTwo.getId(), IdmIdentity.class, storageKey, "two");
+		IdmConfidentialStorageValueDto valueOne = getConfidentialValueForIdentity(identityOne);
+		IdmConfidentialStorageValueDto valueTwo = getConfidentialValueForIdentity(identityTwo);
+		//
+		confidentalStorage.renewVector(Lists.newArrayList(valueOne, valueTwo));
+		//
+		Assert.assertFalse(Arrays.equals(valueOne.getIv(), getConfidentialValueForIdentity(identityOne).getIv()));
+		Assert.assertFalse(Arrays.equals(valueTwo.getIv(), getConfidentialValueForIdentity(identityTwo).getIv()));
+		Assert.assertEquals("one", confidentalStorage.get(identityOne.getId(), IdmIdentity.class, storageKey));
+		Assert.assertEquals("two", confidentalStorage.get(identityTwo.getId(), IdmIdentity.class, storageKey));
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	@Transactional
+	public void testRenewVectorAtOnceValueNotFound() {
+		IdmIdentityDto identity = getHelper().createIdentity((GuardedString) null);
+		confidentalStorage.save(identity.getId(), IdmIdentity.class, getHelper().createName(), "one");
+		IdmConfidentialStorageValueDto value = getConfidentialValueForIdentity(identity);
+		IdmConfidentialStorageValueDto notPersistedValue = new IdmConfidentialStorageValueDto();
+		notPersistedValue.setId(UUID.randomUUID());
+		//
+		confidentalStorage.renewVector(Lists.newArrayList(value, notPersistedValue));
+	}
+	
+	@Test
+	@Transactional
+	public void testChangeCryptKeyAtOnce() {
+		String currentKey = configurationService.getValue(CryptService.APPLICATION_PROPERTIES_KEY);
+		IdmIdentityDto identityOne = getHelper().createIdentity((GuardedString) null);
+		IdmIdentityDto identityTwo = getHelper().createIdentity((GuardedString) null);
+		String storageKey = getHelper().createName();
+		confidentalStorage.save(identityOne.getId(), IdmIdentity.class, storageKey, "one");
+		confidentalStorage.save(identityTwo.getId(), IdmIdentity.class, storageKey, "two");
+		IdmConfidentialStorageValueDto valueOne = getConfidentialValueForIdentity(identityOne);
+		IdmConfidentialStorageValueDto valueTwo = getConfidentialValueForIdentity(identityTwo);
+		//
+		// key is not changed => values are re-encrypted by the same key with new vector 
+		confidentalStorage.changeCryptKey(
+				Lists.newArrayList(valueOne, valueTwo), 
+				currentKey == null ? null : new GuardedString(currentKey));
+		//
+		Assert.assertFalse(Arrays.equals(valueOne.getIv(), getConfidentialValueForIdentity(identityOne).getIv()));
+		Assert.assertEquals("one", confidentalStorage.get(identityOne.getId(), IdmIdentity.class, storageKey));
+		Assert.assertEquals("two", confidentalStorage.get(identityTwo.getId(), IdmIdentity.class, storageKey));
+	}
+	
 	@Test
 	@Transactional
 	@SuppressWarnings("unchecked")
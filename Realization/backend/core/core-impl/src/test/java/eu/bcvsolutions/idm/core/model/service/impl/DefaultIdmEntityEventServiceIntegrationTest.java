@@ -1,7 +1,9 @@
 package eu.bcvsolutions.idm.core.model.service.impl;
 
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.junit.Assert;
 import org.junit.Before;
@@ -78,6 +80,71 @@ public class DefaultIdmEntityEventServiceIntegrationTest extends AbstractIntegra
 		Assert.assertNull(entityStateService.get(entityState));
 	}
 	
+	@Test
+	@Transactional
+	public void testContentHashOfCreatedEvent() {
+		IdmEntityEventDto entityEvent = new IdmEntityEventDto();
+		entityEvent.setOwnerType("empty");
+		entityEvent.setEventType("empty");
+		entityEvent.setOwnerId(UUID.randomUUID());
+		entityEvent.setInstanceId("empty");
+		entityEvent.setResult(new OperationResultDto(OperationState.CREATED));
+		entityEvent.setPriority(PriorityType.NORMAL);
+		entityEvent.getProperties().put("one", "one");
+		entityEvent = entityEventService.save(entityEvent);
+		//
+		String contentHash = entityEvent.getContentHash();
+		Assert.assertNotNull(contentHash);
+		Assert.assertEquals(contentHash, entityEventService.get(entityEvent).getContentHash());
+		//
+		entityEvent.getProperties().put("one", "two");
+		entityEvent = entityEventService.save(entityEvent);
+		//
+		Assert.assertNotNull(entityEvent.getContentHash());
+		Assert.assertNotEquals(contentHash, entityEvent.getContentHash());
+		//
+		// fingerprint is not changed, when event is processed
+		contentHash = entityEvent.getContentHash();
+		entityEvent.getProperties().put("one", "three");
+		entityEvent.setResult(new OperationResultDto(OperationState.RUNNING));
+		entityEvent = entityEventService.save(entityEvent);
+		//
+		Assert.assertEquals(contentHash, entityEvent.getContentHash());
+	}
+	
+	@Test
+	public void testClaim() {
+		UUID ownerId = UUID.randomUUID();
+		IdmEntityEventDto eventOne = createCreatedEvent(ownerId);
+		IdmEntityEventDto eventTwo = createCreatedEvent(ownerId);
+		IdmEntityEventDto eventThree = createCreatedEvent(UUID.randomUUID());
+		try {
+			List<UUID> toClaim = findToClaim();
+			Assert.assertTrue(toClaim.containsAll(Lists.newArrayList(eventOne.getId(), eventTwo.getId(), eventThree.getId())));
+			//
+			Assert.assertTrue(entityEventService.claim(eventOne, "instance-one"));
+			Assert.assertFalse(entityEventService.claim(eventOne, "instance-two"));
+			// owner is running
+			Assert.assertFalse(entityEventService.claim(eventTwo, "instance-two"));
+			IdmEntityEventDto claimedEvent = entityEventService.get(eventOne);
+			Assert.assertEquals(OperationState.RUNNING, claimedEvent.getResult().getState());
+			Assert.assertEquals("instance-one", claimedEvent.getInstanceId());
+			//
+			toClaim = findToClaim();
+			Assert.assertFalse(toClaim.contains(eventOne.getId()));
+			Assert.assertFalse(toClaim.contains(eventTwo.getId()));
+			Assert.assertTrue(toClaim.contains(eventThree.getId()));
+			//
+			Assert.assertTrue(entityEventService.release(eventOne.getId(), "instance-one"));
+			Assert.assertEquals(OperationState.CREATED, entityEventService.get(eventOne).getResult().getState());
+			Assert.assertTrue(entityEventService.claim(eventTwo, "instance-two"));
+		} finally {
+			entityEventService.delete(eventOne);
+			entityEventService.delete(eventTwo);
+			entityEventService.delete(eventThree);
+		}
+	}
+	
 	@Test
 	@Ignore
 	public void testReferentialIntegrityOwnerIsDeleted() {
@@ -319,4 +386,24 @@ public class DefaultIdmEntityEventServiceIntegrationTest extends AbstractIntegra
 		Assert.assertEquals(1, events.size());
 		Assert.assertTrue(events.stream().anyMatch(e -> e.getOwnerId().equals(ownerOne)));
 	}
+	
+	private IdmEntityEventDto createCreatedEvent(UUID ownerId) {
+		IdmEntityEventDto entityEvent = new IdmEntityEventDto();
+		entityEvent.setOwnerType("empty");
+		entityEvent.setEventType("empty");
+		entityEvent.setOwnerId(ownerId);
+		entityEvent.setInstanceId("empty");
+		entityEvent.setResult(new OperationResultDto(OperationState.CREATED));
+		entityEvent.setPriority(PriorityType.NORMAL);
+		//
+		return entityEventService.save(entityEvent);
+	}
+	
+	private List<UUID> findToClaim() {
+		return entityEventService
+				.findToClaim(ZonedDateTime.now(), null, null)
+				.stream()
+				.map(IdmEntityEventDto::getId)
+				.collect(Collectors.toList());
+	}
 }
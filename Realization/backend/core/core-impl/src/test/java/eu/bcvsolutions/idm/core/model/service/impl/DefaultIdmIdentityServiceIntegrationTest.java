@@ -5,8 +5,11 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 
 import java.time.LocalDate;
+import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.validation.ConstraintViolationException;
 
@@ -17,6 +20,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.transaction.annotation.Transactional;
@@ -444,7 +448,144 @@ public class DefaultIdmIdentityServiceIntegrationTest extends AbstractIntegratio
 		Assert.assertNotEquals(firstIdentity, findIds.getContent().get(0));
 		Assert.assertNotEquals(secondIdentity, findIds.getContent().get(1));
 	}
-	
+
+	@Test
+	@Transactional
+	public void testFindAfter() {
+		IdmIdentityDto identityOne = getHelper().createIdentity((GuardedString) null);
+		IdmIdentityDto identityTwo = getHelper().createIdentity((GuardedString) null);
+		IdmIdentityDto identityThree = getHelper().createIdentity((GuardedString) null);
+		//
+		IdmIdentityFilter filter = new IdmIdentityFilter();
+		filter.setIdentifiers(Lists.newArrayList(identityOne.getUsername(), identityTwo.getUsername(), identityThree.getUsername()));
+		// uuid order is given by database
+		List<UUID> identityIds = identityService
+				.findIds(filter, PageRequest.of(0, 3, Sort.by(IdmIdentity_.id.getName())))
+				.getContent();
+		Assert.assertEquals(3, identityIds.size());
+		//
+		Slice<IdmIdentityDto> slice = identityService.findAfter(filter, null, 2);
+		Assert.assertEquals(2, slice.getNumberOfElements());
+		Assert.assertTrue(slice.hasNext());
+		Assert.assertEquals(identityIds.get(0), slice.getContent().get(0).getId());
+		Assert.assertEquals(identityIds.get(1), slice.getContent().get(1).getId());
+		//
+		slice = identityService.findAfter(filter, slice.getContent().get(1).getId(), 2);
+		Assert.assertEquals(1, slice.getNumberOfElements());
+		Assert.assertFalse(slice.hasNext());
+		Assert.assertEquals(identityIds.get(2), slice.getContent().get(0).getId());
+		//
+		slice = identityService.findAfter(filter, identityIds.get(2), 2);
+		Assert.assertFalse(slice.hasContent());
+		Assert.assertFalse(slice.hasNext());
+	}
+
+	@Test
+	@Transactional
+	public void testStream() {
+		IdmIdentityDto identityOne = getHelper().createIdentity((GuardedString) null);
+		IdmIdentityDto identityTwo = getHelper().createIdentity((GuardedString) null);
+		IdmIdentityDto identityThree = getHelper().createIdentity((GuardedString) null);
+		//
+		IdmIdentityFilter filter = new IdmIdentityFilter();
+		filter.setIdentifiers(Lists.newArrayList(identityOne.getUsername(), identityTwo.getUsername(), identityThree.getUsername()));
+		// uuid order is given by database
+		List<UUID> identityIds = identityService
+				.findIds(filter, PageRequest.of(0, 3, Sort.by(IdmIdentity_.id.getName())))
+				.getContent();
+		//
+		try (Stream<IdmIdentityDto> identities = identityService.stream(filter)) {
+			Assert.assertEquals(identityIds, identities.map(IdmIdentityDto::getId).collect(Collectors.toList()));
+		}
+		//
+		List<String> usernames = Lists.newArrayList(identityOne.getUsername(), identityTwo.getUsername(), identityThree.getUsername());
+		usernames.sort(Comparator.reverseOrder());
+		try (Stream<IdmIdentityDto> identities = identityService.stream(filter, Sort.by(Direction.DESC, IdmIdentity_.username.getName()))) {
+			Assert.assertEquals(usernames, identities.map(IdmIdentityDto::getUsername).collect(Collectors.toList()));
+		}
+		//
+		filter.setIdentifiers(Lists.newArrayList(getHelper().createName()));
+		try (Stream<IdmIdentityDto> identities = identityService.stream(filter)) {
+			Assert.assertEquals(0, identities.count());
+		}
+	}
+
+	@Test
+	@Transactional
+	public void testStreamDetachStreamedEntitiesOnly() {
+		IdmIdentityDto identityOne = getHelper().createIdentity((GuardedString) null);
+		IdmIdentityDto identityTwo = getHelper().createIdentity((GuardedString) null);
+		// entity managed by caller with unflushed change
+		IdmIdentity managedIdentity = (IdmIdentity) lookupService.lookupEntity(IdmIdentity.class, identityOne.getId());
+		String description = getHelper().createName();
+		managedIdentity.setDescription(description);
+		//
+		IdmIdentityFilter filter = new IdmIdentityFilter();
+		filter.setIdentifiers(Lists.newArrayList(identityTwo.getUsername()));
+		try (Stream<IdmIdentityDto> identities = identityService.stream(filter)) {
+			Assert.assertEquals(1, identities.count());
+		}
+		//
+		// caller's entity is still managed - change is not lost
+		Assert.assertSame(managedIdentity, lookupService.lookupEntity(IdmIdentity.class, identityOne.getId()));
+		Assert.assertEquals(description, identityService.get(identityOne.getId()).getDescription());
+	}
+
+	@Test
+	@Transactional
+	public void testStreamNotDetachManagedStreamedEntity() {
+		IdmIdentityDto identityOne = getHelper().createIdentity((GuardedString) null);
+		IdmIdentityDto identityTwo = getHelper().createIdentity((GuardedString) null);
+		// entity managed by caller with unflushed change is part of streamed set
+		IdmIdentity managedIdentity = (IdmIdentity) lookupService.lookupEntity(IdmIdentity.class, identityOne.getId());
+		String description = getHelper().createName();
+		managedIdentity.setDescription(description);
+		//
+		IdmIdentityFilter filter = new IdmIdentityFilter();
+		filter.setIdentifiers(Lists.newArrayList(identityOne.getUsername(), identityTwo.getUsername()));
+		try (Stream<IdmIdentityDto> identities = identityService.stream(filter)) {
+			List<IdmIdentityDto> results = identities.collect(Collectors.toList());
+			Assert.assertEquals(2, results.size());
+			Assert.assertTrue(results
+					.stream()
+					.anyMatch(i -> i.getId().equals(identityOne.getId()) && description.equals(i.getDescription())));
+		}
+		//
+		// caller's entity is still managed - change is not lost
+		Assert.assertSame(managedIdentity, lookupService.lookupEntity(IdmIdentity.class, identityOne.getId()));
+		Assert.assertEquals(description, identityService.get(identityOne.getId()).getDescription());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testStreamWithoutTransaction() {
+		identityService.stream(new IdmIdentityFilter());
+	}
+
+	@Test
+	@Transactional
+	public void testFindWithoutCount() {
+		IdmIdentityDto identityOne = getHelper().createIdentity((GuardedString) null);
+		IdmIdentityDto identityTwo = getHelper().createIdentity((GuardedString) null);
+		IdmIdentityDto identityThree = getHelper().createIdentity((GuardedString) null);
+		//
+		IdmIdentityFilter filter = new IdmIdentityFilter();
+		filter.setIdentifiers(Lists.newArrayList(identityOne.getUsername(), identityTwo.getUsername(), identityThree.getUsername()));
+		filter.setCount(false);
+		//
+		Page<IdmIdentityDto> identities = identityService.find(filter, PageRequest.of(0, 2));
+		Assert.assertEquals(2, identities.getNumberOfElements());
+		Assert.assertTrue(identities.hasNext());
+		//
+		identities = identityService.find(filter, identities.nextPageable());
+		Assert.assertEquals(1, identities.getNumberOfElements());
+		Assert.assertFalse(identities.hasNext());
+		Assert.assertEquals(3, identities.getTotalElements());
+		//
+		identities = identityService.find(filter, PageRequest.of(0, 3));
+		Assert.assertEquals(3, identities.getNumberOfElements());
+		Assert.assertFalse(identities.hasNext());
+	}
+
 	@Test
 	// @Transactional TODO: Enable processor again throws OPtimistic lock exception on identity - why?
 	public void testEvaluateStateAgain() {
@@ -13,6 +13,7 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 
 import eu.bcvsolutions.idm.core.api.domain.ConceptRoleRequestOperation;
 import eu.bcvsolutions.idm.core.api.domain.RoleRequestState;
@@ -21,11 +22,13 @@ import eu.bcvsolutions.idm.core.api.dto.IdmConceptRoleRequestDto;
 import eu.bcvsolutions.idm.core.api.dto.IdmIdentityContractDto;
 import eu.bcvsolutions.idm.core.api.dto.IdmIdentityDto;
 import eu.bcvsolutions.idm.core.api.dto.IdmIncompatibleRoleDto;
+import eu.bcvsolutions.idm.core.api.dto.IdmRoleCompositionDto;
 import eu.bcvsolutions.idm.core.api.dto.IdmRoleDto;
 import eu.bcvsolutions.idm.core.api.dto.IdmRoleRequestDto;
 import eu.bcvsolutions.idm.core.api.dto.ResolvedIncompatibleRoleDto;
 import eu.bcvsolutions.idm.core.api.exception.EntityNotFoundException;
 import eu.bcvsolutions.idm.core.api.service.IdmConceptRoleRequestService;
+import eu.bcvsolutions.idm.core.api.service.IdmRoleCompositionService;
 import eu.bcvsolutions.idm.core.api.service.IdmRoleRequestService;
 import eu.bcvsolutions.idm.core.api.service.IdmRoleService;
 import eu.bcvsolutions.idm.core.security.api.domain.GuardedString;
@@ -41,6 +44,7 @@ import eu.bcvsolutions.idm.test.api.AbstractIntegrationTest;
 public class DefaultIdmIncompatibleRoleServiceIntegrationTest extends AbstractIntegrationTest {
 	
 	@Autowired private ApplicationContext context;
+	@Autowired private IdmRoleCompositionService roleCompositionService;
 	//
 	private DefaultIdmIncompatibleRoleService service;
 
@@ -71,6 +75,33 @@ public class DefaultIdmIncompatibleRoleServiceIntegrationTest extends AbstractIn
 		service.resolveIncompatibleRoles(Lists.newArrayList(getHelper().createName()));
 	}
 	
+	@Test
+	public void testResolveIncompatibleRolesAfterChange() {
+		IdmRoleDto superior = getHelper().createRole();
+		IdmRoleDto sub = getHelper().createRole();
+		IdmRoleDto incompatible = getHelper().createRole();
+		List<Serializable> roles = Lists.newArrayList(superior.getId(), incompatible.getId());
+		//
+		Assert.assertTrue(service.resolveIncompatibleRoles(roles).isEmpty());
+		//
+		IdmIncompatibleRoleDto incompatibleRole = getHelper().createIncompatibleRole(sub, incompatible);
+		Assert.assertTrue(service.resolveIncompatibleRoles(roles).isEmpty());
+		//
+		IdmRoleCompositionDto roleComposition = getHelper().createRoleComposition(superior, sub);
+		Set<ResolvedIncompatibleRoleDto> resolvedIncompatibleRoles = service.resolveIncompatibleRoles(roles);
+		Assert.assertEquals(2, resolvedIncompatibleRoles.size());
+		Assert.assertTrue(resolvedIncompatibleRoles.stream().allMatch(ir -> ir.getIncompatibleRole().getId().equals(incompatibleRole.getId())));
+		Assert.assertTrue(resolvedIncompatibleRoles.stream().anyMatch(ir -> ir.getDirectRole().getId().equals(superior.getId())));
+		Assert.assertTrue(resolvedIncompatibleRoles.stream().anyMatch(ir -> ir.getDirectRole().getId().equals(incompatible.getId())));
+		Assert.assertEquals(Sets.newHashSet(sub.getId()), roleCompositionService.findAllSubRoleIds(superior.getId()));
+		//
+		service.delete(incompatibleRole);
+		Assert.assertTrue(service.resolveIncompatibleRoles(roles).isEmpty());
+		//
+		roleCompositionService.deleteInternal(roleComposition);
+		Assert.assertTrue(roleCompositionService.findAllSubRoleIds(superior.getId()).isEmpty());
+	}
+	
 	@Test
 	public void testResolveIncompatibleRoles() {
 		Assert.assertTrue(service.resolveIncompatibleRoles(null).isEmpty());
@@ -2,6 +2,8 @@ package eu.bcvsolutions.idm.core.model.service.impl;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.time.ZonedDateTime;
@@ -9,6 +11,7 @@ import java.time.temporal.ChronoUnit;
 import java.util.Map;
 import java.util.Queue;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.After;
 import org.junit.Before;
@@ -26,6 +29,7 @@ import eu.bcvsolutions.idm.core.api.dto.IdmRoleRequestDto;
 import eu.bcvsolutions.idm.core.api.dto.OperationResultDto;
 import eu.bcvsolutions.idm.core.api.dto.filter.IdmRoleRequestFilter;
 import eu.bcvsolutions.idm.core.api.service.ConfigurationService;
+import eu.bcvsolutions.idm.core.api.service.IdmCacheManager;
 import eu.bcvsolutions.idm.core.api.service.IdmRoleRequestService;
 import eu.bcvsolutions.idm.core.model.service.api.CheckLongPollingResult;
 import eu.bcvsolutions.idm.core.model.service.api.LongPollingManager;
@@ -50,6 +54,8 @@ public class DefaultLongPollingManagerTest extends AbstractCoreWorkflowIntegrati
 	@Autowired
 	@Lazy
 	private ConfigurationService configurationService;
+	@Autowired
+	private IdmCacheManager cacheManager;
 
 	@Before
 	public void init() {
@@ -293,6 +299,128 @@ public class DefaultLongPollingManagerTest extends AbstractCoreWorkflowIntegrati
 		defaultPollingManager.getRegistredSubscribers().clear();
 	}
 
+	@Test
+	public void testNotifyChangedSubscriberOnCreateRoleRequest() {
+		DefaultLongPollingManager defaultPollingManager = (DefaultLongPollingManager) longPollingManager;
+		// Clear deferred result and subscribers
+		defaultPollingManager.getSuspendedRequests().clear();
+		defaultPollingManager.getRegistredSubscribers().clear();
+
+		IdmIdentityDto identityOne = this.getHelper().createIdentity();
+		IdmIdentityDto identityTwo = this.getHelper().createIdentity();
+		// without check callback => changes are notified by entity events only
+		DeferredResult<OperationResultDto> result = new DeferredResult<OperationResultDto>(10000l,
+				new OperationResultDto(OperationState.NOT_EXECUTED));
+		longPollingManager.addSuspendedResult(new DeferredResultWrapper(identityOne.getId(), identityOne.getClass(), result));
+		DeferredResult<OperationResultDto> resultTwo = new DeferredResult<OperationResultDto>(10000l,
+				new OperationResultDto(OperationState.NOT_EXECUTED));
+		longPollingManager.addSuspendedResult(new DeferredResultWrapper(identityTwo.getId(), identityTwo.getClass(), resultTwo));
+		//
+		longPollingManager.checkDeferredRequests(IdmIdentityDto.class);
+		assertFalse(result.isSetOrExpired());
+		assertFalse(resultTwo.isSetOrExpired());
+		//
+		// Create role-request -> must be notified
+		this.getHelper().createRoleRequest(identityOne, this.getHelper().createRole());
+		assertNotNull(cacheManager.getValue(LongPollingManager.CHANGE_CACHE_NAME, identityOne.getId()));
+		assertNull(cacheManager.getValue(LongPollingManager.CHANGE_CACHE_NAME, identityTwo.getId()));
+		//
+		longPollingManager.checkDeferredRequests(IdmIdentityDto.class);
+		assertTrue(result.isSetOrExpired());
+		assertEquals(OperationState.RUNNING, ((OperationResultDto) result.getResult()).getState());
+		assertFalse(resultTwo.isSetOrExpired());
+		assertEquals(
+				cacheManager.getValue(LongPollingManager.CHANGE_CACHE_NAME, identityOne.getId()).get(), 
+				defaultPollingManager.getRegistredSubscribers().get(identityOne.getId()).getChangeVersion());
+
+		// Clear deferred result and subscribers
+		defaultPollingManager.getSuspendedRequests().clear();
+		defaultPollingManager.getRegistredSubscribers().clear();
+	}
+	
+	@Test
+	public void testNotifyChangeWithoutSubscriber() {
+		DefaultLongPollingManager defaultPollingManager = (DefaultLongPollingManager) longPollingManager;
+		// Clear deferred result and subscribers
+		defaultPollingManager.getSuspendedRequests().clear();
+		defaultPollingManager.getRegistredSubscribers().clear();
+		//
+		longPollingManager.notifyChange(IdmIdentityDto.class, UUID.randomUUID());
+		//
+		assertTrue(defaultPollingManager.getRegistredSubscribers().isEmpty());
+	}
+	
+	@Test
+	public void testNotifyChangeFromAnotherInstance() {
+		DefaultLongPollingManager defaultPollingManager = (DefaultLongPollingManager) longPollingManager;
+		// Clear deferred result and subscribers
+		defaultPollingManager.getSuspendedRequests().clear();
+		defaultPollingManager.getRegistredSubscribers().clear();
+		//
+		UUID identityId = UUID.randomUUID();
+		DeferredResult<OperationResultDto> result = new DeferredResult<OperationResultDto>(10000l,
+				new OperationResultDto(OperationState.NOT_EXECUTED));
+		longPollingManager.addSuspendedResult(new DeferredResultWrapper(identityId, IdmIdentityDto.class, result));
+		longPollingManager.checkDeferredRequests(IdmIdentityDto.class);
+		assertFalse(result.isSetOrExpired());
+		//
+		// change published by another server instance (distributed cache)
+		cacheManager.cacheValue(LongPollingManager.CHANGE_CACHE_NAME, identityId, UUID.randomUUID());
+		longPollingManager.checkDeferredRequests(IdmIdentityDto.class);
+		assertTrue(result.isSetOrExpired());
+		assertEquals(OperationState.RUNNING, ((OperationResultDto) result.getResult()).getState());
+		
+		// Clear deferred result and subscribers
+		defaultPollingManager.getSuspendedRequests().clear();
+		defaultPollingManager.getRegistredSubscribers().clear();
+	}
+	
+	@Test
+	public void testCheckCallbackFallbackInterval() {
+		DefaultLongPollingManager defaultPollingManager = (DefaultLongPollingManager) longPollingManager;
+		// Clear deferred result and subscribers
+		defaultPollingManager.getSuspendedRequests().clear();
+		defaultPollingManager.getRegistredSubscribers().clear();
+		//
+		UUID identityId = UUID.randomUUID();
+		DeferredResult<OperationResultDto> result = new DeferredResult<OperationResultDto>(10000l,
+				new OperationResultDto(OperationState.NOT_EXECUTED));
+		DeferredResultWrapper wrapper = new DeferredResultWrapper(identityId, IdmIdentityDto.class, result);
+		AtomicInteger counter = new AtomicInteger();
+		wrapper.onCheckResultCallback((deferredResult, subscriber) -> counter.incrementAndGet());
+		longPollingManager.addSuspendedResult(wrapper);
+		//
+		longPollingManager.checkDeferredRequests(IdmIdentityDto.class);
+		longPollingManager.checkDeferredRequests(IdmIdentityDto.class);
+		assertEquals(1, counter.get());
+		//
+		// subscriber was not notified in the interval
+		defaultPollingManager
+			.getRegistredSubscribers()
+			.get(identityId)
+			.setLastCheck(ZonedDateTime.now().minus(DefaultLongPollingManager.CHECK_FALLBACK_INTERVAL));
+		longPollingManager.checkDeferredRequests(IdmIdentityDto.class);
+		assertEquals(2, counter.get());
+		//
+		// notified subscriber - check state is initialized with the next request
+		cacheManager.cacheValue(LongPollingManager.CHANGE_CACHE_NAME, identityId, UUID.randomUUID());
+		longPollingManager.checkDeferredRequests(IdmIdentityDto.class);
+		assertTrue(result.isSetOrExpired());
+		assertEquals(2, counter.get());
+		DeferredResult<OperationResultDto> nextResult = new DeferredResult<OperationResultDto>(10000l,
+				new OperationResultDto(OperationState.NOT_EXECUTED));
+		DeferredResultWrapper nextWrapper = new DeferredResultWrapper(identityId, IdmIdentityDto.class, nextResult);
+		nextWrapper.onCheckResultCallback((deferredResult, subscriber) -> counter.incrementAndGet());
+		longPollingManager.addSuspendedResult(nextWrapper);
+		longPollingManager.checkDeferredRequests(IdmIdentityDto.class);
+		longPollingManager.checkDeferredRequests(IdmIdentityDto.class);
+		assertEquals(3, counter.get());
+		
+		// Clear deferred result and subscribers
+		defaultPollingManager.getSuspendedRequests().clear();
+		defaultPollingManager.getRegistredSubscribers().clear();
+	}
+
 	private void checkDeferredRequest(DeferredResult<OperationResultDto> deferredResult,
 			LongPollingSubscriber subscriber) {
 		Assert.notNull(deferredResult, "Deffered result is required.");
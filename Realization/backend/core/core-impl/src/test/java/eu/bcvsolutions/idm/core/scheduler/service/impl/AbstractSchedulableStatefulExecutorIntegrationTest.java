@@ -1,6 +1,7 @@
 package eu.bcvsolutions.idm.core.scheduler.service.impl;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
@@ -589,6 +590,86 @@ public class AbstractSchedulableStatefulExecutorIntegrationTest extends Abstract
 		assertEquals(Long.valueOf(itemsToProcess.size()), executor.getCounter());
 	}
 	
+	@Test
+	public void testExecuteInBatch() throws Exception {
+		TestIdentityIntegrationExecutor executor = new TestIdentityIntegrationExecutor();
+		AutowireHelper.autowire(executor);
+		IdmScheduledTaskDto scheduledTask = createIdmScheduledTask(UUID.randomUUID().toString());
+		IdmLongRunningTaskDto longRunningTask = createIdmLongRunningTask(scheduledTask, TestIdentityIntegrationExecutor.class);
+		executor.setLongRunningTaskId(longRunningTask.getId());
+		// first run - some items are in queue already
+		List<IdmIdentityDto> itemsToProcess = createTestIdentities(5);
+		itemService.createQueueItem(itemsToProcess.get(0), new OperationResult(OperationState.EXECUTED), scheduledTask.getId());
+		executor.dtos = itemsToProcess;
+		executor.batchProcessing = true;
+		//
+		Boolean result = executor.process();
+		Page<IdmProcessedTaskItemDto> queueItems = itemService.findQueueItems(scheduledTask, null);
+		Page<IdmProcessedTaskItemDto> logItems = itemService.findLogItems(longRunningTask, null);
+		longRunningTask = longRunningTaskService.get(longRunningTask.getId());
+		//
+		assertTrue(result);
+		assertEquals(itemsToProcess.size(), queueItems.getTotalElements());
+		assertEquals(itemsToProcess.size() - 1, logItems.getTotalElements());
+		assertEquals(Long.valueOf(itemsToProcess.size() - 1), executor.getCount());
+		assertEquals(Long.valueOf(itemsToProcess.size() - 1), executor.getCounter());
+		// last state is persisted
+		assertEquals(Long.valueOf(itemsToProcess.size() - 1), longRunningTask.getCounter());
+		SchedulerTestUtils.checkLogItems(longRunningTask, IdmIdentityDto.class, logItems);
+		SchedulerTestUtils.checkQueueItems(scheduledTask, IdmIdentityDto.class, queueItems);
+		//
+		// second run - all items are processed
+		longRunningTask = createIdmLongRunningTask(scheduledTask, TestIdentityIntegrationExecutor.class);
+		executor.setLongRunningTaskId(longRunningTask.getId());
+		executor.dtos = itemsToProcess;
+		//
+		result = executor.process();
+		queueItems = itemService.findQueueItems(scheduledTask, null);
+		logItems = itemService.findLogItems(longRunningTask, null);
+		//
+		assertTrue(result);
+		assertEquals(itemsToProcess.size(), queueItems.getTotalElements());
+		assertEquals(0, logItems.getTotalElements());
+		assertEquals(Long.valueOf(0), executor.getCounter());
+	}
+	
+	@Test
+	public void testExecuteParallel() throws Exception {
+		TestIdentityIntegrationExecutor executor = new TestIdentityIntegrationExecutor();
+		AutowireHelper.autowire(executor);
+		IdmScheduledTaskDto scheduledTask = createIdmScheduledTask(UUID.randomUUID().toString());
+		IdmLongRunningTaskDto longRunningTask = createIdmLongRunningTask(scheduledTask, TestIdentityIntegrationExecutor.class);
+		executor.setLongRunningTaskId(longRunningTask.getId());
+		// first run - some items are in queue already
+		List<IdmIdentityDto> itemsToProcess = createTestIdentities(10);
+		itemService.createQueueItem(itemsToProcess.get(0), new OperationResult(OperationState.EXECUTED), scheduledTask.getId());
+		executor.dtos = itemsToProcess;
+		executor.parallelProcessing = true;
+		executor.changeLastName = getHelper().createName();
+		//
+		Boolean result = executor.process();
+		Page<IdmProcessedTaskItemDto> queueItems = itemService.findQueueItems(scheduledTask, null);
+		Page<IdmProcessedTaskItemDto> logItems = itemService.findLogItems(longRunningTask, null);
+		longRunningTask = longRunningTaskService.get(longRunningTask.getId());
+		//
+		assertTrue(result);
+		assertEquals(itemsToProcess.size(), queueItems.getTotalElements());
+		assertEquals(itemsToProcess.size() - 1, logItems.getTotalElements());
+		assertEquals(Long.valueOf(itemsToProcess.size() - 1), executor.getCount());
+		assertEquals(Long.valueOf(itemsToProcess.size() - 1), executor.getCounter());
+		assertEquals(Long.valueOf(itemsToProcess.size() - 1), longRunningTask.getCounter());
+		SchedulerTestUtils.checkLogItems(longRunningTask, IdmIdentityDto.class, logItems);
+		SchedulerTestUtils.checkQueueItems(scheduledTask, IdmIdentityDto.class, queueItems);
+		// items are processed in new transaction
+		itemsToProcess
+			.stream()
+			.skip(1)
+			.forEach(identity -> {
+				assertEquals(executor.changeLastName, identityService.get(identity).getLastName());
+			});
+		assertNotEquals(executor.changeLastName, identityService.get(itemsToProcess.get(0)).getLastName());
+	}
+	
 	private List<IdmIdentityDto> findTestIdentities() {
 		// FIXME: prepare new identities instead ... 
 		return identityService.find(null, PageRequest.of(0, 10)).getContent();
@@ -635,6 +716,8 @@ public class AbstractSchedulableStatefulExecutorIntegrationTest extends Abstract
 		private Integer exceptionOnItem = null;
 		private String changeLastName = null;
 		private boolean cancel = false; 
+		private boolean batchProcessing = false;
+		private boolean parallelProcessing = false;
 		
 		@Override
 		public boolean continueOnException() {
@@ -651,6 +734,21 @@ public class AbstractSchedulableStatefulExecutorIntegrationTest extends Abstract
 			return supportsQueue;
 		}
 		
+		@Override
+		protected boolean isBatchProcessing() {
+			return batchProcessing;
+		}
+		
+		@Override
+		protected boolean supportsParallelProcessing() {
+			return parallelProcessing;
+		}
+		
+		@Override
+		protected int getParallelWorkers() {
+			return 3;
+		}
+		
 		@Override
 		public Page<IdmIdentityDto> getItemsToProcess(Pageable pageable) {
 			PageImpl<IdmIdentityDto> res = new PageImpl<>(dtos);
@@ -27,6 +27,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 import com.google.common.collect.Lists;
 
@@ -263,6 +265,52 @@ public class AbstractSchedulableStatefulExecutorUnitTest extends AbstractVerifia
 		verify(itemService, never()).find(ArgumentMatchers.any(IdmProcessedTaskItemFilter.class), ArgumentMatchers.any(Pageable.class));
 	}
 	
+	@Test
+	public void testProcessWithKeysetPagination() {
+		IdmScheduledTaskDto scheduledTask = new IdmScheduledTaskDto();
+		scheduledTask.setId(UUID.randomUUID());
+		IdmLongRunningTaskDto lrt = new IdmLongRunningTaskDto();
+		lrt.setResult(new OperationResult.Builder(OperationState.RUNNING).build());
+		//
+		IdmIdentityDto dto1 = getTestIdentityDto();
+		IdmIdentityDto dto2 = getTestIdentityDto();
+		IdmIdentityDto dto3 = getTestIdentityDto();
+		// stubs
+		doReturn(Optional.of(new OperationResult.Builder(OperationState.EXECUTED).build()))
+			.when(executor).processItem(ArgumentMatchers.any());
+		doReturn(false)
+			.when(executor).isInProcessedQueue(ArgumentMatchers.any());
+		doReturn(Lists.newArrayList())
+			.when(executor).getProcessedItemRefsFromQueue();
+		doReturn(scheduledTask.getId())
+			.when(executor).getScheduledTaskId();
+		doReturn(new SliceImpl<>(Lists.newArrayList(dto1, dto2), PageRequest.of(0, 2), true))
+			.when(executor).getItemsToProcess(ArgumentMatchers.any(Pageable.class), ArgumentMatchers.isNull());
+		doReturn(new SliceImpl<>(Lists.newArrayList(dto3), PageRequest.of(1, 2), false))
+			.when(executor).getItemsToProcess(ArgumentMatchers.any(Pageable.class), ArgumentMatchers.eq(dto2.getId()));
+		// matchers
+		when(longRunningTaskService.get(ArgumentMatchers.any()))
+			.thenReturn(lrt);
+		when(entityManager.getDelegate()).thenReturn(hiberanteSession);
+		when(hiberanteSession.isOpen()).thenReturn(false);
+		//
+		Boolean processingResult = executor.process();
+		assertTrue(processingResult);
+		// loaded items are counted
+		assertEquals(Long.valueOf(3), executor.getCount());
+		//
+		verify(longRunningTaskService, times(2)).get(ArgumentMatchers.any());
+		verify(executor, never()).getItemsToProcess((Pageable) ArgumentMatchers.any());
+		verify(executor, times(1)).getItemsToProcess(ArgumentMatchers.any(Pageable.class), ArgumentMatchers.isNull());
+		verify(executor, times(1)).getItemsToProcess(ArgumentMatchers.any(Pageable.class), ArgumentMatchers.eq(dto2.getId()));
+		verify(executor, times(3)).processItem(ArgumentMatchers.any(IdmIdentityDto.class));
+		verify(executor, times(3)).logItemProcessed(ArgumentMatchers.any(), ArgumentMatchers.any());
+		verify(itemService, times(3)).createLogItem(ArgumentMatchers.any(), ArgumentMatchers.any(), (UUID) ArgumentMatchers.any());
+		verify(itemService, times(3)).createQueueItem(ArgumentMatchers.any(), ArgumentMatchers.any(), (UUID) ArgumentMatchers.any());
+		// session
+		verify(entityManager, times(3)).getDelegate();
+		verify(hiberanteSession, times(3)).isOpen();
+	}
 	
 	public static class TestIdenityUnitExecutor extends AbstractSchedulableStatefulExecutor<IdmIdentityDto> {
 		
@@ -270,6 +318,11 @@ public class AbstractSchedulableStatefulExecutorUnitTest extends AbstractVerifia
 		public Page<IdmIdentityDto> getItemsToProcess(Pageable pageable) {
 			return null;
 		}
+		
+		@Override
+		public Slice<IdmIdentityDto> getItemsToProcess(Pageable pageable, UUID lastId) {
+			return super.getItemsToProcess(pageable, lastId);
+		}
 
 		@Override
 		public Optional<OperationResult> processItem(IdmIdentityDto dto) {
@@ -5,6 +5,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import java.io.Serializable;
 import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
@@ -19,11 +20,15 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
 import eu.bcvsolutions.idm.core.api.config.cache.domain.ValueWrapper;
 import eu.bcvsolutions.idm.core.api.config.domain.RoleConfiguration;
 import eu.bcvsolutions.idm.core.api.domain.ConfigurationMap;
 import eu.bcvsolutions.idm.core.api.domain.ContractState;
 import eu.bcvsolutions.idm.core.api.dto.IdmAuthorizationPolicyDto;
+import eu.bcvsolutions.idm.core.api.dto.IdmCacheDto;
 import eu.bcvsolutions.idm.core.api.dto.IdmIdentityContractDto;
 import eu.bcvsolutions.idm.core.api.dto.IdmIdentityDto;
 import eu.bcvsolutions.idm.core.api.dto.IdmIdentityRoleDto;
@@ -43,6 +48,7 @@ import eu.bcvsolutions.idm.core.security.api.domain.IdmBasePermission;
 import eu.bcvsolutions.idm.core.security.api.dto.AuthorizableType;
 import eu.bcvsolutions.idm.core.security.api.dto.AuthorizationEvaluatorDto;
 import eu.bcvsolutions.idm.core.security.api.service.AuthorizationManager;
+import eu.bcvsolutions.idm.core.security.domain.PermissionCacheKey;
 import eu.bcvsolutions.idm.core.security.evaluator.BasePermissionEvaluator;
 import eu.bcvsolutions.idm.core.security.evaluator.UuidEvaluator;
 import eu.bcvsolutions.idm.test.api.AbstractEvaluatorIntegrationTest;
@@ -346,7 +352,10 @@ public class DefaultAuthorizationManagerIntegrationTest extends AbstractEvaluato
 					((IdmAuthorizationPolicyDto) cacheManager.getValue(AuthorizationManager.AUTHORIZATION_POLICY_DEFINITION_CACHE_NAME, 
 							cachedPolicies.get(0)).get()).getEvaluatorType());
 			cacheValue = cacheManager.getValue(AuthorizationManager.PERMISSION_CACHE_NAME, identity.getId());
-			permissions = (Set) ((Map) cacheValue.get()).get(role.getId());
+			cacheValue = cacheManager.getValue(
+					AuthorizationManager.PERMISSION_ENTITY_CACHE_NAME, 
+					new PermissionCacheKey(identity.getId(), (UUID) cacheValue.get(), role.getId()));
+			permissions = (Set) cacheValue.get();
 			Assert.assertEquals(2, permissions.size());
 			Assert.assertTrue(permissions.stream().anyMatch(p -> p.equals(IdmBasePermission.AUTOCOMPLETE.getName())));
 			Assert.assertTrue(permissions.stream().anyMatch(p -> p.equals(IdmBasePermission.READ.getName())));
@@ -437,7 +446,10 @@ public class DefaultAuthorizationManagerIntegrationTest extends AbstractEvaluato
 					((IdmAuthorizationPolicyDto) cacheManager.getValue(AuthorizationManager.AUTHORIZATION_POLICY_DEFINITION_CACHE_NAME, 
 							cachedPolicies.get(0)).get()).getEvaluatorType());
 			cacheValue = cacheManager.getValue(AuthorizationManager.PERMISSION_CACHE_NAME, identity.getId());
-			permissions = (Set) ((Map) cacheValue.get()).get(role.getId());
+			cacheValue = cacheManager.getValue(
+					AuthorizationManager.PERMISSION_ENTITY_CACHE_NAME, 
+					new PermissionCacheKey(identity.getId(), (UUID) cacheValue.get(), role.getId()));
+			permissions = (Set) cacheValue.get();
 			Assert.assertEquals(2, permissions.size());
 			Assert.assertTrue(permissions.stream().anyMatch(p -> p.equals(IdmBasePermission.AUTOCOMPLETE.getName())));
 			Assert.assertTrue(permissions.stream().anyMatch(p -> p.equals(IdmBasePermission.READ.getName())));
@@ -455,6 +467,56 @@ public class DefaultAuthorizationManagerIntegrationTest extends AbstractEvaluato
 		}
 	}
 	
+	@Test
+	@Transactional
+	public void testBulkPermissions() {
+		IdmIdentityDto identity = getHelper().createIdentity();
+		IdmRoleDto role = getHelper().createRole();
+		IdmRoleDto roleOne = getHelper().createRole();
+		IdmRoleDto roleTwo = getHelper().createRole();
+		getHelper().createBasePolicy(role.getId(), CoreGroupPermission.ROLE, IdmRole.class, IdmBasePermission.AUTOCOMPLETE, IdmBasePermission.READ);
+		getHelper().createIdentityRole(identity, role);
+		//
+		try {
+			getHelper().login(identity);
+			//
+			Set<String> permissions = manager.getPermissions(roleOne);
+			Assert.assertEquals(2, permissions.size());
+			//
+			Map<Serializable, Set<String>> results = manager.getPermissions(Lists.newArrayList(roleOne, roleTwo));
+			Assert.assertEquals(2, results.size());
+			Assert.assertEquals(permissions, results.get(roleOne.getId())); // from cache
+			Assert.assertEquals(2, results.get(roleTwo.getId()).size());
+			Assert.assertTrue(results.get(roleTwo.getId()).stream().anyMatch(p -> p.equals(IdmBasePermission.AUTOCOMPLETE.getName())));
+			Assert.assertTrue(results.get(roleTwo.getId()).stream().anyMatch(p -> p.equals(IdmBasePermission.READ.getName())));
+			// permissions are cached for each entity, cache generation is not changed
+			UUID generation = (UUID) cacheManager.getValue(AuthorizationManager.PERMISSION_CACHE_NAME, identity.getId()).get();
+			Assert.assertNotNull(cacheManager.getValue(
+					AuthorizationManager.PERMISSION_ENTITY_CACHE_NAME, 
+					new PermissionCacheKey(identity.getId(), generation, roleTwo.getId())));
+			manager.getPermissions(role);
+			Assert.assertEquals(generation, cacheManager.getValue(AuthorizationManager.PERMISSION_CACHE_NAME, identity.getId()).get());
+			Assert.assertNotNull(cacheManager.getValue(
+					AuthorizationManager.PERMISSION_ENTITY_CACHE_NAME, 
+					new PermissionCacheKey(identity.getId(), generation, role.getId())));
+			//
+			// evict identity generation => cached permissions are not used
+			cacheManager.evictValue(AuthorizationManager.PERMISSION_CACHE_NAME, identity.getId());
+			Assert.assertEquals(results.get(roleTwo.getId()), manager.getPermissions(roleTwo));
+			Assert.assertNotEquals(generation, cacheManager.getValue(AuthorizationManager.PERMISSION_CACHE_NAME, identity.getId()).get());
+			//
+			// permissions are filled for the whole page
+			IdmRoleFilter filter = new IdmRoleFilter();
+			filter.setId(roleTwo.getId());
+			filter.setAddPermissions(true);
+			List<IdmRoleDto> roles = roleService.find(filter, null, IdmBasePermission.READ).getContent();
+			Assert.assertEquals(1, roles.size());
+			Assert.assertEquals(results.get(roleTwo.getId()), roles.get(0).getPermissions());
+		} finally {
+			logout();
+		}
+	}
+	
 	@Test
 	@Transactional
 	public void testDistictPolicies() {
@@ -610,4 +672,31 @@ public class DefaultAuthorizationManagerIntegrationTest extends AbstractEvaluato
 			logout();
 		}
 	}
+	
+	@Test
+	public void testPermissionCacheGlobalMaxSize() {
+		UUID identityId = UUID.randomUUID();
+		UUID generation = UUID.randomUUID();
+		cacheManager.evictCache(AuthorizationManager.PERMISSION_ENTITY_CACHE_NAME);
+		try {
+			// one identity loads more records than cache can hold - cap is global (not per identity)
+			for (long index = 0; index < DefaultAuthorizationManager.PERMISSION_CACHE_MAX_SIZE + 100; index++) {
+				cacheManager.cacheValue(
+						AuthorizationManager.PERMISSION_ENTITY_CACHE_NAME, 
+						new PermissionCacheKey(identityId, generation, UUID.randomUUID()), 
+						Sets.newHashSet(IdmBasePermission.READ.getName()));
+			}
+			//
+			IdmCacheDto cache = cacheManager
+					.getAllAvailableCaches()
+					.stream()
+					.filter(c -> AuthorizationManager.PERMISSION_ENTITY_CACHE_NAME.equals(c.getName()))
+					.findFirst()
+					.orElse(null);
+			Assert.assertNotNull(cache);
+			Assert.assertTrue(cache.getSize() <= DefaultAuthorizationManager.PERMISSION_CACHE_MAX_SIZE);
+		} finally {
+			cacheManager.evictCache(AuthorizationManager.PERMISSION_ENTITY_CACHE_NAME);
+		}
+	}
 }
@@ -5,14 +5,23 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
 import java.util.UUID;
 
 import java.time.LocalDate;
+import org.junit.Assert;
 import org.junit.Test;
 
 import eu.bcvsolutions.idm.core.CoreModuleDescriptor;
+import eu.bcvsolutions.idm.core.api.domain.Embedded;
+import eu.bcvsolutions.idm.core.api.dto.AbstractDto;
+import eu.bcvsolutions.idm.core.api.dto.BaseDto;
+import eu.bcvsolutions.idm.core.api.dto.IdmIdentityContractDto;
+import eu.bcvsolutions.idm.core.api.dto.IdmIdentityDto;
 import eu.bcvsolutions.idm.core.api.dto.IdmIdentityRoleDto;
 import eu.bcvsolutions.idm.core.api.utils.EntityUtils;
+import eu.bcvsolutions.idm.core.api.utils.PropertyAccessor;
 import eu.bcvsolutions.idm.test.api.AbstractUnitTest;
 
 /**
@@ -130,5 +139,220 @@ public class EntityUtilsUnitTest extends AbstractUnitTest {
 	public void testToUuidInvalid2() {
 		EntityUtils.toUuid("aaaa");
 	}
+	
+	@Test
+	public void testGetEntityValue() throws Exception {
+		IdmIdentityDto identity = new IdmIdentityDto(UUID.randomUUID(), "username");
+		identity.setDisabled(true);
+		//
+		assertEquals("username", EntityUtils.getEntityValue(identity, "username"));
+		assertEquals(identity.getId(), EntityUtils.getEntityValue(identity, "id"));
+		assertEquals(Boolean.TRUE, EntityUtils.getEntityValue(identity, "disabled"));
+		assertEquals(IdmIdentityDto.class, EntityUtils.getEntityValue(identity, "class"));
+		assertEquals("username", EntityUtils.getFieldDescriptor(identity, "username").getName());
+	}
+	
+	@Test(expected = IllegalAccessException.class)
+	public void testGetEntityValueFieldNotFound() throws Exception {
+		EntityUtils.getEntityValue(new IdmIdentityDto(), "wrong");
+	}
+	
+	@Test
+	public void testGetEntityValueGetterException() throws Exception {
+		try {
+			EntityUtils.getEntityValue(new MockBean(), "failing");
+			Assert.fail();
+		} catch (InvocationTargetException ex) {
+			Assert.assertTrue(ex.getCause() instanceof UnsupportedOperationException);
+		}
+	}
+	
+	@Test
+	public void testSetEntityValue() throws Exception {
+		IdmIdentityDto identity = new IdmIdentityDto();
+		//
+		EntityUtils.setEntityValue(identity, "username", "username");
+		EntityUtils.setEntityValue(identity, "firstName", "first");
+		EntityUtils.setEntityValue(identity, "disabled", Boolean.TRUE);
+		//
+		assertEquals("username", identity.getUsername());
+		assertEquals("first", identity.getFirstName());
+		assertTrue(identity.isDisabled());
+		//
+		// coercion
+		EntityUtils.setEntityValue(identity, "username", 10L);
+		assertEquals("10", identity.getUsername());
+		IdmIdentityContractDto contract = new IdmIdentityContractDto();
+		EntityUtils.setEntityValue(contract, "validFrom", "2020-01-01");
+		assertEquals(LocalDate.of(2020, 1, 1), contract.getValidFrom());
+		EntityUtils.setEntityValue(contract, "validFrom", null);
+		assertNull(contract.getValidFrom());
+	}
+	
+	@Test
+	public void testSetEntityValuePrimitive() throws Exception {
+		MockBean bean = new MockBean();
+		//
+		EntityUtils.setEntityValue(bean, "count", 5L);
+		assertEquals(5L, bean.getCount());
+		// widening conversion
+		EntityUtils.setEntityValue(bean, "count", 6);
+		assertEquals(6L, bean.getCount());
+		try {
+			EntityUtils.setEntityValue(bean, "count", null);
+			Assert.fail();
+		} catch (IllegalArgumentException ex) {
+			// the same as reflection
+		}
+	}
+	
+	@Test(expected = IllegalAccessException.class)
+	public void testSetEntityValueWrongType() throws Exception {
+		EntityUtils.setEntityValue(new IdmIdentityDto(), "blockLoginDate", LocalDate.now());
+	}
+	
+	@Test(expected = IllegalAccessException.class)
+	public void testSetEntityValueNotWritable() throws Exception {
+		EntityUtils.setEntityValue(new MockBean(), "failing", "value");
+	}
+	
+	@Test
+	public void testPropertyAccessorIsCached() throws Exception {
+		PropertyAccessor accessor = PropertyAccessor.of(IdmIdentityDto.class, "username");
+		//
+		Assert.assertNotNull(accessor);
+		Assert.assertSame(accessor, PropertyAccessor.of(IdmIdentityDto.class, "username"));
+		Assert.assertNull(PropertyAccessor.of(IdmIdentityDto.class, "wrong"));
+		Assert.assertEquals(String.class, accessor.getParameterType());
+	}
+	
+	@Test
+	public void testGetFirstFieldInClassHierarchy() throws Exception {
+		Field field = EntityUtils.getFirstFieldInClassHierarchy(IdmIdentityContractDto.class, IdmIdentityContractDto.PROPERTY_IDENTITY);
+		//
+		Assert.assertEquals(IdmIdentityContractDto.class, field.getDeclaringClass());
+		Assert.assertTrue(field.getAnnotation(Embedded.class).enabled());
+		Assert.assertEquals(IdmIdentityDto.class, field.getAnnotation(Embedded.class).dtoClass());
+		// field is cached
+		Assert.assertSame(field, EntityUtils.getFirstFieldInClassHierarchy(IdmIdentityContractDto.class, IdmIdentityContractDto.PROPERTY_IDENTITY));
+		// field in super class
+		Assert.assertEquals(AbstractDto.class, EntityUtils.getFirstFieldInClassHierarchy(IdmIdentityContractDto.class, BaseDto.PROPERTY_ID).getDeclaringClass());
+		// field without bean property
+		Assert.assertEquals(MockBean.class, EntityUtils.getFirstFieldInClassHierarchy(MockBean.class, "owner").getDeclaringClass());
+	}
+	
+	@Test
+	public void testGetFirstFieldInClassHierarchyFirstWins() throws Exception {
+		Assert.assertEquals(MockBean.class, EntityUtils.getFirstFieldInClassHierarchy(MockChildBean.class, "count").getDeclaringClass());
+		Assert.assertEquals(MockChildBean.class, EntityUtils.getFirstFieldInClassHierarchy(MockChildBean.class, "failing").getDeclaringClass());
+	}
+	
+	@Test(expected = NoSuchFieldException.class)
+	public void testGetFirstFieldInClassHierarchyNotFound() throws Exception {
+		EntityUtils.getFirstFieldInClassHierarchy(IdmIdentityContractDto.class, "wrong");
+	}
+	
+	@Test(expected = NoSuchFieldException.class)
+	public void testGetFirstFieldInClassHierarchyFieldNameIsNull() throws Exception {
+		EntityUtils.getFirstFieldInClassHierarchy(IdmIdentityContractDto.class, null);
+	}
+	
+	@Test
+	public void testPropertyAccessorNewInstance() throws Exception {
+		IdmIdentityDto dto = PropertyAccessor.newInstance(IdmIdentityDto.class);
+		//
+		Assert.assertNotNull(dto);
+		Assert.assertNotSame(dto, PropertyAccessor.newInstance(IdmIdentityDto.class));
+	}
+	
+	@Test(expected = InstantiationException.class)
+	public void testPropertyAccessorNewInstanceAbstractClass() throws Exception {
+		PropertyAccessor.newInstance(AbstractDto.class);
+	}
+	
+	@Test(expected = NoSuchMethodException.class)
+	public void testPropertyAccessorNewInstanceWithoutDefaultConstructor() throws Exception {
+		PropertyAccessor.newInstance(UUID.class);
+	}
+	
+	@Test
+	public void testPropertyAccessorWrongBean() throws Exception {
+		PropertyAccessor accessor = PropertyAccessor.of(IdmIdentityDto.class, "username");
+		//
+		try {
+			accessor.getValue(new MockBean());
+			Assert.fail();
+		} catch (IllegalArgumentException ex) {
+			// the same as reflection
+		}
+		try {
+			accessor.getValue(null);
+			Assert.fail();
+		} catch (IllegalArgumentException ex) {
+			// bean is required
+		}
+		try {
+			accessor.setValue(new MockBean(), "username");
+			Assert.fail();
+		} catch (IllegalArgumentException ex) {
+			// the same as reflection
+		}
+		try {
+			accessor.setValue(null, "username");
+			Assert.fail();
+		} catch (IllegalArgumentException ex) {
+			// bean is required
+		}
+	}
+	
+	@Test
+	public void testPropertyAccessorGetterException() throws Exception {
+		PropertyAccessor accessor = PropertyAccessor.of(MockBean.class, "failing");
+		//
+		try {
+			accessor.getValue(new MockBean());
+			Assert.fail();
+		} catch (InvocationTargetException ex) {
+			// exception thrown by getter is wrapped - the same as reflection
+			Assert.assertTrue(ex.getCause() instanceof UnsupportedOperationException);
+		}
+		// subclass instance
+		try {
+			accessor.getValue(new MockChildBean());
+			Assert.fail();
+		} catch (InvocationTargetException ex) {
+			Assert.assertTrue(ex.getCause() instanceof UnsupportedOperationException);
+		}
+	}
+	
+	/**
+	 * Bean with primitive and failing property.
+	 */
+	public static class MockBean {
+		
+		private long count;
+		@SuppressWarnings("unused")
+		private UUID owner;
+		
+		public long getCount() {
+			return count;
+		}
+		
+		public void setCount(long count) {
+			this.count = count;
+		}
+		
+		public String getFailing() {
+			throw new UnsupportedOperationException("failing");
+		}
+	}
+	
+	/**
+	 * Bean with field declared in child class.
+	 */
+	public static class MockChildBean extends MockBean {
+		
+		@SuppressWarnings("unused")
+		private String failing;
+	}
 }
-
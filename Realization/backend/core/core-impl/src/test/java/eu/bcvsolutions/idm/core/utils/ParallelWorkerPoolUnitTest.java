@@ -0,0 +1,117 @@
+package eu.bcvsolutions.idm.core.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextImpl;
+
+import eu.bcvsolutions.idm.core.api.dto.IdmIdentityDto;
+import eu.bcvsolutions.idm.core.api.utils.ParallelWorkerPool;
+import eu.bcvsolutions.idm.core.security.api.domain.IdmJwtAuthentication;
+import eu.bcvsolutions.idm.test.api.AbstractUnitTest;
+
+/**
+ * Parallel worker pool tests.
+ *
+ * @author Radek Tomiška
+ */
+public class ParallelWorkerPoolUnitTest extends AbstractUnitTest {
+
+	@Test
+	public void testTasksWithSameKeyAreProcessedInOrder() throws Exception {
+		ParallelWorkerPool pool = new ParallelWorkerPool("test-worker", 3, 5, 2);
+		Map<Integer, List<Integer>> processed = new ConcurrentHashMap<>();
+		//
+		for (int index = 0; index < 100; index++) {
+			int key = index % 7;
+			int order = index;
+			pool.submit(key, () -> {
+				processed.computeIfAbsent(key, k -> Collections.synchronizedList(new ArrayList<>())).add(order);
+			});
+		}
+		pool.awaitCompletion();
+		//
+		Assert.assertEquals(7, processed.size());
+		processed.values().forEach(orders -> {
+			List<Integer> sorted = new ArrayList<>(orders);
+			Collections.sort(sorted);
+			Assert.assertEquals(sorted, orders);
+		});
+		Assert.assertEquals(100, processed.values().stream().mapToInt(List::size).sum());
+	}
+
+	@Test
+	public void testFreeWorkerProcessesNextLane() throws Exception {
+		// two workers, three lanes - the first lane is blocked
+		ParallelWorkerPool pool = new ParallelWorkerPool("test-worker", 2, 3, 1);
+		CountDownLatch blocked = new CountDownLatch(1);
+		CountDownLatch processed = new CountDownLatch(2);
+		try {
+			pool.submit(0, () -> {
+				try {
+					blocked.await(10, TimeUnit.SECONDS);
+				} catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+				}
+			});
+			pool.submit(1, processed::countDown);
+			pool.submit(2, processed::countDown);
+			//
+			Assert.assertTrue(processed.await(10, TimeUnit.SECONDS));
+		} finally {
+			blocked.countDown();
+			pool.awaitCompletion();
+		}
+	}
+
+	@Test
+	public void testPropagateSecurityContext() throws Exception {
+		ParallelWorkerPool pool = new ParallelWorkerPool("test-worker", 1);
+		IdmJwtAuthentication authentication = new IdmJwtAuthentication(new IdmIdentityDto("test"), null, Collections.emptyList(), "test");
+		AtomicReference<Object> workerAuthentication = new AtomicReference<>();
+		try {
+			SecurityContextHolder.setContext(new SecurityContextImpl(authentication));
+			Future<?> future = pool.submit("key", () -> {
+				workerAuthentication.set(SecurityContextHolder.getContext().getAuthentication());
+			});
+			future.get(10, TimeUnit.SECONDS);
+			//
+			Assert.assertSame(authentication, workerAuthentication.get());
+		} finally {
+			SecurityContextHolder.clearContext();
+			pool.awaitCompletion();
+		}
+	}
+
+	@Test
+	public void testCancelWaitingTasks() throws Exception {
+		ParallelWorkerPool pool = new ParallelWorkerPool("test-worker", 1);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch blocked = new CountDownLatch(1);
+		Future<?> running = pool.submit(1, () -> {
+			started.countDown();
+			try {
+				blocked.await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		Future<?> waiting = pool.submit(1, () -> {});
+		Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+		//
+		pool.shutdownNow();
+		//
+		Assert.assertTrue(waiting.isCancelled());
+		running.get(10, TimeUnit.SECONDS); // interrupted
+	}
+}
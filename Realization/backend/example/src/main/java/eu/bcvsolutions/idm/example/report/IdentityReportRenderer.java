@@ -5,8 +5,8 @@ import java.io.InputStream;
 
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.xssf.usermodel.XSSFSheet;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.springframework.context.annotation.Description;
 import org.springframework.stereotype.Component;
 
@@ -39,45 +39,50 @@ public class IdentityReportRenderer
 		try {
 			// read json stream
 			JsonParser jParser = getMapper().getFactory().createParser(getReportData(report));
-			XSSFWorkbook workbook = new XSSFWorkbook();
-			XSSFSheet sheet = workbook.createSheet("Report");
-			// header
-			Row row = sheet.createRow(0);
-			Cell cell = row.createCell(0);
-			cell.setCellValue("Id");
-			cell = row.createCell(1);
-			cell.setCellValue("Username");
-			cell = row.createCell(2);
-			cell.setCellValue("First name");
-			cell = row.createCell(3);
-			cell.setCellValue("Last name");
-			cell = row.createCell(4);
-			cell.setCellValue("Disabled");
-			int rowNum = 1;
-			//
-			// json is array of identities
-			if (jParser.nextToken() == JsonToken.START_ARRAY) {
-				// write single identity
-				while (jParser.nextToken() == JsonToken.START_OBJECT) {
-					IdmIdentityDto identity = getMapper().readValue(jParser, IdmIdentityDto.class);
-					row = sheet.createRow(rowNum++);
-					cell = row.createCell(0);
-					cell.setCellValue(identity.getId().toString());
-					cell = row.createCell(1);
-					cell.setCellValue(identity.getUsername());
-					cell = row.createCell(2);
-					cell.setCellValue(identity.getFirstName());
-					cell = row.createCell(3);
-					cell.setCellValue(identity.getLastName());
-					cell = row.createCell(4);
-					cell.setCellValue(identity.isDisabled());
+			SXSSFWorkbook workbook = createWorkbook();
+			try {
+				Sheet sheet = workbook.createSheet("Report");
+				// header
+				Row row = sheet.createRow(0);
+				Cell cell = row.createCell(0);
+				cell.setCellValue("Id");
+				cell = row.createCell(1);
+				cell.setCellValue("Username");
+				cell = row.createCell(2);
+				cell.setCellValue("First name");
+				cell = row.createCell(3);
+				cell.setCellValue("Last name");
+				cell = row.createCell(4);
+				cell.setCellValue("Disabled");
+				int rowNum = 1;
+				//
+				// json is array of identities
+				if (jParser.nextToken() == JsonToken.START_ARRAY) {
+					// write single identity
+					while (jParser.nextToken() == JsonToken.START_OBJECT) {
+						IdmIdentityDto identity = getMapper().readValue(jParser, IdmIdentityDto.class);
+						row = sheet.createRow(rowNum++);
+						cell = row.createCell(0);
+						cell.setCellValue(identity.getId().toString());
+						cell = row.createCell(1);
+						cell.setCellValue(identity.getUsername());
+						cell = row.createCell(2);
+						cell.setCellValue(identity.getFirstName());
+						cell = row.createCell(3);
+						cell.setCellValue(identity.getLastName());
+						cell = row.createCell(4);
+						cell.setCellValue(identity.isDisabled());
+					}
 				}
+				// close json stream
+				jParser.close();
+				//
+				// close and return input stream
+				return getInputStream(workbook);
+			} finally {
+				// temporary files with flushed rows are removed, even when rendering fails
+				workbook.dispose();
 			}
-			// close json stream
-			jParser.close();
-			//
-			// close and return input stream
-			return getInputStream(workbook);
 		} catch (IOException ex) {
 			throw new ReportRenderException(report.getName(), ex);
 		}
@@ -0,0 +1,40 @@
+package eu.bcvsolutions.idm.ic.config.cache;
+
+import org.identityconnectors.framework.api.ConnectorFacade;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import eu.bcvsolutions.idm.core.api.config.cache.IdMCacheConfiguration;
+import eu.bcvsolutions.idm.core.api.config.cache.LocalIdMCacheConfiguration;
+import eu.bcvsolutions.idm.ic.service.api.IcConnectorFacadeFactory;
+
+/**
+ * Define caches which are used in ic module
+ *
+ * @author Radek Tomiška
+ * @since 11.1.0
+ */
+@Configuration
+public class IcCacheConfiguration {
+
+	/**
+	 * Maximum count of cached connector facades - new facade is cached, when connector configuration is changed.
+	 */
+	public static final long CONNECTOR_FACADE_CACHE_SIZE = 500;
+
+	/**
+	 * Define local only cache for {@link IcConnectorFacadeFactory}. The reason, why we use local only cache
+	 * is {@link ConnectorFacade} (with connector pool), which is not {@link java.io.Serializable}.
+	 *
+	 * @return IdMCacheConfiguration for {@link IcConnectorFacadeFactory}
+	 */
+	@Bean
+	public IdMCacheConfiguration connectorFacadeCacheConfiguration() {
+		return LocalIdMCacheConfiguration.<String, ConnectorFacade> builder()
+				.withName(IcConnectorFacadeFactory.CONNECTOR_FACADE_CACHE_NAME)
+				.withKeyType(String.class)
+				.withValueType(ConnectorFacade.class)
+				.witchCacheSize(CONNECTOR_FACADE_CACHE_SIZE)
+				.build();
+	}
+}
@@ -1,5 +1,13 @@
 package eu.bcvsolutions.idm.ic.connid.service.impl;
 
+import java.lang.reflect.Array;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
 import org.identityconnectors.framework.api.APIConfiguration;
 import org.identityconnectors.framework.api.ConnectorFacade;
 import org.identityconnectors.framework.api.ConnectorFacadeFactory;
@@ -8,21 +16,43 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.util.Assert;
 
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+import eu.bcvsolutions.idm.core.api.config.cache.domain.ValueWrapper;
+import eu.bcvsolutions.idm.core.api.service.IdmCacheManager;
+import eu.bcvsolutions.idm.core.security.api.domain.GuardedString;
+import eu.bcvsolutions.idm.ic.api.IcConfigurationProperties;
+import eu.bcvsolutions.idm.ic.api.IcConfigurationProperty;
 import eu.bcvsolutions.idm.ic.api.IcConnectorConfiguration;
 import eu.bcvsolutions.idm.ic.api.IcConnectorInstance;
+import eu.bcvsolutions.idm.ic.api.IcConnectorServer;
+import eu.bcvsolutions.idm.ic.api.IcObjectPoolConfiguration;
 import eu.bcvsolutions.idm.ic.connid.domain.ConnIdIcConvertUtil;
 import eu.bcvsolutions.idm.ic.service.api.IcConnectorFacadeFactory;
 
 /**
  * Basic factory to provide {@link ConnectorFacade} instances.
  *
+ * Created facades are cached by connector key and fingerprint of the connector configuration (including connector server
+ * and pool configuration) => facade is reused for the next operations with the same configuration and new facade
+ * is created, when configuration is changed.
+ *
  * @author Peter Štrunc <peter.strunc@bcvsolutions.eu>
+ * @author Radek Tomiška
  */
 @Service
 public class DefaultIcConnectorFacadeFactory implements IcConnectorFacadeFactory {
 
+	private static final org.slf4j.Logger LOG = org.slf4j.LoggerFactory.getLogger(DefaultIcConnectorFacadeFactory.class);
+	//
 	@Autowired
 	private ConnIdIcConfigurationService configurationServiceConnId;
+	@Autowired
+	private IdmCacheManager cacheManager;
+	//
+	private final AtomicLong hitCount = new AtomicLong();
+	private final AtomicLong missCount = new AtomicLong();
 
 	/**
 	 * Basic factory method to obtain {@link ConnectorFacade} instance based on given configuration. It uses
@@ -30,12 +60,53 @@ public class DefaultIcConnectorFacadeFactory implements IcConnectorFacadeFactory
 	 *
 	 * @param connectorInstance {@link IcConnectorInstance} to obtain connector info
 	 * @param connectorConfiguration {@link IcConnectorConfiguration} to create api configuration
-	 * @return New instance of {@link ConnectorFacade} created based on given arguments
+	 * @return Instance of {@link ConnectorFacade} created (or cached) based on given arguments
 	 */
 	@Override
 	public ConnectorFacade getConnectorFacade(IcConnectorInstance connectorInstance, IcConnectorConfiguration connectorConfiguration) {
 		Assert.notNull(connectorInstance.getConnectorKey(), "Connector key is required.");
 		Assert.notNull(connectorConfiguration, "Configuration is required.");
+		//
+		String cacheKey = getCacheKey(connectorInstance, connectorConfiguration);
+		ValueWrapper value = cacheManager.getValue(CONNECTOR_FACADE_CACHE_NAME, cacheKey);
+		if (value != null && value.get() != null) {
+			hitCount.incrementAndGet();
+			//
+			return (ConnectorFacade) value.get();
+		}
+		long misses = missCount.incrementAndGet();
+		LOG.debug("Connector facade for connector [{}] will be created, cache hits [{}], misses [{}].",
+				connectorInstance.getConnectorKey().getFullName(), hitCount.get(), misses);
+		//
+		ConnectorFacade conn = createConnectorFacade(connectorInstance, connectorConfiguration);
+		cacheManager.cacheValue(CONNECTOR_FACADE_CACHE_NAME, cacheKey, conn);
+		//
+		return conn;
+	}
+
+	@Override
+	public void evictConnectorFacades() {
+		cacheManager.evictCache(CONNECTOR_FACADE_CACHE_NAME);
+	}
+
+	@Override
+	public long getCacheHitCount() {
+		return hitCount.get();
+	}
+
+	@Override
+	public long getCacheMissCount() {
+		return missCount.get();
+	}
+
+	/**
+	 * Creates and validates new connector facade.
+	 *
+	 * @param connectorInstance {@link IcConnectorInstance} to obtain connector info
+	 * @param connectorConfiguration {@link IcConnectorConfiguration} to create api configuration
+	 * @return New instance of {@link ConnectorFacade}
+	 */
+	protected ConnectorFacade createConnectorFacade(IcConnectorInstance connectorInstance, IcConnectorConfiguration connectorConfiguration) {
 		ConnectorInfo connIdInfo = configurationServiceConnId.getConnIdConnectorInfo(connectorInstance);
 		Assert.notNull(connIdInfo, "ConnId connector info not found!");
 		APIConfiguration config = connIdInfo.createDefaultAPIConfiguration();
@@ -49,4 +120,76 @@ public class DefaultIcConnectorFacadeFactory implements IcConnectorFacadeFactory
 		return conn;
 	}
 
+	/**
+	 * Cache key - connector key and SHA-256 fingerprint of connector server and configuration.
+	 * Confidential values are used in fingerprint only => they are not readable from the cache key.
+	 *
+	 * @param connectorInstance connector instance
+	 * @param connectorConfiguration connector configuration
+	 * @return cache key
+	 */
+	protected String getCacheKey(IcConnectorInstance connectorInstance, IcConnectorConfiguration connectorConfiguration) {
+		Hasher hasher = Hashing.sha256().newHasher();
+		//
+		IcConnectorServer server = connectorInstance.getConnectorServer();
+		hasher.putBoolean(connectorInstance.isRemote());
+		if (connectorInstance.isRemote() && server != null) {
+			putValue(hasher, server.getHost());
+			hasher.putInt(server.getPort());
+			hasher.putBoolean(server.isUseSsl());
+			hasher.putInt(server.getTimeout());
+			putValue(hasher, server.getPassword());
+		}
+		//
+		hasher.putBoolean(connectorConfiguration.isConnectorPoolingSupported());
+		hasher.putInt(connectorConfiguration.getProducerBufferSize());
+		IcObjectPoolConfiguration pool = connectorConfiguration.getConnectorPoolConfiguration();
+		if (pool != null) {
+			hasher.putInt(pool.getMaxObjects());
+			hasher.putInt(pool.getMaxIdle());
+			hasher.putLong(pool.getMaxWait());
+			hasher.putLong(pool.getMinEvictableIdleTimeMillis());
+			hasher.putInt(pool.getMinIdle());
+		}
+		IcConfigurationProperties configurationProperties = connectorConfiguration.getConfigurationProperties();
+		if (configurationProperties != null && configurationProperties.getProperties() != null) {
+			List<IcConfigurationProperty> properties = configurationProperties
+					.getProperties()
+					.stream()
+					.sorted(Comparator.comparing(IcConfigurationProperty::getName, Comparator.nullsFirst(Comparator.naturalOrder())))
+					.collect(Collectors.toList());
+			for (IcConfigurationProperty property : properties) {
+				putValue(hasher, property.getName());
+				putValue(hasher, property.getValue());
+			}
+		}
+		//
+		return String.format("%s:%s", connectorInstance.getConnectorKey().getFullName(), hasher.hash());
+	}
+
+	private void putValue(Hasher hasher, Object value) {
+		if (value == null) {
+			hasher.putInt(-1);
+		} else if (value instanceof GuardedString) {
+			putChars(hasher, ((GuardedString) value).asString());
+		} else if (value instanceof org.identityconnectors.common.security.GuardedString) {
+			((org.identityconnectors.common.security.GuardedString) value).access(chars -> {
+				putChars(hasher, CharBuffer.wrap(chars));
+			});
+		} else if (value.getClass().isArray()) {
+			int length = Array.getLength(value);
+			hasher.putInt(length);
+			for (int index = 0; index < length; index++) {
+				putValue(hasher, Array.get(value, index));
+			}
+		} else {
+			putChars(hasher, value.toString());
+		}
+	}
+
+	private void putChars(Hasher hasher, CharSequence value) {
+		// length prefix - prevent collisions of concatenated values
+		hasher.putInt(value.length());
+		hasher.putString(value, StandardCharsets.UTF_8);
+	}
 }
@@ -3,6 +3,7 @@ package eu.bcvsolutions.idm.ic.service.api;
 import org.identityconnectors.framework.api.ConnectorFacade;
 import org.identityconnectors.framework.api.ConnectorFacadeFactory;
 
+import eu.bcvsolutions.idm.ic.IcModuleDescriptor;
 import eu.bcvsolutions.idm.ic.api.IcConnectorConfiguration;
 import eu.bcvsolutions.idm.ic.api.IcConnectorInstance;
 
@@ -13,14 +14,44 @@ import eu.bcvsolutions.idm.ic.api.IcConnectorInstance;
  */
 public interface IcConnectorFacadeFactory {
 
+	/**
+	 * Created (and validated) connector facades. Facades are cached by connector instance and configuration fingerprint.
+	 *
+	 * @since 11.1.0
+	 */
+	String CONNECTOR_FACADE_CACHE_NAME = IcModuleDescriptor.MODULE_ID + ":connector-facade-cache";
+
 	/**
 	 * Basic factory method to obtain {@link ConnectorFacade} instance based on given configuration. It uses
 	 * {@link ConnectorFacadeFactory} internally.
 	 *
 	 * @param connectorInstance {@link IcConnectorInstance} to obtain connector info
 	 * @param connectorConfiguration {@link IcConnectorConfiguration} to create api configuration
-	 * @return New instance of {@link ConnectorFacade} created based on given arguments
+	 * @return Instance of {@link ConnectorFacade} created (or cached) based on given arguments
 	 */
 	ConnectorFacade getConnectorFacade(IcConnectorInstance connectorInstance, IcConnectorConfiguration connectorConfiguration);
 
+	/**
+	 * Evicts all cached connector facades - new facades will be created for the next connector operations.
+	 *
+	 * @since 11.1.0
+	 */
+	void evictConnectorFacades();
+
+	/**
+	 * Count of connector facades served from cache (from application start).
+	 *
+	 * @return cache hits
+	 * @since 11.1.0
+	 */
+	long getCacheHitCount();
+
+	/**
+	 * Count of created connector facades (from application start).
+	 *
+	 * @return cache misses
+	 * @since 11.1.0
+	 */
+	long getCacheMissCount();
+
 }
@@ -7,32 +7,116 @@ import java.io.IOException;
 import java.io.InputStream;
 
 import org.apache.poi.util.IOUtils;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.http.MediaType;
 
+import eu.bcvsolutions.idm.core.api.service.ConfigurationService;
+
 /**
- * Render report into xlsx
- * 
+ * Render report into xlsx.
+ *
+ * Use streaming workbook {@link #createWorkbook()} - only configured window of rows is held in memory,
+ * rows out of the window are flushed into temporary file => memory usage doesn't depend on count of rendered rows.
+ * Report json data should be read by json parser item by item (~ array of items).
+ *
  * @author Radek Tomiška
  *
  */
 public abstract class AbstractXlsxRenderer extends AbstractReportRenderer {
 
 	public static final String RENDERER_EXTENSION = "xlsx";
-	
+	/**
+	 * Count of rows held in memory, when streaming workbook is rendered. Rows out of the window are flushed into temporary file
+	 * and cannot be accessed (e.g. by {@code sheet.getRow(index)}).
+	 *
+	 * @since 11.1.0
+	 */
+	public static final String PROPERTY_ROW_ACCESS_WINDOW_SIZE =
+			ConfigurationService.IDM_PRIVATE_PROPERTY_PREFIX + "rpt.renderer.xlsx.rowAccessWindowSize";
+	public static final int DEFAULT_ROW_ACCESS_WINDOW_SIZE = SXSSFWorkbook.DEFAULT_WINDOW_SIZE;
+	/**
+	 * Compress temporary files with flushed rows, when streaming workbook is rendered (~ less disk space, more cpu).
+	 *
+	 * @since 11.1.0
+	 */
+	public static final String PROPERTY_COMPRESS_TEMP_FILES =
+			ConfigurationService.IDM_PRIVATE_PROPERTY_PREFIX + "rpt.renderer.xlsx.compressTempFiles";
+	public static final boolean DEFAULT_COMPRESS_TEMP_FILES = true;
+
 	@Override
 	public MediaType getFormat() {
 		return new MediaType("application", "vnd.openxmlformats-officedocument.spreadsheetml.sheet");
 	}
-	
+
 	@Override
 	public String getExtension() {
 		return RENDERER_EXTENSION;
 	}
-	
+
+	/**
+	 * Creates streaming workbook with configured row window and temporary files compression.
+	 * Workbook has to be closed by {@link #getInputStream(SXSSFWorkbook)} - temporary files are removed.
+	 * Dispose workbook in finally block too - temporary files are removed, even when rendering fails.
+	 *
+	 * @return streaming workbook
+	 * @see #PROPERTY_ROW_ACCESS_WINDOW_SIZE
+	 * @see #PROPERTY_COMPRESS_TEMP_FILES
+	 * @since 11.1.0
+	 */
+	protected SXSSFWorkbook createWorkbook() {
+		return new SXSSFWorkbook(null, getRowAccessWindowSize(), isCompressTempFiles());
+	}
+
+	/**
+	 * Count of rows held in memory, when streaming workbook is rendered.
+	 *
+	 * @return window size, {@code -1} - unlimited (the whole sheet is held in memory)
+	 * @since 11.1.0
+	 */
+	protected int getRowAccessWindowSize() {
+		int windowSize = getConfigurationService().getIntegerValue(PROPERTY_ROW_ACCESS_WINDOW_SIZE, DEFAULT_ROW_ACCESS_WINDOW_SIZE);
+		if (windowSize == 0 || windowSize < -1) {
+			return DEFAULT_ROW_ACCESS_WINDOW_SIZE;
+		}
+		return windowSize;
+	}
+
+	/**
+	 * Compress temporary files with flushed rows.
+	 *
+	 * @return true - compressed
+	 * @since 11.1.0
+	 */
+	protected boolean isCompressTempFiles() {
+		return getConfigurationService().getBooleanValue(PROPERTY_COMPRESS_TEMP_FILES, DEFAULT_COMPRESS_TEMP_FILES);
+	}
+
+	/**
+	 * Close streaming workbook and get output as input stream. Temporary files with flushed rows are removed.
+	 *
+	 * @param workbook streaming workbook
+	 * @return rendered xlsx
+	 * @throws IOException
+	 * @since 11.1.0
+	 */
+	protected InputStream getInputStream(SXSSFWorkbook workbook) throws IOException {
+		//
+		// save temp file
+		File temp = getAttachmentManager().createTempFile();
+		try (FileOutputStream outputStream = new FileOutputStream(temp)) {
+			workbook.write(outputStream);
+		} finally {
+			workbook.dispose();
+			workbook.close();
+		}
+		return new FileInputStream(temp);
+	}
+
 	/**
-	 * Close workbook and get output as input stream
-	 * 
+	 * Close workbook and get output as input stream.
+	 * Whole workbook is held in memory - prefer streaming workbook {@link #createWorkbook()} for large reports.
+	 *
 	 * @param workbook
 	 * @return
 	 * @throws IOException
@@ -49,6 +133,6 @@ public abstract class AbstractXlsxRenderer extends AbstractReportRenderer {
             return new FileInputStream(temp);
         } finally {
         	IOUtils.closeQuietly(outputStream);
-        }  
+        }
 	}
 }
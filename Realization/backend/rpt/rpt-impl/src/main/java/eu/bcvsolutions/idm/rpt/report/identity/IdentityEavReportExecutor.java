@@ -9,16 +9,18 @@ import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import org.apache.commons.io.FileUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Description;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallbackWithoutResult;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.fasterxml.jackson.core.JsonEncoding;
 import com.fasterxml.jackson.core.JsonGenerator;
@@ -65,6 +67,8 @@ public class IdentityEavReportExecutor extends AbstractReportExecutor {
 	private IdmIdentityService identityService;
 	@Autowired
 	private FormService formService;
+	@Autowired
+	private PlatformTransactionManager transactionManager;
 
 	@Override
 	protected IdmAttachmentDto generateData(RptReportDto report) {
@@ -114,29 +118,29 @@ public class IdentityEavReportExecutor extends AbstractReportExecutor {
 				if (disabled != null) {
 					identityFilter.setDisabled(Boolean.valueOf(disabled));
 				}
-				// find a first page of identities
-				Pageable pageable = PageRequest.of(0, 100, new Sort(Direction.ASC, IdmIdentity_.username.getName()));
-
-				do {
-					Page<IdmIdentityDto> identities =
-							identityService.find(identityFilter, pageable, IdmBasePermission.READ);
-					//
-					if (count == null) {
-						// report extends long running task - show progress by count and counter lrt attributes
-						count = identities.getTotalElements();
-					}
-
-					//
-					boolean canContinue = true;
-					for (Iterator<IdmIdentityDto> i = identities.iterator(); i.hasNext() && canContinue; ) {
-						writeValues(i.next(), formAttribute, eavValue, jGenerator);
-						canContinue = updateState();
-						if (!canContinue) {
-							break;
+				// report extends long running task - show progress by count and counter lrt attributes
+				count = identityService.count(identityFilter, IdmBasePermission.READ);
+				// identities are loaded by database cursor - cursor is available in transaction only
+				TransactionTemplate template = new TransactionTemplate(transactionManager);
+				template.setReadOnly(true);
+				template.execute(new TransactionCallbackWithoutResult() {
+					
+					@Override
+					protected void doInTransactionWithoutResult(TransactionStatus status) {
+						try (Stream<IdmIdentityDto> identities = identityService.stream(
+								identityFilter,
+								Sort.by(Direction.ASC, IdmIdentity_.username.getName()),
+								IdmBasePermission.READ)) {
+							boolean canContinue = true;
+							for (Iterator<IdmIdentityDto> i = identities.iterator(); i.hasNext() && canContinue; ) {
+								writeValues(i.next(), formAttribute, eavValue, jGenerator);
+								canContinue = updateState();
+							}
+						} catch (IOException ex) {
+							throw new ReportGenerateException(report.getName(), ex);
 						}
 					}
-					pageable = identities.hasNext() && canContinue ? identities.nextPageable() : null;
-				} while (pageable != null);
+				});
 				//
 				jGenerator.writeEndArray();
 			} finally {
@@ -6,8 +6,8 @@ import java.io.InputStream;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellStyle;
 import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.xssf.usermodel.XSSFSheet;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.springframework.context.annotation.Description;
 import org.springframework.stereotype.Component;
 
@@ -35,52 +35,57 @@ public class IdentityEavReportXlsxRenderer extends AbstractXlsxRenderer
 		try {
 			// read json stream
 			JsonParser jParser = getMapper().getFactory().createParser(getReportData(report));
-			XSSFWorkbook workbook = new XSSFWorkbook();
-			XSSFSheet sheet = workbook.createSheet("Report");
-			//
-			CellStyle cellStyle = workbook.createCellStyle();
-			cellStyle.setWrapText(true);
-			// header
-			Row row = sheet.createRow(0);
-			Cell cell = row.createCell(0);
-			cell.setCellValue("External code");
-			cell = row.createCell(1);
-			cell.setCellValue("Username");
-			cell = row.createCell(2);
-			cell.setCellValue("Title before");
-			cell = row.createCell(3);
-			cell.setCellValue("First name");
-			cell = row.createCell(4);
-			cell.setCellValue("Last name");
-			cell = row.createCell(5);
-			cell.setCellValue("Title after");
-			cell = row.createCell(6);
-			cell.setCellValue("Disabled");
-			cell = row.createCell(7);
-			cell.setCellValue("Form value");
-			cell.setCellStyle(cellStyle);
-			int rowNum = 1;
-			//
-			// json is array of identities
-			if (jParser.nextToken() == JsonToken.START_ARRAY) {
-				// write single identity
-				while (jParser.nextToken() == JsonToken.START_OBJECT) {
-					RptIdentityWithFormValueDto item = getMapper().readValue(jParser,
-							RptIdentityWithFormValueDto.class);
-					//
-					rowNum = createRow(item, rowNum,sheet);
+			SXSSFWorkbook workbook = createWorkbook();
+			try {
+				Sheet sheet = workbook.createSheet("Report");
+				//
+				CellStyle cellStyle = workbook.createCellStyle();
+				cellStyle.setWrapText(true);
+				// header
+				Row row = sheet.createRow(0);
+				Cell cell = row.createCell(0);
+				cell.setCellValue("External code");
+				cell = row.createCell(1);
+				cell.setCellValue("Username");
+				cell = row.createCell(2);
+				cell.setCellValue("Title before");
+				cell = row.createCell(3);
+				cell.setCellValue("First name");
+				cell = row.createCell(4);
+				cell.setCellValue("Last name");
+				cell = row.createCell(5);
+				cell.setCellValue("Title after");
+				cell = row.createCell(6);
+				cell.setCellValue("Disabled");
+				cell = row.createCell(7);
+				cell.setCellValue("Form value");
+				cell.setCellStyle(cellStyle);
+				int rowNum = 1;
+				//
+				// json is array of identities
+				if (jParser.nextToken() == JsonToken.START_ARRAY) {
+					// write single identity
+					while (jParser.nextToken() == JsonToken.START_OBJECT) {
+						RptIdentityWithFormValueDto item = getMapper().readValue(jParser,
+								RptIdentityWithFormValueDto.class);
+						//
+						rowNum = createRow(item, rowNum,sheet);
+					}
 				}
+				// close json stream
+				jParser.close();
+				// close and return input stream
+				return getInputStream(workbook);
+			} finally {
+				// temporary files with flushed rows are removed, even when rendering fails
+				workbook.dispose();
 			}
-			// close json stream
-			jParser.close();
-			// close and return input stream
-			return getInputStream(workbook);
 		} catch (IOException ex) {
 			throw new ReportRenderException(report.getName(), ex);
 		}
 	}
 
-	private int createRow(RptIdentityWithFormValueDto item, int rowNum, XSSFSheet sheet){
+	private int createRow(RptIdentityWithFormValueDto item, int rowNum, Sheet sheet){
 		Row row = sheet.createRow(rowNum++);
 		Cell cell = row.createCell(0);
 		cell.setCellValue(item.getExternalCode());
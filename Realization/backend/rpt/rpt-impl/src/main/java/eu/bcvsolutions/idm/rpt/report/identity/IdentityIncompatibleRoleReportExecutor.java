@@ -8,16 +8,18 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.commons.io.FileUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Description;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallbackWithoutResult;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.fasterxml.jackson.core.JsonEncoding;
 import com.fasterxml.jackson.core.JsonGenerator;
@@ -58,6 +60,7 @@ public class IdentityIncompatibleRoleReportExecutor extends AbstractReportExecut
 	@Autowired private IdmIdentityService identityService;
 	@Autowired private IdmIdentityRoleService identityRoleService;
 	@Autowired private IdmIncompatibleRoleService incompatibleRoleService;
+	@Autowired private PlatformTransactionManager transactionManager;
  
 	/**
 	 * Report ~ executor name
@@ -78,52 +81,58 @@ public class IdentityIncompatibleRoleReportExecutor extends AbstractReportExecut
 			try {
 				// json will be array of identities
 				jGenerator.writeStartArray();		
-				// form instance has useful methods to transform form values
-				Pageable pageable = PageRequest.of(0, 100, new Sort(Direction.ASC, IdmIdentity_.username.getName()));
-
-				//
+				// report extends long running task - show progress by count and counter lrt attributes
 				counter = 0L;
-				do {
-					Page<IdmIdentityDto> identities = identityService.find(null, pageable, IdmBasePermission.READ);
-					if (count == null) {
-						count = identities.getTotalElements();
-					}
-					boolean canContinue = true;
-					for (Iterator<IdmIdentityDto> i = identities.iterator(); i.hasNext() && canContinue;) {						
-						IdmIdentityDto identity = i.next();
-						// search assigned roles
-						IdmIdentityRoleFilter filter = new IdmIdentityRoleFilter();
-						filter.setIdentityId(identity.getId());
-						filter.setDirectRole(Boolean.TRUE); // direct roles only
-						List<IdmIdentityRoleDto> identityRoles = identityRoleService.find(filter, null, IdmBasePermission.READ).getContent();
-						// search incompatible roles
-						Set<ResolvedIncompatibleRoleDto> incompatibleRoles = incompatibleRoleService.resolveIncompatibleRoles(
-								identityRoles
-									.stream()
-									.map(ir -> ir.getRole())
-									.collect(Collectors.toList())
-								);
-						for (ResolvedIncompatibleRoleDto resolvedIncompatibleRole : incompatibleRoles) {
-							// add item into report
-							RptIdentityIncompatibleRoleDto reportItem = new RptIdentityIncompatibleRoleDto();
-							reportItem.setIdentity(identity);
-							reportItem.setDirectRole(resolvedIncompatibleRole.getDirectRole());
-							reportItem.setIncompatibleRole(resolvedIncompatibleRole.getIncompatibleRole());
-							// dtos in embedded cannot be parsed from json automatically as objects => aaet them into report dto directly
-							IdmRoleDto superior = DtoUtils.getEmbedded(resolvedIncompatibleRole.getIncompatibleRole(), IdmIncompatibleRole_.superior);
-							IdmRoleDto sub = DtoUtils.getEmbedded(resolvedIncompatibleRole.getIncompatibleRole(), IdmIncompatibleRole_.sub);
-							reportItem.setSuperior(superior);
-							reportItem.setSub(sub);
-							//
-							getMapper().writeValue(jGenerator, reportItem);	
+				count = identityService.count(null, IdmBasePermission.READ);
+				// identities are loaded by database cursor - cursor is available in transaction only
+				TransactionTemplate template = new TransactionTemplate(transactionManager);
+				template.setReadOnly(true);
+				template.execute(new TransactionCallbackWithoutResult() {
+					
+					@Override
+					protected void doInTransactionWithoutResult(TransactionStatus status) {
+						try (Stream<IdmIdentityDto> identities = identityService.stream(
+								null,
+								Sort.by(Direction.ASC, IdmIdentity_.username.getName()),
+								IdmBasePermission.READ)) {
+							boolean canContinue = true;
+							for (Iterator<IdmIdentityDto> i = identities.iterator(); i.hasNext() && canContinue;) {
+								IdmIdentityDto identity = i.next();
+								// search assigned roles
+								IdmIdentityRoleFilter filter = new IdmIdentityRoleFilter();
+								filter.setIdentityId(identity.getId());
+								filter.setDirectRole(Boolean.TRUE); // direct roles only
+								List<IdmIdentityRoleDto> identityRoles = identityRoleService.find(filter, null, IdmBasePermission.READ).getContent();
+								// search incompatible roles
+								Set<ResolvedIncompatibleRoleDto> incompatibleRoles = incompatibleRoleService.resolveIncompatibleRoles(
+										identityRoles
+											.stream()
+											.map(ir -> ir.getRole())
+											.collect(Collectors.toList())
+										);
+								for (ResolvedIncompatibleRoleDto resolvedIncompatibleRole : incompatibleRoles) {
+									// add item into report
+									RptIdentityIncompatibleRoleDto reportItem = new RptIdentityIncompatibleRoleDto();
+									reportItem.setIdentity(identity);
+									reportItem.setDirectRole(resolvedIncompatibleRole.getDirectRole());
+									reportItem.setIncompatibleRole(resolvedIncompatibleRole.getIncompatibleRole());
+									// dtos in embedded cannot be parsed from json automatically as objects => aaet them into report dto directly
+									IdmRoleDto superior = DtoUtils.getEmbedded(resolvedIncompatibleRole.getIncompatibleRole(), IdmIncompatibleRole_.superior);
+									IdmRoleDto sub = DtoUtils.getEmbedded(resolvedIncompatibleRole.getIncompatibleRole(), IdmIncompatibleRole_.sub);
+									reportItem.setSuperior(superior);
+									reportItem.setSub(sub);
+									//
+									getMapper().writeValue(jGenerator, reportItem);	
+								}
+								// supports cancel report generating (report extends long running task)
+								++counter;
+								canContinue = updateState();
+							}
+						} catch (IOException ex) {
+							throw new ReportGenerateException(report.getName(), ex);
 						}
-						// supports cancel report generating (report extends long running task)
-						++counter;
-						canContinue = updateState();
-					}		
-					// iterate while next page of identities is available
-					pageable = identities.hasNext() && canContinue ? identities.nextPageable() : null;
-				} while (pageable != null);
+					}
+				});
 				//
 				// close array of identities
 				jGenerator.writeEndArray();
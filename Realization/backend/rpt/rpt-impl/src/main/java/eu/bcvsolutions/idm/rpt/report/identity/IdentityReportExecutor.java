@@ -6,16 +6,18 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.apache.commons.io.FileUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Description;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallbackWithoutResult;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.fasterxml.jackson.core.JsonEncoding;
 import com.fasterxml.jackson.core.JsonGenerator;
@@ -39,6 +41,7 @@ import eu.bcvsolutions.idm.rpt.api.executor.AbstractReportExecutor;
  * Basic report with identities
  * - filter for enabled / disabled identities
  * - uses json stream to save a lot of identities (+creates temporary file)
+ * - identities are streamed from database by cursor
  * 
  * @author Radek Tomiška
  *
@@ -50,6 +53,7 @@ public class IdentityReportExecutor extends AbstractReportExecutor {
 	public static final String REPORT_NAME = "identity-report"; // report ~ executor name
 	//
 	@Autowired private IdmIdentityService identityService;
+	@Autowired private PlatformTransactionManager transactionManager;
 	
 	/**
 	 * Report ~ executor name
@@ -103,26 +107,32 @@ public class IdentityReportExecutor extends AbstractReportExecutor {
 				IdmIdentityFilter filter = new IdmIdentityFilter(formInstance.toMultiValueMap());
 				// report extends long running task - show progress by count and counter lrt attributes
 				counter = 0L;
-				// find a first page of identities
-				Pageable pageable = PageRequest.of(0, 100, new Sort(Direction.ASC, IdmIdentity_.username.getName()));
-				do {
-					Page<IdmIdentityDto> identities = identityService.find(filter, pageable, IdmBasePermission.READ);
-					if (count == null) {
-						// report extends long running task - show progress by count and counter lrt attributes
-						count = identities.getTotalElements();
+				count = identityService.count(filter, IdmBasePermission.READ);
+				// identities are loaded by database cursor - cursor is available in transaction only
+				TransactionTemplate template = new TransactionTemplate(transactionManager);
+				template.setReadOnly(true);
+				template.execute(new TransactionCallbackWithoutResult() {
+					
+					@Override
+					protected void doInTransactionWithoutResult(TransactionStatus status) {
+						try (Stream<IdmIdentityDto> identities = identityService.stream(
+								filter,
+								Sort.by(Direction.ASC, IdmIdentity_.username.getName()),
+								IdmBasePermission.READ)) {
+							boolean canContinue = true;
+							for (Iterator<IdmIdentityDto> i = identities.iterator(); i.hasNext() && canContinue;) {
+								// write single identity into json
+								getMapper().writeValue(jGenerator, i.next());
+								//
+								// supports cancel report generating (report extends long running task)
+								++counter;
+								canContinue = updateState();
+							}
+						} catch (IOException ex) {
+							throw new ReportGenerateException(report.getName(), ex);
+						}
 					}
-					boolean canContinue = true;
-					for (Iterator<IdmIdentityDto> i = identities.iterator(); i.hasNext() && canContinue;) {
-						// write single identity into json
-						getMapper().writeValue(jGenerator, i.next());
-						//
-						// supports cancel report generating (report extends long running task)
-						++counter;
-						canContinue = updateState();
-					}		
-					// iterate while next page of identities is available
-					pageable = identities.hasNext() && canContinue ? identities.nextPageable() : null;
-				} while (pageable != null);
+				});
 				//
 				// close array of identities
 				jGenerator.writeEndArray();
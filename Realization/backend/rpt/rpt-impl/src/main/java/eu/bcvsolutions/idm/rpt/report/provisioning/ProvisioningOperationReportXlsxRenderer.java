@@ -7,8 +7,8 @@ import java.util.Map.Entry;
 
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.xssf.usermodel.XSSFSheet;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.springframework.context.annotation.Description;
 import org.springframework.stereotype.Component;
 
@@ -40,53 +40,58 @@ public class ProvisioningOperationReportXlsxRenderer extends AbstractXlsxRendere
 		try {
 			// read json stream
 			JsonParser jParser = getMapper().getFactory().createParser(getReportData(report));
-			XSSFWorkbook workbook = new XSSFWorkbook();
-			XSSFSheet sheet = workbook.createSheet("Report");
-			// header
-			Row row = sheet.createRow(0);
-			Cell cell = row.createCell(0);
-			cell.setCellValue("Created");
-			cell = row.createCell(1);
-			cell.setCellValue("System");
-			cell = row.createCell(2);
-			cell.setCellValue("Operation type");
-			cell = row.createCell(3);
-			cell.setCellValue("Entity type");
-			cell = row.createCell(4);
-			cell.setCellValue("Entity uid (system)");
-			cell = row.createCell(5);
-			cell.setCellValue("Entity identifier (IdM)");
-			cell = row.createCell(6);
-			cell.setCellValue("Attribute");
-			cell = row.createCell(7);
-			cell.setCellValue("Value");
-			int rowNum = 1;
-			//
-			// json is array of identities
-			if (jParser.nextToken() == JsonToken.START_ARRAY) {
-				// write single identity
-				while (jParser.nextToken() == JsonToken.START_OBJECT) {
-					RptProvisioningOperationDto idmProvisioningOperationDto = getMapper().readValue(jParser, RptProvisioningOperationDto.class);
-					if (idmProvisioningOperationDto.getProvisioningValues().isEmpty()) {
-						row = sheet.createRow(rowNum++);
-						createStartCells(row, idmProvisioningOperationDto);
-					} else {
-						for (Entry<String, String> attribute : idmProvisioningOperationDto.getProvisioningValues().entrySet()) {
+			SXSSFWorkbook workbook = createWorkbook();
+			try {
+				Sheet sheet = workbook.createSheet("Report");
+				// header
+				Row row = sheet.createRow(0);
+				Cell cell = row.createCell(0);
+				cell.setCellValue("Created");
+				cell = row.createCell(1);
+				cell.setCellValue("System");
+				cell = row.createCell(2);
+				cell.setCellValue("Operation type");
+				cell = row.createCell(3);
+				cell.setCellValue("Entity type");
+				cell = row.createCell(4);
+				cell.setCellValue("Entity uid (system)");
+				cell = row.createCell(5);
+				cell.setCellValue("Entity identifier (IdM)");
+				cell = row.createCell(6);
+				cell.setCellValue("Attribute");
+				cell = row.createCell(7);
+				cell.setCellValue("Value");
+				int rowNum = 1;
+				//
+				// json is array of identities
+				if (jParser.nextToken() == JsonToken.START_ARRAY) {
+					// write single identity
+					while (jParser.nextToken() == JsonToken.START_OBJECT) {
+						RptProvisioningOperationDto idmProvisioningOperationDto = getMapper().readValue(jParser, RptProvisioningOperationDto.class);
+						if (idmProvisioningOperationDto.getProvisioningValues().isEmpty()) {
 							row = sheet.createRow(rowNum++);
-							createStartCells(row, idmProvisioningOperationDto);							
-							cell = row.createCell(6);
-							cell.setCellValue(attribute.getKey());
-							cell = row.createCell(7);
-							cell.setCellValue(attribute.getValue());
+							createStartCells(row, idmProvisioningOperationDto);
+						} else {
+							for (Entry<String, String> attribute : idmProvisioningOperationDto.getProvisioningValues().entrySet()) {
+								row = sheet.createRow(rowNum++);
+								createStartCells(row, idmProvisioningOperationDto);							
+								cell = row.createCell(6);
+								cell.setCellValue(attribute.getKey());
+								cell = row.createCell(7);
+								cell.setCellValue(attribute.getValue());
+							}
 						}
 					}
 				}
+				// close json stream
+				jParser.close();
+				//
+				// close and return input stream
+				return getInputStream(workbook);
+			} finally {
+				// temporary files with flushed rows are removed, even when rendering fails
+				workbook.dispose();
 			}
-			// close json stream
-			jParser.close();
-			//
-			// close and return input stream
-			return getInputStream(workbook);
 		} catch (IOException ex) {
 			throw new ReportRenderException(report.getName(), ex);
 		}
@@ -1,9 +1,14 @@
 package eu.bcvsolutions.idm.rpt.report.identity;
 
 import java.io.IOException;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
@@ -13,9 +18,11 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.Lists;
 
 import eu.bcvsolutions.idm.core.api.dto.IdmIdentityDto;
 import eu.bcvsolutions.idm.core.api.dto.filter.IdmIdentityFilter;
+import eu.bcvsolutions.idm.core.api.service.ConfigurationService;
 import eu.bcvsolutions.idm.core.api.service.IdmIdentityService;
 import eu.bcvsolutions.idm.core.eav.api.dto.IdmFormDefinitionDto;
 import eu.bcvsolutions.idm.core.eav.api.dto.IdmFormDto;
@@ -26,6 +33,7 @@ import eu.bcvsolutions.idm.core.security.api.domain.GuardedString;
 import eu.bcvsolutions.idm.core.security.api.dto.LoginDto;
 import eu.bcvsolutions.idm.core.security.api.service.LoginService;
 import eu.bcvsolutions.idm.rpt.api.dto.RptReportDto;
+import eu.bcvsolutions.idm.rpt.api.renderer.AbstractXlsxRenderer;
 import eu.bcvsolutions.idm.test.api.AbstractIntegrationTest;
 
 /**
@@ -42,6 +50,7 @@ public class IdentityReportExecutorIntegrationTest extends AbstractIntegrationTe
 	@Autowired private ObjectMapper mapper;
 	@Autowired private LoginService loginService;
 	@Autowired private IdentityReportXlsxRenderer xlsxRenderer;
+	@Autowired private ConfigurationService configurationService;
 	
 	@Before
 	public void before() {
@@ -101,4 +110,31 @@ public class IdentityReportExecutorIntegrationTest extends AbstractIntegrationTe
 		//
 		Assert.assertNotNull(xlsxRenderer.render(report));
 	}
+	
+	@Test
+	@Transactional
+	public void testRenderStreamingWorkbook() throws IOException {
+		List<IdmIdentityDto> identities = Lists.newArrayList(
+				getHelper().createIdentity((GuardedString) null),
+				getHelper().createIdentity((GuardedString) null),
+				getHelper().createIdentity((GuardedString) null));
+		//
+		RptReportDto report = new RptReportDto(UUID.randomUUID());
+		report.setExecutorName(reportExecutor.getName());
+		report = reportExecutor.generate(report);
+		//
+		// rows out of small window are flushed into temp file
+		getHelper().setConfigurationValue(AbstractXlsxRenderer.PROPERTY_ROW_ACCESS_WINDOW_SIZE, "2");
+		try (XSSFWorkbook workbook = new XSSFWorkbook(xlsxRenderer.render(report))) {
+			Sheet sheet = workbook.getSheetAt(0);
+			Set<String> usernames = new HashSet<>();
+			sheet.forEach(row -> usernames.add(row.getCell(0).getStringCellValue()));
+			//
+			Assert.assertTrue(usernames.contains("Username")); // header
+			identities.forEach(identity -> Assert.assertTrue(usernames.contains(identity.getUsername())));
+		} finally {
+			configurationService.deleteValue(AbstractXlsxRenderer.PROPERTY_ROW_ACCESS_WINDOW_SIZE);
+			attachmentManager.deleteAttachments(report);
+		}
+	}
 }